@@ -17,7 +17,12 @@ android {
     }
 
     buildTypes {
+        debug {
+            // Record debug-level EventLog events and echo events to logcat
+            buildConfigField("boolean", "EVENT_LOG_DEBUG", "true")
+        }
         release {
+            buildConfigField("boolean", "EVENT_LOG_DEBUG", "false")
             isMinifyEnabled = false
             proguardFiles(
                 getDefaultProguardFile("proguard-android-optimize.txt"),
@@ -33,10 +38,26 @@ android {
 
     buildFeatures {
         viewBinding = true
+        buildConfig = true
+    }
+
+    sourceSets {
+        // Test fixtures (e.g. the synthetic data generator) shared by Robolectric and instrumented tests
+        getByName("test").java.srcDir("src/sharedTest/java")
+        getByName("androidTest").java.srcDir("src/sharedTest/java")
+    }
+
+    testOptions {
+        unitTests {
+            isIncludeAndroidResources = true
+        }
     }
 }
 
 dependencies {
+    // Android-free domain logic
+    implementation(project(":core"))
+
     // AndroidX Core
     implementation(libs.androidx.core)
 
@@ -80,6 +101,11 @@ dependencies {
 
     // Testing
     testImplementation(libs.junit)
+    testImplementation(libs.arch.core.testing)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.androidx.test.core)
+    testImplementation(libs.mockito.core)
+    testImplementation("androidx.work:work-testing:2.9.0")
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.example.student3.database;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.room.Room;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.student3.dao.AnnouncementDao;
+import com.example.student3.model.Announcement;
+import com.example.student3.utils.EpochDay;
+import com.example.student3.utils.IdRunSet;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Cost of refreshing the unread badge at 100k announcements.
+ *
+ * Every write to announcements invalidates the badge observer, so this is paid on
+ * each change. Compares reading the trigger-maintained counters against recounting
+ * (a COUNT(*) over the table, and the id-set difference the badge used before the
+ * counters), and measures what the counter triggers add to an announcement write.
+ * Results go to logcat and files/benchmarks/badge-refresh.json in external storage.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BadgeRefreshBenchmarkTest {
+    private static final String TAG = "BadgeRefreshBenchmark";
+    private static final String DATABASE_NAME = "badge-benchmark.db";
+    private static final String RESULTS_FILE = "badge-refresh.json";
+
+    // Announcements and the students reading them; the other tables stay small
+    private static final SyntheticDataGenerator.Scale SCALE =
+            new SyntheticDataGenerator.Scale(2_000, 50, 0, 100_000, 0);
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 50;
+
+    private Context context;
+    private AppDatabase db;
+
+    private interface Refresh {
+        long run(int studentId);
+    }
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+        db = Room.databaseBuilder(context, AppDatabase.class, DATABASE_NAME)
+                .addCallback(DatabaseTriggers.CALLBACK)
+                .build();
+        SyntheticDataGenerator.Summary summary = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED,
+                SyntheticDataGenerator.DEFAULT_BATCH_SIZE, EpochDay.today()).populate(db, SCALE);
+        Log.i(TAG, "Generated " + summary);
+    }
+
+    @After
+    public void tearDown() {
+        if (db != null) {
+            db.close();
+            context.deleteDatabase(DATABASE_NAME);
+        }
+    }
+
+    @Test
+    public void benchmarkBadgeRefresh() throws IOException {
+        // Same answer both ways before timing anything
+        for (int studentId = 1; studentId <= 20; studentId++) {
+            assertEquals("Unread count for student " + studentId,
+                    recountUnread(studentId), db.announcementCounterDao().getUnreadCountSync(studentId));
+        }
+
+        JsonObject results = new JsonObject();
+        record(results, "counters", measure(db.announcementCounterDao()::getUnreadCountSync));
+        record(results, "countStar", measure(studentId -> queryLong(
+                "SELECT COUNT(*) FROM announcements WHERE " + AnnouncementDao.NOT_EXPIRED)));
+        record(results, "idSetDifference", measure(this::recountUnread));
+        record(results, "insertAndDeleteAnnouncement", measure(studentId -> {
+            Announcement announcement = new Announcement("Benchmark", "Content",
+                    EpochDay.format(EpochDay.today()), null, studentId % 2 == 0);
+            announcement.setAnnouncementId((int) db.announcementDao().insert(announcement));
+            db.announcementDao().delete(announcement);
+            return 2;
+        }));
+
+        File output = writeResults(results);
+        Log.i(TAG, "Results written to " + output);
+    }
+
+    /**
+     * Unread count without the counters: every announcement id against the read set
+     */
+    private long recountUnread(int studentId) {
+        List<Integer> ids = new ArrayList<>();
+        try (Cursor cursor = db.query("SELECT announcementId FROM announcements ORDER BY announcementId", null)) {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getInt(0));
+            }
+        }
+        return IdRunSet.fromSortedIds(ids).andNotCardinality(
+                db.announcementReadStateDao().getReadSetSync(studentId));
+    }
+
+    private long queryLong(String sql) {
+        try (Cursor cursor = db.query(sql, null)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0;
+        }
+    }
+
+    private LatencyStats measure(Refresh refresh) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            refresh.run(studentFor(i));
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            int studentId = studentFor(WARMUP_RUNS + i);
+            long start = System.nanoTime();
+            refresh.run(studentId);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return new LatencyStats(nanos, MEASURED_RUNS);
+    }
+
+    private static int studentFor(int iteration) {
+        return 1 + (int) ((iteration * 7919L) % SCALE.students);
+    }
+
+    private static void record(JsonObject results, String name, LatencyStats stats) {
+        results.add(name, stats.toJson());
+        Log.i(TAG, name + ": " + stats);
+    }
+
+    private File writeResults(JsonObject results) throws IOException {
+        File dir = context.getExternalFilesDir("benchmarks");
+        if (dir == null) {
+            dir = new File(context.getFilesDir(), "benchmarks");
+        }
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        File file = new File(dir, RESULTS_FILE);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(results, writer);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,487 @@
+package com.example.student3.database;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.room.Room;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import com.example.student3.utils.EpochDay;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Benchmarks every read query in com.example.student3.dao against generated data at
+ * three scales (about 10k, 100k and 1M registrations).
+ *
+ * Each query runs with varying arguments and reports its latency distribution and
+ * rows per second to logcat and to files/benchmarks/dao-benchmarks.json in the app's
+ * external storage. When assets/dao_benchmark_baseline.json has numbers for this device
+ * model and scale, a query whose median got slower by more than the threshold fails
+ * the run, and so does a query missing from the baseline. Without numbers for this
+ * device and scale the run is reported as skipped rather than passed. To record a
+ * baseline, pull the results file and merge its device entry into the asset.
+ *
+ * Instrumentation arguments:
+ * daoBenchmarkScales - comma-separated subset of small,medium,large (default all)
+ * daoBenchmarkThreshold - allowed median slowdown in percent (default 20)
+ */
+@RunWith(Parameterized.class)
+public class DaoBenchmarkTest {
+    private static final String TAG = "DaoBenchmark";
+    private static final String BASELINE_ASSET = "dao_benchmark_baseline.json";
+    private static final String RESULTS_FILE = "dao-benchmarks.json";
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 20.0;
+    // Changes smaller than this are timer and scheduler noise, whatever the percentage
+    private static final double NOISE_FLOOR_MS = 0.25;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 25;
+    private static final int FULL_SCAN_RUNS = 5;
+    private static final long LIVE_DATA_TIMEOUT_SECONDS = 120;
+
+    private static final String[] COURSE_TERMS = {"Data", "Intro", "CS1", "Ethics", "zzz"};
+    private static final String[] ANNOUNCEMENT_TERMS = {"maintenance", "Deadline", "exam", "#12", "zzz"};
+    private static final String[] PERSON_TERMS = {"Chen", "Sarah", "student12", "zzz"};
+    private static final String[] DEPARTMENT_TERMS = {"Eng", "CS", "zzz"};
+
+    // Results of every scale run in this process, written out after each one
+    private static final JsonObject results = new JsonObject();
+
+    private final String scaleName;
+    private final SyntheticDataGenerator.Scale scale;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private Context context;
+    private AppDatabase db;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> scales() {
+        return Arrays.asList(new Object[][]{
+                {"small", SyntheticDataGenerator.Scale.SMALL},
+                {"medium", SyntheticDataGenerator.Scale.MEDIUM},
+                {"large", SyntheticDataGenerator.Scale.LARGE}
+        });
+    }
+
+    public DaoBenchmarkTest(String scaleName, SyntheticDataGenerator.Scale scale) {
+        this.scaleName = scaleName;
+        this.scale = scale;
+    }
+
+    private interface Query {
+        /**
+         * Run the query once
+         * @return Number of rows returned
+         */
+        int run(int iteration);
+    }
+
+    private static final class QueryBenchmark {
+        final String name;
+        final int runs;
+        final Query query;
+
+        QueryBenchmark(String name, int runs, Query query) {
+            this.name = name;
+            this.runs = runs;
+            this.query = query;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        String requested = InstrumentationRegistry.getArguments().getString("daoBenchmarkScales");
+        assumeTrue(scaleName + " scale not requested",
+                requested == null || Arrays.asList(requested.split(",")).contains(scaleName));
+
+        // On disk rather than in memory, as in the app, and so the large scale fits
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(databaseName());
+        db = Room.databaseBuilder(context, AppDatabase.class, databaseName())
+                .addCallback(DatabaseTriggers.CALLBACK)
+                .build();
+
+        // Generated around today, so the announcement expiry filter sees a realistic share of live rows
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SyntheticDataGenerator.DEFAULT_SEED,
+                SyntheticDataGenerator.DEFAULT_BATCH_SIZE, EpochDay.today());
+        SyntheticDataGenerator.Summary summary = generator.populate(db, scale);
+        Log.i(TAG, "Generated " + summary);
+    }
+
+    @After
+    public void tearDown() {
+        if (db != null) {
+            db.close();
+            context.deleteDatabase(databaseName());
+        }
+    }
+
+    @Test
+    public void benchmarkDaoQueries() throws IOException {
+        JsonObject baseline = loadBaseline();
+        double threshold = threshold();
+        JsonObject scaleResults = new JsonObject();
+        List<String> regressions = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+
+        for (QueryBenchmark benchmark : queries()) {
+            LatencyStats stats = measure(benchmark);
+            scaleResults.add(benchmark.name, stats.toJson());
+
+            String verdict = "";
+            JsonObject before = baseline != null && baseline.has(benchmark.name)
+                    ? baseline.getAsJsonObject(benchmark.name) : null;
+            if (baseline != null && before == null) {
+                missing.add(benchmark.name);
+            }
+            if (before != null) {
+                double baseMedian = before.get("p50Ms").getAsDouble();
+                double median = stats.getPercentileMillis(50);
+                double change = baseMedian > 0 ? (median - baseMedian) / baseMedian * 100.0 : 0;
+                verdict = String.format(Locale.ROOT, " (%+.1f%% vs baseline)", change);
+                if (change > threshold && median - baseMedian > NOISE_FLOOR_MS) {
+                    regressions.add(String.format(Locale.ROOT, "%s: median %.3f ms, baseline %.3f ms (%+.1f%%)",
+                            benchmark.name, median, baseMedian, change));
+                }
+            }
+            Log.i(TAG, scaleName + " " + benchmark.name + ": " + stats + verdict);
+        }
+
+        results.add(scaleName, scaleResults);
+        File output = writeResults();
+        Log.i(TAG, "Results written to " + output);
+
+        if (baseline == null) {
+            String message = "No " + scaleName + " baseline for " + deviceKey() + " in " + BASELINE_ASSET
+                    + "; regression check skipped. Merge " + output + " into it to enable the check.";
+            Log.w(TAG, message);
+            assumeTrue(message, false);
+        }
+        assertTrue(regressions.size() + " queries regressed by more than " + threshold + "% at "
+                + scaleName + " scale:\n" + String.join("\n", regressions), regressions.isEmpty());
+        assertTrue(missing.size() + " queries have no " + scaleName + " baseline for " + deviceKey()
+                + "; re-record it:\n" + String.join("\n", missing), missing.isEmpty());
+    }
+
+    private LatencyStats measure(QueryBenchmark benchmark) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            benchmark.query.run(i);
+        }
+        long[] nanos = new long[benchmark.runs];
+        long rows = 0;
+        for (int i = 0; i < benchmark.runs; i++) {
+            long start = System.nanoTime();
+            rows += benchmark.query.run(WARMUP_RUNS + i);
+            nanos[i] = System.nanoTime() - start;
+        }
+        return new LatencyStats(nanos, rows);
+    }
+
+    private List<QueryBenchmark> queries() {
+        List<QueryBenchmark> queries = new ArrayList<>();
+
+        // AnnouncementDao
+        queries.add(new QueryBenchmark("AnnouncementDao.getAnnouncementById", MEASURED_RUNS,
+                i -> rows(await(db.announcementDao().getAnnouncementById(pickId(i, scale.announcements))))));
+        queries.add(new QueryBenchmark("AnnouncementDao.getAllAnnouncements", FULL_SCAN_RUNS,
+                i -> rows(await(db.announcementDao().getAllAnnouncements()))));
+        queries.add(new QueryBenchmark("AnnouncementDao.getAllAnnouncementsSync", FULL_SCAN_RUNS,
+                i -> rows(db.announcementDao().getAllAnnouncementsSync())));
+        queries.add(new QueryBenchmark("AnnouncementDao.getImportantAnnouncements", MEASURED_RUNS,
+                i -> rows(await(db.announcementDao().getImportantAnnouncements()))));
+        queries.add(new QueryBenchmark("AnnouncementDao.getActiveAnnouncementsSync", MEASURED_RUNS,
+                i -> rows(db.announcementDao().getActiveAnnouncementsSync())));
+        queries.add(new QueryBenchmark("AnnouncementDao.searchAnnouncements", MEASURED_RUNS,
+                i -> rows(await(db.announcementDao().searchAnnouncements(term(ANNOUNCEMENT_TERMS, i))))));
+
+        // AnnouncementCounterDao
+        queries.add(new QueryBenchmark("AnnouncementCounterDao.getUnreadCount", MEASURED_RUNS,
+                i -> rows(await(db.announcementCounterDao().getUnreadCount(pickId(i, scale.students))))));
+        queries.add(new QueryBenchmark("AnnouncementCounterDao.getImportantUnreadCount", MEASURED_RUNS,
+                i -> rows(await(db.announcementCounterDao().getImportantUnreadCount(pickId(i, scale.students))))));
+
+        // AnnouncementReadStateDao
+        queries.add(new QueryBenchmark("AnnouncementReadStateDao.getReadSetSync", MEASURED_RUNS,
+                i -> db.announcementReadStateDao().getReadSetSync(pickId(i, scale.students)).getRunCount()));
+        queries.add(new QueryBenchmark("AnnouncementReadStateDao.setRead+setUnread", MEASURED_RUNS, i -> {
+            int studentId = pickId(i, scale.students);
+            int announcementId = pickId(i, scale.announcements);
+            db.announcementReadStateDao().setRead(studentId, announcementId, true);
+            db.announcementReadStateDao().setRead(studentId, announcementId, false);
+            return 2;
+        }));
+
+        // CourseDao
+        queries.add(new QueryBenchmark("CourseDao.getCourseById", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getCourseById(pickId(i, scale.courses))))));
+        queries.add(new QueryBenchmark("CourseDao.getCourseByIdSync", MEASURED_RUNS,
+                i -> rows(db.courseDao().getCourseByIdSync(pickId(i, scale.courses)))));
+        queries.add(new QueryBenchmark("CourseDao.getCoursesByIdsSync", MEASURED_RUNS,
+                i -> rows(db.courseDao().getCoursesByIdsSync(courseIds(i)))));
+        queries.add(new QueryBenchmark("CourseDao.getAllCourses", FULL_SCAN_RUNS,
+                i -> rows(await(db.courseDao().getAllCourses()))));
+        queries.add(new QueryBenchmark("CourseDao.getCoursesByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getCoursesByDepartment(department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getCoursesByDepartmentSync", MEASURED_RUNS,
+                i -> rows(db.courseDao().getCoursesByDepartmentSync(department(i)))));
+        queries.add(new QueryBenchmark("CourseDao.getCoursesByInstructor", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getCoursesByInstructor(pickId(i, scale.instructors))))));
+        queries.add(new QueryBenchmark("CourseDao.getCoursesBySemester", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getCoursesBySemester(1 + i % 3)))));
+        queries.add(new QueryBenchmark("CourseDao.searchCourses", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchCourses(term(COURSE_TERMS, i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchCoursesByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchCoursesByDepartment(term(COURSE_TERMS, i), department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getRegisteredCoursesByStudent", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getRegisteredCoursesByStudent(student(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getRegisteredCoursesByStudentAndDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getRegisteredCoursesByStudentAndDepartment(student(i), department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchRegisteredCoursesByStudent", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchRegisteredCoursesByStudent(term(COURSE_TERMS, i), student(i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchRegisteredCoursesByStudentAndDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchRegisteredCoursesByStudentAndDepartment(
+                        term(COURSE_TERMS, i), student(i), department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getCourseListItems", FULL_SCAN_RUNS,
+                i -> rows(await(db.courseDao().getCourseListItems()))));
+        queries.add(new QueryBenchmark("CourseDao.getCourseListItemsByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getCourseListItemsByDepartment(department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchCourseListItems", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchCourseListItems(term(COURSE_TERMS, i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchCourseListItemsByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchCourseListItemsByDepartment(term(COURSE_TERMS, i), department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getRegisteredCourseListItems", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getRegisteredCourseListItems(student(i))))));
+        queries.add(new QueryBenchmark("CourseDao.getRegisteredCourseListItemsByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().getRegisteredCourseListItemsByDepartment(student(i), department(i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchRegisteredCourseListItems", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchRegisteredCourseListItems(term(COURSE_TERMS, i), student(i))))));
+        queries.add(new QueryBenchmark("CourseDao.searchRegisteredCourseListItemsByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.courseDao().searchRegisteredCourseListItemsByDepartment(
+                        term(COURSE_TERMS, i), student(i), department(i))))));
+
+        // CourseEnrollmentDao
+        queries.add(new QueryBenchmark("CourseEnrollmentDao.getEnrolledCountSync", MEASURED_RUNS,
+                i -> db.courseEnrollmentDao().getEnrolledCountSync(pickId(i, scale.courses))));
+        queries.add(new QueryBenchmark("CourseEnrollmentDao.getAllSync", FULL_SCAN_RUNS,
+                i -> rows(db.courseEnrollmentDao().getAllSync())));
+        queries.add(new QueryBenchmark("CourseEnrollmentDao.countRegistrationsSync", FULL_SCAN_RUNS,
+                i -> rows(db.courseEnrollmentDao().countRegistrationsSync())));
+
+        // DepartmentDao
+        queries.add(new QueryBenchmark("DepartmentDao.getDepartmentById", MEASURED_RUNS,
+                i -> rows(await(db.departmentDao().getDepartmentById(department(i))))));
+        queries.add(new QueryBenchmark("DepartmentDao.getAllDepartments", MEASURED_RUNS,
+                i -> rows(await(db.departmentDao().getAllDepartments()))));
+        queries.add(new QueryBenchmark("DepartmentDao.searchDepartments", MEASURED_RUNS,
+                i -> rows(await(db.departmentDao().searchDepartments(term(DEPARTMENT_TERMS, i))))));
+
+        // InstructorDao
+        queries.add(new QueryBenchmark("InstructorDao.getInstructorById", MEASURED_RUNS,
+                i -> rows(await(db.instructorDao().getInstructorById(pickId(i, scale.instructors))))));
+        queries.add(new QueryBenchmark("InstructorDao.getAllInstructors", FULL_SCAN_RUNS,
+                i -> rows(await(db.instructorDao().getAllInstructors()))));
+        queries.add(new QueryBenchmark("InstructorDao.getInstructorsByDepartment", MEASURED_RUNS,
+                i -> rows(await(db.instructorDao().getInstructorsByDepartment(department(i))))));
+        queries.add(new QueryBenchmark("InstructorDao.searchInstructors", MEASURED_RUNS,
+                i -> rows(await(db.instructorDao().searchInstructors(term(PERSON_TERMS, i))))));
+
+        // RegistrationDao
+        queries.add(new QueryBenchmark("RegistrationDao.getRegistrationById", MEASURED_RUNS,
+                i -> rows(await(db.registrationDao().getRegistrationById(pickId(i, scale.registrations))))));
+        queries.add(new QueryBenchmark("RegistrationDao.getAllRegistrations", FULL_SCAN_RUNS,
+                i -> rows(await(db.registrationDao().getAllRegistrations()))));
+        queries.add(new QueryBenchmark("RegistrationDao.getRegistrationsByStudent", MEASURED_RUNS,
+                i -> rows(await(db.registrationDao().getRegistrationsByStudent(student(i))))));
+        queries.add(new QueryBenchmark("RegistrationDao.getRegistrationsByCourse", MEASURED_RUNS,
+                i -> rows(await(db.registrationDao().getRegistrationsByCourse(pickId(i, scale.courses))))));
+        queries.add(new QueryBenchmark("RegistrationDao.getRegistrationByStudentAndCourse", MEASURED_RUNS,
+                i -> rows(await(db.registrationDao().getRegistrationByStudentAndCourse(student(i),
+                        pickId(i, scale.courses))))));
+        queries.add(new QueryBenchmark("RegistrationDao.getRegisteredStudentCountForCourse", MEASURED_RUNS,
+                i -> rows(await(db.registrationDao().getRegisteredStudentCountForCourse(pickId(i, scale.courses))))));
+        queries.add(new QueryBenchmark("RegistrationDao.getActiveRegistrationsByStudentSync", MEASURED_RUNS,
+                i -> rows(db.registrationDao().getActiveRegistrationsByStudentSync(student(i)))));
+
+        // SemesterDao
+        queries.add(new QueryBenchmark("SemesterDao.getSemesterById", MEASURED_RUNS,
+                i -> rows(await(db.semesterDao().getSemesterById(1 + i % 3)))));
+        queries.add(new QueryBenchmark("SemesterDao.getAllSemesters", MEASURED_RUNS,
+                i -> rows(await(db.semesterDao().getAllSemesters()))));
+        queries.add(new QueryBenchmark("SemesterDao.getAllSemestersSync", MEASURED_RUNS,
+                i -> rows(db.semesterDao().getAllSemestersSync())));
+        queries.add(new QueryBenchmark("SemesterDao.getCurrentSemester", MEASURED_RUNS,
+                i -> rows(await(db.semesterDao().getCurrentSemester()))));
+
+        // SimpleTodoDao
+        queries.add(new QueryBenchmark("SimpleTodoDao.getTodosByStudent", MEASURED_RUNS,
+                i -> rows(await(db.simpleTodoDao().getTodosByStudent(student(i))))));
+        queries.add(new QueryBenchmark("SimpleTodoDao.getTodosByStudentSync", MEASURED_RUNS,
+                i -> rows(db.simpleTodoDao().getTodosByStudentSync(student(i)))));
+        queries.add(new QueryBenchmark("SimpleTodoDao.getPendingTodosByStudent", MEASURED_RUNS,
+                i -> rows(await(db.simpleTodoDao().getPendingTodosByStudent(student(i))))));
+        queries.add(new QueryBenchmark("SimpleTodoDao.getCompletedTodosByStudent", MEASURED_RUNS,
+                i -> rows(await(db.simpleTodoDao().getCompletedTodosByStudent(student(i))))));
+        queries.add(new QueryBenchmark("SimpleTodoDao.getAllTodosSync", FULL_SCAN_RUNS,
+                i -> rows(db.simpleTodoDao().getAllTodosSync())));
+
+        // StudentDao
+        queries.add(new QueryBenchmark("StudentDao.getStudentById", MEASURED_RUNS,
+                i -> rows(await(db.studentDao().getStudentById(student(i))))));
+        queries.add(new QueryBenchmark("StudentDao.getAllStudents", FULL_SCAN_RUNS,
+                i -> rows(await(db.studentDao().getAllStudents()))));
+        queries.add(new QueryBenchmark("StudentDao.getStudentsByDepartment", FULL_SCAN_RUNS,
+                i -> rows(await(db.studentDao().getStudentsByDepartment(department(i))))));
+        queries.add(new QueryBenchmark("StudentDao.searchStudents", MEASURED_RUNS,
+                i -> rows(await(db.studentDao().searchStudents(term(PERSON_TERMS, i))))));
+        queries.add(new QueryBenchmark("StudentDao.getStudentByEmail", MEASURED_RUNS,
+                i -> rows(db.studentDao().getStudentByEmail(SyntheticDataGenerator.emailFor(student(i))))));
+        queries.add(new QueryBenchmark("StudentDao.getEmailCount", MEASURED_RUNS,
+                i -> db.studentDao().getEmailCount(SyntheticDataGenerator.emailFor(student(i)))));
+        queries.add(new QueryBenchmark("StudentDao.emailExists", MEASURED_RUNS,
+                i -> db.studentDao().emailExists(SyntheticDataGenerator.emailFor(student(i))) ? 1 : 0));
+
+        // UserProfileDao is left out: the generator doesn't create user profiles
+        return queries;
+    }
+
+    // Arguments spread over the whole table so runs don't hit the same pages
+    private static int pickId(int iteration, int count) {
+        return 1 + (int) ((iteration * 7919L) % count);
+    }
+
+    private int student(int iteration) {
+        return pickId(iteration, scale.students);
+    }
+
+    private int department(int iteration) {
+        return 1 + iteration % scale.departments;
+    }
+
+    private List<Integer> courseIds(int iteration) {
+        List<Integer> ids = new ArrayList<>();
+        for (int k = 0; k < 8; k++) {
+            ids.add(pickId(iteration * 8 + k, scale.courses));
+        }
+        return ids;
+    }
+
+    private static String term(String[] terms, int iteration) {
+        return terms[iteration % terms.length];
+    }
+
+    private static int rows(List<?> list) {
+        return list == null ? 0 : list.size();
+    }
+
+    private static int rows(Object value) {
+        return value == null ? 0 : 1;
+    }
+
+    /**
+     * Wait for the first value of a Room LiveData, the way an observing screen gets it
+     */
+    private <T> T await(LiveData<T> liveData) {
+        AtomicReference<T> value = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        Observer<T> observer = new Observer<T>() {
+            @Override
+            public void onChanged(T t) {
+                value.set(t);
+                liveData.removeObserver(this);
+                latch.countDown();
+            }
+        };
+        mainHandler.post(() -> liveData.observeForever(observer));
+        try {
+            if (!latch.await(LIVE_DATA_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AssertionError("LiveData query timed out");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+        return value.get();
+    }
+
+    private String databaseName() {
+        return "dao-benchmark-" + scaleName + ".db";
+    }
+
+    private static double threshold() {
+        Bundle arguments = InstrumentationRegistry.getArguments();
+        String value = arguments.getString("daoBenchmarkThreshold");
+        return value != null ? Double.parseDouble(value) : DEFAULT_THRESHOLD_PERCENT;
+    }
+
+    /**
+     * Baselines are only comparable on the same hardware, so they are kept per device model
+     */
+    private static String deviceKey() {
+        return Build.MANUFACTURER + " " + Build.MODEL + " API " + Build.VERSION.SDK_INT;
+    }
+
+    private JsonObject loadBaseline() throws IOException {
+        Context testContext = InstrumentationRegistry.getInstrumentation().getContext();
+        try (Reader reader = new InputStreamReader(testContext.getAssets().open(BASELINE_ASSET),
+                StandardCharsets.UTF_8)) {
+            JsonObject devices = JsonParser.parseReader(reader).getAsJsonObject();
+            if (!devices.has(deviceKey())) {
+                return null;
+            }
+            JsonObject scales = devices.getAsJsonObject(deviceKey());
+            return scales.has(scaleName) ? scales.getAsJsonObject(scaleName) : null;
+        }
+    }
+
+    private File writeResults() throws IOException {
+        File dir = context.getExternalFilesDir("benchmarks");
+        if (dir == null) {
+            dir = new File(context.getFilesDir(), "benchmarks");
+        }
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+
+        JsonObject devices = new JsonObject();
+        devices.add(deviceKey(), results);
+        File file = new File(dir, RESULTS_FILE);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(devices, writer);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.student3.database;
+
+import com.google.gson.JsonObject;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Latency distribution and throughput of one benchmarked query.
+ */
+class LatencyStats {
+    private final long[] sortedNanos;
+    private final long totalRows;
+    private final long totalNanos;
+
+    LatencyStats(long[] nanos, long totalRows) {
+        this.sortedNanos = nanos.clone();
+        Arrays.sort(sortedNanos);
+        this.totalRows = totalRows;
+        long total = 0;
+        for (long value : nanos) {
+            total += value;
+        }
+        this.totalNanos = total;
+    }
+
+    int getRuns() {
+        return sortedNanos.length;
+    }
+
+    double getMinMillis() {
+        return toMillis(sortedNanos[0]);
+    }
+
+    double getMaxMillis() {
+        return toMillis(sortedNanos[sortedNanos.length - 1]);
+    }
+
+    double getMeanMillis() {
+        return toMillis(totalNanos) / sortedNanos.length;
+    }
+
+    /**
+     * Nearest-rank percentile, e.g. 50 for the median
+     */
+    double getPercentileMillis(int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return toMillis(sortedNanos[Math.max(0, rank - 1)]);
+    }
+
+    double getRowsPerQuery() {
+        return (double) totalRows / sortedNanos.length;
+    }
+
+    double getRowsPerSecond() {
+        return totalNanos == 0 ? 0 : totalRows * 1_000_000_000.0 / totalNanos;
+    }
+
+    JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("runs", getRuns());
+        json.addProperty("minMs", getMinMillis());
+        json.addProperty("p50Ms", getPercentileMillis(50));
+        json.addProperty("p90Ms", getPercentileMillis(90));
+        json.addProperty("p99Ms", getPercentileMillis(99));
+        json.addProperty("maxMs", getMaxMillis());
+        json.addProperty("meanMs", getMeanMillis());
+        json.addProperty("rowsPerQuery", getRowsPerQuery());
+        json.addProperty("rowsPerSecond", getRowsPerSecond());
+        return json;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms, %.0f rows, %.0f rows/s",
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis(),
+                getRowsPerQuery(), getRowsPerSecond());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
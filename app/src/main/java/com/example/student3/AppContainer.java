@@ -0,0 +1,124 @@
+package com.example.student3;
+
+import android.app.Application;
+import android.content.Context;
+
+import com.example.student3.repository.AnnouncementRepository;
+import com.example.student3.repository.CourseRepository;
+import com.example.student3.repository.DepartmentRepository;
+import com.example.student3.repository.InstructorRepository;
+import com.example.student3.repository.RegistrationRepository;
+import com.example.student3.repository.SemesterRepository;
+import com.example.student3.repository.SimpleTodoRepository;
+import com.example.student3.repository.StudentRepository;
+import com.example.student3.utils.NotificationHelper;
+import com.example.student3.utils.UserSession;
+
+/**
+ * Application-wide holder of the repositories and shared helpers.
+ *
+ * Each repository is created on first use and then shared by every ViewModel, so
+ * screens showing the same data observe the same LiveData instead of opening
+ * their own Room queries.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class AppContainer {
+    private static AppContainer instance;
+
+    private final Application application;
+
+    private NotificationHelper notificationHelper;
+    private AnnouncementRepository announcementRepository;
+    private CourseRepository courseRepository;
+    private DepartmentRepository departmentRepository;
+    private InstructorRepository instructorRepository;
+    private RegistrationRepository registrationRepository;
+    private SemesterRepository semesterRepository;
+    private SimpleTodoRepository simpleTodoRepository;
+    private StudentRepository studentRepository;
+
+    private AppContainer(Application application) {
+        this.application = application;
+    }
+
+    public static synchronized AppContainer getInstance(Context context) {
+        if (instance == null) {
+            instance = new AppContainer((Application) context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * Shared so notification channels are set up once per process
+     */
+    public synchronized NotificationHelper getNotificationHelper() {
+        if (notificationHelper == null) {
+            notificationHelper = new NotificationHelper(application);
+        }
+        return notificationHelper;
+    }
+
+    /**
+     * Rebuilt when a different student logs in, since read state and badge
+     * counts are per student
+     */
+    public synchronized AnnouncementRepository getAnnouncementRepository() {
+        int studentId = new UserSession(application).getCurrentUserId();
+        if (announcementRepository == null || announcementRepository.getStudentId() != studentId) {
+            announcementRepository = new AnnouncementRepository(application, getNotificationHelper());
+        }
+        return announcementRepository;
+    }
+
+    public synchronized CourseRepository getCourseRepository() {
+        if (courseRepository == null) {
+            courseRepository = new CourseRepository(application);
+        }
+        return courseRepository;
+    }
+
+    public synchronized DepartmentRepository getDepartmentRepository() {
+        if (departmentRepository == null) {
+            departmentRepository = new DepartmentRepository(application);
+        }
+        return departmentRepository;
+    }
+
+    public synchronized InstructorRepository getInstructorRepository() {
+        if (instructorRepository == null) {
+            instructorRepository = new InstructorRepository(application);
+        }
+        return instructorRepository;
+    }
+
+    public synchronized RegistrationRepository getRegistrationRepository() {
+        if (registrationRepository == null) {
+            registrationRepository = new RegistrationRepository(application);
+        }
+        return registrationRepository;
+    }
+
+    public synchronized SemesterRepository getSemesterRepository() {
+        if (semesterRepository == null) {
+            semesterRepository = new SemesterRepository(application);
+        }
+        return semesterRepository;
+    }
+
+    public synchronized SimpleTodoRepository getSimpleTodoRepository() {
+        if (simpleTodoRepository == null) {
+            simpleTodoRepository = new SimpleTodoRepository(application);
+        }
+        return simpleTodoRepository;
+    }
+
+    public synchronized StudentRepository getStudentRepository() {
+        if (studentRepository == null) {
+            studentRepository = new StudentRepository(application);
+        }
+        return studentRepository;
+    }
+}
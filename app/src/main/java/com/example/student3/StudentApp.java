@@ -1,19 +1,44 @@
 package com.example.student3;
 
 import android.app.Application;
+import android.content.pm.ApplicationInfo;
 import androidx.appcompat.app.AppCompatDelegate;
 
+import com.example.student3.database.AppDatabase;
+import com.example.student3.utils.EventLog;
+import com.example.student3.utils.PerfTrace;
+import com.example.student3.utils.StartupOrchestrator;
+
 /**
  * Application class to force light theme globally
  * This prevents any dark theme related crashes
+ *
+ * Only the critical startup phase runs here; MainActivity defers the rest until
+ * after its first frame (see StartupOrchestrator).
  */
 public class StudentApp extends Application {
-    
+
     @Override
     public void onCreate() {
         super.onCreate();
-        
+
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+
+        // Write recent events to files/diagnostics when the app crashes
+        startup.runCritical("eventLog", () -> EventLog.install(this));
+
+        // Trace sections are on in debuggable builds; PerfTrace.setEnabled can
+        // switch them at any time
+        startup.runCritical("tracing", () -> PerfTrace.setEnabled(
+                (getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0));
+
         // FORCE LIGHT THEME GLOBALLY - This will prevent all dark theme crashes
-        AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_NO);
+        startup.runCritical("lightTheme",
+                () -> AppCompatDelegate.setDefaultNightMode(AppCompatDelegate.MODE_NIGHT_NO));
+
+        // Open the database, run its callbacks and install triggers before the
+        // first screen queries it
+        startup.runCriticalInBackground("roomPrewarm",
+                () -> AppDatabase.getDatabase(this).getOpenHelper().getWritableDatabase());
     }
 }
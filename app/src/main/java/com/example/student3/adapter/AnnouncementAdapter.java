@@ -6,32 +6,68 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.student3.R;
-import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Full-featured adapter for displaying announcements in a RecyclerView
  * Supports click listeners, read status indicators, and importance badges
  * 
+ * Updates are diffed off the main thread; a read/unread change only rebinds
+ * the read state of the affected row.
+ * 
  * @author DANN4 Development Team
  * @version 1.0 - Full Announcement Adapter
  * @since 2025
  */
-public class AnnouncementAdapter extends RecyclerView.Adapter<AnnouncementAdapter.ViewHolder> {
-    private List<Announcement> announcements;
+public class AnnouncementAdapter extends ListAdapter<AnnouncementListItem, AnnouncementAdapter.ViewHolder> {
+    private static final String TRACE_BIND = "AnnouncementAdapter.bind";
+    private static final Object PAYLOAD_READ_STATE = new Object();
+
+    private static final DiffUtil.ItemCallback<AnnouncementListItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<AnnouncementListItem>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull AnnouncementListItem oldItem, @NonNull AnnouncementListItem newItem) {
+            return oldItem.getAnnouncementId() == newItem.getAnnouncementId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull AnnouncementListItem oldItem, @NonNull AnnouncementListItem newItem) {
+            return oldItem.isRead() == newItem.isRead() && hasSameText(oldItem, newItem);
+        }
+
+        @Override
+        public Object getChangePayload(@NonNull AnnouncementListItem oldItem, @NonNull AnnouncementListItem newItem) {
+            // Only the read flag changed: skip rebinding the text
+            return hasSameText(oldItem, newItem) ? PAYLOAD_READ_STATE : null;
+        }
+
+        private boolean hasSameText(AnnouncementListItem oldItem, AnnouncementListItem newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getPreview(), newItem.getPreview())
+                    && Objects.equals(oldItem.getPublishDate(), newItem.getPublishDate())
+                    && oldItem.isImportant() == newItem.isImportant();
+        }
+    };
+
     private OnAnnouncementClickListener clickListener;
 
     public interface OnAnnouncementClickListener {
-        void onAnnouncementClick(Announcement announcement);
-        void onAnnouncementLongClick(Announcement announcement);
+        void onAnnouncementClick(AnnouncementListItem announcement);
+        void onAnnouncementLongClick(AnnouncementListItem announcement);
     }
 
-    public AnnouncementAdapter(List<Announcement> announcements) {
-        this.announcements = announcements;
+    public AnnouncementAdapter(List<AnnouncementListItem> announcements) {
+        super(DIFF_CALLBACK);
+        setHasStableIds(true);
+        submitList(announcements);
     }
 
     public void setOnAnnouncementClickListener(OnAnnouncementClickListener listener) {
@@ -48,10 +84,17 @@ public class AnnouncementAdapter extends RecyclerView.Adapter<AnnouncementAdapte
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Announcement announcement = announcements.get(position);
-        holder.bind(announcement);
-        
-        // Set click listeners
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            AnnouncementListItem announcement = getItem(position);
+            holder.bind(announcement);
+            bindClickListeners(holder, announcement);
+        } finally {
+            PerfTrace.end(traced);
+        }
+    }
+
+    private void bindClickListeners(ViewHolder holder, AnnouncementListItem announcement) {
         holder.itemView.setOnClickListener(v -> {
             if (clickListener != null) {
                 clickListener.onAnnouncementClick(announcement);
@@ -68,13 +111,24 @@ public class AnnouncementAdapter extends RecyclerView.Adapter<AnnouncementAdapte
     }
 
     @Override
-    public int getItemCount() {
-        return announcements != null ? announcements.size() : 0;
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+            return;
+        }
+
+        // Click listeners capture the announcement, so refresh them with the new instance
+        bindClickListeners(holder, getItem(position));
+        holder.bindReadState(getItem(position));
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getAnnouncementId();
     }
 
-    public void updateAnnouncements(List<Announcement> newAnnouncements) {
-        this.announcements = newAnnouncements;
-        notifyDataSetChanged();
+    public void updateAnnouncements(List<AnnouncementListItem> newAnnouncements) {
+        submitList(newAnnouncements);
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -93,9 +147,9 @@ public class AnnouncementAdapter extends RecyclerView.Adapter<AnnouncementAdapte
             unreadIndicator = itemView.findViewById(R.id.viewUnreadIndicator);
         }
 
-        public void bind(Announcement announcement) {
+        public void bind(AnnouncementListItem announcement) {
             titleTextView.setText(announcement.getTitle());
-            contentTextView.setText(announcement.getContent());
+            contentTextView.setText(announcement.getPreview());
             dateTextView.setText(announcement.getPublishDate());
             
             // Show/hide important badge
@@ -106,6 +160,10 @@ public class AnnouncementAdapter extends RecyclerView.Adapter<AnnouncementAdapte
                 importantBadge.setVisibility(View.GONE);
             }
             
+            bindReadState(announcement);
+        }
+
+        public void bindReadState(AnnouncementListItem announcement) {
             // Show/hide unread indicator
             if (!announcement.isRead()) {
                 unreadIndicator.setVisibility(View.VISIBLE);
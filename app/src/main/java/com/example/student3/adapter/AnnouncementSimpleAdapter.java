@@ -6,23 +6,45 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.student3.R;
-import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
+import java.util.Objects;
+
+public class AnnouncementSimpleAdapter extends ListAdapter<AnnouncementListItem, AnnouncementSimpleAdapter.ViewHolder> {
+    private static final String TRACE_BIND = "AnnouncementSimpleAdapter.bind";
+    // The dashboard row doesn't show read state, so read/unread changes are not a content change
+    private static final DiffUtil.ItemCallback<AnnouncementListItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<AnnouncementListItem>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull AnnouncementListItem oldItem, @NonNull AnnouncementListItem newItem) {
+            return oldItem.getAnnouncementId() == newItem.getAnnouncementId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull AnnouncementListItem oldItem, @NonNull AnnouncementListItem newItem) {
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                    && Objects.equals(oldItem.getPreview(), newItem.getPreview())
+                    && Objects.equals(oldItem.getPublishDate(), newItem.getPublishDate())
+                    && oldItem.isImportant() == newItem.isImportant();
+        }
+    };
 
-public class AnnouncementSimpleAdapter extends RecyclerView.Adapter<AnnouncementSimpleAdapter.ViewHolder> {
-    private List<Announcement> announcements;
     private OnAnnouncementClickListener clickListener;
 
     public interface OnAnnouncementClickListener {
-        void onAnnouncementClick(Announcement announcement);
+        void onAnnouncementClick(AnnouncementListItem announcement);
     }
 
-    public AnnouncementSimpleAdapter(List<Announcement> announcements) {
-        this.announcements = announcements;
+    public AnnouncementSimpleAdapter(List<AnnouncementListItem> announcements) {
+        super(DIFF_CALLBACK);
+        setHasStableIds(true);
+        submitList(announcements);
     }
 
     public void setOnAnnouncementClickListener(OnAnnouncementClickListener listener) {
@@ -39,25 +61,29 @@ public class AnnouncementSimpleAdapter extends RecyclerView.Adapter<Announcement
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Announcement announcement = announcements.get(position);
-        holder.bind(announcement);
-
-        // Set click listener
-        holder.itemView.setOnClickListener(v -> {
-            if (clickListener != null) {
-                clickListener.onAnnouncementClick(announcement);
-            }
-        });
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            AnnouncementListItem announcement = getItem(position);
+            holder.bind(announcement);
+
+            // Set click listener
+            holder.itemView.setOnClickListener(v -> {
+                if (clickListener != null) {
+                    clickListener.onAnnouncementClick(announcement);
+                }
+            });
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return announcements != null ? announcements.size() : 0;
+    public long getItemId(int position) {
+        return getItem(position).getAnnouncementId();
     }
 
-    public void updateAnnouncements(List<Announcement> newAnnouncements) {
-        this.announcements = newAnnouncements;
-        notifyDataSetChanged();
+    public void updateAnnouncements(List<AnnouncementListItem> newAnnouncements) {
+        submitList(newAnnouncements);
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -74,9 +100,9 @@ public class AnnouncementSimpleAdapter extends RecyclerView.Adapter<Announcement
             tvImportantBadge = itemView.findViewById(R.id.tv_important_badge);
         }
 
-        public void bind(Announcement announcement) {
+        public void bind(AnnouncementListItem announcement) {
             tvTitle.setText(announcement.getTitle());
-            tvContent.setText(announcement.getContent());
+            tvContent.setText(announcement.getPreview());
             tvDate.setText(announcement.getPublishDate());
             
             if (announcement.isImportant()) {
@@ -2,39 +2,29 @@ package com.example.student3.adapter;
 
 
 import android.view.LayoutInflater;
-import android.view.View;
 import android.view.ViewGroup;
 
 import androidx.annotation.NonNull;
-import androidx.lifecycle.LifecycleOwner;
-import androidx.lifecycle.ViewModelProvider;
-import androidx.lifecycle.ViewModelStoreOwner;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
-import com.example.student3.model.Course;
+import com.example.student3.R;
+import com.example.student3.model.CourseListItem;
 import com.example.student3.databinding.ItemCourseBinding;
-import com.example.student3.viewmodel.InstructorViewModel;
-import com.example.student3.viewmodel.RegistrationViewModel;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
 
-public class CourseAdapter extends RecyclerView.Adapter<CourseAdapter.CourseViewHolder> {
+public class CourseAdapter extends ListAdapter<CourseListItem, CourseAdapter.CourseViewHolder> {
+    private static final String TRACE_BIND = "CourseAdapter.bind";
 
-    private List<Course> courses;
     private final OnCourseClickListener listener;
-    private final LifecycleOwner lifecycleOwner;
-    private final InstructorViewModel instructorViewModel;
-    private final RegistrationViewModel registrationViewModel;
 
-    public CourseAdapter(List<Course> courses, OnCourseClickListener listener,
-                        LifecycleOwner lifecycleOwner, ViewModelStoreOwner viewModelStoreOwner) {
-        this.courses = courses;
+    public CourseAdapter(List<CourseListItem> courses, OnCourseClickListener listener) {
+        super(CourseListItemDiffCallback.INSTANCE);
+        setHasStableIds(true);
+        submitList(courses);
         this.listener = listener;
-        this.lifecycleOwner = lifecycleOwner;
-
-        ViewModelProvider viewModelProvider = new ViewModelProvider(viewModelStoreOwner);
-        this.instructorViewModel = viewModelProvider.get(InstructorViewModel.class);
-        this.registrationViewModel = viewModelProvider.get(RegistrationViewModel.class);
     }
 
     @NonNull
@@ -47,18 +37,22 @@ public class CourseAdapter extends RecyclerView.Adapter<CourseAdapter.CourseView
 
     @Override
     public void onBindViewHolder(@NonNull CourseViewHolder holder, int position) {
-        Course course = courses.get(position);
-        holder.bind(course);
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            CourseListItem course = getItem(position);
+            holder.bind(course);
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return courses.size();
+    public long getItemId(int position) {
+        return getItem(position).getCourseId();
     }
 
-    public void updateCourses(List<Course> newCourses) {
-        this.courses = newCourses;
-        notifyDataSetChanged();
+    public void updateCourses(List<CourseListItem> newCourses) {
+        submitList(newCourses);
     }
 
     public class CourseViewHolder extends RecyclerView.ViewHolder {
@@ -71,35 +65,34 @@ public class CourseAdapter extends RecyclerView.Adapter<CourseAdapter.CourseView
             itemView.setOnClickListener(v -> {
                 int position = getAdapterPosition();
                 if (position != RecyclerView.NO_POSITION) {
-                    listener.onCourseClick(courses.get(position));
+                    listener.onCourseClick(getItem(position));
                 }
             });
         }
 
-        public void bind(Course course) {
+        public void bind(CourseListItem course) {
             binding.tvCourseCode.setText(course.getCourseCode());
             binding.tvCourseTitle.setText(course.getTitle());
             binding.tvCreditHours.setText(String.format("%d Credit Hours", course.getCreditHours()));
 
-            // Load instructor name
-            if (course.getInstructorId() != null) {
-                instructorViewModel.getInstructorById(course.getInstructorId())
-                    .observe(lifecycleOwner, instructor -> {
-                        if (instructor != null) {
-                            binding.tvInstructor.setText(instructor.getFullName());
-                        } else {
-                            binding.tvInstructor.setText("Unknown Instructor");
-                        }
-                    });
+            // Instructor name and seats left come with the row, no per-item queries
+            if (course.getInstructorName() != null) {
+                binding.tvInstructor.setText(course.getInstructorName());
+            } else if (course.getInstructorId() != null) {
+                binding.tvInstructor.setText("Unknown Instructor");
             } else {
                 binding.tvInstructor.setText("No Instructor Assigned");
             }
 
-
+            if (course.isFull()) {
+                binding.tvSeatsLeft.setText(R.string.course_full);
+            } else {
+                binding.tvSeatsLeft.setText(itemView.getContext().getString(R.string.seats_left, course.getSeatsLeft()));
+            }
         }
     }
 
     public interface OnCourseClickListener {
-        void onCourseClick(Course course);
+        void onCourseClick(CourseListItem course);
     }
-}
\ No newline at end of file
+}
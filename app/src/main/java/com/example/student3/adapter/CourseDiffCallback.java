@@ -0,0 +1,39 @@
+package com.example.student3.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.example.student3.model.Course;
+
+import java.util.Objects;
+
+/**
+ * DiffUtil callback for adapters showing full Course rows, such as the schedule.
+ *
+ * Room hands out fresh Course instances on every emission, so contents are compared
+ * field by field over everything the course rows display.
+ */
+class CourseDiffCallback extends DiffUtil.ItemCallback<Course> {
+
+    static final CourseDiffCallback INSTANCE = new CourseDiffCallback();
+
+    private CourseDiffCallback() {
+    }
+
+    @Override
+    public boolean areItemsTheSame(@NonNull Course oldItem, @NonNull Course newItem) {
+        return oldItem.getCourseId() == newItem.getCourseId();
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull Course oldItem, @NonNull Course newItem) {
+        return Objects.equals(oldItem.getCourseCode(), newItem.getCourseCode())
+                && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                && Objects.equals(oldItem.getDescription(), newItem.getDescription())
+                && oldItem.getCreditHours() == newItem.getCreditHours()
+                && Objects.equals(oldItem.getInstructorId(), newItem.getInstructorId())
+                && Objects.equals(oldItem.getDaysOfWeek(), newItem.getDaysOfWeek())
+                && oldItem.getStartPeriod() == newItem.getStartPeriod()
+                && oldItem.getEndPeriod() == newItem.getEndPeriod();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.student3.adapter;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import com.example.student3.model.CourseListItem;
+
+import java.util.Objects;
+
+/**
+ * DiffUtil callback shared by the adapters showing course list rows. A registration
+ * elsewhere only changes the seats left, so that row alone is rebound.
+ */
+class CourseListItemDiffCallback extends DiffUtil.ItemCallback<CourseListItem> {
+
+    static final CourseListItemDiffCallback INSTANCE = new CourseListItemDiffCallback();
+
+    private CourseListItemDiffCallback() {
+    }
+
+    @Override
+    public boolean areItemsTheSame(@NonNull CourseListItem oldItem, @NonNull CourseListItem newItem) {
+        return oldItem.getCourseId() == newItem.getCourseId();
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull CourseListItem oldItem, @NonNull CourseListItem newItem) {
+        return Objects.equals(oldItem.getCourseCode(), newItem.getCourseCode())
+                && Objects.equals(oldItem.getTitle(), newItem.getTitle())
+                && Objects.equals(oldItem.getDescriptionPreview(), newItem.getDescriptionPreview())
+                && oldItem.getCreditHours() == newItem.getCreditHours()
+                && Objects.equals(oldItem.getInstructorName(), newItem.getInstructorName())
+                && oldItem.getSeatsLeft() == newItem.getSeatsLeft();
+    }
+}
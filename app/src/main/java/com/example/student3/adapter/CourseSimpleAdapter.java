@@ -6,20 +6,23 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.student3.R;
-import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
+import com.example.student3.utils.PerfTrace;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class CourseSimpleAdapter extends RecyclerView.Adapter<CourseSimpleAdapter.ViewHolder> {
-    private List<Course> courses;
+public class CourseSimpleAdapter extends ListAdapter<CourseListItem, CourseSimpleAdapter.ViewHolder> {
+    private static final String TRACE_BIND = "CourseSimpleAdapter.bind";
     private OnCourseClickListener onCourseClickListener;
 
-    public CourseSimpleAdapter(List<Course> courses) {
-        this.courses = courses;
+    public CourseSimpleAdapter(List<CourseListItem> courses) {
+        super(CourseListItemDiffCallback.INSTANCE);
+        setHasStableIds(true);
+        submitList(courses);
     }
 
     public void setOnCourseClickListener(OnCourseClickListener listener) {
@@ -36,18 +39,22 @@ public class CourseSimpleAdapter extends RecyclerView.Adapter<CourseSimpleAdapte
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        Course course = courses.get(position);
-        holder.bind(course, onCourseClickListener);
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            CourseListItem course = getItem(position);
+            holder.bind(course, onCourseClickListener);
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return courses != null ? courses.size() : 0;
+    public long getItemId(int position) {
+        return getItem(position).getCourseId();
     }
 
-    public void updateCourses(List<Course> newCourses) {
-        this.courses = newCourses != null ? newCourses : new ArrayList<>();
-        notifyDataSetChanged();
+    public void updateCourses(List<CourseListItem> newCourses) {
+        submitList(newCourses);
     }
 
     static class ViewHolder extends RecyclerView.ViewHolder {
@@ -64,10 +71,10 @@ public class CourseSimpleAdapter extends RecyclerView.Adapter<CourseSimpleAdapte
             tvCreditHours = itemView.findViewById(R.id.tv_credit_hours);
         }
 
-        public void bind(Course course, OnCourseClickListener listener) {
+        public void bind(CourseListItem course, OnCourseClickListener listener) {
             tvCourseCode.setText(course.getCourseCode());
             tvCourseTitle.setText(course.getTitle());
-            tvCourseDescription.setText(course.getDescription());
+            tvCourseDescription.setText(course.getDescriptionPreview());
             tvCreditHours.setText(course.getCreditHours() + " Credits");
 
             // Set click listener
@@ -80,6 +87,6 @@ public class CourseSimpleAdapter extends RecyclerView.Adapter<CourseSimpleAdapte
     }
 
     public interface OnCourseClickListener {
-        void onCourseClick(Course course);
+        void onCourseClick(CourseListItem course);
     }
 }
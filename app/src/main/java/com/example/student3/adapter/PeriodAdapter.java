@@ -6,25 +6,26 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.student3.R;
 import com.example.student3.model.Course;
 import com.example.student3.utils.ScheduleUtils;
+import com.example.student3.utils.PerfTrace;
 
-import java.util.ArrayList;
 import java.util.List;
 
-public class PeriodAdapter extends RecyclerView.Adapter<PeriodAdapter.PeriodViewHolder> {
+public class PeriodAdapter extends ListAdapter<Course, PeriodAdapter.PeriodViewHolder> {
+    private static final String TRACE_BIND = "PeriodAdapter.bind";
 
-    private List<Course> courses = new ArrayList<>();
+    public PeriodAdapter() {
+        super(CourseDiffCallback.INSTANCE);
+        setHasStableIds(true);
+    }
 
     public void updateCourses(List<Course> newCourses) {
-        this.courses.clear();
-        if (newCourses != null) {
-            this.courses.addAll(newCourses);
-        }
-        notifyDataSetChanged();
+        submitList(newCourses);
     }
 
     @NonNull
@@ -37,13 +38,18 @@ public class PeriodAdapter extends RecyclerView.Adapter<PeriodAdapter.PeriodView
 
     @Override
     public void onBindViewHolder(@NonNull PeriodViewHolder holder, int position) {
-        Course course = courses.get(position);
-        holder.bind(course);
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            Course course = getItem(position);
+            holder.bind(course);
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return courses.size();
+    public long getItemId(int position) {
+        return getItem(position).getCourseId();
     }
 
     static class PeriodViewHolder extends RecyclerView.ViewHolder {
@@ -6,15 +6,20 @@ import android.view.ViewGroup;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.student3.R;
 import com.example.student3.model.Registration;
 import com.example.student3.model.Course;
 import com.example.student3.utils.ScheduleUtils;
+import com.example.student3.utils.PerfTrace;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * ScheduleAdapter displays student's enrolled courses in a schedule format.
@@ -25,11 +30,28 @@ import java.util.Map;
  * - Color-coded status indicators
  * - Click handling for course details
  * 
+ * Each row is snapshotted into a {@link ScheduleItem} when the data is submitted,
+ * so later changes to the caller's course or instructor maps can't leak into
+ * rows that were already diffed.
+ * 
  * @author DANN4 Development Team
  * @version 1.0
  * @since 2025
  */
-public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.ScheduleViewHolder> {
+public class ScheduleAdapter extends ListAdapter<ScheduleAdapter.ScheduleItem, ScheduleAdapter.ScheduleViewHolder> {
+    private static final String TRACE_BIND = "ScheduleAdapter.bind";
+
+    private static final DiffUtil.ItemCallback<ScheduleItem> DIFF_CALLBACK = new DiffUtil.ItemCallback<ScheduleItem>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull ScheduleItem oldItem, @NonNull ScheduleItem newItem) {
+            return oldItem.registration.getRegistrationId() == newItem.registration.getRegistrationId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull ScheduleItem oldItem, @NonNull ScheduleItem newItem) {
+            return oldItem.hasSameContents(newItem);
+        }
+    };
 
     private List<Registration> registrations;
     private Map<Integer, Course> courseMap; // Map courseId to Course object
@@ -41,17 +63,25 @@ public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.Schedu
     }
 
     public ScheduleAdapter(List<Registration> registrations) {
-        this.registrations = registrations;
+        this(registrations, null, null);
     }
 
     public ScheduleAdapter(List<Registration> registrations, Map<Integer, Course> courseMap) {
-        this.registrations = registrations;
-        this.courseMap = courseMap;
+        this(registrations, courseMap, null);
     }
 
     public ScheduleAdapter(List<Registration> registrations, OnScheduleItemClickListener listener) {
+        this(registrations, null, listener);
+    }
+
+    private ScheduleAdapter(List<Registration> registrations, Map<Integer, Course> courseMap,
+                            OnScheduleItemClickListener listener) {
+        super(DIFF_CALLBACK);
+        setHasStableIds(true);
         this.registrations = registrations;
+        this.courseMap = courseMap;
         this.listener = listener;
+        submitItems();
     }
 
     @NonNull
@@ -64,34 +94,38 @@ public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.Schedu
 
     @Override
     public void onBindViewHolder(@NonNull ScheduleViewHolder holder, int position) {
-        Registration registration = registrations.get(position);
-        holder.bind(registration);
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            holder.bind(getItem(position));
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
 
     @Override
-    public int getItemCount() {
-        return registrations != null ? registrations.size() : 0;
+    public long getItemId(int position) {
+        return getItem(position).registration.getRegistrationId();
     }
 
     public void updateSchedule(List<Registration> newRegistrations) {
         this.registrations = newRegistrations;
-        notifyDataSetChanged();
+        submitItems();
     }
 
     public void updateSchedule(List<Registration> newRegistrations, Map<Integer, Course> newCourseMap) {
         this.registrations = newRegistrations;
         this.courseMap = newCourseMap;
-        notifyDataSetChanged();
+        submitItems();
     }
 
     public void setCourseMap(Map<Integer, Course> courseMap) {
         this.courseMap = courseMap;
-        notifyDataSetChanged();
+        submitItems();
     }
 
     public void setInstructorMap(Map<Integer, String> instructorMap) {
         this.instructorMap = instructorMap;
-        notifyDataSetChanged();
+        submitItems();
     }
 
     public void updateScheduleWithInstructors(List<Registration> newRegistrations,
@@ -100,7 +134,57 @@ public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.Schedu
         this.registrations = newRegistrations;
         this.courseMap = newCourseMap;
         this.instructorMap = newInstructorMap;
-        notifyDataSetChanged();
+        submitItems();
+    }
+
+    private void submitItems() {
+        if (registrations == null) {
+            submitList(null);
+            return;
+        }
+
+        List<ScheduleItem> items = new ArrayList<>(registrations.size());
+        for (Registration registration : registrations) {
+            Course course = courseMap != null ? courseMap.get(registration.getCourseId()) : null;
+            String instructorName = null;
+            if (course != null && instructorMap != null && course.getInstructorId() != null) {
+                instructorName = instructorMap.get(course.getInstructorId());
+            }
+            items.add(new ScheduleItem(registration, course, instructorName));
+        }
+        submitList(items);
+    }
+
+    /**
+     * A registration together with the course and instructor shown on its row
+     */
+    static class ScheduleItem {
+        final Registration registration;
+        final Course course;
+        final String instructorName;
+
+        ScheduleItem(Registration registration, Course course, String instructorName) {
+            this.registration = registration;
+            this.course = course;
+            this.instructorName = instructorName;
+        }
+
+        boolean hasSameContents(ScheduleItem other) {
+            if (!Objects.equals(registration.getStatus(), other.registration.getStatus())
+                    || !Objects.equals(registration.getGrade(), other.registration.getGrade())
+                    || registration.getCourseId() != other.registration.getCourseId()
+                    || !Objects.equals(instructorName, other.instructorName)) {
+                return false;
+            }
+            if (course == null || other.course == null) {
+                return course == other.course;
+            }
+            return Objects.equals(course.getCourseCode(), other.course.getCourseCode())
+                    && Objects.equals(course.getTitle(), other.course.getTitle())
+                    && Objects.equals(course.getDaysOfWeek(), other.course.getDaysOfWeek())
+                    && course.getStartPeriod() == other.course.getStartPeriod()
+                    && course.getEndPeriod() == other.course.getEndPeriod();
+        }
     }
 
     class ScheduleViewHolder extends RecyclerView.ViewHolder {
@@ -126,17 +210,15 @@ public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.Schedu
                 if (listener != null) {
                     int position = getAdapterPosition();
                     if (position != RecyclerView.NO_POSITION) {
-                        listener.onScheduleItemClick(registrations.get(position));
+                        listener.onScheduleItemClick(getItem(position).registration);
                     }
                 }
             });
         }
 
-        public void bind(Registration registration) {
-            Course course = null;
-            if (courseMap != null) {
-                course = courseMap.get(registration.getCourseId());
-            }
+        public void bind(ScheduleItem item) {
+            Registration registration = item.registration;
+            Course course = item.course;
 
             if (course != null) {
                 // Display course information with scheduling
@@ -152,15 +234,10 @@ public class ScheduleAdapter extends RecyclerView.Adapter<ScheduleAdapter.Schedu
                 tvTimeSlot.setText(scheduleText);
 
                 // Display instructor information
-                if (instructorMap != null && course.getInstructorId() != null) {
-                    String instructorName = instructorMap.get(course.getInstructorId());
-                    if (instructorName != null && !instructorName.isEmpty()) {
-                        tvInstructor.setText(instructorName);
-                        tvInstructor.setVisibility(View.VISIBLE);
-                    } else {
-                        tvInstructor.setText("Instructor TBD");
-                        tvInstructor.setVisibility(View.VISIBLE);
-                    }
+                String instructorName = item.instructorName;
+                if (instructorName != null && !instructorName.isEmpty()) {
+                    tvInstructor.setText(instructorName);
+                    tvInstructor.setVisibility(View.VISIBLE);
                 } else {
                     tvInstructor.setText("Instructor TBD");
                     tvInstructor.setVisibility(View.VISIBLE);
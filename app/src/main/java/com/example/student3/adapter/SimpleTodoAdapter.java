@@ -8,19 +8,52 @@ import android.widget.CheckBox;
 import android.widget.ImageButton;
 import android.widget.TextView;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 import com.example.student3.R;
 import com.example.student3.model.SimpleTodo;
-import java.util.ArrayList;
+import com.example.student3.utils.PerfTrace;
 import java.util.List;
+import java.util.Objects;
 
-public class SimpleTodoAdapter extends RecyclerView.Adapter<SimpleTodoAdapter.TodoViewHolder> {
+public class SimpleTodoAdapter extends ListAdapter<SimpleTodo, SimpleTodoAdapter.TodoViewHolder> {
+    private static final String TRACE_BIND = "SimpleTodoAdapter.bind";
+    
+    private static final Object PAYLOAD_COMPLETION = new Object();
+    
+    private static final DiffUtil.ItemCallback<SimpleTodo> DIFF_CALLBACK = new DiffUtil.ItemCallback<SimpleTodo>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull SimpleTodo oldItem, @NonNull SimpleTodo newItem) {
+            return oldItem.getTodoId() == newItem.getTodoId();
+        }
+        
+        @Override
+        public boolean areContentsTheSame(@NonNull SimpleTodo oldItem, @NonNull SimpleTodo newItem) {
+            return oldItem.isCompleted() == newItem.isCompleted()
+                    && Objects.equals(oldItem.getTitle(), newItem.getTitle());
+        }
+        
+        @Override
+        public Object getChangePayload(@NonNull SimpleTodo oldItem, @NonNull SimpleTodo newItem) {
+            // Only completion changed: keep the title and just update the checkbox and strikethrough
+            return Objects.equals(oldItem.getTitle(), newItem.getTitle()) ? PAYLOAD_COMPLETION : null;
+        }
+    };
     
-    private List<SimpleTodo> todos = new ArrayList<>();
     private OnTodoClickListener listener;
     
+    public SimpleTodoAdapter() {
+        super(DIFF_CALLBACK);
+        setHasStableIds(true);
+    }
+    
     public interface OnTodoClickListener {
-        void onTodoToggle(SimpleTodo todo, boolean isCompleted);
+        /**
+         * Items belong to the adapter's current list and must not be changed; the diff
+         * against the next list needs the old state to spot a completion change
+         */
+        void onTodoToggle(int todoId, boolean isCompleted);
         void onTodoDelete(SimpleTodo todo);
     }
     
@@ -29,8 +62,7 @@ public class SimpleTodoAdapter extends RecyclerView.Adapter<SimpleTodoAdapter.To
     }
     
     public void setTodos(List<SimpleTodo> todos) {
-        this.todos = todos;
-        notifyDataSetChanged();
+        submitList(todos);
     }
     
     @NonNull
@@ -43,13 +75,27 @@ public class SimpleTodoAdapter extends RecyclerView.Adapter<SimpleTodoAdapter.To
     
     @Override
     public void onBindViewHolder(@NonNull TodoViewHolder holder, int position) {
-        SimpleTodo todo = todos.get(position);
-        holder.bind(todo);
+        boolean traced = PerfTrace.begin(TRACE_BIND);
+        try {
+            SimpleTodo todo = getItem(position);
+            holder.bind(todo);
+        } finally {
+            PerfTrace.end(traced);
+        }
     }
     
     @Override
-    public int getItemCount() {
-        return todos.size();
+    public void onBindViewHolder(@NonNull TodoViewHolder holder, int position, @NonNull List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            onBindViewHolder(holder, position);
+        } else {
+            holder.bindCompletion(getItem(position));
+        }
+    }
+    
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).getTodoId();
     }
     
     class TodoViewHolder extends RecyclerView.ViewHolder {
@@ -63,31 +109,30 @@ public class SimpleTodoAdapter extends RecyclerView.Adapter<SimpleTodoAdapter.To
             checkboxCompleted = itemView.findViewById(R.id.checkboxCompleted);
             btnDelete = itemView.findViewById(R.id.btnDelete);
             
-            // Set click listeners
+            // Set click listeners; the current item is looked up at click time
             checkboxCompleted.setOnCheckedChangeListener((buttonView, isChecked) -> {
-                if (listener != null && buttonView.isPressed()) {
-                    listener.onTodoToggle(todos.get(getAdapterPosition()), isChecked);
+                int position = getAdapterPosition();
+                if (listener != null && buttonView.isPressed() && position != RecyclerView.NO_POSITION) {
+                    listener.onTodoToggle(getItem(position).getTodoId(), isChecked);
                 }
             });
             
             btnDelete.setOnClickListener(v -> {
-                if (listener != null) {
-                    listener.onTodoDelete(todos.get(getAdapterPosition()));
+                int position = getAdapterPosition();
+                if (listener != null && position != RecyclerView.NO_POSITION) {
+                    listener.onTodoDelete(getItem(position));
                 }
             });
         }
         
         public void bind(SimpleTodo todo) {
             tvTodoTitle.setText(todo.getTitle());
-            
-            // Set completion status
-            checkboxCompleted.setOnCheckedChangeListener(null);
+            bindCompletion(todo);
+        }
+        
+        public void bindCompletion(SimpleTodo todo) {
+            // Set completion status; the toggle listener ignores this because the box isn't pressed
             checkboxCompleted.setChecked(todo.isCompleted());
-            checkboxCompleted.setOnCheckedChangeListener((buttonView, isChecked) -> {
-                if (listener != null && buttonView.isPressed()) {
-                    listener.onTodoToggle(todo, isChecked);
-                }
-            });
             
             // Apply strikethrough if completed
             if (todo.isCompleted()) {
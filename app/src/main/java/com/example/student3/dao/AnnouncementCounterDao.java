@@ -0,0 +1,218 @@
+package com.example.student3.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+import androidx.room.Update;
+
+import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementCounters;
+import com.example.student3.model.AnnouncementReadState;
+import com.example.student3.utils.IdRunSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Badge counts from the trigger-maintained counters. Each count is two primary
+ * key lookups, so observers no longer re-count announcements on every change.
+ *
+ * Counts include announcements that have expired but not yet been pruned by the
+ * daily maintenance run; callers take off the expired ones the student hasn't
+ * read (see {@link #getExpiredIds}) to match the lists. Announcement writes made
+ * through this DAO keep the per-student read counts in step in the same
+ * transaction, and {@link #reconcile} repairs writes made elsewhere.
+ */
+@Dao
+public interface AnnouncementCounterDao {
+    String COUNTERS_ROW = "counterId = " + AnnouncementCounters.ROW_ID;
+    // The complement of AnnouncementDao.NOT_EXPIRED; uses the expiryDate index
+    String EXPIRED = "expiryDate > '' AND expiryDate < date('now', 'localtime')";
+
+    @Query("SELECT * FROM announcement_counters WHERE " + COUNTERS_ROW)
+    AnnouncementCounters getCountersSync();
+
+    @Query("SELECT MAX(0, total - COALESCE((SELECT readCount FROM announcement_read_state WHERE studentId = :studentId), 0)) " +
+           "FROM announcement_counters WHERE " + COUNTERS_ROW)
+    LiveData<Integer> getUnreadCount(int studentId);
+
+    @Query("SELECT MAX(0, important - COALESCE((SELECT importantReadCount FROM announcement_read_state WHERE studentId = :studentId), 0)) " +
+           "FROM announcement_counters WHERE " + COUNTERS_ROW)
+    LiveData<Integer> getImportantUnreadCount(int studentId);
+
+    @Query("SELECT MAX(0, total - COALESCE((SELECT readCount FROM announcement_read_state WHERE studentId = :studentId), 0)) " +
+           "FROM announcement_counters WHERE " + COUNTERS_ROW)
+    int getUnreadCountSync(int studentId);
+
+    // Expired but not yet pruned; few rows, since the maintenance run prunes them daily
+    @Query("SELECT announcementId FROM announcements WHERE " + EXPIRED + " ORDER BY announcementId")
+    LiveData<List<Integer>> getExpiredIds();
+
+    @Query("SELECT announcementId FROM announcements WHERE isImportant = 1 AND " + EXPIRED + " ORDER BY announcementId")
+    LiveData<List<Integer>> getExpiredImportantIds();
+
+    @Query("SELECT announcementId FROM announcements WHERE " + EXPIRED + " ORDER BY announcementId")
+    List<Integer> getExpiredIdsSync();
+
+    @Query("SELECT readIds FROM announcement_read_state WHERE studentId = :studentId")
+    byte[] getReadIdsSync(int studentId);
+
+    /**
+     * Unread announcements the lists show: the counter-based count without the
+     * expired ones the student hasn't read
+     */
+    default int getActiveUnreadCountSync(int studentId) {
+        IdRunSet expired = IdRunSet.fromSortedIds(getExpiredIdsSync());
+        return Math.max(0, getUnreadCountSync(studentId)
+                - expired.andNotCardinality(IdRunSet.fromBytes(getReadIdsSync(studentId))));
+    }
+
+    // Recount from scratch, recreating the row if it's missing
+    @Query("INSERT OR REPLACE INTO announcement_counters (counterId, total, important) " +
+           "SELECT " + AnnouncementCounters.ROW_ID + ", COUNT(*), COALESCE(SUM(isImportant), 0) FROM announcements")
+    void recount();
+
+    @Query("SELECT announcementId FROM announcements ORDER BY announcementId")
+    List<Integer> getAllAnnouncementIdsSync();
+
+    @Query("SELECT announcementId FROM announcements WHERE isImportant = 1 ORDER BY announcementId")
+    List<Integer> getImportantAnnouncementIdsSync();
+
+    @Query("SELECT * FROM announcement_read_state")
+    List<AnnouncementReadState> getAllReadStatesSync();
+
+    @Update
+    void updateReadStates(List<AnnouncementReadState> readStates);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    long insertRow(Announcement announcement);
+
+    @Update
+    void updateRow(Announcement announcement);
+
+    @Query("DELETE FROM announcements WHERE announcementId IN (:ids)")
+    int deleteRows(List<Integer> ids);
+
+    // Null if the announcement doesn't exist
+    @Query("SELECT isImportant FROM announcements WHERE announcementId = :announcementId")
+    Boolean isImportant(int announcementId);
+
+    @Query("SELECT announcementId FROM announcements WHERE announcementId IN (:ids) ORDER BY announcementId")
+    List<Integer> getExistingIdsAmong(List<Integer> ids);
+
+    @Query("SELECT announcementId FROM announcements WHERE isImportant = 1 AND announcementId IN (:ids) " +
+           "ORDER BY announcementId")
+    List<Integer> getImportantIdsAmong(List<Integer> ids);
+
+    /**
+     * Insert or replace an announcement. A replacement that changes importance
+     * moves the important read counts of the students who have read it.
+     * @return Row id of the announcement
+     */
+    @Transaction
+    default long insertAnnouncement(Announcement announcement) {
+        Boolean wasImportant = isImportant(announcement.getAnnouncementId());
+        long id = insertRow(announcement);
+        onImportanceChanged(announcement.getAnnouncementId(), wasImportant, announcement.isImportant());
+        return id;
+    }
+
+    /**
+     * Update an announcement, moving the important read counts of the students
+     * who have read it if its importance changes
+     */
+    @Transaction
+    default void updateAnnouncement(Announcement announcement) {
+        Boolean wasImportant = isImportant(announcement.getAnnouncementId());
+        updateRow(announcement);
+        onImportanceChanged(announcement.getAnnouncementId(), wasImportant, announcement.isImportant());
+    }
+
+    /**
+     * Delete announcements and take them out of every student's read set and
+     * read counts. Keep ids under SQLite's bound parameter limit.
+     * @return Number of announcements deleted
+     */
+    @Transaction
+    default int deleteAnnouncements(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Integer> existingIds = getExistingIdsAmong(ids);
+        IdRunSet existing = IdRunSet.fromSortedIds(existingIds);
+        IdRunSet important = IdRunSet.fromSortedIds(getImportantIdsAmong(ids));
+        int deleted = deleteRows(ids);
+
+        List<AnnouncementReadState> changed = new ArrayList<>();
+        for (AnnouncementReadState state : getAllReadStatesSync()) {
+            IdRunSet readIds = IdRunSet.fromBytes(state.getReadIds());
+            int readDeleted = readIds.intersectionCardinality(existing);
+            if (readDeleted == 0) {
+                continue;
+            }
+            int importantReadDeleted = readIds.intersectionCardinality(important);
+            for (int id : existingIds) {
+                readIds.remove(id);
+            }
+            state.setReadIds(readIds.toBytes());
+            state.setReadCount(state.getReadCount() - readDeleted);
+            state.setImportantReadCount(state.getImportantReadCount() - importantReadDeleted);
+            changed.add(state);
+        }
+        if (!changed.isEmpty()) {
+            updateReadStates(changed);
+        }
+        return deleted;
+    }
+
+    default void onImportanceChanged(int announcementId, Boolean wasImportant, boolean important) {
+        if (wasImportant == null || wasImportant == important) {
+            return;
+        }
+        List<AnnouncementReadState> changed = new ArrayList<>();
+        for (AnnouncementReadState state : getAllReadStatesSync()) {
+            if (IdRunSet.fromBytes(state.getReadIds()).contains(announcementId)) {
+                state.setImportantReadCount(state.getImportantReadCount() + (important ? 1 : -1));
+                changed.add(state);
+            }
+        }
+        if (!changed.isEmpty()) {
+            updateReadStates(changed);
+        }
+    }
+
+    /**
+     * Rebuild every count from the tables. Read sets lose ids of deleted
+     * announcements, and per-student counts pick up importance changes.
+     * @return Number of read states that were out of step
+     */
+    @Transaction
+    default int reconcile() {
+        recount();
+
+        IdRunSet existing = IdRunSet.fromSortedIds(getAllAnnouncementIdsSync());
+        IdRunSet important = IdRunSet.fromSortedIds(getImportantAnnouncementIdsSync());
+        List<AnnouncementReadState> fixed = new ArrayList<>();
+        for (AnnouncementReadState state : getAllReadStatesSync()) {
+            IdRunSet readIds = IdRunSet.fromBytes(state.getReadIds());
+            IdRunSet stillExisting = readIds.intersect(existing);
+            int readCount = stillExisting.cardinality();
+            int importantReadCount = stillExisting.intersectionCardinality(important);
+
+            if (!stillExisting.equals(readIds) || readCount != state.getReadCount()
+                    || importantReadCount != state.getImportantReadCount()) {
+                state.setReadIds(stillExisting.toBytes());
+                state.setReadCount(readCount);
+                state.setImportantReadCount(importantReadCount);
+                fixed.add(state);
+            }
+        }
+        if (!fixed.isEmpty()) {
+            updateReadStates(fixed);
+        }
+        return fixed.size();
+    }
+}
@@ -9,14 +9,26 @@ import androidx.room.Query;
 import androidx.room.Update;
 
 import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
 
 import java.util.List;
 
 @Dao
 public interface AnnouncementDao {
+    // Expiry dates are "yyyy-MM-dd"; a missing one never expires. Uses the expiryDate index.
+    String NOT_EXPIRED = "(expiryDate IS NULL OR expiryDate = '' OR expiryDate >= date('now', 'localtime'))";
+
+    // List rows carry a preview instead of the full content; the detail screen loads by id
+    int PREVIEW_LENGTH = 160;
+    String LIST_ITEM_SELECT = "SELECT announcementId, title, substr(content, 1, " + PREVIEW_LENGTH + ") AS preview, " +
+            "publishDate, isImportant FROM announcements ";
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Announcement announcement);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Announcement> announcements);
+
     @Update
     void update(Announcement announcement);
 
@@ -29,30 +41,33 @@ public interface AnnouncementDao {
     @Query("SELECT * FROM announcements WHERE announcementId = :id")
     LiveData<Announcement> getAnnouncementById(int id);
 
-    @Query("SELECT * FROM announcements ORDER BY publishDate DESC")
-    LiveData<List<Announcement>> getAllAnnouncements();
-
-    @Query("SELECT * FROM announcements WHERE isImportant = 1 ORDER BY publishDate DESC")
-    LiveData<List<Announcement>> getImportantAnnouncements();
-
-    @Query("SELECT * FROM announcements WHERE title LIKE '%' || :searchQuery || '%' OR content LIKE '%' || :searchQuery || '%'")
-    LiveData<List<Announcement>> searchAnnouncements(String searchQuery);
-
-    @Query("SELECT * FROM announcements WHERE isRead = 0 ORDER BY publishDate DESC")
-    LiveData<List<Announcement>> getUnreadAnnouncements();
+    @Query(LIST_ITEM_SELECT + "WHERE " + NOT_EXPIRED + " ORDER BY publishDate DESC")
+    LiveData<List<AnnouncementListItem>> getAllAnnouncements();
 
-    @Query("SELECT COUNT(*) FROM announcements WHERE isRead = 0")
-    LiveData<Integer> getUnreadAnnouncementCount();
+    @Query(LIST_ITEM_SELECT + "WHERE isImportant = 1 AND " + NOT_EXPIRED + " ORDER BY publishDate DESC")
+    LiveData<List<AnnouncementListItem>> getImportantAnnouncements();
 
-    @Query("UPDATE announcements SET isRead = 1 WHERE announcementId = :announcementId")
-    void markAsRead(int announcementId);
+    @Query(LIST_ITEM_SELECT + "WHERE (title LIKE '%' || :searchQuery || '%' OR content LIKE '%' || :searchQuery || '%') AND " + NOT_EXPIRED)
+    LiveData<List<AnnouncementListItem>> searchAnnouncements(String searchQuery);
 
-    @Query("UPDATE announcements SET isRead = 0 WHERE announcementId = :announcementId")
-    void markAsUnread(int announcementId);
+    // Read state is per student (AnnouncementReadStateDao) and badge counts come
+    // from the maintained counters (AnnouncementCounterDao)
 
+    // Includes expired rows, so sync sees the whole table
     @Query("SELECT * FROM announcements ORDER BY publishDate DESC")
     List<Announcement> getAllAnnouncementsSync();
 
-    @Query("SELECT * FROM announcements WHERE isRead = 0 ORDER BY publishDate DESC")
-    List<Announcement> getUnreadAnnouncementsSync();
+    @Query("SELECT * FROM announcements WHERE " + NOT_EXPIRED + " ORDER BY publishDate DESC")
+    List<Announcement> getActiveAnnouncementsSync();
+
+    /**
+     * IDs of announcements that expired before the given day, oldest first
+     * @param today Day as "yyyy-MM-dd"
+     */
+    @Query("SELECT announcementId FROM announcements WHERE expiryDate > '' AND expiryDate < :today " +
+           "ORDER BY expiryDate LIMIT :limit")
+    List<Integer> getExpiredAnnouncementIds(String today, int limit);
+
+    @Query("DELETE FROM announcements WHERE announcementId IN (:ids)")
+    int deleteByIds(List<Integer> ids);
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.example.student3.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Insert;
+import androidx.room.OnConflictStrategy;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.student3.model.AnnouncementReadState;
+import com.example.student3.utils.IdRunSet;
+
+import java.util.List;
+
+/**
+ * Per-student read state. Reading or changing it touches one row, whatever the
+ * number of students or announcements.
+ */
+@Dao
+public interface AnnouncementReadStateDao {
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void upsert(AnnouncementReadState readState);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<AnnouncementReadState> readStates);
+
+    @Query("DELETE FROM announcement_read_state")
+    void deleteAll();
+
+    // Null until the student reads something
+    @Query("SELECT readIds FROM announcement_read_state WHERE studentId = :studentId")
+    LiveData<byte[]> getReadIds(int studentId);
+
+    @Query("SELECT readIds FROM announcement_read_state WHERE studentId = :studentId")
+    byte[] getReadIdsSync(int studentId);
+
+    @Query("SELECT * FROM announcement_read_state WHERE studentId = :studentId")
+    AnnouncementReadState getReadStateSync(int studentId);
+
+    // Null if the announcement doesn't exist
+    @Query("SELECT isImportant FROM announcements WHERE announcementId = :announcementId")
+    Boolean isAnnouncementImportant(int announcementId);
+
+    default IdRunSet getReadSetSync(int studentId) {
+        return IdRunSet.fromBytes(getReadIdsSync(studentId));
+    }
+
+    /**
+     * Mark one announcement read or unread for a student, keeping the read counts
+     * in step for announcements that exist
+     * @return true if the state changed
+     */
+    @Transaction
+    default boolean setRead(int studentId, int announcementId, boolean read) {
+        AnnouncementReadState state = getReadStateSync(studentId);
+        if (state == null) {
+            state = new AnnouncementReadState(studentId, new byte[0], 0, 0);
+        }
+        IdRunSet readIds = IdRunSet.fromBytes(state.getReadIds());
+        boolean changed = read ? readIds.add(announcementId) : readIds.remove(announcementId);
+        if (!changed) {
+            return false;
+        }
+
+        state.setReadIds(readIds.toBytes());
+        Boolean important = isAnnouncementImportant(announcementId);
+        if (important != null) {
+            int delta = read ? 1 : -1;
+            state.setReadCount(state.getReadCount() + delta);
+            if (important) {
+                state.setImportantReadCount(state.getImportantReadCount() + delta);
+            }
+        }
+        upsert(state);
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.student3.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import com.example.student3.model.ChangeLogEntry;
+
+import java.util.List;
+
+/**
+ * Reads and trims the change log. Every query is a range over the sequence number
+ * (the primary key), so the cost follows the number of changes, not the table sizes.
+ */
+@Dao
+public interface ChangeLogDao {
+    long NO_CHANGES = 0;
+
+    @Query("SELECT * FROM change_log WHERE seq > :sinceSeq ORDER BY seq")
+    List<ChangeLogEntry> getChangesSince(long sinceSeq);
+
+    @Query("SELECT * FROM change_log WHERE seq > :sinceSeq AND tableName = :tableName ORDER BY seq")
+    List<ChangeLogEntry> getChangesSince(String tableName, long sinceSeq);
+
+    /**
+     * @return Highest sequence number in the log, or {@link #NO_CHANGES}
+     */
+    @Query("SELECT COALESCE(MAX(seq), 0) FROM change_log")
+    long getLatestSeq();
+
+    @Query("SELECT COUNT(*) FROM change_log")
+    int getPendingChangeCount();
+
+    /**
+     * Drop the entries an acknowledged upload covered. Records changed again since
+     * then have a higher sequence number and stay in the log.
+     */
+    @Query("DELETE FROM change_log WHERE seq <= :throughSeq")
+    int truncateThrough(long throughSeq);
+
+    @Query("DELETE FROM change_log")
+    void deleteAll();
+}
@@ -9,17 +9,40 @@ import androidx.room.Query;
 import androidx.room.Update;
 
 import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
 
 import java.util.List;
 
 @Dao
 public interface CourseDao {
+    // Course list rows: enrolment comes from the trigger-maintained course_enrollment
+    // table and the instructor from a join, so the whole list is one cursor. Only a
+    // preview of the description is read; the detail screen loads the full course.
+    int PREVIEW_LENGTH = 160;
+    String LIST_ITEM_SELECT = "SELECT c.courseId, c.courseCode, c.title, " +
+            "substr(c.description, 1, " + PREVIEW_LENGTH + ") AS descriptionPreview, c.creditHours, c.instructorId, " +
+            "i.firstName || ' ' || i.lastName AS instructorName, c.maxStudents, " +
+            "COALESCE(e.enrolledCount, 0) AS enrolledCount, " +
+            "MAX(c.maxStudents - COALESCE(e.enrolledCount, 0), 0) AS seatsLeft " +
+            "FROM courses c " +
+            "LEFT JOIN course_enrollment e ON e.courseId = c.courseId " +
+            "LEFT JOIN instructors i ON i.instructorId = c.instructorId ";
+    String REGISTERED_JOIN = "INNER JOIN registrations r ON c.courseId = r.courseId " +
+            "WHERE r.studentId = :studentId AND r.status = 'REGISTERED' ";
+    String TEXT_MATCH = "(c.courseCode LIKE '%' || :searchQuery || '%' OR c.title LIKE '%' || :searchQuery || '%') ";
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Course course);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Course> courses);
+
     @Update
     void update(Course course);
 
+    @Update
+    void updateAll(List<Course> courses);
+
     @Delete
     void delete(Course course);
 
@@ -29,12 +52,21 @@ public interface CourseDao {
     @Query("SELECT * FROM courses WHERE courseId = :id")
     LiveData<Course> getCourseById(int id);
 
+    @Query("SELECT * FROM courses WHERE courseId = :id")
+    Course getCourseByIdSync(int id);
+
+    @Query("SELECT * FROM courses WHERE courseId IN (:ids)")
+    List<Course> getCoursesByIdsSync(List<Integer> ids);
+
     @Query("SELECT * FROM courses ORDER BY title ASC")
     LiveData<List<Course>> getAllCourses();
 
     @Query("SELECT * FROM courses WHERE departmentId = :departmentId ORDER BY title ASC")
     LiveData<List<Course>> getCoursesByDepartment(int departmentId);
 
+    @Query("SELECT * FROM courses WHERE departmentId = :departmentId ORDER BY courseCode ASC")
+    List<Course> getCoursesByDepartmentSync(int departmentId);
+
     @Query("SELECT * FROM courses WHERE instructorId = :instructorId ORDER BY title ASC")
     LiveData<List<Course>> getCoursesByInstructor(int instructorId);
 
@@ -58,4 +90,43 @@ public interface CourseDao {
            "WHERE r.studentId = :studentId AND r.status = 'REGISTERED' AND c.departmentId = :departmentId " +
            "ORDER BY r.registrationDate DESC")
     LiveData<List<Course>> getRegisteredCoursesByStudentAndDepartment(int studentId, int departmentId);
+
+    @Query("SELECT c.* FROM courses c " +
+           "INNER JOIN registrations r ON c.courseId = r.courseId " +
+           "WHERE r.studentId = :studentId AND r.status = 'REGISTERED' " +
+           "AND (c.courseCode LIKE '%' || :searchQuery || '%' OR c.title LIKE '%' || :searchQuery || '%') " +
+           "ORDER BY r.registrationDate DESC")
+    LiveData<List<Course>> searchRegisteredCoursesByStudent(String searchQuery, int studentId);
+
+    @Query("SELECT c.* FROM courses c " +
+           "INNER JOIN registrations r ON c.courseId = r.courseId " +
+           "WHERE r.studentId = :studentId AND r.status = 'REGISTERED' AND c.departmentId = :departmentId " +
+           "AND (c.courseCode LIKE '%' || :searchQuery || '%' OR c.title LIKE '%' || :searchQuery || '%') " +
+           "ORDER BY r.registrationDate DESC")
+    LiveData<List<Course>> searchRegisteredCoursesByStudentAndDepartment(String searchQuery, int studentId, int departmentId);
+
+    @Query(LIST_ITEM_SELECT + "ORDER BY c.title ASC")
+    LiveData<List<CourseListItem>> getCourseListItems();
+
+    @Query(LIST_ITEM_SELECT + "WHERE c.departmentId = :departmentId ORDER BY c.title ASC")
+    LiveData<List<CourseListItem>> getCourseListItemsByDepartment(int departmentId);
+
+    @Query(LIST_ITEM_SELECT + "WHERE " + TEXT_MATCH + "ORDER BY c.title ASC")
+    LiveData<List<CourseListItem>> searchCourseListItems(String searchQuery);
+
+    @Query(LIST_ITEM_SELECT + "WHERE c.departmentId = :departmentId AND " + TEXT_MATCH + "ORDER BY c.title ASC")
+    LiveData<List<CourseListItem>> searchCourseListItemsByDepartment(String searchQuery, int departmentId);
+
+    @Query(LIST_ITEM_SELECT + REGISTERED_JOIN + "ORDER BY r.registrationDate DESC")
+    LiveData<List<CourseListItem>> getRegisteredCourseListItems(int studentId);
+
+    @Query(LIST_ITEM_SELECT + REGISTERED_JOIN + "AND c.departmentId = :departmentId ORDER BY r.registrationDate DESC")
+    LiveData<List<CourseListItem>> getRegisteredCourseListItemsByDepartment(int studentId, int departmentId);
+
+    @Query(LIST_ITEM_SELECT + REGISTERED_JOIN + "AND " + TEXT_MATCH + "ORDER BY r.registrationDate DESC")
+    LiveData<List<CourseListItem>> searchRegisteredCourseListItems(String searchQuery, int studentId);
+
+    @Query(LIST_ITEM_SELECT + REGISTERED_JOIN + "AND c.departmentId = :departmentId AND " + TEXT_MATCH +
+           "ORDER BY r.registrationDate DESC")
+    LiveData<List<CourseListItem>> searchRegisteredCourseListItemsByDepartment(String searchQuery, int studentId, int departmentId);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.student3.dao;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import com.example.student3.model.CourseEnrollment;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registration counts per course from the trigger-maintained course_enrollment
+ * table. A course without a row has nobody registered.
+ */
+@Dao
+public interface CourseEnrollmentDao {
+    @Query("SELECT COALESCE((SELECT enrolledCount FROM course_enrollment WHERE courseId = :courseId), 0)")
+    int getEnrolledCountSync(int courseId);
+
+    @Query("SELECT * FROM course_enrollment ORDER BY courseId")
+    List<CourseEnrollment> getAllSync();
+
+    // What the triggers should have produced, counted from the registrations
+    @Query("SELECT courseId, COUNT(*) AS enrolledCount FROM registrations " +
+           "WHERE status = 'REGISTERED' GROUP BY courseId ORDER BY courseId")
+    List<CourseEnrollment> countRegistrationsSync();
+
+    @Query("DELETE FROM course_enrollment")
+    void deleteAll();
+
+    @Query("INSERT INTO course_enrollment (courseId, enrolledCount) " +
+           "SELECT courseId, COUNT(*) FROM registrations WHERE status = 'REGISTERED' GROUP BY courseId")
+    void insertCountsFromRegistrations();
+
+    /**
+     * Rebuild every count from the registrations table
+     * @return Number of courses whose count was out of step
+     */
+    @Transaction
+    default int recount() {
+        Map<Integer, Integer> stored = new HashMap<>();
+        for (CourseEnrollment enrollment : getAllSync()) {
+            stored.put(enrollment.getCourseId(), enrollment.getEnrolledCount());
+        }
+        int corrected = 0;
+        for (CourseEnrollment expected : countRegistrationsSync()) {
+            Integer count = stored.remove(expected.getCourseId());
+            if (count == null || count != expected.getEnrolledCount()) {
+                corrected++;
+            }
+        }
+        // Rows left over have nobody registered; a zero there was already right
+        for (int count : stored.values()) {
+            if (count != 0) {
+                corrected++;
+            }
+        }
+
+        deleteAll();
+        insertCountsFromRegistrations();
+        return corrected;
+    }
+}
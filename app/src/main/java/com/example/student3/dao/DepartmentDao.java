@@ -17,6 +17,9 @@ public interface DepartmentDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Department department);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Department> departments);
+
     @Update
     void update(Department department);
 
@@ -17,6 +17,9 @@ public interface InstructorDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Instructor instructor);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Instructor> instructors);
+
     @Update
     void update(Instructor instructor);
 
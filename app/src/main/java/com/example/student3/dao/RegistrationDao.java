@@ -17,6 +17,9 @@ public interface RegistrationDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Registration registration);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Registration> registrations);
+
     @Update
     void update(Registration registration);
 
@@ -41,6 +44,14 @@ public interface RegistrationDao {
     @Query("SELECT * FROM registrations WHERE studentId = :studentId AND courseId = :courseId ORDER BY registrationDate DESC LIMIT 1")
     LiveData<Registration> getRegistrationByStudentAndCourse(int studentId, int courseId);
 
-    @Query("SELECT COUNT(*) FROM registrations WHERE courseId = :courseId AND status = 'REGISTERED'")
+    // Kept by the registration triggers, so no count over the course's registrations
+    @Query("SELECT COALESCE((SELECT enrolledCount FROM course_enrollment WHERE courseId = :courseId), 0)")
     LiveData<Integer> getRegisteredStudentCountForCourse(int courseId);
+
+    @Query("SELECT * FROM registrations WHERE studentId = :studentId AND status = 'REGISTERED'")
+    List<Registration> getActiveRegistrationsByStudentSync(int studentId);
+
+    // Primary key lookup for building sync deltas; keep ids under SQLite's 999 parameter limit
+    @Query("SELECT * FROM registrations WHERE registrationId IN (:registrationIds)")
+    List<Registration> getRegistrationsByIdsSync(List<Integer> registrationIds);
 }
\ No newline at end of file
@@ -17,6 +17,9 @@ public interface SemesterDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Semester semester);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Semester> semesters);
+
     @Update
     void update(Semester semester);
 
@@ -32,6 +35,9 @@ public interface SemesterDao {
     @Query("SELECT * FROM semesters ORDER BY startDate DESC")
     LiveData<List<Semester>> getAllSemesters();
 
+    @Query("SELECT * FROM semesters")
+    List<Semester> getAllSemestersSync();
+
     @Query("SELECT * FROM semesters WHERE isCurrent = 1")
     LiveData<Semester> getCurrentSemester();
 }
\ No newline at end of file
@@ -17,6 +17,9 @@ public interface SimpleTodoDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(SimpleTodo todo);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<SimpleTodo> todos);
+
     @Update
     void update(SimpleTodo todo);
 
@@ -48,4 +51,8 @@ public interface SimpleTodoDao {
 
     @Query("SELECT * FROM todos WHERE studentId = :studentId ORDER BY createdDate DESC")
     List<SimpleTodo> getTodosByStudentSync(int studentId);
+
+    // Primary key lookup for building sync deltas; keep ids under SQLite's 999 parameter limit
+    @Query("SELECT * FROM todos WHERE todoId IN (:todoIds)")
+    List<SimpleTodo> getTodosByIdsSync(List<Integer> todoIds);
 }
@@ -17,6 +17,9 @@ public interface StudentDao {
     @Insert(onConflict = OnConflictStrategy.REPLACE)
     long insert(Student student);
 
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertAll(List<Student> students);
+
     @Update
     void update(Student student);
 
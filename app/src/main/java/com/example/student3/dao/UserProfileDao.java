@@ -34,4 +34,7 @@ public interface UserProfileDao {
 
     @Query("SELECT * FROM user_profiles ORDER BY lastLogin DESC")
     LiveData<List<UserProfile>> getAllUserProfiles();
+
+    @Query("SELECT * FROM user_profiles WHERE profileId = :id")
+    UserProfile getUserProfileByIdSync(int id);
 }
\ No newline at end of file
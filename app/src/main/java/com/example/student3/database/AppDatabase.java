@@ -8,9 +8,13 @@ import androidx.room.Room;
 import androidx.room.RoomDatabase;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
+import com.example.student3.dao.AnnouncementCounterDao;
 import com.example.student3.dao.AnnouncementDao;
+import com.example.student3.dao.AnnouncementReadStateDao;
+import com.example.student3.dao.ChangeLogDao;
 import com.example.student3.dao.SimpleTodoDao;
 import com.example.student3.dao.CourseDao;
+import com.example.student3.dao.CourseEnrollmentDao;
 import com.example.student3.dao.DepartmentDao;
 import com.example.student3.dao.InstructorDao;
 import com.example.student3.dao.RegistrationDao;
@@ -18,8 +22,12 @@ import com.example.student3.dao.SemesterDao;
 import com.example.student3.dao.StudentDao;
 import com.example.student3.dao.UserProfileDao;
 import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementCounters;
+import com.example.student3.model.AnnouncementReadState;
+import com.example.student3.model.ChangeLogEntry;
 import com.example.student3.model.SimpleTodo;
 import com.example.student3.model.Course;
+import com.example.student3.model.CourseEnrollment;
 import com.example.student3.model.Department;
 import com.example.student3.model.Instructor;
 import com.example.student3.model.Registration;
@@ -40,8 +48,12 @@ import java.util.concurrent.Executors;
         Semester.class,
         Announcement.class,
         UserProfile.class,
-        SimpleTodo.class
-}, version = 9, exportSchema = false)
+        SimpleTodo.class,
+        ChangeLogEntry.class,
+        AnnouncementReadState.class,
+        AnnouncementCounters.class,
+        CourseEnrollment.class
+}, version = 14, exportSchema = false)
 public abstract class AppDatabase extends RoomDatabase {
 
     public abstract StudentDao studentDao();
@@ -53,6 +65,12 @@ public abstract class AppDatabase extends RoomDatabase {
     public abstract AnnouncementDao announcementDao();
     public abstract UserProfileDao userProfileDao();
     public abstract SimpleTodoDao simpleTodoDao();
+    public abstract ChangeLogDao changeLogDao();
+    public abstract AnnouncementReadStateDao announcementReadStateDao();
+    public abstract AnnouncementCounterDao announcementCounterDao();
+    public abstract CourseEnrollmentDao courseEnrollmentDao();
+
+    public static final String DATABASE_NAME = "student3_database";
 
     private static volatile AppDatabase INSTANCE;
     private static final int NUMBER_OF_THREADS = 4;
@@ -63,9 +81,11 @@ public abstract class AppDatabase extends RoomDatabase {
             synchronized (AppDatabase.class) {
                 if (INSTANCE == null) {
                     INSTANCE = Room.databaseBuilder(context.getApplicationContext(),
-                                    AppDatabase.class, "student3_database")
+                                    AppDatabase.class, DATABASE_NAME)
                             .addCallback(sRoomDatabaseCallback)
-                            .fallbackToDestructiveMigration() // Allow destructive migration for development
+                            .addCallback(DatabaseTriggers.CALLBACK)
+                            .addMigrations(DatabaseMigrations.ALL)
+                            .fallbackToDestructiveMigration() // Only for versions without a migration path
                             .build();
                 }
             }
@@ -95,6 +115,7 @@ public abstract class AppDatabase extends RoomDatabase {
         db.announcementDao().deleteAll();
         db.userProfileDao().deleteAll();
         db.simpleTodoDao().deleteAll();
+        db.announcementReadStateDao().deleteAll();
 
         // Add Departments - matching registration form order
         Department[] departments = {
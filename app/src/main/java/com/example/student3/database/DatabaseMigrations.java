@@ -0,0 +1,154 @@
+package com.example.student3.database;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.example.student3.utils.IdRunSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Schema migrations between released database versions, so an app update keeps
+ * the student's data.
+ *
+ * Migrations only change the schema. Triggers and the counts they maintain are set
+ * up by {@link DatabaseTriggers} when the database opens, which happens after the
+ * migrations have run. Versions older than the first migration here still fall back
+ * to a destructive migration.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class DatabaseMigrations {
+
+    /**
+     * Index announcements by expiry date for the expiry filter and the daily prune
+     */
+    public static final Migration MIGRATION_9_10 = new Migration(9, 10) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_announcements_expiryDate` ON `announcements` (`expiryDate`)");
+        }
+    };
+
+    /**
+     * Add the change log. It starts empty, so only changes made after the update
+     * are uploaded incrementally.
+     */
+    public static final Migration MIGRATION_10_11 = new Migration(10, 11) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `change_log` (`seq` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, "
+                    + "`tableName` TEXT NOT NULL, `recordId` INTEGER NOT NULL, `op` TEXT NOT NULL)");
+            db.execSQL("CREATE UNIQUE INDEX IF NOT EXISTS `index_change_log_tableName_recordId` "
+                    + "ON `change_log` (`tableName`, `recordId`)");
+        }
+    };
+
+    /**
+     * Move read state from the shared announcements.isRead column to one row per
+     * student. Every student on the device saw the same flags before, so each one
+     * starts with the ids that were marked read.
+     */
+    public static final Migration MIGRATION_11_12 = new Migration(11, 12) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `announcement_read_state` (`studentId` INTEGER NOT NULL, "
+                    + "`readIds` BLOB NOT NULL, PRIMARY KEY(`studentId`), "
+                    + "FOREIGN KEY(`studentId`) REFERENCES `students`(`studentId`) "
+                    + "ON UPDATE NO ACTION ON DELETE CASCADE )");
+
+            IdRunSet read = IdRunSet.fromSortedIds(queryIds(db,
+                    "SELECT announcementId FROM announcements WHERE isRead = 1 ORDER BY announcementId"));
+            if (!read.isEmpty()) {
+                db.execSQL("INSERT INTO announcement_read_state (studentId, readIds) SELECT studentId, ? FROM students",
+                        new Object[]{read.toBytes()});
+            }
+
+            // SQLite on API 24 can't drop a column, so copy the table without it
+            db.execSQL("CREATE TABLE `announcements_new` (`announcementId` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, "
+                    + "`title` TEXT NOT NULL, `content` TEXT NOT NULL, `publishDate` TEXT, `expiryDate` TEXT, "
+                    + "`isImportant` INTEGER NOT NULL)");
+            db.execSQL("INSERT INTO announcements_new (announcementId, title, content, publishDate, expiryDate, isImportant) "
+                    + "SELECT announcementId, title, content, publishDate, expiryDate, isImportant FROM announcements");
+            db.execSQL("DROP TABLE announcements");
+            db.execSQL("ALTER TABLE announcements_new RENAME TO announcements");
+            db.execSQL("CREATE INDEX IF NOT EXISTS `index_announcements_expiryDate` ON `announcements` (`expiryDate`)");
+        }
+    };
+
+    /**
+     * Add the announcement counters and each student's read counts. The counters row
+     * is filled when the triggers are installed; read counts are worked out here as
+     * AnnouncementCounterDao.reconcile does, so badges are right straight away.
+     */
+    public static final Migration MIGRATION_12_13 = new Migration(12, 13) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `announcement_counters` (`counterId` INTEGER NOT NULL, "
+                    + "`total` INTEGER NOT NULL, `important` INTEGER NOT NULL, PRIMARY KEY(`counterId`))");
+            db.execSQL("ALTER TABLE announcement_read_state ADD COLUMN `readCount` INTEGER NOT NULL DEFAULT 0");
+            db.execSQL("ALTER TABLE announcement_read_state ADD COLUMN `importantReadCount` INTEGER NOT NULL DEFAULT 0");
+
+            IdRunSet existing = IdRunSet.fromSortedIds(queryIds(db,
+                    "SELECT announcementId FROM announcements ORDER BY announcementId"));
+            IdRunSet important = IdRunSet.fromSortedIds(queryIds(db,
+                    "SELECT announcementId FROM announcements WHERE isImportant = 1 ORDER BY announcementId"));
+            List<Object[]> updates = new ArrayList<>();
+            try (Cursor cursor = db.query("SELECT studentId, readIds FROM announcement_read_state")) {
+                while (cursor.moveToNext()) {
+                    IdRunSet read = IdRunSet.fromBytes(cursor.getBlob(1)).intersect(existing);
+                    updates.add(new Object[]{read.toBytes(), read.cardinality(),
+                            read.intersectionCardinality(important), cursor.getInt(0)});
+                }
+            }
+            for (Object[] update : updates) {
+                db.execSQL("UPDATE announcement_read_state SET readIds = ?, readCount = ?, importantReadCount = ? "
+                        + "WHERE studentId = ?", update);
+            }
+        }
+    };
+
+    /**
+     * Add the course enrollment counts; they are counted from the registrations when
+     * the triggers are installed
+     */
+    public static final Migration MIGRATION_13_14 = new Migration(13, 14) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase db) {
+            db.execSQL("CREATE TABLE IF NOT EXISTS `course_enrollment` (`courseId` INTEGER NOT NULL, "
+                    + "`enrolledCount` INTEGER NOT NULL, PRIMARY KEY(`courseId`), "
+                    + "FOREIGN KEY(`courseId`) REFERENCES `courses`(`courseId`) "
+                    + "ON UPDATE NO ACTION ON DELETE CASCADE )");
+        }
+    };
+
+    /**
+     * Add to the builder of {@link AppDatabase}
+     */
+    public static final Migration[] ALL = {
+            MIGRATION_9_10,
+            MIGRATION_10_11,
+            MIGRATION_11_12,
+            MIGRATION_12_13,
+            MIGRATION_13_14
+    };
+
+    private DatabaseMigrations() {
+    }
+
+    private static List<Integer> queryIds(SupportSQLiteDatabase db, String sql) {
+        List<Integer> ids = new ArrayList<>();
+        try (Cursor cursor = db.query(sql)) {
+            while (cursor.moveToNext()) {
+                ids.add(cursor.getInt(0));
+            }
+        }
+        return ids;
+    }
+}
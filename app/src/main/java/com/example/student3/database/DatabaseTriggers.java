@@ -0,0 +1,157 @@
+package com.example.student3.database;
+
+import androidx.annotation.NonNull;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import com.example.student3.model.AnnouncementCounters;
+import com.example.student3.model.ChangeLogEntry;
+
+import java.util.Locale;
+
+/**
+ * SQLite triggers that Room entities can't declare.
+ *
+ * Inserts, updates and deletes on the synced tables are recorded in change_log, so
+ * an upload can be built from the changed rows alone. announcement_counters
+ * follows every announcement write so badge counts read one row, and
+ * course_enrollment follows every registration write so the course list can show
+ * seats left without counting registrations per course. Triggers are created with
+ * IF NOT EXISTS whenever the database opens, which also covers a database rebuilt
+ * by a destructive migration, and are dropped together with their tables.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class DatabaseTriggers {
+
+    // Registration status counted towards a course's enrolment
+    private static final String REGISTERED = "'REGISTERED'";
+
+    // Synced tables and their primary key columns
+    private static final String[][] CHANGE_LOGGED_TABLES = {
+            {ChangeLogEntry.TABLE_TODOS, "todoId"},
+            {ChangeLogEntry.TABLE_REGISTRATIONS, "registrationId"},
+            {ChangeLogEntry.TABLE_USER_PROFILES, "profileId"}
+    };
+
+    /**
+     * Add to every builder of {@link AppDatabase}, including test databases
+     */
+    public static final RoomDatabase.Callback CALLBACK = new RoomDatabase.Callback() {
+        @Override
+        public void onOpen(@NonNull SupportSQLiteDatabase db) {
+            super.onOpen(db);
+            install(db);
+        }
+    };
+
+    private DatabaseTriggers() {
+    }
+
+    public static void install(SupportSQLiteDatabase db) {
+        for (String[] table : CHANGE_LOGGED_TABLES) {
+            createChangeLogTrigger(db, table[0], table[1], "INSERT", "NEW", ChangeLogEntry.OP_INSERT);
+            createChangeLogTrigger(db, table[0], table[1], "UPDATE", "NEW", ChangeLogEntry.OP_UPDATE);
+            createChangeLogTrigger(db, table[0], table[1], "DELETE", "OLD", ChangeLogEntry.OP_DELETE);
+        }
+        createAnnouncementCounterTriggers(db);
+        createCourseEnrollmentTriggers(db);
+    }
+
+    private static void createAnnouncementCounterTriggers(SupportSQLiteDatabase db) {
+        String counters = "UPDATE announcement_counters SET ";
+        String row = " WHERE counterId = " + AnnouncementCounters.ROW_ID + ";";
+
+        // Counted once on first open; afterwards the triggers keep it current
+        db.execSQL("INSERT INTO announcement_counters (counterId, total, important)"
+                + " SELECT " + AnnouncementCounters.ROW_ID + ", COUNT(*), COALESCE(SUM(isImportant), 0) FROM announcements"
+                + " WHERE NOT EXISTS (SELECT 1 FROM announcement_counters)");
+
+        // INSERT OR REPLACE removes the old row without firing the delete trigger,
+        // so take it off the counts before the new row is added. This runs before the
+        // conflict is resolved, so announcements must not be written with OR IGNORE.
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS announcement_counters_before_insert"
+                + " BEFORE INSERT ON announcements BEGIN "
+                + counters
+                + "total = total - (SELECT COUNT(*) FROM announcements WHERE announcementId = NEW.announcementId),"
+                + " important = important - COALESCE((SELECT isImportant FROM announcements"
+                + " WHERE announcementId = NEW.announcementId), 0)"
+                + row + " END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS announcement_counters_insert"
+                + " AFTER INSERT ON announcements BEGIN "
+                + counters + "total = total + 1, important = important + NEW.isImportant" + row + " END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS announcement_counters_delete"
+                + " AFTER DELETE ON announcements BEGIN "
+                + counters + "total = total - 1, important = important - OLD.isImportant" + row + " END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS announcement_counters_update"
+                + " AFTER UPDATE OF isImportant ON announcements WHEN NEW.isImportant != OLD.isImportant BEGIN "
+                + counters + "important = important + NEW.isImportant - OLD.isImportant" + row + " END");
+    }
+
+    private static void createCourseEnrollmentTriggers(SupportSQLiteDatabase db) {
+        String decrement = "UPDATE course_enrollment SET enrolledCount = enrolledCount - 1 WHERE courseId = ";
+
+        // Counted once on first open; afterwards the triggers keep it current
+        db.execSQL("INSERT INTO course_enrollment (courseId, enrolledCount)"
+                + " SELECT courseId, COUNT(*) FROM registrations WHERE status = " + REGISTERED
+                + " AND NOT EXISTS (SELECT 1 FROM course_enrollment) GROUP BY courseId");
+
+        // As with announcements, a replaced registration comes off the count first,
+        // and registrations must not be written with OR IGNORE
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS course_enrollment_before_insert"
+                + " BEFORE INSERT ON registrations BEGIN "
+                + decrement + "(SELECT courseId FROM registrations"
+                + " WHERE registrationId = NEW.registrationId AND status = " + REGISTERED + ");"
+                + " END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS course_enrollment_insert"
+                + " AFTER INSERT ON registrations WHEN NEW.status = " + REGISTERED + " BEGIN "
+                + enrollmentIncrement("NEW.courseId") + " END");
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS course_enrollment_delete"
+                + " AFTER DELETE ON registrations WHEN OLD.status = " + REGISTERED + " BEGIN "
+                + decrement + "OLD.courseId; END");
+
+        // Covers registering, dropping and moving a registration to another course
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS course_enrollment_update"
+                + " AFTER UPDATE OF status, courseId ON registrations"
+                + " WHEN (OLD.status IS " + REGISTERED + ") != (NEW.status IS " + REGISTERED + ")"
+                + " OR (NEW.status IS " + REGISTERED + " AND NEW.courseId != OLD.courseId) BEGIN "
+                + decrement + "CASE WHEN OLD.status IS " + REGISTERED + " THEN OLD.courseId END; "
+                + enrollmentIncrement("CASE WHEN NEW.status IS " + REGISTERED + " THEN NEW.courseId END")
+                + " END");
+    }
+
+    /**
+     * Add one to a course's count, creating its row on first use. A null course
+     * matches nothing, which lets the update trigger make it conditional. The row
+     * is checked for rather than inserted OR IGNORE, since the firing statement's
+     * conflict clause would override that.
+     */
+    private static String enrollmentIncrement(String courseId) {
+        return "INSERT INTO course_enrollment (courseId, enrolledCount)"
+                + " SELECT " + courseId + ", 0 WHERE " + courseId + " IS NOT NULL"
+                + " AND NOT EXISTS (SELECT 1 FROM course_enrollment WHERE courseId = " + courseId + "); "
+                + "UPDATE course_enrollment SET enrolledCount = enrolledCount + 1"
+                + " WHERE courseId = " + courseId + ";";
+    }
+
+    /**
+     * Deleting the record's previous entry before inserting keeps one entry per
+     * record, holding its latest operation and a fresh sequence number.
+     *
+     * Not INSERT OR REPLACE: the conflict clause of the statement that fired the
+     * trigger overrides the trigger's own, and Room writes with OR ABORT, so a
+     * second change to the same record would fail on the unique index.
+     */
+    private static void createChangeLogTrigger(SupportSQLiteDatabase db, String table, String keyColumn,
+                                               String event, String row, String op) {
+        String recordId = row + "." + keyColumn;
+        db.execSQL("CREATE TRIGGER IF NOT EXISTS change_log_" + table + "_" + event.toLowerCase(Locale.ROOT)
+                + " AFTER " + event + " ON " + table + " BEGIN"
+                + " DELETE FROM change_log WHERE tableName = '" + table + "' AND recordId = " + recordId + ";"
+                + " INSERT INTO change_log (tableName, recordId, op)"
+                + " VALUES ('" + table + "', " + recordId + ", '" + op + "');"
+                + " END");
+    }
+}
@@ -2,9 +2,12 @@ package com.example.student3.model;
 
 import androidx.annotation.NonNull;
 import androidx.room.Entity;
+import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "announcements")
+@Entity(tableName = "announcements",
+        indices = {@Index("expiryDate")})
 public class Announcement {
     @PrimaryKey(autoGenerate = true)
     private int announcementId;
@@ -18,6 +21,10 @@ public class Announcement {
     private String publishDate;
     private String expiryDate;
     private boolean isImportant;
+
+    // Not stored: read state is per student, kept in AnnouncementReadState and
+    // filled in by callers for the student who is logged in
+    @Ignore
     private boolean isRead;
 
     public Announcement(@NonNull String title, @NonNull String content, String publishDate,
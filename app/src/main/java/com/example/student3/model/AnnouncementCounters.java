@@ -0,0 +1,52 @@
+package com.example.student3.model;
+
+import androidx.room.Entity;
+import androidx.room.PrimaryKey;
+
+/**
+ * Announcement totals, kept up to date by the triggers in DatabaseTriggers so that
+ * badge counts read one row instead of counting the announcements table.
+ *
+ * There is a single row. Per-student unread counts subtract the counts kept in
+ * {@link AnnouncementReadState}.
+ */
+@Entity(tableName = "announcement_counters")
+public class AnnouncementCounters {
+    public static final int ROW_ID = 1;
+
+    @PrimaryKey
+    private int counterId;
+
+    private int total;
+    private int important;
+
+    public AnnouncementCounters(int counterId, int total, int important) {
+        this.counterId = counterId;
+        this.total = total;
+        this.important = important;
+    }
+
+    public int getCounterId() {
+        return counterId;
+    }
+
+    public void setCounterId(int counterId) {
+        this.counterId = counterId;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getImportant() {
+        return important;
+    }
+
+    public void setImportant(int important) {
+        this.important = important;
+    }
+}
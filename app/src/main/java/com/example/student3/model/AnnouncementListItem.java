@@ -0,0 +1,69 @@
+package com.example.student3.model;
+
+import androidx.room.Ignore;
+
+/**
+ * One row of an announcement list: the columns the list shows and the first
+ * {@link com.example.student3.dao.AnnouncementDao#PREVIEW_LENGTH} characters of
+ * the content. The detail screen loads the full {@link Announcement} by id.
+ */
+public class AnnouncementListItem {
+    private final int announcementId;
+    private final String title;
+    private final String preview;
+    private final String publishDate;
+    private final boolean isImportant;
+
+    // Not stored: filled in by AnnouncementRepository for the student who is logged in
+    @Ignore
+    private final boolean isRead;
+
+    public AnnouncementListItem(int announcementId, String title, String preview, String publishDate,
+                                boolean isImportant) {
+        this(announcementId, title, preview, publishDate, isImportant, false);
+    }
+
+    @Ignore
+    private AnnouncementListItem(int announcementId, String title, String preview, String publishDate,
+                                 boolean isImportant, boolean isRead) {
+        this.announcementId = announcementId;
+        this.title = title;
+        this.preview = preview;
+        this.publishDate = publishDate;
+        this.isImportant = isImportant;
+        this.isRead = isRead;
+    }
+
+    /**
+     * Copy with the given read state; rows are immutable so list diffing still
+     * sees the old state
+     */
+    public AnnouncementListItem withRead(boolean read) {
+        return read == isRead ? this
+                : new AnnouncementListItem(announcementId, title, preview, publishDate, isImportant, read);
+    }
+
+    public int getAnnouncementId() {
+        return announcementId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getPreview() {
+        return preview;
+    }
+
+    public String getPublishDate() {
+        return publishDate;
+    }
+
+    public boolean isImportant() {
+        return isImportant;
+    }
+
+    public boolean isRead() {
+        return isRead;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.student3.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.PrimaryKey;
+
+/**
+ * The announcements one student has read.
+ *
+ * One row per student rather than one per (student, announcement) pair: the ids
+ * are an IdRunSet encoded with {@link com.example.student3.utils.IdRunSet#toBytes()},
+ * which stays a few bytes for a student who has read everything up to some point.
+ *
+ * The two counts cover read ids that still exist, so unread counts are the
+ * AnnouncementCounters totals minus these. AnnouncementCounterDao's announcement
+ * writes keep them in step; writes made elsewhere leave them stale until
+ * DatabaseMaintenanceWorker reconciles.
+ */
+@Entity(tableName = "announcement_read_state",
+        foreignKeys = @ForeignKey(entity = Student.class, parentColumns = "studentId", childColumns = "studentId", onDelete = ForeignKey.CASCADE))
+public class AnnouncementReadState {
+    @PrimaryKey
+    private int studentId;
+
+    @NonNull
+    private byte[] readIds;
+
+    private int readCount;
+    private int importantReadCount;
+
+    public AnnouncementReadState(int studentId, @NonNull byte[] readIds, int readCount, int importantReadCount) {
+        this.studentId = studentId;
+        this.readIds = readIds;
+        this.readCount = readCount;
+        this.importantReadCount = importantReadCount;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(int studentId) {
+        this.studentId = studentId;
+    }
+
+    @NonNull
+    public byte[] getReadIds() {
+        return readIds;
+    }
+
+    public void setReadIds(@NonNull byte[] readIds) {
+        this.readIds = readIds;
+    }
+
+    public int getReadCount() {
+        return readCount;
+    }
+
+    public void setReadCount(int readCount) {
+        this.readCount = readCount;
+    }
+
+    public int getImportantReadCount() {
+        return importantReadCount;
+    }
+
+    public void setImportantReadCount(int importantReadCount) {
+        this.importantReadCount = importantReadCount;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.student3.model;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * One locally changed row waiting to be uploaded.
+ *
+ * Rows are written only by the triggers in DatabaseTriggers. A record appears at most
+ * once: a later change replaces its entry and gives it a new sequence number, so the
+ * log grows with the number of changed records, not the number of edits.
+ */
+@Entity(tableName = "change_log",
+        indices = {@Index(value = {"tableName", "recordId"}, unique = true)})
+public class ChangeLogEntry {
+    // Tables whose changes are logged
+    public static final String TABLE_TODOS = "todos";
+    public static final String TABLE_REGISTRATIONS = "registrations";
+    public static final String TABLE_USER_PROFILES = "user_profiles";
+
+    // Last operation on the record; inserts and updates both mean "send the current row"
+    public static final String OP_INSERT = "I";
+    public static final String OP_UPDATE = "U";
+    public static final String OP_DELETE = "D";
+
+    @PrimaryKey(autoGenerate = true)
+    private long seq; // AUTOINCREMENT, so numbers are never reused after the log is truncated
+
+    @NonNull
+    private String tableName;
+    private int recordId;
+
+    @NonNull
+    private String op;
+
+    public ChangeLogEntry(@NonNull String tableName, int recordId, @NonNull String op) {
+        this.tableName = tableName;
+        this.recordId = recordId;
+        this.op = op;
+    }
+
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    @NonNull
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(@NonNull String tableName) {
+        this.tableName = tableName;
+    }
+
+    public int getRecordId() {
+        return recordId;
+    }
+
+    public void setRecordId(int recordId) {
+        this.recordId = recordId;
+    }
+
+    @NonNull
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(@NonNull String op) {
+        this.op = op;
+    }
+
+    public boolean isDelete() {
+        return OP_DELETE.equals(op);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeLogEntry{" + seq + " " + op + " " + tableName + "/" + recordId + "}";
+    }
+}
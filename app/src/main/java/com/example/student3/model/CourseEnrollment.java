@@ -0,0 +1,44 @@
+package com.example.student3.model;
+
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.PrimaryKey;
+
+/**
+ * Number of students currently registered for a course, kept up to date by the
+ * triggers in DatabaseTriggers so the course list can show seats left without
+ * counting registrations for every row.
+ *
+ * Kept apart from {@link Course} so that writing a course back, from an edit or
+ * the timetable generator, can't overwrite the count with a stale value. A course
+ * nobody has registered for may have no row.
+ */
+@Entity(tableName = "course_enrollment",
+        foreignKeys = @ForeignKey(entity = Course.class, parentColumns = "courseId", childColumns = "courseId", onDelete = ForeignKey.CASCADE))
+public class CourseEnrollment {
+    @PrimaryKey
+    private int courseId;
+
+    private int enrolledCount;
+
+    public CourseEnrollment(int courseId, int enrolledCount) {
+        this.courseId = courseId;
+        this.enrolledCount = enrolledCount;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(int courseId) {
+        this.courseId = courseId;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public void setEnrolledCount(int enrolledCount) {
+        this.enrolledCount = enrolledCount;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.student3.model;
+
+/**
+ * One row of a course list: the course columns the lists show, a preview of the
+ * description, its instructor's name and the seats left, all read from one cursor
+ * by the CourseDao list queries. The detail screen loads the full {@link Course}.
+ */
+public class CourseListItem {
+    private final int courseId;
+    private final String courseCode;
+    private final String title;
+    private final String descriptionPreview;
+    private final int creditHours;
+    private final Integer instructorId; // Nullable
+    private final String instructorName; // Null without an instructor
+    private final int maxStudents;
+    private final int enrolledCount;
+    private final int seatsLeft;
+
+    public CourseListItem(int courseId, String courseCode, String title, String descriptionPreview,
+                          int creditHours, Integer instructorId, String instructorName, int maxStudents,
+                          int enrolledCount, int seatsLeft) {
+        this.courseId = courseId;
+        this.courseCode = courseCode;
+        this.title = title;
+        this.descriptionPreview = descriptionPreview;
+        this.creditHours = creditHours;
+        this.instructorId = instructorId;
+        this.instructorName = instructorName;
+        this.maxStudents = maxStudents;
+        this.enrolledCount = enrolledCount;
+        this.seatsLeft = seatsLeft;
+    }
+
+    public int getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescriptionPreview() {
+        return descriptionPreview;
+    }
+
+    public int getCreditHours() {
+        return creditHours;
+    }
+
+    public Integer getInstructorId() {
+        return instructorId;
+    }
+
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    public int getMaxStudents() {
+        return maxStudents;
+    }
+
+    public int getEnrolledCount() {
+        return enrolledCount;
+    }
+
+    public int getSeatsLeft() {
+        return seatsLeft;
+    }
+
+    public boolean isFull() {
+        return seatsLeft == 0;
+    }
+}
@@ -32,6 +32,10 @@ public interface ApiService {
     
     // Alternative: Mock server URL (if you set up your own)
     // String BASE_URL = "https://your-mock-server.com/api/";
+
+    // Whether BASE_URL implements POST sync (performBulkSync). JSONPlaceholder
+    // doesn't, so local changes stay in the change log until a real server is set.
+    boolean BULK_SYNC_AVAILABLE = false;
     
     /**
      * Get all announcements from server
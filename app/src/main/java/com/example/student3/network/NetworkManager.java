@@ -33,7 +33,6 @@ public class NetworkManager {
     
     private NetworkManager(Context context) {
         this.context = context.getApplicationContext();
-        setupRetrofit();
     }
     
     /**
@@ -48,15 +47,20 @@ public class NetworkManager {
     
     /**
      * Get API service instance
+     * Retrofit, OkHttp and Gson are built on the first call rather than at startup,
+     * so an offline session never pays for them
      */
-    public static ApiService getApiService() {
+    public static synchronized ApiService getApiService() {
+        if (apiService == null) {
+            setupRetrofit();
+        }
         return apiService;
     }
     
     /**
      * Setup Retrofit with proper configuration
      */
-    private void setupRetrofit() {
+    private static void setupRetrofit() {
         try {
             // Create HTTP logging interceptor for debugging
             HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
@@ -1,5 +1,6 @@
 package com.example.student3.network.models;
 
+import com.example.student3.model.Registration;
 import com.example.student3.model.SimpleTodo;
 import com.example.student3.model.UserProfile;
 import com.google.gson.annotations.SerializedName;
@@ -9,8 +10,8 @@ import java.util.List;
 /**
  * Sync request model for bulk synchronization
  * 
- * This class contains all local data that needs to be synchronized
- * with the server, including todos, profile updates, and timestamps.
+ * This class contains the local changes that need to be synchronized
+ * with the server, including todos, registrations, profile updates, and timestamps.
  */
 public class SyncRequest {
     
@@ -32,6 +33,12 @@ public class SyncRequest {
     @SerializedName("deleted_todo_ids")
     private List<Integer> deletedTodoIds;
     
+    @SerializedName("registrations")
+    private List<Registration> registrations;
+    
+    @SerializedName("deleted_registration_ids")
+    private List<Integer> deletedRegistrationIds;
+    
     @SerializedName("app_version")
     private String appVersion;
     
@@ -94,6 +101,22 @@ public class SyncRequest {
         this.deletedTodoIds = deletedTodoIds;
     }
     
+    public List<Registration> getRegistrations() {
+        return registrations;
+    }
+    
+    public void setRegistrations(List<Registration> registrations) {
+        this.registrations = registrations;
+    }
+    
+    public List<Integer> getDeletedRegistrationIds() {
+        return deletedRegistrationIds;
+    }
+    
+    public void setDeletedRegistrationIds(List<Integer> deletedRegistrationIds) {
+        this.deletedRegistrationIds = deletedRegistrationIds;
+    }
+    
     public String getAppVersion() {
         return appVersion;
     }
@@ -109,6 +132,13 @@ public class SyncRequest {
         return todos != null && !todos.isEmpty();
     }
     
+    /**
+     * Check if request has registrations to sync
+     */
+    public boolean hasRegistrations() {
+        return registrations != null && !registrations.isEmpty();
+    }
+    
     /**
      * Check if request has profile updates
      */
@@ -120,7 +150,8 @@ public class SyncRequest {
      * Check if request has deleted items
      */
     public boolean hasDeletedItems() {
-        return deletedTodoIds != null && !deletedTodoIds.isEmpty();
+        return (deletedTodoIds != null && !deletedTodoIds.isEmpty())
+                || (deletedRegistrationIds != null && !deletedRegistrationIds.isEmpty());
     }
     
     @Override
@@ -130,8 +161,10 @@ public class SyncRequest {
                 ", lastSyncTimestamp='" + lastSyncTimestamp + '\'' +
                 ", deviceId='" + deviceId + '\'' +
                 ", todosCount=" + (todos != null ? todos.size() : 0) +
+                ", registrationsCount=" + (registrations != null ? registrations.size() : 0) +
                 ", hasProfile=" + (userProfile != null) +
                 ", deletedCount=" + (deletedTodoIds != null ? deletedTodoIds.size() : 0) +
+                ", deletedRegistrationsCount=" + (deletedRegistrationIds != null ? deletedRegistrationIds.size() : 0) +
                 ", appVersion='" + appVersion + '\'' +
                 '}';
     }
@@ -4,14 +4,25 @@ import android.app.Application;
 import android.util.Log;
 
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MediatorLiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
 
+import com.example.student3.dao.AnnouncementCounterDao;
 import com.example.student3.dao.AnnouncementDao;
+import com.example.student3.dao.AnnouncementReadStateDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
 import com.example.student3.network.NetworkManager;
+import com.example.student3.utils.IdRunSet;
+import com.example.student3.utils.EventLog;
 import com.example.student3.utils.NotificationHelper;
+import com.example.student3.utils.UserSession;
+import com.example.student3.utils.PerfTrace;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import retrofit2.Call;
@@ -20,78 +31,179 @@ import retrofit2.Response;
 
 public class AnnouncementRepository {
     private static final String TAG = "AnnouncementRepository";
+    private static final int NO_STUDENT = 0;
+    private static final String TRACE_READ_STATE = "AnnouncementRepository.withReadState";
 
     private final AnnouncementDao announcementDao;
-    private final LiveData<List<Announcement>> allAnnouncements;
+    private final AnnouncementReadStateDao readStateDao;
+    private final AnnouncementCounterDao counterDao;
+    private final int studentId;
+    private final LiveData<IdRunSet> readIds;
+    private final LiveData<List<AnnouncementListItem>> allAnnouncements;
+    private final LiveData<List<AnnouncementListItem>> importantAnnouncements;
+    private final LiveData<List<AnnouncementListItem>> unreadAnnouncements;
+    private final LiveData<Integer> unreadCount;
+    private final LiveData<Integer> importantUnreadCount;
+    private final LiveDataCache<String, List<AnnouncementListItem>> searches = new LiveDataCache<>();
+    private final LiveDataCache<Integer, Announcement> announcementsById = new LiveDataCache<>();
     private final NotificationHelper notificationHelper;
     private final NetworkManager networkManager;
     private final MutableLiveData<Boolean> syncStatus = new MutableLiveData<>(false);
 
-    public AnnouncementRepository(Application application) {
+    /**
+     * Read state and badge counts belong to the student logged in at construction
+     */
+    public AnnouncementRepository(Application application, NotificationHelper notificationHelper) {
         AppDatabase db = AppDatabase.getDatabase(application);
         announcementDao = db.announcementDao();
-        allAnnouncements = announcementDao.getAllAnnouncements();
-        notificationHelper = new NotificationHelper(application);
+        readStateDao = db.announcementReadStateDao();
+        counterDao = db.announcementCounterDao();
+        studentId = new UserSession(application).getCurrentUserId();
+        readIds = Transformations.map(readStateDao.getReadIds(studentId), IdRunSet::fromBytes);
+        // The full and unread lists filter the same rows, so they share one Room query
+        LiveData<List<AnnouncementListItem>> rows = announcementDao.getAllAnnouncements();
+        allAnnouncements = withReadState(rows, false);
+        unreadAnnouncements = withReadState(rows, true);
+        importantAnnouncements = withReadState(announcementDao.getImportantAnnouncements(), false);
+        unreadCount = withoutExpired(counterDao.getUnreadCount(studentId), counterDao.getExpiredIds());
+        importantUnreadCount = withoutExpired(counterDao.getImportantUnreadCount(studentId),
+                counterDao.getExpiredImportantIds());
+        this.notificationHelper = notificationHelper;
         networkManager = NetworkManager.getInstance(application);
     }
 
-    public LiveData<List<Announcement>> getAllAnnouncements() {
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public LiveData<List<AnnouncementListItem>> getAllAnnouncements() {
         return allAnnouncements;
     }
 
     public LiveData<Announcement> getAnnouncementById(int announcementId) {
-        return announcementDao.getAnnouncementById(announcementId);
+        return announcementsById.get(announcementId, announcementDao::getAnnouncementById);
     }
 
-    public LiveData<List<Announcement>> getImportantAnnouncements() {
-        return announcementDao.getImportantAnnouncements();
+    public LiveData<List<AnnouncementListItem>> getImportantAnnouncements() {
+        return importantAnnouncements;
     }
 
-    public LiveData<List<Announcement>> searchAnnouncements(String query) {
-        return announcementDao.searchAnnouncements(query);
+    public LiveData<List<AnnouncementListItem>> searchAnnouncements(String query) {
+        return searches.get(query, text -> withReadState(announcementDao.searchAnnouncements(text), false));
     }
 
-    public LiveData<List<Announcement>> getUnreadAnnouncements() {
-        return announcementDao.getUnreadAnnouncements();
+    public LiveData<List<AnnouncementListItem>> getUnreadAnnouncements() {
+        return unreadAnnouncements;
     }
 
+    /**
+     * Read from the trigger-maintained counters, so the badge doesn't re-count
+     * announcements whenever the table changes. Expired announcements are left
+     * out, as in the lists.
+     */
     public LiveData<Integer> getUnreadAnnouncementCount() {
-        return announcementDao.getUnreadAnnouncementCount();
+        return unreadCount;
+    }
+
+    public LiveData<Integer> getImportantUnreadCount() {
+        return importantUnreadCount;
     }
 
     public void insert(Announcement announcement) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
-            long id = announcementDao.insert(announcement);
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("AnnouncementRepository.insert", () -> {
+            long id = counterDao.insertAnnouncement(announcement);
             // Trigger notification for new announcement
             if (id > 0) {
                 announcement.setAnnouncementId((int) id);
                 notificationHelper.showAnnouncementNotification(announcement);
             }
-        });
+        }));
     }
 
     public void update(Announcement announcement) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
-            announcementDao.update(announcement);
-        });
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("AnnouncementRepository.update", () -> {
+            counterDao.updateAnnouncement(announcement);
+        }));
     }
 
     public void delete(Announcement announcement) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
-            announcementDao.delete(announcement);
-        });
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("AnnouncementRepository.delete", () -> {
+            counterDao.deleteAnnouncements(Collections.singletonList(announcement.getAnnouncementId()));
+        }));
     }
 
     public void markAsRead(int announcementId) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
-            announcementDao.markAsRead(announcementId);
-        });
+        setRead(announcementId, true);
     }
 
     public void markAsUnread(int announcementId) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
-            announcementDao.markAsUnread(announcementId);
-        });
+        setRead(announcementId, false);
+    }
+
+    private void setRead(int announcementId, boolean read) {
+        if (studentId == NO_STUDENT) {
+            Log.w(TAG, "No student logged in; read state not saved");
+            return;
+        }
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("AnnouncementRepository.setRead", () -> {
+            readStateDao.setRead(studentId, announcementId, read);
+        }));
+    }
+
+    /**
+     * Fill in the read state for the current student whenever the announcements or
+     * the student's read set change
+     * @param unreadOnly Drop announcements the student has read
+     */
+    private LiveData<List<AnnouncementListItem>> withReadState(LiveData<List<AnnouncementListItem>> source,
+                                                               boolean unreadOnly) {
+        MediatorLiveData<List<AnnouncementListItem>> result = new MediatorLiveData<>();
+        Runnable update = () -> {
+            List<AnnouncementListItem> announcements = source.getValue();
+            IdRunSet read = readIds.getValue();
+            if (announcements == null || read == null) {
+                return;
+            }
+            boolean traced = PerfTrace.begin(TRACE_READ_STATE);
+            try {
+                List<AnnouncementListItem> withState = new ArrayList<>(announcements.size());
+                for (AnnouncementListItem announcement : announcements) {
+                    boolean isRead = read.contains(announcement.getAnnouncementId());
+                    if (unreadOnly && isRead) {
+                        continue;
+                    }
+                    withState.add(announcement.withRead(isRead));
+                }
+                result.setValue(withState);
+            } finally {
+                PerfTrace.end(traced);
+            }
+        };
+        result.addSource(source, announcements -> update.run());
+        result.addSource(readIds, read -> update.run());
+        return result;
+    }
+
+    /**
+     * Take the expired announcements the student hasn't read off a counter-based
+     * unread count
+     */
+    private LiveData<Integer> withoutExpired(LiveData<Integer> unread, LiveData<List<Integer>> expiredIds) {
+        LiveData<IdRunSet> expired = Transformations.map(expiredIds, IdRunSet::fromSortedIds);
+        MediatorLiveData<Integer> result = new MediatorLiveData<>();
+        Runnable update = () -> {
+            Integer count = unread.getValue();
+            IdRunSet expiredSet = expired.getValue();
+            IdRunSet read = readIds.getValue();
+            if (count == null || expiredSet == null || read == null) {
+                return;
+            }
+            result.setValue(Math.max(0, count - expiredSet.andNotCardinality(read)));
+        };
+        result.addSource(unread, value -> update.run());
+        result.addSource(expired, value -> update.run());
+        result.addSource(readIds, value -> update.run());
+        return result;
     }
 
     // ========== NETWORK FUNCTIONALITY ==========
@@ -114,7 +226,7 @@ public class AnnouncementRepository {
             return;
         }
 
-        Log.d(TAG, "Starting announcement sync from server");
+        EventLog.d(TAG, "Starting announcement sync from server");
         syncStatus.postValue(true); // Indicate sync in progress
 
         // Call API to get announcements
@@ -122,7 +234,7 @@ public class AnnouncementRepository {
             @Override
             public void onResponse(Call<List<Announcement>> call, Response<List<Announcement>> response) {
                 if (response.isSuccessful() && response.body() != null) {
-                    Log.d(TAG, "Successfully received " + response.body().size() + " announcements from server");
+                    EventLog.d(TAG, "Successfully received %d announcements from server", response.body().size());
 
                     // Process server announcements
                     processServerAnnouncements(response.body());
@@ -145,7 +257,7 @@ public class AnnouncementRepository {
      * In a real app, this would merge server data with local data
      */
     private void processServerAnnouncements(List<Announcement> serverAnnouncements) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("AnnouncementRepository.processServerAnnouncements", () -> {
             try {
                 // For demo purposes, we'll just log the server data
                 // In a real implementation, you would:
@@ -154,23 +266,23 @@ public class AnnouncementRepository {
                 // 3. Update existing ones if modified
                 // 4. Handle conflicts appropriately
 
-                Log.d(TAG, "Processing server announcements:");
+                EventLog.d(TAG, "Processing %d server announcements", serverAnnouncements.size());
                 for (Announcement announcement : serverAnnouncements) {
-                    Log.d(TAG, "Server announcement: " + announcement.getTitle());
+                    EventLog.d(TAG, "Server announcement: %s", announcement.getTitle());
 
                     // Example: Check if announcement exists locally
                     // If not, insert it (this is just a demo)
                     // In real implementation, you'd have proper ID mapping
                 }
 
-                Log.d(TAG, "Announcement sync completed successfully");
+                EventLog.d(TAG, "Announcement sync completed successfully");
                 syncStatus.postValue(false); // Sync completed
 
             } catch (Exception e) {
                 Log.e(TAG, "Error processing server announcements", e);
                 syncStatus.postValue(false);
             }
-        });
+        }));
     }
 
     /**
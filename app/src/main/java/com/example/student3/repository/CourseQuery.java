@@ -0,0 +1,86 @@
+package com.example.student3.repository;
+
+import java.util.Objects;
+
+/**
+ * Immutable description of what the course list should show.
+ *
+ * A single CourseQuery replaces the separate search, department and
+ * registered-only calls, so the list always runs exactly one Room query.
+ */
+public final class CourseQuery {
+    public static final int NO_DEPARTMENT = -1;
+    public static final int NO_STUDENT = -1;
+
+    private final String text;
+    private final int departmentId;
+    private final int studentId;
+    private final boolean registeredOnly;
+
+    /**
+     * @param text Search text matched against course code and title, empty for no search
+     * @param departmentId Department to restrict to, or {@link #NO_DEPARTMENT}
+     * @param studentId Student whose registrations are used when registeredOnly is set
+     * @param registeredOnly true to show only courses the student is registered for
+     */
+    public CourseQuery(String text, int departmentId, int studentId, boolean registeredOnly) {
+        this.text = text != null ? text.trim() : "";
+        this.departmentId = departmentId;
+        this.studentId = studentId;
+        this.registeredOnly = registeredOnly && studentId != NO_STUDENT;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean hasText() {
+        return !text.isEmpty();
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
+    public boolean hasDepartment() {
+        return departmentId > 0;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public boolean isRegisteredOnly() {
+        return registeredOnly;
+    }
+
+    public CourseQuery withText(String newText) {
+        return new CourseQuery(newText, departmentId, studentId, registeredOnly);
+    }
+
+    public CourseQuery withRegisteredOnly(boolean newRegisteredOnly) {
+        return new CourseQuery(text, departmentId, studentId, newRegisteredOnly);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CourseQuery)) return false;
+        CourseQuery other = (CourseQuery) o;
+        return departmentId == other.departmentId
+                && studentId == other.studentId
+                && registeredOnly == other.registeredOnly
+                && text.equals(other.text);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text, departmentId, studentId, registeredOnly);
+    }
+
+    @Override
+    public String toString() {
+        return "CourseQuery{text='" + text + "', departmentId=" + departmentId
+                + ", studentId=" + studentId + ", registeredOnly=" + registeredOnly + "}";
+    }
+}
@@ -7,12 +7,23 @@ import androidx.lifecycle.LiveData;
 import com.example.student3.dao.CourseDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
+import com.example.student3.utils.ScheduleUtils;
+import com.example.student3.utils.TimetableGenerator;
+import com.example.student3.utils.PerfTrace;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 public class CourseRepository {
     private final CourseDao courseDao;
     private final LiveData<List<Course>> allCourses;
+    private final LiveDataCache<CourseQuery, List<CourseListItem>> courseLists = new LiveDataCache<>();
+    private final LiveDataCache<Integer, Course> coursesById = new LiveDataCache<>();
+    private final LiveDataCache<Integer, List<Course>> registeredCourses = new LiveDataCache<>();
 
     public CourseRepository(Application application) {
         AppDatabase db = AppDatabase.getDatabase(application);
@@ -25,7 +36,7 @@ public class CourseRepository {
     }
 
     public LiveData<Course> getCourseById(int courseId) {
-        return courseDao.getCourseById(courseId);
+        return coursesById.get(courseId, courseDao::getCourseById);
     }
 
     public LiveData<List<Course>> getCoursesByDepartment(int departmentId) {
@@ -49,22 +60,103 @@ public class CourseRepository {
     }
 
     public LiveData<List<Course>> getRegisteredCoursesByStudent(int studentId) {
-        return courseDao.getRegisteredCoursesByStudent(studentId);
+        return registeredCourses.get(studentId, courseDao::getRegisteredCoursesByStudent);
     }
 
     public LiveData<List<Course>> getRegisteredCoursesByStudentAndDepartment(int studentId, int departmentId) {
         return courseDao.getRegisteredCoursesByStudentAndDepartment(studentId, departmentId);
     }
 
+    /**
+     * Rows for a course list query. Screens asking for the same query, such as the
+     * dashboard and the registered-only course list, share one LiveData.
+     */
+    public LiveData<List<CourseListItem>> getCourses(CourseQuery query) {
+        return courseLists.get(query, this::queryCourses);
+    }
+
+    /**
+     * Pick the single Room query that answers a course list query. Rows carry the
+     * instructor name and seats left, so the list renders from one cursor.
+     */
+    private LiveData<List<CourseListItem>> queryCourses(CourseQuery query) {
+        if (query.isRegisteredOnly()) {
+            if (query.hasDepartment()) {
+                return query.hasText()
+                        ? courseDao.searchRegisteredCourseListItemsByDepartment(
+                                query.getText(), query.getStudentId(), query.getDepartmentId())
+                        : courseDao.getRegisteredCourseListItemsByDepartment(
+                                query.getStudentId(), query.getDepartmentId());
+            }
+            return query.hasText()
+                    ? courseDao.searchRegisteredCourseListItems(query.getText(), query.getStudentId())
+                    : courseDao.getRegisteredCourseListItems(query.getStudentId());
+        }
+        if (query.hasDepartment()) {
+            return query.hasText()
+                    ? courseDao.searchCourseListItemsByDepartment(query.getText(), query.getDepartmentId())
+                    : courseDao.getCourseListItemsByDepartment(query.getDepartmentId());
+        }
+        return query.hasText() ? courseDao.searchCourseListItems(query.getText()) : courseDao.getCourseListItems();
+    }
+
     public void insert(Course course) {
-        AppDatabase.databaseWriteExecutor.execute(() -> courseDao.insert(course));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("CourseRepository.insert", () -> courseDao.insert(course)));
     }
 
     public void update(Course course) {
-        AppDatabase.databaseWriteExecutor.execute(() -> courseDao.update(course));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("CourseRepository.update", () -> courseDao.update(course)));
     }
 
     public void delete(Course course) {
-        AppDatabase.databaseWriteExecutor.execute(() -> courseDao.delete(course));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("CourseRepository.delete", () -> courseDao.delete(course)));
+    }
+
+    /**
+     * Callback for timetable generation, invoked on the background thread.
+     * A result that isn't clash-free was not saved; its remaining conflicts say why.
+     */
+    public interface TimetableListener {
+        void onTimetableGenerated(TimetableGenerator.Result result);
+    }
+
+    /**
+     * Regenerate the meeting patterns of every course in a department.
+     * Courses taught by the same instructor, or aimed at the same year level of the
+     * department (the cohort), never share a period. The new schedule is written back
+     * in a single transaction only if it is clash-free; a cancelled run, or one that
+     * ends with conflicts left, keeps the existing schedule.
+     *
+     * @param departmentId Department to schedule
+     * @param listener Receives the result, may be null
+     * @return Future that can be cancelled to stop the generator
+     */
+    public Future<?> generateTimetable(int departmentId, TimetableListener listener) {
+        return AppDatabase.databaseWriteExecutor.submit(PerfTrace.wrap("CourseRepository.generateTimetable", () -> {
+            List<Course> courses = courseDao.getCoursesByDepartmentSync(departmentId);
+            List<TimetableGenerator.Section> sections = new ArrayList<>(courses.size());
+            Map<Integer, Course> coursesById = new HashMap<>();
+            for (Course course : courses) {
+                int cohortKey = departmentId * 10 + ScheduleUtils.getCourseLevel(course.getCourseCode());
+                sections.add(new TimetableGenerator.Section(course.getCourseId(), course.getInstructorId(),
+                        cohortKey, course.getTotalWeeklyHours()));
+                coursesById.put(course.getCourseId(), course);
+            }
+
+            TimetableGenerator.Result result = new TimetableGenerator().generate(sections);
+            if (result.isClashFree()) {
+                for (TimetableGenerator.Assignment assignment : result.getAssignments()) {
+                    Course course = coursesById.get(assignment.sectionId);
+                    course.setDaysOfWeek(assignment.daysOfWeek);
+                    course.setStartPeriod(assignment.startPeriod);
+                    course.setEndPeriod(assignment.endPeriod);
+                }
+                courseDao.updateAll(courses);
+            }
+
+            if (listener != null) {
+                listener.onTimetableGenerated(result);
+            }
+        }));
     }
 }
\ No newline at end of file
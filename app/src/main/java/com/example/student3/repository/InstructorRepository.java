@@ -7,12 +7,14 @@ import androidx.lifecycle.LiveData;
 import com.example.student3.dao.InstructorDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Instructor;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
 
 public class InstructorRepository {
     private final InstructorDao instructorDao;
     private final LiveData<List<Instructor>> allInstructors;
+    private final LiveDataCache<Integer, Instructor> instructorsById = new LiveDataCache<>();
 
     public InstructorRepository(Application application) {
         AppDatabase db = AppDatabase.getDatabase(application);
@@ -25,7 +27,7 @@ public class InstructorRepository {
     }
 
     public LiveData<Instructor> getInstructorById(int instructorId) {
-        return instructorDao.getInstructorById(instructorId);
+        return instructorsById.get(instructorId, instructorDao::getInstructorById);
     }
 
     public LiveData<List<Instructor>> getInstructorsByDepartment(int departmentId) {
@@ -37,14 +39,14 @@ public class InstructorRepository {
     }
 
     public void insert(Instructor instructor) {
-        AppDatabase.databaseWriteExecutor.execute(() -> instructorDao.insert(instructor));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("InstructorRepository.insert", () -> instructorDao.insert(instructor)));
     }
 
     public void update(Instructor instructor) {
-        AppDatabase.databaseWriteExecutor.execute(() -> instructorDao.update(instructor));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("InstructorRepository.update", () -> instructorDao.update(instructor)));
     }
 
     public void delete(Instructor instructor) {
-        AppDatabase.databaseWriteExecutor.execute(() -> instructorDao.delete(instructor));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("InstructorRepository.delete", () -> instructorDao.delete(instructor)));
     }
 }
@@ -0,0 +1,35 @@
+package com.example.student3.repository;
+
+import androidx.arch.core.util.Function;
+import androidx.lifecycle.LiveData;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out one LiveData per query key, so every screen observing the same query
+ * shares a single Room observer and a single re-query per table change.
+ *
+ * Keys are kept least-recently-used up to a limit, since search text makes the key
+ * space open-ended. Evicting an entry only stops it being shared: screens already
+ * observing it keep their updates, and the next caller gets a fresh query.
+ */
+final class LiveDataCache<K, T> {
+    private static final int MAX_ENTRIES = 32;
+
+    private final Map<K, LiveData<T>> entries = new LinkedHashMap<K, LiveData<T>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, LiveData<T>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    synchronized LiveData<T> get(K key, Function<K, LiveData<T>> query) {
+        LiveData<T> liveData = entries.get(key);
+        if (liveData == null) {
+            liveData = query.apply(key);
+            entries.put(key, liveData);
+        }
+        return liveData;
+    }
+}
@@ -7,17 +7,23 @@ import androidx.lifecycle.LiveData;
 import com.example.student3.dao.RegistrationDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Registration;
+import com.example.student3.utils.ClassReminderScheduler;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
 
 public class RegistrationRepository {
     private final RegistrationDao registrationDao;
     private final LiveData<List<Registration>> allRegistrations;
+    private final ClassReminderScheduler reminderScheduler;
+    private final LiveDataCache<Integer, List<Registration>> registrationsByStudent = new LiveDataCache<>();
+    private final LiveDataCache<Integer, Integer> registeredCounts = new LiveDataCache<>();
 
     public RegistrationRepository(Application application) {
         AppDatabase db = AppDatabase.getDatabase(application);
         registrationDao = db.registrationDao();
         allRegistrations = registrationDao.getAllRegistrations();
+        reminderScheduler = ClassReminderScheduler.getInstance(application);
     }
 
     public LiveData<List<Registration>> getAllRegistrations() {
@@ -29,7 +35,7 @@ public class RegistrationRepository {
     }
 
     public LiveData<List<Registration>> getRegistrationsByStudent(int studentId) {
-        return registrationDao.getRegistrationsByStudent(studentId);
+        return registrationsByStudent.get(studentId, registrationDao::getRegistrationsByStudent);
     }
 
     public LiveData<List<Registration>> getRegistrationsByCourse(int courseId) {
@@ -41,18 +47,27 @@ public class RegistrationRepository {
     }
 
     public LiveData<Integer> getRegisteredStudentCountForCourse(int courseId) {
-        return registrationDao.getRegisteredStudentCountForCourse(courseId);
+        return registeredCounts.get(courseId, registrationDao::getRegisteredStudentCountForCourse);
     }
 
     public void insert(Registration registration) {
-        AppDatabase.databaseWriteExecutor.execute(() -> registrationDao.insert(registration));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("RegistrationRepository.insert", () -> {
+            registrationDao.insert(registration);
+            reminderScheduler.onRegistrationChanged(registration, false);
+        }));
     }
 
     public void update(Registration registration) {
-        AppDatabase.databaseWriteExecutor.execute(() -> registrationDao.update(registration));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("RegistrationRepository.update", () -> {
+            registrationDao.update(registration);
+            reminderScheduler.onRegistrationChanged(registration, false);
+        }));
     }
 
     public void delete(Registration registration) {
-        AppDatabase.databaseWriteExecutor.execute(() -> registrationDao.delete(registration));
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("RegistrationRepository.delete", () -> {
+            registrationDao.delete(registration);
+            reminderScheduler.onRegistrationChanged(registration, true);
+        }));
     }
 }
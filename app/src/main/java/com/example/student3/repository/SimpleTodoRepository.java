@@ -6,6 +6,7 @@ import androidx.lifecycle.LiveData;
 import com.example.student3.dao.SimpleTodoDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.SimpleTodo;
+import com.example.student3.utils.PerfTrace;
 
 import java.util.List;
 
@@ -19,23 +20,23 @@ public class SimpleTodoRepository {
 
     // Insert todo
     public void insert(SimpleTodo todo) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("SimpleTodoRepository.insert", () -> {
             todoDao.insert(todo);
-        });
+        }));
     }
 
     // Update todo
     public void update(SimpleTodo todo) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("SimpleTodoRepository.update", () -> {
             todoDao.update(todo);
-        });
+        }));
     }
 
     // Delete todo
     public void delete(SimpleTodo todo) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("SimpleTodoRepository.delete", () -> {
             todoDao.delete(todo);
-        });
+        }));
     }
 
     // Get all todos for a student
@@ -55,8 +56,8 @@ public class SimpleTodoRepository {
 
     // Quick toggle completion status
     public void toggleCompletionStatus(int todoId, boolean isCompleted) {
-        AppDatabase.databaseWriteExecutor.execute(() -> {
+        AppDatabase.databaseWriteExecutor.execute(PerfTrace.wrap("SimpleTodoRepository.toggleCompletionStatus", () -> {
             todoDao.updateCompletionStatus(todoId, isCompleted);
-        });
+        }));
     }
 }
@@ -9,9 +9,12 @@ import android.util.Log;
 
 import androidx.annotation.Nullable;
 
+import com.example.student3.AppContainer;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Announcement;
+import com.example.student3.utils.IdRunSet;
 import com.example.student3.utils.NotificationHelper;
+import com.example.student3.utils.UserSession;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -43,7 +46,7 @@ public class AnnouncementNotificationService extends Service {
         
         handler = new Handler(Looper.getMainLooper());
         executor = Executors.newSingleThreadExecutor();
-        notificationHelper = new NotificationHelper(this);
+        notificationHelper = AppContainer.getInstance(this).getNotificationHelper();
         database = AppDatabase.getDatabase(this);
         lastCheckTime = System.currentTimeMillis();
         
@@ -103,9 +106,12 @@ public class AnnouncementNotificationService extends Service {
                 
                 // Get all announcements (in a real app, you'd query by timestamp)
                 List<Announcement> allAnnouncements = database.announcementDao().getAllAnnouncementsSync();
+                IdRunSet readIds = database.announcementReadStateDao()
+                        .getReadSetSync(new UserSession(this).getCurrentUserId());
                 
                 if (allAnnouncements != null) {
                     for (Announcement announcement : allAnnouncements) {
+                        announcement.setRead(readIds.contains(announcement.getAnnouncementId()));
                         // Check if this is a new announcement (created after last check)
                         // In a real implementation, you'd compare timestamps
                         if (isNewAnnouncement(announcement)) {
@@ -11,12 +11,17 @@ import androidx.appcompat.widget.Toolbar;
 import androidx.navigation.NavController;
 import androidx.navigation.fragment.NavHostFragment;
 import androidx.navigation.ui.NavigationUI;
+import com.example.student3.AppContainer;
 import com.example.student3.R;
 import com.example.student3.utils.BackgroundNotificationManager;
+import com.example.student3.utils.ClassReminderScheduler;
 import com.example.student3.utils.BatteryMonitorUtil;
 import com.example.student3.utils.NotificationHelper;
 import com.example.student3.utils.LocaleUtils;
+import com.example.student3.utils.ScreenMetrics;
+import com.example.student3.utils.StartupOrchestrator;
 import com.example.student3.utils.UserSession;
+import com.example.student3.worker.DatabaseMaintenanceWorker;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
 public class MainActivity extends AppCompatActivity {
@@ -37,7 +42,7 @@ public class MainActivity extends AppCompatActivity {
         userSession = new UserSession(this);
 
         // Initialize NotificationHelper
-        notificationHelper = new NotificationHelper(this);
+        notificationHelper = AppContainer.getInstance(this).getNotificationHelper();
 
         // Initialize BackgroundNotificationManager
         backgroundNotificationManager = new BackgroundNotificationManager(this);
@@ -54,12 +59,6 @@ public class MainActivity extends AppCompatActivity {
 
         Log.d(TAG, "User is logged in: " + userSession.getCurrentUserEmail());
 
-        // Start background notification checking for logged-in users
-        if (backgroundNotificationManager.isBackgroundCheckingEnabled()) {
-            backgroundNotificationManager.startBackgroundChecking();
-            Log.d(TAG, "Background notification checking started");
-        }
-
         setContentView(R.layout.activity_main);
 
         // Set up the toolbar
@@ -80,8 +79,34 @@ public class MainActivity extends AppCompatActivity {
         // Set up the BottomNavigationView with the NavController
         NavigationUI.setupWithNavController(bottomNavigationView, navController);
 
+        scheduleDeferredStartup();
+    }
+
+    /**
+     * Receivers and WorkManager scheduling wait until the first frame is on screen
+     */
+    private void scheduleDeferredStartup() {
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+
+        // Close the process-start-to-first-frame measurement
+        startup.runAfterFirstFrame(this, "firstFrameMetric", ScreenMetrics.getInstance(this)::markFirstFrame);
+
         // Initialize battery monitoring
-        initializeBatteryMonitoring();
+        startup.runAfterFirstFrame(this, "batteryMonitoring", this::initializeBatteryMonitoring);
+
+        // Start background notification checking for logged-in users
+        startup.runWhenIdle(this, "backgroundChecking", () -> {
+            if (backgroundNotificationManager.isBackgroundCheckingEnabled()) {
+                backgroundNotificationManager.startBackgroundChecking();
+                Log.d(TAG, "Background notification checking started");
+            }
+        });
+
+        // Arm the next class reminder
+        startup.runWhenIdle(this, "classReminders", () -> ClassReminderScheduler.getInstance(this).rescheduleAll());
+
+        // Prune expired announcements and compact the database once a day
+        startup.runWhenIdle(this, "databaseMaintenance", () -> DatabaseMaintenanceWorker.schedule(this));
     }
 
     /**
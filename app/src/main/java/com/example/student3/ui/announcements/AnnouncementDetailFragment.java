@@ -20,11 +20,13 @@ import androidx.lifecycle.ViewModelProvider;
 
 import com.example.student3.R;
 import com.example.student3.databinding.FragmentAnnouncementDetailBinding;
+import com.example.student3.model.Announcement;
 import com.example.student3.viewmodel.AnnouncementViewModel;
 
 /**
  * Fragment to display detailed view of an announcement
  * Shows full content, allows marking as read/unread, sharing, etc.
+ * Lists pass only the id; the full announcement is loaded here.
  * 
  * @author DANN4 Development Team
  * @version 1.0 - Announcement Detail View
@@ -36,11 +38,10 @@ public class AnnouncementDetailFragment extends Fragment {
     private FragmentAnnouncementDetailBinding binding;
     private AnnouncementViewModel announcementViewModel;
     
-    private int announcementId;
-    private String title;
-    private String content;
-    private String publishDate;
-    private boolean isImportant;
+    private int announcementId = -1;
+    private String title = "";
+    private String content = "";
+    private String publishDate = "";
     
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
@@ -50,10 +51,6 @@ public class AnnouncementDetailFragment extends Fragment {
         // Get arguments
         if (getArguments() != null) {
             announcementId = getArguments().getInt("announcementId", -1);
-            title = getArguments().getString("title", "");
-            content = getArguments().getString("content", "");
-            publishDate = getArguments().getString("publishDate", "");
-            isImportant = getArguments().getBoolean("isImportant", false);
         }
     }
     
@@ -71,11 +68,12 @@ public class AnnouncementDetailFragment extends Fragment {
         // Initialize ViewModel
         announcementViewModel = new ViewModelProvider(this).get(AnnouncementViewModel.class);
         
-        // Display announcement content
-        displayAnnouncementContent();
-        
-        // Mark as read when viewed
+        // Load and display the full announcement
         if (announcementId != -1) {
+            announcementViewModel.getAnnouncementById(announcementId)
+                    .observe(getViewLifecycleOwner(), this::displayAnnouncementContent);
+            
+            // Mark as read when viewed
             announcementViewModel.markAsRead(announcementId);
         }
         
@@ -104,13 +102,21 @@ public class AnnouncementDetailFragment extends Fragment {
         return super.onOptionsItemSelected(item);
     }
     
-    private void displayAnnouncementContent() {
+    private void displayAnnouncementContent(Announcement announcement) {
+        if (announcement == null) {
+            // Deleted or pruned while open
+            return;
+        }
+        title = announcement.getTitle();
+        content = announcement.getContent();
+        publishDate = announcement.getPublishDate();
+        
         binding.textViewTitle.setText(title);
         binding.textViewContent.setText(content);
         binding.textViewDate.setText(publishDate);
         
         // Show/hide important badge
-        if (isImportant) {
+        if (announcement.isImportant()) {
             binding.textViewImportantBadge.setVisibility(View.VISIBLE);
         } else {
             binding.textViewImportantBadge.setVisibility(View.GONE);
@@ -16,7 +16,7 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import com.example.student3.R;
 import com.example.student3.adapter.AnnouncementAdapter;
 import com.example.student3.databinding.FragmentAnnouncementListBinding;
-import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
 import com.example.student3.viewmodel.AnnouncementViewModel;
 
 import java.util.ArrayList;
@@ -68,7 +68,7 @@ public class AnnouncementListFragment extends Fragment {
         // Set click listener for announcement items
         announcementAdapter.setOnAnnouncementClickListener(new AnnouncementAdapter.OnAnnouncementClickListener() {
             @Override
-            public void onAnnouncementClick(Announcement announcement) {
+            public void onAnnouncementClick(AnnouncementListItem announcement) {
                 // Mark announcement as read when clicked
                 announcementViewModel.markAsRead(announcement.getAnnouncementId());
                 
@@ -77,7 +77,7 @@ public class AnnouncementListFragment extends Fragment {
             }
             
             @Override
-            public void onAnnouncementLongClick(Announcement announcement) {
+            public void onAnnouncementLongClick(AnnouncementListItem announcement) {
                 // Show options menu for long click
                 showAnnouncementOptions(announcement);
             }
@@ -130,14 +130,10 @@ public class AnnouncementListFragment extends Fragment {
         binding.chipImportant.setOnClickListener(v -> showImportantAnnouncements());
     }
     
-    private void navigateToAnnouncementDetail(Announcement announcement) {
-        // Create bundle with announcement data
+    private void navigateToAnnouncementDetail(AnnouncementListItem announcement) {
+        // The list only holds a preview; the detail screen loads the full announcement
         Bundle args = new Bundle();
         args.putInt("announcementId", announcement.getAnnouncementId());
-        args.putString("title", announcement.getTitle());
-        args.putString("content", announcement.getContent());
-        args.putString("publishDate", announcement.getPublishDate());
-        args.putBoolean("isImportant", announcement.isImportant());
         
         // Navigate to detail fragment
         try {
@@ -149,14 +145,14 @@ public class AnnouncementListFragment extends Fragment {
         }
     }
     
-    private void showAnnouncementInDialog(Announcement announcement) {
+    private void showAnnouncementInDialog(AnnouncementListItem announcement) {
         // Simple fallback - show in toast for now
         // You can implement a proper dialog later
-        String message = announcement.getTitle() + "\n\n" + announcement.getContent();
+        String message = announcement.getTitle() + "\n\n" + announcement.getPreview();
         Toast.makeText(getContext(), message, Toast.LENGTH_LONG).show();
     }
     
-    private void showAnnouncementOptions(Announcement announcement) {
+    private void showAnnouncementOptions(AnnouncementListItem announcement) {
         // Show options like mark as read/unread, delete (if admin), etc.
         String[] options = {
             announcement.isRead() ? "Mark as Unread" : "Mark as Read",
@@ -178,7 +174,7 @@ public class AnnouncementListFragment extends Fragment {
         // Get current announcements and mark them all as read
         announcementViewModel.getAllAnnouncements().observe(getViewLifecycleOwner(), announcements -> {
             if (announcements != null) {
-                for (Announcement announcement : announcements) {
+                for (AnnouncementListItem announcement : announcements) {
                     if (!announcement.isRead()) {
                         announcementViewModel.markAsRead(announcement.getAnnouncementId());
                     }
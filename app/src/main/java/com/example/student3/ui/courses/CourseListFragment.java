@@ -1,6 +1,8 @@
 package com.example.student3.ui.courses;
 
 import android.os.Bundle;
+import android.text.Editable;
+import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -16,8 +18,10 @@ import androidx.recyclerview.widget.LinearLayoutManager;
 import com.example.student3.R;
 import com.example.student3.adapter.CourseAdapter;
 import com.example.student3.databinding.FragmentCourseListBinding;
-import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
 import com.example.student3.model.Department;
+import com.example.student3.repository.CourseQuery;
+import com.example.student3.utils.ScreenMetrics;
 import com.example.student3.utils.UserSession;
 import com.example.student3.viewmodel.CourseViewModel;
 import com.example.student3.viewmodel.DepartmentViewModel;
@@ -31,7 +35,7 @@ import java.util.List;
  *
  * Features:
  * - Course list display with department filtering
- * - Course search functionality
+ * - Search-as-you-type, debounced in CourseViewModel
  * - Navigation to course details
  * - Loading states and error handling
  * - User-specific course display (registered vs all)
@@ -47,6 +51,7 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
     private DepartmentViewModel departmentViewModel;
     private CourseAdapter adapter;
     private UserSession userSession;
+    private ScreenMetrics.ScreenTrace screenTrace;
     
     private boolean showRegisteredOnly = false;
     private int selectedDepartmentId = -1;
@@ -60,6 +65,7 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
+        screenTrace = ScreenMetrics.getInstance(requireContext()).startScreen(ScreenMetrics.SCREEN_COURSE_LIST);
 
         // Check if we should show only registered courses from arguments
         if (getArguments() != null) {
@@ -81,9 +87,10 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
     }
 
     private void setupRecyclerView() {
-        adapter = new CourseAdapter(new ArrayList<>(), this, this, this);
+        adapter = new CourseAdapter(new ArrayList<>(), this);
         binding.recyclerCourses.setLayoutManager(new LinearLayoutManager(getContext()));
         binding.recyclerCourses.setAdapter(adapter);
+        screenTrace.watchFirstBind(binding.recyclerCourses);
     }
 
     private void setupDepartmentChips() {
@@ -97,23 +104,26 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
     }
 
     private void setupSearch() {
-        binding.etSearch.setOnEditorActionListener((v, actionId, event) -> {
-            String query = binding.etSearch.getText().toString().trim();
-            if (!query.isEmpty()) {
-                searchCourses(query);
-                return true;
+        // Live type-ahead; the view model debounces and runs one query at a time
+        binding.etSearch.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                courseViewModel.setSearchText(s.toString());
             }
-            return false;
         });
-        
-        binding.tilSearch.setEndIconOnClickListener(v -> {
-            String query = binding.etSearch.getText().toString().trim();
-            if (!query.isEmpty()) {
-                searchCourses(query);
-            } else {
-                loadCourses();
-            }
+
+        binding.etSearch.setOnEditorActionListener((v, actionId, event) -> {
+            courseViewModel.submitSearch();
+            return true;
         });
+        
+        binding.tilSearch.setEndIconOnClickListener(v -> courseViewModel.submitSearch());
     }
 
     private void setupToggleButton() {
@@ -121,7 +131,8 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
         binding.btnToggleRegistered.setOnClickListener(v -> {
             showRegisteredOnly = !showRegisteredOnly;
             updateToggleButtonText();
-            loadCourses();
+            binding.progressBar.setVisibility(View.VISIBLE);
+            courseViewModel.setRegisteredOnly(showRegisteredOnly);
         });
     }
 
@@ -134,40 +145,33 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
     }
 
     private void observeCourses() {
-        loadCourses();
-    }
-
-    private void loadCourses() {
         binding.progressBar.setVisibility(View.VISIBLE);
 
-        if (!userSession.isLoggedIn()) {
+        if (userSession.isLoggedIn()) {
+            // Show courses from the user's department; an invalid department falls back to all courses
+            courseViewModel.initCourseQuery(new CourseQuery(
+                    binding.etSearch.getText().toString(),
+                    selectedDepartmentId,
+                    userSession.getCurrentUserId(),
+                    showRegisteredOnly));
+        } else {
             // If user is not logged in, show all courses
-            courseViewModel.getAllCourses()
-                    .observe(getViewLifecycleOwner(), this::handleCoursesResult);
-            return;
+            courseViewModel.initCourseQuery(new CourseQuery(
+                    binding.etSearch.getText().toString(),
+                    CourseQuery.NO_DEPARTMENT,
+                    CourseQuery.NO_STUDENT,
+                    false));
         }
 
-        int userDepartmentId = userSession.getCurrentUserDepartmentId();
-        int studentId = userSession.getCurrentUserId();
+        // Keep the toggle in sync with a query restored after a configuration change
+        showRegisteredOnly = courseViewModel.getCourseQuery().isRegisteredOnly();
+        updateToggleButtonText();
 
-        if (showRegisteredOnly) {
-            // Show only registered courses from user's department
-            courseViewModel.getRegisteredCoursesByStudentAndDepartment(studentId, userDepartmentId)
-                    .observe(getViewLifecycleOwner(), this::handleCoursesResult);
-        } else {
-            // Show all courses from user's department, or all courses if department ID is invalid
-            if (userDepartmentId > 0) {
-                courseViewModel.getCoursesByDepartment(userDepartmentId)
-                        .observe(getViewLifecycleOwner(), this::handleCoursesResult);
-            } else {
-                // Fallback to showing all courses if department ID is invalid
-                courseViewModel.getAllCourses()
-                        .observe(getViewLifecycleOwner(), this::handleCoursesResult);
-            }
-        }
+        courseViewModel.getCourseResults().observe(getViewLifecycleOwner(), this::handleCoursesResult);
     }
 
-    private void handleCoursesResult(List<Course> courses) {
+    private void handleCoursesResult(List<CourseListItem> courses) {
+        screenTrace.markFirstData();
         binding.progressBar.setVisibility(View.GONE);
         if (courses != null && !courses.isEmpty()) {
             adapter.updateCourses(courses);
@@ -179,22 +183,8 @@ public class CourseListFragment extends Fragment implements CourseAdapter.OnCour
         }
     }
 
-    private void searchCourses(String query) {
-        binding.progressBar.setVisibility(View.VISIBLE);
-
-        if (!userSession.isLoggedIn()) {
-            handleCoursesResult(new ArrayList<>());
-            return;
-        }
-
-        int userDepartmentId = userSession.getCurrentUserDepartmentId();
-        // Search only within user's department
-        courseViewModel.searchCoursesByDepartment(query, userDepartmentId)
-                .observe(getViewLifecycleOwner(), this::handleCoursesResult);
-    }
-
     @Override
-    public void onCourseClick(Course course) {
+    public void onCourseClick(CourseListItem course) {
         Bundle args = new Bundle();
         args.putInt("courseId", course.getCourseId());
         Navigation.findNavController(requireView()).navigate(R.id.action_nav_courses_to_courseDetailFragment, args);
@@ -16,7 +16,9 @@ import com.example.student3.R;
 import com.example.student3.adapter.AnnouncementSimpleAdapter;
 import com.example.student3.adapter.CourseSimpleAdapter;
 import com.example.student3.databinding.FragmentDashboardBinding;
-import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
+import com.example.student3.repository.CourseQuery;
+import com.example.student3.utils.ScreenMetrics;
 import com.example.student3.utils.UserSession;
 import com.example.student3.viewmodel.AnnouncementViewModel;
 import com.example.student3.viewmodel.CourseViewModel;
@@ -47,6 +49,7 @@ public class DashboardFragment extends Fragment {
     private AnnouncementSimpleAdapter announcementAdapter;
     private CourseSimpleAdapter courseAdapter;
     private UserSession userSession;
+    private ScreenMetrics.ScreenTrace screenTrace;
 
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -57,6 +60,7 @@ public class DashboardFragment extends Fragment {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
+        screenTrace = ScreenMetrics.getInstance(requireContext()).startScreen(ScreenMetrics.SCREEN_DASHBOARD);
 
         initViewModels();
         setupRecyclerViews();
@@ -85,6 +89,7 @@ public class DashboardFragment extends Fragment {
         courseAdapter.setOnCourseClickListener(this::navigateToCourseDetail);
         binding.recyclerRecentCourses.setLayoutManager(new LinearLayoutManager(getContext()));
         binding.recyclerRecentCourses.setAdapter(courseAdapter);
+        screenTrace.watchFirstBind(binding.recyclerRecentCourses);
     }
 
     private void observeData() {
@@ -119,8 +124,9 @@ public class DashboardFragment extends Fragment {
             int userDepartmentId = userSession.getCurrentUserDepartmentId();
 
             // Show only registered courses from user's department
-            courseViewModel.getRegisteredCoursesByStudentAndDepartment(studentId, userDepartmentId)
+            courseViewModel.getCourseListItems(new CourseQuery("", userDepartmentId, studentId, true))
                     .observe(getViewLifecycleOwner(), courses -> {
+                screenTrace.markFirstData();
                 if (courses != null && !courses.isEmpty()) {
                     // Show only first 3 registered courses
                     int maxItems = Math.min(courses.size(), 3);
@@ -191,7 +197,7 @@ public class DashboardFragment extends Fragment {
     /**
      * Navigate to course detail page when a course item is clicked
      */
-    private void navigateToCourseDetail(Course course) {
+    private void navigateToCourseDetail(CourseListItem course) {
         Bundle args = new Bundle();
         args.putInt("courseId", course.getCourseId());
         Navigation.findNavController(requireView()).navigate(R.id.action_nav_dashboard_to_courseDetailFragment, args);
@@ -20,22 +20,21 @@ import androidx.core.content.ContextCompat;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
 
-import com.bumptech.glide.Glide;
 import com.example.student3.R;
 import com.example.student3.databinding.FragmentProfileBinding;
 import com.example.student3.model.Student;
 import com.example.student3.model.Department;
+import com.example.student3.utils.AvatarCache;
+import com.example.student3.utils.ImageUtils;
 import com.example.student3.utils.UserSession;
 import com.example.student3.viewmodel.StudentViewModel;
 import com.example.student3.viewmodel.DepartmentViewModel;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
+import java.util.concurrent.Future;
 
 /**
  * ProfileFragment displays and manages the current user's profile information.
@@ -57,50 +56,13 @@ public class ProfileFragment extends Fragment {
     private DepartmentViewModel departmentViewModel;
     private UserSession userSession;
     private Student currentStudent;
+    private Future<ImageUtils.PipelineStats> pendingImageTask;
     private final ActivityResultLauncher<Intent> imagePickerLauncher = registerForActivityResult(
             new ActivityResultContracts.StartActivityForResult(), result -> {
                 if (result.getResultCode() == requireActivity().RESULT_OK && result.getData() != null) {
                     Uri selectedImageUri = result.getData().getData();
                     if (selectedImageUri != null) {
-                        try {
-                            String imagePath = saveImageToInternalStorage(selectedImageUri);
-                            android.util.Log.d("ProfileFragment", "Image saved to: " + imagePath);
-
-                            // Verify the file exists before proceeding
-                            File savedImageFile = new File(imagePath);
-                            if (!savedImageFile.exists()) {
-                                throw new Exception("Saved image file does not exist: " + imagePath);
-                            }
-
-                            android.util.Log.d("ProfileFragment", "Saved file verified. Size: " + savedImageFile.length() + " bytes");
-
-                            if (currentStudent != null) {
-                                // Update profile image path in database using student ID
-                                int studentId = currentStudent.getStudentId();
-                                android.util.Log.d("ProfileFragment", "Updating profile image for student ID: " + studentId + " with path: " + imagePath);
-
-                                // Update database with new image path
-                                studentViewModel.updateProfileImagePath(studentId, imagePath);
-                                android.util.Log.d("ProfileFragment", "Updated profile image path in database");
-
-                                // Update UserSession with just the image path (preserve all other data)
-                                userSession.updateProfileImagePath(imagePath);
-                                android.util.Log.d("ProfileFragment", "Updated UserSession with new image path");
-
-                                // Update current student object to keep UI in sync
-                                currentStudent.setProfileImagePath(imagePath);
-                                android.util.Log.d("ProfileFragment", "Updated currentStudent object with new image path");
-
-                                // Load image from saved file path
-                                Glide.with(this).load(savedImageFile).circleCrop().into(binding.ivProfileImage);
-                                android.util.Log.d("ProfileFragment", "Image loaded in UI from: " + imagePath);
-
-                                Toast.makeText(getContext(), R.string.profile_image_updated, Toast.LENGTH_SHORT).show();
-                            }
-                        } catch (Exception e) {
-                            android.util.Log.e("ProfileFragment", "Error saving image: " + e.getMessage(), e);
-                            Toast.makeText(getContext(), getString(R.string.error_saving_image, e.getMessage()), Toast.LENGTH_SHORT).show();
-                        }
+                        saveImageToInternalStorage(selectedImageUri);
                     }
                 }
             });
@@ -191,7 +153,8 @@ public class ProfileFragment extends Fragment {
             android.util.Log.d("ProfileFragment", "Image file exists: " + imageFile.exists() + ", Path: " + imageFile.getAbsolutePath());
 
             if (imageFile.exists()) {
-                Glide.with(this).load(imageFile).circleCrop().into(binding.ivProfileImage);
+                AvatarCache.getInstance(requireContext())
+                        .loadInto(this, student.getStudentId(), imageFile, binding.ivProfileImage);
                 android.util.Log.d("ProfileFragment", "Loading image from file: " + profileImagePath);
             } else {
                 android.util.Log.w("ProfileFragment", "Image file does not exist: " + profileImagePath);
@@ -223,48 +186,74 @@ public class ProfileFragment extends Fragment {
         imagePickerLauncher.launch(intent);
     }
 
-    private String saveImageToInternalStorage(Uri imageUri) throws Exception {
-        InputStream inputStream = requireContext().getContentResolver().openInputStream(imageUri);
-        if (inputStream == null) throw new Exception("Cannot open input stream");
+    /**
+     * Compress the picked image into the profile image file off the main thread,
+     * then record the new path once the file is in place
+     */
+    private void saveImageToInternalStorage(Uri imageUri) {
+        if (!ImageUtils.isImageSizeValid(requireContext(), imageUri)) {
+            Toast.makeText(getContext(), R.string.image_too_large, Toast.LENGTH_SHORT).show();
+            return;
+        }
 
         // Use a fixed filename to avoid creating multiple files - this allows unlimited image changes
         String imageFileName = "profile_image_" + userSession.getCurrentUserId() + ".jpg";
-        File storageDir = requireContext().getFilesDir();
-        File imageFile = new File(storageDir, imageFileName);
-
-        // Always delete existing file if it exists to ensure clean replacement
-        if (imageFile.exists()) {
-            boolean deleted = imageFile.delete();
-            android.util.Log.d("ProfileFragment", "Deleted existing profile image: " + deleted);
-            if (!deleted) {
-                android.util.Log.w("ProfileFragment", "Warning: Could not delete existing image file");
-            }
-        }
+        File imageFile = new File(requireContext().getFilesDir(), imageFileName);
 
-        // Create new image file
-        try (OutputStream outputStream = new FileOutputStream(imageFile)) {
-            byte[] buffer = new byte[4096]; // Increased buffer size for better performance
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buffer)) != -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
-            outputStream.flush(); // Ensure data is written to disk
-        } finally {
-            inputStream.close();
+        if (pendingImageTask != null) {
+            pendingImageTask.cancel(true);
         }
+        pendingImageTask = ImageUtils.compressImageAsync(requireContext(), imageUri, imageFile,
+                ImageUtils.TARGET_AVATAR_BYTES, new ImageUtils.CompressionCallback() {
+                    @Override
+                    public void onImageCompressed(File outputFile, ImageUtils.PipelineStats stats) {
+                        android.util.Log.d("ProfileFragment", "Image saved: " + stats);
+                        onProfileImageSaved(outputFile);
+                    }
 
-        // Verify the file was created and has content
-        if (!imageFile.exists() || imageFile.length() == 0) {
-            throw new Exception("Failed to save image file properly");
+                    @Override
+                    public void onImageCompressionFailed(Exception error) {
+                        android.util.Log.e("ProfileFragment", "Error saving image: " + error.getMessage(), error);
+                        if (binding != null) {
+                            Toast.makeText(getContext(), getString(R.string.error_saving_image, error.getMessage()),
+                                    Toast.LENGTH_SHORT).show();
+                        }
+                    }
+                });
+    }
+
+    private void onProfileImageSaved(File savedImageFile) {
+        if (binding == null || currentStudent == null) {
+            return;
         }
+        String imagePath = savedImageFile.getAbsolutePath();
+
+        // Update profile image path in database using student ID
+        int studentId = currentStudent.getStudentId();
+        studentViewModel.updateProfileImagePath(studentId, imagePath);
+
+        // Update UserSession with just the image path (preserve all other data)
+        userSession.updateProfileImagePath(imagePath);
 
-        android.util.Log.d("ProfileFragment", "Image saved successfully. Size: " + imageFile.length() + " bytes, Path: " + imageFile.getAbsolutePath());
-        return imageFile.getAbsolutePath();
+        // Update current student object to keep UI in sync
+        currentStudent.setProfileImagePath(imagePath);
+
+        // The file name is reused; the cache keys thumbnails on the file's version
+        AvatarCache avatarCache = AvatarCache.getInstance(requireContext());
+        avatarCache.precompute(studentId, savedImageFile);
+        avatarCache.loadInto(this, studentId, savedImageFile, binding.ivProfileImage);
+
+        Toast.makeText(getContext(), R.string.profile_image_updated, Toast.LENGTH_SHORT).show();
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        if (pendingImageTask != null) {
+            pendingImageTask.cancel(true);
+            pendingImageTask = null;
+        }
+        ImageUtils.releaseCachedBitmaps();
         binding = null;
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package com.example.student3.ui.schedule;
 
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Editable;
 import android.text.TextWatcher;
 import android.view.LayoutInflater;
 import android.view.View;
+import android.util.LruCache;
 import android.view.ViewGroup;
 import android.widget.CalendarView;
 import android.widget.Toast;
@@ -21,11 +24,21 @@ import com.example.student3.adapter.PeriodAdapter;
 import com.example.student3.databinding.FragmentScheduleBinding;
 import com.example.student3.model.Registration;
 import com.example.student3.model.Course;
+import com.example.student3.model.Semester;
+import com.example.student3.utils.ClassOccurrenceGenerator;
+import com.example.student3.utils.EpochDay;
+import com.example.student3.utils.HolidayCalendar;
+import com.example.student3.utils.MonthOccupancyIndex;
+import com.example.student3.utils.PerfTrace;
+import com.example.student3.utils.ScheduleSearchIndex;
+import com.example.student3.utils.ScreenMetrics;
 import com.example.student3.utils.UserSession;
 import com.example.student3.utils.ScheduleUtils;
+import com.example.student3.utils.WeeklyTimeline;
 import com.example.student3.viewmodel.RegistrationViewModel;
 import com.example.student3.viewmodel.CourseViewModel;
 import com.example.student3.viewmodel.InstructorViewModel;
+import com.example.student3.viewmodel.SemesterViewModel;
 import com.google.android.material.tabs.TabLayout;
 
 import java.text.SimpleDateFormat;
@@ -35,13 +48,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * ScheduleFragment displays the student's course schedule.
  *
  * Features:
  * - Shows enrolled courses with time slots
- * - Weekly calendar view
+ * - Search filtering on a background thread against a prebuilt index
+ * - Monthly calendar view backed by a per-month occupancy index
  * - Course conflict detection
  * - Quick access to course details
  *
@@ -51,17 +68,61 @@ import java.util.Map;
  */
 public class ScheduleFragment extends Fragment {
 
+    // Number of months whose occupancy index is kept in memory
+    private static final int MONTH_INDEX_CACHE_SIZE = 6;
+    private static final int NO_SELECTED_DAY = Integer.MIN_VALUE;
+    // Countdowns within this many minutes are shown instead of the start time
+    private static final int COUNTDOWN_WINDOW_MINUTES = WeeklyTimeline.MINUTES_PER_DAY;
+
+    // Trace sections for building the schedule
+    private static final String TRACE_SEARCH_INDEX = "ScheduleFragment.buildSearchIndex";
+    private static final String TRACE_WEEKLY_TIMELINE = "ScheduleFragment.rebuildWeeklyTimeline";
+    private static final String TRACE_OCCURRENCES = "ScheduleFragment.buildOccurrenceGenerator";
+    private static final String TRACE_MONTH_INDEX = "ScheduleFragment.buildMonthIndex";
+
     private FragmentScheduleBinding binding;
     private RegistrationViewModel registrationViewModel;
     private CourseViewModel courseViewModel;
     private InstructorViewModel instructorViewModel;
+    private SemesterViewModel semesterViewModel;
     private ScheduleAdapter scheduleAdapter;
     private PeriodAdapter periodAdapter;
     private UserSession userSession;
+    private ScreenMetrics.ScreenTrace screenTrace;
     private Map<Integer, Course> courseMap = new HashMap<>();
     private Map<Integer, String> instructorMap = new HashMap<>();
     private List<Registration> allRegistrations = new ArrayList<>();
     private List<Registration> filteredRegistrations = new ArrayList<>();
+    private Map<Integer, Semester> semesterMap = new HashMap<>();
+
+    // Calendar occupancy is built on calendarExecutor and handed back via mainHandler
+    private ExecutorService calendarExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final LruCache<Integer, MonthOccupancyIndex> monthIndexCache = new LruCache<>(MONTH_INDEX_CACHE_SIZE);
+    private HolidayCalendar holidayCalendar = HolidayCalendar.NONE;
+    private ClassOccurrenceGenerator occurrenceGenerator;
+    private int occurrenceGeneration;
+    private int displayedYear;
+    private int displayedMonth;
+    private int selectedDay = NO_SELECTED_DAY;
+
+    // Filtering runs on searchExecutor; a newer search or index bumps searchGeneration
+    // so stale runs stop early and their results are dropped
+    private ExecutorService searchExecutor;
+    private final AtomicInteger searchGeneration = new AtomicInteger();
+    private ScheduleSearchIndex searchIndex = ScheduleSearchIndex.EMPTY;
+    private List<Registration> indexedRegistrations = new ArrayList<>();
+
+    // Next/current class comes from the weekly timeline, refreshed once a minute
+    private WeeklyTimeline weeklyTimeline = WeeklyTimeline.EMPTY;
+    private final Runnable nextClassTicker = new Runnable() {
+        @Override
+        public void run() {
+            updateNextClassIndicator();
+            long now = System.currentTimeMillis();
+            mainHandler.postDelayed(this, 60_000L - now % 60_000L);
+        }
+    };
 
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, ViewGroup container, Bundle savedInstanceState) {
@@ -72,6 +133,7 @@ public class ScheduleFragment extends Fragment {
     @Override
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
+        screenTrace = ScreenMetrics.getInstance(requireContext()).startScreen(ScreenMetrics.SCREEN_SCHEDULE);
 
         initializeComponents();
         setupRecyclerView();
@@ -85,6 +147,7 @@ public class ScheduleFragment extends Fragment {
         registrationViewModel = new ViewModelProvider(this).get(RegistrationViewModel.class);
         courseViewModel = new ViewModelProvider(this).get(CourseViewModel.class);
         instructorViewModel = new ViewModelProvider(this).get(InstructorViewModel.class);
+        semesterViewModel = new ViewModelProvider(this).get(SemesterViewModel.class);
         userSession = new UserSession(requireContext());
     }
 
@@ -92,9 +155,12 @@ public class ScheduleFragment extends Fragment {
         scheduleAdapter = new ScheduleAdapter(new ArrayList<>());
         binding.recyclerSchedule.setLayoutManager(new LinearLayoutManager(getContext()));
         binding.recyclerSchedule.setAdapter(scheduleAdapter);
+        screenTrace.watchFirstBind(binding.recyclerSchedule);
     }
 
     private void setupSearchAndFilter() {
+        searchExecutor = Executors.newSingleThreadExecutor();
+
         // Setup search functionality
         binding.etSearch.addTextChangedListener(new TextWatcher() {
             @Override
@@ -110,29 +176,87 @@ public class ScheduleFragment extends Fragment {
         });
     }
 
-    private void filterSchedule(String query) {
-        if (query.isEmpty()) {
-            filteredRegistrations = new ArrayList<>(allRegistrations);
-        } else {
-            filteredRegistrations = new ArrayList<>();
-            for (Registration registration : allRegistrations) {
-                Course course = courseMap.get(registration.getCourseId());
-                if (course != null) {
-                    String searchText = (course.getCourseCode() + " " + course.getTitle()).toLowerCase();
-                    if (searchText.contains(query.toLowerCase())) {
-                        filteredRegistrations.add(registration);
-                    }
+    /**
+     * Rebuild the search index after the schedule changes and re-apply the current query
+     */
+    private void rebuildSearchIndex() {
+        if (searchExecutor == null) {
+            return;
+        }
+
+        final List<Registration> registrations = new ArrayList<>(allRegistrations);
+        final List<String> rowTexts = new ArrayList<>(registrations.size());
+        for (Registration registration : registrations) {
+            Course course = courseMap.get(registration.getCourseId());
+            rowTexts.add(course != null ? course.getCourseCode() + " " + course.getTitle() : "");
+        }
+
+        final String query = binding.etSearch.getText().toString();
+        final int generation = searchGeneration.incrementAndGet();
+        searchExecutor.execute(() -> {
+            ScheduleSearchIndex index;
+            int[] matches;
+            boolean traced = PerfTrace.begin(TRACE_SEARCH_INDEX);
+            try {
+                index = ScheduleSearchIndex.build(rowTexts);
+                matches = index.search(query, () -> generation != searchGeneration.get());
+            } finally {
+                PerfTrace.end(traced);
+            }
+            mainHandler.post(() -> {
+                if (binding == null) {
+                    return;
+                }
+                searchIndex = index;
+                indexedRegistrations = registrations;
+                if (matches != null && generation == searchGeneration.get()) {
+                    showFilteredRegistrations(selectRows(registrations, matches));
+                } else {
+                    // The user typed while the index was building; search again with the new index
+                    filterSchedule(binding.etSearch.getText().toString());
                 }
+            });
+        });
+    }
+
+    private void filterSchedule(String query) {
+        if (searchExecutor == null) {
+            return;
+        }
+
+        final ScheduleSearchIndex index = searchIndex;
+        final List<Registration> registrations = indexedRegistrations;
+        final int generation = searchGeneration.incrementAndGet();
+        searchExecutor.execute(() -> {
+            int[] matches = index.search(query, () -> generation != searchGeneration.get());
+            if (matches == null) {
+                return;
             }
+            List<Registration> filtered = selectRows(registrations, matches);
+            mainHandler.post(() -> {
+                if (binding != null && generation == searchGeneration.get()) {
+                    showFilteredRegistrations(filtered);
+                }
+            });
+        });
+    }
+
+    private static List<Registration> selectRows(List<Registration> registrations, int[] rows) {
+        List<Registration> selected = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            selected.add(registrations.get(row));
         }
+        return selected;
+    }
+
+    private void showFilteredRegistrations(List<Registration> registrations) {
+        filteredRegistrations = registrations;
 
         // Update adapter with filtered results
         scheduleAdapter.updateScheduleWithInstructors(filteredRegistrations, courseMap, instructorMap);
         updateScheduleSummary();
     }
 
-
-
     private void observeScheduleData() {
         if (userSession.isLoggedIn()) {
             int studentId = userSession.getCurrentUserId();
@@ -140,6 +264,7 @@ public class ScheduleFragment extends Fragment {
             binding.progressBar.setVisibility(View.VISIBLE);
 
             registrationViewModel.getRegistrationsByStudent(studentId).observe(getViewLifecycleOwner(), registrations -> {
+                screenTrace.markFirstData();
                 binding.progressBar.setVisibility(View.GONE);
 
                 if (registrations != null && !registrations.isEmpty()) {
@@ -203,9 +328,9 @@ public class ScheduleFragment extends Fragment {
     private void updateAdapterIfReady(List<Registration> registrations) {
         // Update adapter when we have all courses loaded
         if (courseMap.size() == registrations.size()) {
-            scheduleAdapter.updateScheduleWithInstructors(filteredRegistrations, courseMap, instructorMap);
-            updateScheduleSummary();
-            updateNextClassIndicator();
+            rebuildSearchIndex();
+            rebuildWeeklyTimeline();
+            rebuildOccurrenceGenerator();
         }
     }
 
@@ -222,34 +347,78 @@ public class ScheduleFragment extends Fragment {
         binding.tvTotalCredits.setText("Total Credits: " + totalCredits);
     }
 
+    /**
+     * Rebuild the weekly timeline after the set of registered courses changes
+     */
+    private void rebuildWeeklyTimeline() {
+        boolean traced = PerfTrace.begin(TRACE_WEEKLY_TIMELINE);
+        try {
+            List<ClassOccurrenceGenerator.Meeting> meetings = new ArrayList<>();
+            for (Registration registration : allRegistrations) {
+                Course course = courseMap.get(registration.getCourseId());
+                if (course != null) {
+                    meetings.add(new ClassOccurrenceGenerator.Meeting(course.getCourseId(),
+                            ScheduleUtils.parseDaysMask(course.getDaysOfWeek()),
+                            course.getStartPeriod(), course.getEndPeriod(),
+                            EpochDay.UNBOUNDED_START, EpochDay.UNBOUNDED_END));
+                }
+            }
+            weeklyTimeline = WeeklyTimeline.of(meetings);
+        } finally {
+            PerfTrace.end(traced);
+        }
+        updateNextClassIndicator();
+    }
+
     private void updateNextClassIndicator() {
-        // Find next class for today
-        Calendar now = Calendar.getInstance();
-        int currentDayOfWeek = now.get(Calendar.DAY_OF_WEEK);
-        int currentHour = now.get(Calendar.HOUR_OF_DAY);
+        if (binding == null) {
+            return;
+        }
 
-        Course nextCourse = null;
-        int nextPeriod = Integer.MAX_VALUE;
+        int minuteOfWeek = WeeklyTimeline.minuteOfWeek(Calendar.getInstance());
 
-        for (Registration registration : filteredRegistrations) {
-            Course course = courseMap.get(registration.getCourseId());
-            if (course != null && courseHasClassOnDay(course, currentDayOfWeek)) {
-                if (course.getStartPeriod() > currentHour && course.getStartPeriod() < nextPeriod) {
-                    nextCourse = course;
-                    nextPeriod = course.getStartPeriod();
-                }
-            }
+        int current = weeklyTimeline.findCurrent(minuteOfWeek);
+        if (current != WeeklyTimeline.NOT_FOUND) {
+            binding.tvNextClass.setText(getString(R.string.current_class_countdown,
+                    getCourseCode(weeklyTimeline.getCourseId(current)),
+                    formatDuration(weeklyTimeline.minutesUntilEnd(current, minuteOfWeek))));
+            return;
         }
 
-        if (nextCourse != null) {
-            String nextClassText = nextCourse.getCourseCode() + " at " +
-                                 ScheduleUtils.formatPeriodTime(nextPeriod);
-            binding.tvNextClass.setText(nextClassText);
+        int next = weeklyTimeline.findNext(minuteOfWeek);
+        if (next == WeeklyTimeline.NOT_FOUND) {
+            binding.tvNextClass.setText(R.string.no_upcoming_classes);
+            return;
+        }
+
+        String courseCode = getCourseCode(weeklyTimeline.getCourseId(next));
+        int minutesUntil = weeklyTimeline.minutesUntilStart(next, minuteOfWeek);
+        if (minutesUntil < COUNTDOWN_WINDOW_MINUTES) {
+            binding.tvNextClass.setText(getString(R.string.next_class_countdown,
+                    courseCode, formatDuration(minutesUntil)));
         } else {
-            binding.tvNextClass.setText("No classes today");
+            int start = weeklyTimeline.getStartMinuteOfWeek(next);
+            Calendar day = Calendar.getInstance();
+            // DAY_OF_WEEK is 1 = Sunday; timeline day 0 is Monday
+            day.set(Calendar.DAY_OF_WEEK, (start / WeeklyTimeline.MINUTES_PER_DAY + 1) % 7 + 1);
+            String dayName = new SimpleDateFormat("EEEE", Locale.getDefault()).format(day.getTime());
+            binding.tvNextClass.setText(getString(R.string.next_class_on_day, courseCode, dayName,
+                    ScheduleUtils.formatTime(start % WeeklyTimeline.MINUTES_PER_DAY)));
         }
     }
 
+    private String getCourseCode(int courseId) {
+        Course course = courseMap.get(courseId);
+        return course != null ? course.getCourseCode() : "";
+    }
+
+    private String formatDuration(int minutes) {
+        if (minutes < 60) {
+            return getString(R.string.duration_minutes, minutes);
+        }
+        return getString(R.string.duration_hours_minutes, minutes / 60, minutes % 60);
+    }
+
     private void showEmptyState() {
         binding.recyclerSchedule.setVisibility(View.GONE);
         binding.tvNoSchedule.setVisibility(View.VISIBLE);
@@ -293,6 +462,13 @@ public class ScheduleFragment extends Fragment {
     }
 
     private void setupCalendar() {
+        calendarExecutor = Executors.newSingleThreadExecutor();
+        holidayCalendar = HolidayCalendar.fromIsoDates(getResources().getStringArray(R.array.academic_holidays));
+
+        int today = EpochDay.today();
+        displayedYear = EpochDay.year(today);
+        displayedMonth = EpochDay.month(today);
+
         // Set up calendar view
         binding.calendarView.setOnDateChangeListener(new CalendarView.OnDateChangeListener() {
             @Override
@@ -302,42 +478,171 @@ public class ScheduleFragment extends Fragment {
             }
         });
 
+        // Semester dates bound when each course actually meets
+        semesterViewModel.getAllSemesters().observe(getViewLifecycleOwner(), semesters -> {
+            semesterMap.clear();
+            if (semesters != null) {
+                for (Semester semester : semesters) {
+                    semesterMap.put(semester.getSemesterId(), semester);
+                }
+            }
+            rebuildOccurrenceGenerator();
+        });
+
         // Update current month display
         updateCurrentMonthDisplay();
     }
 
+    /**
+     * Snapshot the loaded courses into weekly meetings and rebuild the occurrence
+     * generator and the displayed month's index in the background.
+     */
+    private void rebuildOccurrenceGenerator() {
+        if (calendarExecutor == null) {
+            return;
+        }
+
+        List<ClassOccurrenceGenerator.Meeting> meetings = new ArrayList<>();
+        for (Registration registration : allRegistrations) {
+            Course course = courseMap.get(registration.getCourseId());
+            if (course == null) continue;
+
+            Semester semester = course.getSemesterId() != null ? semesterMap.get(course.getSemesterId()) : null;
+            meetings.add(ClassOccurrenceGenerator.Meeting.forCourse(course.getCourseId(),
+                    course.getDaysOfWeek(), course.getStartPeriod(), course.getEndPeriod(),
+                    course.getStartDate(), course.getEndDate(),
+                    semester != null ? semester.getStartDate() : null,
+                    semester != null ? semester.getEndDate() : null));
+        }
+
+        final int generation = ++occurrenceGeneration;
+        final HolidayCalendar holidays = holidayCalendar;
+        final int year = displayedYear;
+        final int month = displayedMonth;
+        calendarExecutor.execute(() -> {
+            ClassOccurrenceGenerator generator;
+            MonthOccupancyIndex index;
+            boolean traced = PerfTrace.begin(TRACE_OCCURRENCES);
+            try {
+                generator = new ClassOccurrenceGenerator(meetings, holidays);
+                index = generator.buildMonthIndex(year, month);
+            } finally {
+                PerfTrace.end(traced);
+            }
+            mainHandler.post(() -> {
+                if (binding == null || generation != occurrenceGeneration) {
+                    return;
+                }
+                occurrenceGenerator = generator;
+                monthIndexCache.evictAll();
+                onMonthIndexReady(index);
+                prefetchAdjacentMonths(year, month);
+            });
+        });
+    }
+
+    /**
+     * Build the index for a month in the background unless it is already cached
+     */
+    private void requestMonthIndex(int year, int month) {
+        if (occurrenceGenerator == null || calendarExecutor == null
+                || monthIndexCache.get(MonthOccupancyIndex.monthKey(year, month)) != null) {
+            return;
+        }
+
+        final ClassOccurrenceGenerator generator = occurrenceGenerator;
+        final int generation = occurrenceGeneration;
+        calendarExecutor.execute(() -> {
+            MonthOccupancyIndex index;
+            boolean traced = PerfTrace.begin(TRACE_MONTH_INDEX);
+            try {
+                index = generator.buildMonthIndex(year, month);
+            } finally {
+                PerfTrace.end(traced);
+            }
+            mainHandler.post(() -> {
+                if (binding != null && generation == occurrenceGeneration) {
+                    onMonthIndexReady(index);
+                }
+            });
+        });
+    }
+
+    private void prefetchAdjacentMonths(int year, int month) {
+        requestMonthIndex(month == 1 ? year - 1 : year, month == 1 ? 12 : month - 1);
+        requestMonthIndex(month == 12 ? year + 1 : year, month == 12 ? 1 : month + 1);
+    }
+
+    private void onMonthIndexReady(MonthOccupancyIndex index) {
+        monthIndexCache.put(MonthOccupancyIndex.monthKey(index.getYear(), index.getMonth()), index);
+
+        if (index.getYear() == displayedYear && index.getMonth() == displayedMonth) {
+            updateCurrentMonthDisplay();
+        }
+        if (selectedDay != NO_SELECTED_DAY && index.contains(selectedDay)) {
+            showCoursesForSelectedDay(index);
+        }
+    }
+
     private void updateCurrentMonthDisplay() {
         Calendar calendar = Calendar.getInstance();
+        calendar.set(displayedYear, displayedMonth - 1, 1);
         SimpleDateFormat monthFormat = new SimpleDateFormat("MMMM yyyy", Locale.getDefault());
         String currentMonth = monthFormat.format(calendar.getTime());
-        binding.tvCurrentMonth.setText(currentMonth);
+
+        // CalendarView cannot decorate individual days, so busy days are summarised in the header
+        MonthOccupancyIndex index = monthIndexCache.get(MonthOccupancyIndex.monthKey(displayedYear, displayedMonth));
+        if (index != null) {
+            binding.tvCurrentMonth.setText(getString(R.string.calendar_month_summary,
+                    currentMonth, index.getBusyDayCount()));
+        } else {
+            binding.tvCurrentMonth.setText(currentMonth);
+        }
     }
 
     private void showPeriodsForDate(int year, int month, int dayOfMonth) {
-        // Get day of week (1 = Sunday, 2 = Monday, etc.)
         Calendar calendar = Calendar.getInstance();
         calendar.set(year, month - 1, dayOfMonth);
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-
-        // Convert to our format (1 = Monday, 2 = Tuesday, etc.)
-        String dayName = getDayName(dayOfWeek);
 
         // Format the selected date correctly
         SimpleDateFormat dateFormat = new SimpleDateFormat("EEEE, MM/dd/yyyy", Locale.getDefault());
         String formattedDate = dateFormat.format(calendar.getTime());
         binding.tvSelectedDate.setText(formattedDate);
 
+        selectedDay = EpochDay.of(year, month, dayOfMonth);
+        if (year != displayedYear || month != displayedMonth) {
+            displayedYear = year;
+            displayedMonth = month;
+            updateCurrentMonthDisplay();
+            prefetchAdjacentMonths(year, month);
+        }
+
+        // Show the selected date info section
+        binding.layoutSelectedDateInfo.setVisibility(View.VISIBLE);
+        // Hide the instruction text
+        binding.tvCalendarInstruction.setVisibility(View.GONE);
+
+        MonthOccupancyIndex index = monthIndexCache.get(MonthOccupancyIndex.monthKey(year, month));
+        if (index != null) {
+            showCoursesForSelectedDay(index);
+        } else {
+            // The list is filled in by onMonthIndexReady once the month has been built
+            binding.recyclerDatePeriods.setVisibility(View.GONE);
+            binding.tvNoPeriods.setVisibility(View.GONE);
+            requestMonthIndex(year, month);
+        }
+    }
+
+    private void showCoursesForSelectedDay(MonthOccupancyIndex index) {
         // Find courses that have classes on this day
         List<Course> coursesForDay = new ArrayList<>();
-        for (Course course : courseMap.values()) {
-            if (course != null && courseHasClassOnDay(course, dayOfWeek)) {
+        for (int courseId : index.getCourseIds(selectedDay)) {
+            Course course = courseMap.get(courseId);
+            if (course != null) {
                 coursesForDay.add(course);
             }
         }
 
-        // Show the selected date info section
-        binding.layoutSelectedDateInfo.setVisibility(View.VISIBLE);
-
         if (!coursesForDay.isEmpty()) {
             // Setup period adapter if not already done
             if (periodAdapter == null) {
@@ -354,52 +659,40 @@ public class ScheduleFragment extends Fragment {
             // No classes for this day
             binding.recyclerDatePeriods.setVisibility(View.GONE);
             binding.tvNoPeriods.setVisibility(View.VISIBLE);
+            binding.tvNoPeriods.setText(occurrenceGenerator != null && occurrenceGenerator.isHoliday(selectedDay)
+                    ? R.string.calendar_holiday : R.string.no_classes_for_day);
         }
-
-        // Hide the instruction text
-        binding.tvCalendarInstruction.setVisibility(View.GONE);
     }
 
-    private String getDayName(int dayOfWeek) {
-        switch (dayOfWeek) {
-            case Calendar.SUNDAY: return "Sunday";
-            case Calendar.MONDAY: return "Monday";
-            case Calendar.TUESDAY: return "Tuesday";
-            case Calendar.WEDNESDAY: return "Wednesday";
-            case Calendar.THURSDAY: return "Thursday";
-            case Calendar.FRIDAY: return "Friday";
-            case Calendar.SATURDAY: return "Saturday";
-            default: return "Unknown";
-        }
+    @Override
+    public void onResume() {
+        super.onResume();
+        mainHandler.removeCallbacks(nextClassTicker);
+        nextClassTicker.run();
     }
 
-    private boolean courseHasClassOnDay(Course course, int dayOfWeek) {
-        String daysOfWeek = course.getDaysOfWeek();
-        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
-            return false;
-        }
-
-        // Convert Calendar day to our day format
-        // Calendar: SUNDAY=1, MONDAY=2, TUESDAY=3, WEDNESDAY=4, THURSDAY=5, FRIDAY=6, SATURDAY=7
-        String dayCode = "";
-        switch (dayOfWeek) {
-            case Calendar.SUNDAY: dayCode = "SUN"; break;
-            case Calendar.MONDAY: dayCode = "MON"; break;
-            case Calendar.TUESDAY: dayCode = "TUE"; break;
-            case Calendar.WEDNESDAY: dayCode = "WED"; break;
-            case Calendar.THURSDAY: dayCode = "THU"; break;
-            case Calendar.FRIDAY: dayCode = "FRI"; break;
-            case Calendar.SATURDAY: dayCode = "SAT"; break;
-        }
-
-        // Check if the course's days of week contains this day
-        // The course days are stored as comma-separated values like "TUE,THU"
-        return daysOfWeek.toUpperCase().contains(dayCode);
+    @Override
+    public void onPause() {
+        super.onPause();
+        mainHandler.removeCallbacks(nextClassTicker);
     }
 
     @Override
     public void onDestroyView() {
         super.onDestroyView();
+        mainHandler.removeCallbacksAndMessages(null);
+        if (calendarExecutor != null) {
+            calendarExecutor.shutdownNow();
+            calendarExecutor = null;
+        }
+        if (searchExecutor != null) {
+            searchGeneration.incrementAndGet();
+            searchExecutor.shutdownNow();
+            searchExecutor = null;
+        }
+        occurrenceGenerator = null;
+        monthIndexCache.evictAll();
+        selectedDay = NO_SELECTED_DAY;
         binding = null;
     }
 }
\ No newline at end of file
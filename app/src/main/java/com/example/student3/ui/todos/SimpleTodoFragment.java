@@ -177,9 +177,8 @@ public class SimpleTodoFragment extends Fragment implements SimpleTodoAdapter.On
     }
     
     @Override
-    public void onTodoToggle(SimpleTodo todo, boolean isCompleted) {
-        todo.setCompleted(isCompleted);
-        todoViewModel.update(todo);
+    public void onTodoToggle(int todoId, boolean isCompleted) {
+        todoViewModel.toggleCompletionStatus(todoId, isCompleted);
         
         String message = isCompleted ? "Task completed!" : "Task marked as pending";
         Toast.makeText(getContext(), message, Toast.LENGTH_SHORT).show();
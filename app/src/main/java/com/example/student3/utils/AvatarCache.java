@@ -0,0 +1,284 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapShader;
+import android.graphics.Canvas;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.Shader;
+import android.util.Log;
+import android.util.LruCache;
+import android.widget.ImageView;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.fragment.app.Fragment;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.example.student3.R;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cache of circle-cropped profile thumbnails.
+ *
+ * Thumbnails are keyed by student ID, the version of the source file (its timestamp
+ * and length) and the pixel size, so replacing the image under the same path can
+ * never show a stale picture. Lookups go through an in-memory LRU sized in bytes, then
+ * a thumbnail file in the cache directory, and only decode the full source image when
+ * neither has that version. Glide loads {@link Avatar} models through
+ * {@link AvatarModelLoader}, whose cache key is the same versioned key.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class AvatarCache {
+    private static final String TAG = "AvatarCache";
+    private static final String DISK_DIR_NAME = "avatars";
+
+    // Sizes the avatar is displayed at; thumbnails for all of them are built together
+    public static final int PROFILE_AVATAR_DP = 120;
+    private static final int[] DISPLAY_SIZES_DP = {PROFILE_AVATAR_DP};
+
+    private static AvatarCache instance;
+
+    private final Context context;
+    private final File diskDir;
+    private final LruCache<String, Bitmap> memoryCache;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final Paint circlePaint = new Paint(Paint.ANTI_ALIAS_FLAG | Paint.FILTER_BITMAP_FLAG);
+
+    private AvatarCache(Context context) {
+        this.context = context.getApplicationContext();
+        this.diskDir = new File(this.context.getCacheDir(), DISK_DIR_NAME);
+
+        int maxBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, Integer.MAX_VALUE);
+        memoryCache = new LruCache<String, Bitmap>(maxBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap value) {
+                return value.getAllocationByteCount();
+            }
+        };
+
+        Glide.get(this.context).getRegistry()
+                .prepend(Avatar.class, Bitmap.class, new AvatarModelLoader.Factory(this));
+    }
+
+    public static synchronized AvatarCache getInstance(Context context) {
+        if (instance == null) {
+            instance = new AvatarCache(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Describe the avatar of a student at a display size in dp
+     */
+    public Avatar avatarFor(int studentId, File source, int sizeDp) {
+        int sizePx = Math.round(sizeDp * context.getResources().getDisplayMetrics().density);
+        return new Avatar(studentId, source, sizePx);
+    }
+
+    /**
+     * Load a student's avatar into an ImageView, falling back to the default icon
+     */
+    public void loadInto(Fragment fragment, int studentId, @Nullable File source, ImageView target) {
+        if (source == null || !source.exists()) {
+            Glide.with(fragment).clear(target);
+            target.setImageResource(R.drawable.ic_profile);
+            return;
+        }
+
+        // Our own tiers hold the thumbnails, so Glide only keeps its memory cache
+        Glide.with(fragment)
+                .asBitmap()
+                .load(avatarFor(studentId, source, PROFILE_AVATAR_DP))
+                .diskCacheStrategy(DiskCacheStrategy.NONE)
+                .dontTransform()
+                .placeholder(R.drawable.ic_profile)
+                .error(R.drawable.ic_profile)
+                .into(target);
+    }
+
+    /**
+     * Build the thumbnails for every display size in the background, e.g. right after
+     * a new profile image is saved, so the first view is already a cache hit
+     */
+    public void precompute(int studentId, File source) {
+        executor.execute(() -> {
+            for (int sizeDp : DISPLAY_SIZES_DP) {
+                try {
+                    get(avatarFor(studentId, source, sizeDp));
+                } catch (IOException e) {
+                    Log.w(TAG, "Could not precompute avatar for student " + studentId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Get the thumbnail for an avatar, building it if no tier has this version
+     */
+    @WorkerThread
+    public synchronized Bitmap get(Avatar avatar) throws IOException {
+        String key = avatar.getCacheKey();
+        Bitmap bitmap = memoryCache.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+
+        File thumbnail = new File(diskDir, key + ".png");
+        if (thumbnail.exists()) {
+            bitmap = BitmapFactory.decodeFile(thumbnail.getAbsolutePath());
+        }
+        if (bitmap == null) {
+            bitmap = createThumbnail(avatar.source, avatar.sizePx);
+            writeThumbnail(bitmap, thumbnail, avatar.studentId);
+        }
+
+        evictOtherVersions(avatar);
+        memoryCache.put(key, bitmap);
+        return bitmap;
+    }
+
+    private Bitmap createThumbnail(File source, int sizePx) throws IOException {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(source.getAbsolutePath(), options);
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            throw new IOException("Cannot decode " + source.getName());
+        }
+
+        // Largest power-of-two sample that still covers the thumbnail
+        int shortSide = Math.min(options.outWidth, options.outHeight);
+        int sampleSize = 1;
+        while (shortSide / (sampleSize * 2) >= sizePx) {
+            sampleSize *= 2;
+        }
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+        Bitmap decoded = BitmapFactory.decodeFile(source.getAbsolutePath(), options);
+        if (decoded == null) {
+            throw new IOException("Cannot decode " + source.getName());
+        }
+
+        // Centre-crop into a circle in one draw
+        float scale = (float) sizePx / Math.min(decoded.getWidth(), decoded.getHeight());
+        Matrix matrix = new Matrix();
+        matrix.setScale(scale, scale);
+        matrix.postTranslate((sizePx - decoded.getWidth() * scale) / 2f, (sizePx - decoded.getHeight() * scale) / 2f);
+        BitmapShader shader = new BitmapShader(decoded, Shader.TileMode.CLAMP, Shader.TileMode.CLAMP);
+        shader.setLocalMatrix(matrix);
+
+        Bitmap thumbnail = Bitmap.createBitmap(sizePx, sizePx, Bitmap.Config.ARGB_8888);
+        circlePaint.setShader(shader);
+        new Canvas(thumbnail).drawCircle(sizePx / 2f, sizePx / 2f, sizePx / 2f, circlePaint);
+        circlePaint.setShader(null);
+        decoded.recycle();
+        return thumbnail;
+    }
+
+    private void writeThumbnail(Bitmap bitmap, File thumbnail, int studentId) {
+        if (!diskDir.exists() && !diskDir.mkdirs()) {
+            Log.w(TAG, "Could not create avatar cache directory");
+            return;
+        }
+        File tempFile = new File(diskDir, thumbnail.getName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tempFile)) {
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, out);
+        } catch (IOException e) {
+            Log.w(TAG, "Could not write avatar thumbnail for student " + studentId, e);
+            tempFile.delete();
+            return;
+        }
+        if (!tempFile.renameTo(thumbnail)) {
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * Remove thumbnails of older versions of this student's image from both tiers
+     */
+    private void evictOtherVersions(Avatar avatar) {
+        String studentPrefix = avatar.studentId + "_";
+        String versionPrefix = avatar.getVersionPrefix();
+
+        for (String key : memoryCache.snapshot().keySet()) {
+            if (key.startsWith(studentPrefix) && !key.startsWith(versionPrefix)) {
+                memoryCache.remove(key);
+            }
+        }
+
+        File[] files = diskDir.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith(studentPrefix) && !name.startsWith(versionPrefix) && !file.delete()) {
+                Log.w(TAG, "Could not delete old avatar thumbnail " + name);
+            }
+        }
+    }
+
+    /**
+     * Glide model for a student's avatar at one pixel size. The source file's
+     * timestamp and length are captured when the model is created.
+     */
+    public static final class Avatar {
+        private final int studentId;
+        private final File source;
+        private final long version;
+        private final long length;
+        private final int sizePx;
+
+        Avatar(int studentId, File source, int sizePx) {
+            this.studentId = studentId;
+            this.source = source;
+            this.version = source.lastModified();
+            this.length = source.length();
+            this.sizePx = sizePx;
+        }
+
+        public int getStudentId() {
+            return studentId;
+        }
+
+        /**
+         * Key shared by the memory tier, the thumbnail file name and Glide
+         */
+        public String getCacheKey() {
+            return getVersionPrefix() + sizePx;
+        }
+
+        String getVersionPrefix() {
+            return studentId + "_" + version + "_" + length + "_";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Avatar)) return false;
+            Avatar other = (Avatar) o;
+            return studentId == other.studentId && version == other.version
+                    && length == other.length && sizePx == other.sizePx;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(studentId, version, length, sizePx);
+        }
+
+        @Override
+        public String toString() {
+            return "Avatar{" + getCacheKey() + "}";
+        }
+    }
+}
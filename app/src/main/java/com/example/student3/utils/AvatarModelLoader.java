@@ -0,0 +1,99 @@
+package com.example.student3.utils;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Priority;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.Options;
+import com.bumptech.glide.load.data.DataFetcher;
+import com.bumptech.glide.load.model.ModelLoader;
+import com.bumptech.glide.load.model.ModelLoaderFactory;
+import com.bumptech.glide.load.model.MultiModelLoaderFactory;
+import com.bumptech.glide.signature.ObjectKey;
+
+/**
+ * Glide model loader that serves {@link AvatarCache.Avatar} models from {@link AvatarCache}.
+ *
+ * The load key is the avatar's versioned cache key, so Glide's memory cache is
+ * invalidated whenever the source file changes. The thumbnail bitmaps belong to
+ * AvatarCache; Glide treats them as not owned and never recycles them.
+ */
+class AvatarModelLoader implements ModelLoader<AvatarCache.Avatar, Bitmap> {
+    private final AvatarCache cache;
+
+    AvatarModelLoader(AvatarCache cache) {
+        this.cache = cache;
+    }
+
+    @Nullable
+    @Override
+    public LoadData<Bitmap> buildLoadData(@NonNull AvatarCache.Avatar avatar, int width, int height,
+                                          @NonNull Options options) {
+        return new LoadData<>(new ObjectKey(avatar.getCacheKey()), new AvatarFetcher(cache, avatar));
+    }
+
+    @Override
+    public boolean handles(@NonNull AvatarCache.Avatar avatar) {
+        return true;
+    }
+
+    static class Factory implements ModelLoaderFactory<AvatarCache.Avatar, Bitmap> {
+        private final AvatarCache cache;
+
+        Factory(AvatarCache cache) {
+            this.cache = cache;
+        }
+
+        @NonNull
+        @Override
+        public ModelLoader<AvatarCache.Avatar, Bitmap> build(@NonNull MultiModelLoaderFactory multiFactory) {
+            return new AvatarModelLoader(cache);
+        }
+
+        @Override
+        public void teardown() {
+        }
+    }
+
+    private static class AvatarFetcher implements DataFetcher<Bitmap> {
+        private final AvatarCache cache;
+        private final AvatarCache.Avatar avatar;
+
+        AvatarFetcher(AvatarCache cache, AvatarCache.Avatar avatar) {
+            this.cache = cache;
+            this.avatar = avatar;
+        }
+
+        @Override
+        public void loadData(@NonNull Priority priority, @NonNull DataCallback<? super Bitmap> callback) {
+            try {
+                callback.onDataReady(cache.get(avatar));
+            } catch (Exception e) {
+                callback.onLoadFailed(e);
+            }
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+        @NonNull
+        @Override
+        public Class<Bitmap> getDataClass() {
+            return Bitmap.class;
+        }
+
+        @NonNull
+        @Override
+        public DataSource getDataSource() {
+            return DataSource.LOCAL;
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+import androidx.work.Data;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+
+import com.example.student3.R;
+import com.example.student3.database.AppDatabase;
+import com.example.student3.model.Course;
+import com.example.student3.model.Registration;
+import com.example.student3.model.Semester;
+import com.example.student3.worker.ClassReminderWorker;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps exactly one class reminder armed for the logged-in student.
+ *
+ * Registered courses are kept as a {@link WeeklyTimeline}. Only the next upcoming
+ * meeting gets a WorkManager request; when it fires, {@link ClassReminderWorker}
+ * shows the notification and asks for the following one. Registration changes
+ * add or remove a single course from the timeline instead of reloading the week,
+ * and the work request is only replaced if the next reminder actually moved.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0 - Class Reminders
+ * @since 2025
+ */
+public class ClassReminderScheduler {
+    private static final String TAG = "ClassReminderScheduler";
+    static final String WORK_NAME = "class_reminder_work";
+    private static final String PREF_NAME = "class_reminder_prefs";
+    private static final String KEY_ARMED_COURSE_ID = "armed_course_id";
+    private static final String KEY_ARMED_TRIGGER_TIME = "armed_trigger_time";
+
+    public static final String KEY_COURSE_ID = "course_id";
+    public static final String KEY_CLASS_START_TIME = "class_start_time";
+
+    // How long before class the reminder is shown
+    public static final int REMINDER_LEAD_MINUTES = 15;
+    // Stop looking after this many weeks, e.g. between semesters
+    private static final int MAX_WEEKS_AHEAD = 12;
+    private static final int NO_STUDENT = -1;
+
+    private static ClassReminderScheduler instance;
+
+    private final Context context;
+    private final AppDatabase database;
+    private final SharedPreferences preferences;
+    private final HolidayCalendar holidays;
+
+    // Guarded by this
+    private int loadedStudentId = NO_STUDENT;
+    private WeeklyTimeline timeline = WeeklyTimeline.EMPTY;
+    private final Map<Integer, ClassOccurrenceGenerator.Meeting> meetingsByCourse = new HashMap<>();
+
+    private ClassReminderScheduler(Context context) {
+        this.context = context.getApplicationContext();
+        this.database = AppDatabase.getDatabase(this.context);
+        this.preferences = this.context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.holidays = HolidayCalendar.fromIsoDates(
+                this.context.getResources().getStringArray(R.array.academic_holidays));
+    }
+
+    /**
+     * Get singleton instance
+     */
+    public static synchronized ClassReminderScheduler getInstance(Context context) {
+        if (instance == null) {
+            instance = new ClassReminderScheduler(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Reload the current student's courses and arm the next reminder
+     */
+    public void rescheduleAll() {
+        AppDatabase.databaseWriteExecutor.execute(() -> {
+            synchronized (this) {
+                reload();
+                armNext(System.currentTimeMillis());
+            }
+        });
+    }
+
+    /**
+     * Update the timeline for one registration and re-arm if the next reminder moved
+     * @param registration The inserted, updated or deleted registration
+     * @param removed true if the registration was deleted
+     */
+    public void onRegistrationChanged(Registration registration, boolean removed) {
+        int studentId = registration.getStudentId();
+        int courseId = registration.getCourseId();
+        boolean active = !removed && "REGISTERED".equals(registration.getStatus());
+
+        AppDatabase.databaseWriteExecutor.execute(() -> {
+            synchronized (this) {
+                if (studentId != loadedStudentId) {
+                    // Another student's registration or nothing loaded yet
+                    if (studentId == currentStudentId()) {
+                        reload();
+                        armNext(System.currentTimeMillis());
+                    }
+                    return;
+                }
+
+                timeline = timeline.withoutCourse(courseId);
+                meetingsByCourse.remove(courseId);
+                if (active) {
+                    Course course = database.courseDao().getCourseByIdSync(courseId);
+                    if (course != null) {
+                        addCourse(course, loadSemesters());
+                    }
+                }
+                armNext(System.currentTimeMillis());
+            }
+        });
+    }
+
+    /**
+     * Arm the reminder after the one that just fired. Called on the worker's thread.
+     */
+    public synchronized void onReminderFired() {
+        if (loadedStudentId != currentStudentId()) {
+            reload();
+        }
+        armNext(System.currentTimeMillis());
+    }
+
+    /**
+     * Cancel the armed reminder and forget the loaded schedule
+     */
+    public synchronized void cancel() {
+        WorkManager.getInstance(context).cancelUniqueWork(WORK_NAME);
+        preferences.edit().clear().apply();
+        loadedStudentId = NO_STUDENT;
+        timeline = WeeklyTimeline.EMPTY;
+        meetingsByCourse.clear();
+    }
+
+    private int currentStudentId() {
+        UserSession userSession = new UserSession(context);
+        return userSession.isLoggedIn() ? userSession.getCurrentUserId() : NO_STUDENT;
+    }
+
+    private void reload() {
+        loadedStudentId = currentStudentId();
+        timeline = WeeklyTimeline.EMPTY;
+        meetingsByCourse.clear();
+        if (loadedStudentId == NO_STUDENT) {
+            return;
+        }
+
+        List<Registration> registrations =
+                database.registrationDao().getActiveRegistrationsByStudentSync(loadedStudentId);
+        List<Integer> courseIds = new ArrayList<>(registrations.size());
+        for (Registration registration : registrations) {
+            courseIds.add(registration.getCourseId());
+        }
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Semester> semesters = loadSemesters();
+        for (Course course : database.courseDao().getCoursesByIdsSync(courseIds)) {
+            addCourse(course, semesters);
+        }
+    }
+
+    private Map<Integer, Semester> loadSemesters() {
+        Map<Integer, Semester> semesters = new HashMap<>();
+        for (Semester semester : database.semesterDao().getAllSemestersSync()) {
+            semesters.put(semester.getSemesterId(), semester);
+        }
+        return semesters;
+    }
+
+    private void addCourse(Course course, Map<Integer, Semester> semesters) {
+        Semester semester = course.getSemesterId() != null ? semesters.get(course.getSemesterId()) : null;
+        ClassOccurrenceGenerator.Meeting meeting = ClassOccurrenceGenerator.Meeting.forCourse(
+                course.getCourseId(), course.getDaysOfWeek(), course.getStartPeriod(), course.getEndPeriod(),
+                course.getStartDate(), course.getEndDate(),
+                semester != null ? semester.getStartDate() : null,
+                semester != null ? semester.getEndDate() : null);
+        addMeeting(meeting);
+    }
+
+    private void addMeeting(ClassOccurrenceGenerator.Meeting meeting) {
+        meetingsByCourse.put(meeting.courseId, meeting);
+        timeline = timeline.withCourse(meeting);
+    }
+
+    /**
+     * Replace the loaded schedule without going through the database
+     */
+    @VisibleForTesting
+    synchronized void load(int studentId, List<ClassOccurrenceGenerator.Meeting> meetings) {
+        loadedStudentId = studentId;
+        timeline = WeeklyTimeline.EMPTY;
+        meetingsByCourse.clear();
+        for (ClassOccurrenceGenerator.Meeting meeting : meetings) {
+            addMeeting(meeting);
+        }
+    }
+
+    /**
+     * Replace the armed work request with the next reminder, if it changed
+     */
+    @VisibleForTesting
+    synchronized void armNext(long nowMillis) {
+        Reminder next = findNextReminder(timeline, meetingsByCourse, holidays, nowMillis);
+        if (next == null) {
+            if (preferences.contains(KEY_ARMED_TRIGGER_TIME)) {
+                WorkManager.getInstance(context).cancelUniqueWork(WORK_NAME);
+                preferences.edit().clear().apply();
+                Log.d(TAG, "No upcoming classes, reminder cancelled");
+            }
+            return;
+        }
+
+        if (preferences.getLong(KEY_ARMED_TRIGGER_TIME, 0) == next.triggerAtMillis
+                && preferences.getInt(KEY_ARMED_COURSE_ID, -1) == next.courseId) {
+            return;
+        }
+
+        OneTimeWorkRequest workRequest = new OneTimeWorkRequest.Builder(ClassReminderWorker.class)
+            .setInitialDelay(Math.max(0, next.triggerAtMillis - nowMillis), TimeUnit.MILLISECONDS)
+            .setInputData(new Data.Builder()
+                .putInt(KEY_COURSE_ID, next.courseId)
+                .putLong(KEY_CLASS_START_TIME, next.classStartMillis)
+                .build())
+            .addTag("class_reminders")
+            .build();
+
+        WorkManager.getInstance(context).enqueueUniqueWork(WORK_NAME, ExistingWorkPolicy.REPLACE, workRequest);
+        preferences.edit()
+            .putInt(KEY_ARMED_COURSE_ID, next.courseId)
+            .putLong(KEY_ARMED_TRIGGER_TIME, next.triggerAtMillis)
+            .apply();
+        Log.d(TAG, "Reminder armed for course " + next.courseId);
+    }
+
+    /**
+     * Walk the timeline from now until a meeting falls inside its course dates and off holidays
+     */
+    static Reminder findNextReminder(WeeklyTimeline timeline,
+                                     Map<Integer, ClassOccurrenceGenerator.Meeting> meetingsByCourse,
+                                     HolidayCalendar holidays, long nowMillis) {
+        if (timeline.isEmpty()) {
+            return null;
+        }
+
+        // Classes starting within the lead time are too close to remind about
+        Calendar from = Calendar.getInstance();
+        from.setTimeInMillis(nowMillis + TimeUnit.MINUTES.toMillis(REMINDER_LEAD_MINUTES));
+        int fromDay = EpochDay.fromCalendar(from);
+        int weekStart = fromDay - EpochDay.weekdayIndex(fromDay);
+        int fromMinute = WeeklyTimeline.minuteOfWeek(from);
+
+        int index = timeline.findNext(fromMinute);
+        int week = timeline.getStartMinuteOfWeek(index) > fromMinute ? 0 : 1;
+        for (int n = 0; n < timeline.size() * MAX_WEEKS_AHEAD; n++) {
+            int startMinute = timeline.getStartMinuteOfWeek(index);
+            int day = weekStart + week * 7 + startMinute / WeeklyTimeline.MINUTES_PER_DAY;
+            ClassOccurrenceGenerator.Meeting meeting = meetingsByCourse.get(timeline.getCourseId(index));
+
+            if (meeting != null && meeting.isActiveOn(day) && !holidays.isHoliday(day)) {
+                int[] date = EpochDay.civil(day);
+                Calendar start = Calendar.getInstance();
+                start.clear();
+                start.set(date[0], date[1] - 1, date[2]);
+                start.add(Calendar.MINUTE, startMinute % WeeklyTimeline.MINUTES_PER_DAY);
+
+                long classStart = start.getTimeInMillis();
+                return new Reminder(meeting.courseId, classStart,
+                        classStart - TimeUnit.MINUTES.toMillis(REMINDER_LEAD_MINUTES));
+            }
+
+            if (++index == timeline.size()) {
+                index = 0;
+                week++;
+            }
+        }
+        return null;
+    }
+
+    static class Reminder {
+        final int courseId;
+        final long classStartMillis;
+        final long triggerAtMillis;
+
+        Reminder(int courseId, long classStartMillis, long triggerAtMillis) {
+            this.courseId = courseId;
+            this.classStartMillis = classStartMillis;
+            this.triggerAtMillis = triggerAtMillis;
+        }
+    }
+}
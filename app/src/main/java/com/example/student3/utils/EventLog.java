@@ -0,0 +1,149 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import com.example.student3.BuildConfig;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Structured event log for hot paths, kept in memory for field diagnostics.
+ *
+ * Events go into a process-wide {@link EventRingBuffer} holding the last
+ * {@link #CAPACITY} records. Tags and templates should be constants and the
+ * arguments numbers or existing objects, so logging an event builds no strings;
+ * templates are filled in only when the log is flushed. Debug events are
+ * compiled out of release builds through BuildConfig.EVENT_LOG_DEBUG, which also
+ * echoes every event to logcat in debug builds. Info and warning events are kept
+ * in all builds.
+ *
+ * After {@link #install} the buffer is written to files/diagnostics/events.log
+ * when the app crashes, and {@link #flush} writes it on request.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class EventLog {
+    private static final String TAG = "EventLog";
+
+    static final int CAPACITY = 512;
+    static final String LOG_DIR = "diagnostics";
+    static final String LOG_FILE = "events.log";
+
+    private static final EventRingBuffer events = new EventRingBuffer(CAPACITY);
+    private static volatile File logFile;
+
+    private EventLog() {
+    }
+
+    /**
+     * Set where the log is flushed and flush it on uncaught exceptions before
+     * the previous handler runs. Later calls are ignored.
+     */
+    public static synchronized void install(Context context) {
+        if (logFile != null) {
+            return;
+        }
+        logFile = new File(new File(context.getApplicationContext().getFilesDir(), LOG_DIR), LOG_FILE);
+
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> {
+            record(EventRingBuffer.ERROR, TAG, "Uncaught %s", error.getClass().getName(), 0, 0);
+            flush();
+            if (previous != null) {
+                previous.uncaughtException(thread, error);
+            }
+        });
+    }
+
+    /**
+     * Write the events still held to the log file, replacing its contents. Does
+     * file I/O, so call it off the main thread unless the app is crashing.
+     *
+     * @return The file written, or null if not installed or the write failed
+     */
+    @Nullable
+    public static synchronized File flush() {
+        File file = logFile;
+        if (file == null) {
+            Log.w(TAG, "Not installed; event log not flushed");
+            return null;
+        }
+        File dir = file.getParentFile();
+        try {
+            if (!dir.exists() && !dir.mkdirs()) {
+                throw new IOException("Cannot create " + dir);
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                events.dump(writer);
+            }
+            return file;
+        } catch (IOException e) {
+            Log.w(TAG, "Could not write event log", e);
+            return null;
+        }
+    }
+
+    public static void d(String tag, String template) {
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            record(EventRingBuffer.DEBUG, tag, template, null, 0, 0);
+        }
+    }
+
+    public static void d(String tag, String template, long number) {
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            record(EventRingBuffer.DEBUG, tag, template, null, number, 0);
+        }
+    }
+
+    public static void d(String tag, String template, long firstNumber, long secondNumber) {
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            record(EventRingBuffer.DEBUG, tag, template, null, firstNumber, secondNumber);
+        }
+    }
+
+    public static void d(String tag, String template, Object value) {
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            record(EventRingBuffer.DEBUG, tag, template, value, 0, 0);
+        }
+    }
+
+    public static void d(String tag, String template, Object value, long number) {
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            record(EventRingBuffer.DEBUG, tag, template, value, number, 0);
+        }
+    }
+
+    public static void i(String tag, String template) {
+        record(EventRingBuffer.INFO, tag, template, null, 0, 0);
+    }
+
+    public static void i(String tag, String template, long number) {
+        record(EventRingBuffer.INFO, tag, template, null, number, 0);
+    }
+
+    public static void w(String tag, String template) {
+        record(EventRingBuffer.WARN, tag, template, null, 0, 0);
+    }
+
+    public static void w(String tag, String template, long number) {
+        record(EventRingBuffer.WARN, tag, template, null, number, 0);
+    }
+
+    private static void record(int level, String tag, String template, Object value,
+                               long firstNumber, long secondNumber) {
+        events.record(System.currentTimeMillis(), level, tag, template, value, firstNumber, secondNumber);
+        if (BuildConfig.EVENT_LOG_DEBUG) {
+            Log.println(level, tag, EventRingBuffer.format(template, value, firstNumber, secondNumber));
+        }
+    }
+}
@@ -1,215 +1,651 @@
 package com.example.student3.utils;
 
+import android.content.ContentResolver;
 import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
 import android.graphics.Matrix;
+import android.graphics.Paint;
 import android.media.ExifInterface;
 import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.OpenableColumns;
 import android.util.Log;
 
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.SimpleDateFormat;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Utility class for image processing and optimization.
- * 
+ *
  * Features:
  * - Image compression with quality control
  * - Automatic image rotation based on EXIF data
  * - Size validation and resizing
  * - Memory-efficient image loading
- * 
+ *
+ * Images are processed by a single-pass pipeline: the source is opened once and read
+ * through a marked buffer, so the EXIF orientation and the image bounds are read from
+ * the header and the stream is rewound for the real decode. Rotation and scaling are
+ * folded into one matrix and drawn in a single step, and the decode and output bitmaps
+ * are reused between runs. All processing happens on one background thread.
+ *
+ * With a target size the encoder binary-searches the quality that fits the byte budget
+ * for both WebP and JPEG and keeps the better result. The chosen settings are cached
+ * per source, so picking the same image again takes a single encode.
+ *
  * @author DANN4 Development Team
  * @version 1.0
  * @since 2025
  */
 public class ImageUtils {
-    
+
     private static final String TAG = "ImageUtils";
-    
+
     // Image constraints
     public static final int MAX_IMAGE_WIDTH = 1024;
     public static final int MAX_IMAGE_HEIGHT = 1024;
     public static final int JPEG_QUALITY = 85;
     public static final long MAX_FILE_SIZE_MB = 5; // 5MB
     public static final long MAX_FILE_SIZE_BYTES = MAX_FILE_SIZE_MB * 1024 * 1024;
-    
+
+    // Target-size encoding
+    public static final long NO_TARGET_SIZE = 0;
+    public static final long TARGET_AVATAR_BYTES = 60 * 1024;
+    private static final int MIN_QUALITY = 40;
+    private static final int MAX_QUALITY = 95;
+    private static final String ENCODE_PREFS_NAME = "image_encode_prefs";
+    // Cached encode settings kept, least recently used dropped first
+    static final int MAX_ENCODE_SETTINGS = 32;
+
+    // Header reads (EXIF and bounds) must fit in this many bytes so the stream can be rewound
+    private static final int HEADER_MARK_LIMIT = 256 * 1024;
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+    private static final Bitmap.Config PIPELINE_CONFIG = Bitmap.Config.RGB_565;
+    private static final int PIPELINE_BYTES_PER_PIXEL = 2;
+
+    // Trace sections for the pipeline and its stages
+    private static final String TRACE_COMPRESS = "ImageUtils.compressImage";
+    private static final String TRACE_DECODE = "ImageUtils.compressImage.decode";
+    private static final String TRACE_TRANSFORM = "ImageUtils.compressImage.transform";
+    private static final String TRACE_ENCODE = "ImageUtils.compressImage.encode";
+    private static final String TRACE_SAVE = "ImageUtils.compressImage.save";
+
+    private static final ExecutorService pipelineExecutor = Executors.newSingleThreadExecutor();
+    private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private static final Paint FILTER_PAINT = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+    // Reused between runs; only touched on the pipeline thread
+    private static Bitmap reusableDecodeBitmap;
+    private static Bitmap reusableOutputBitmap;
+    private static final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream(128 * 1024);
+
+    /**
+     * Interface for image compression callbacks, delivered on the main thread
+     */
+    public interface CompressionCallback {
+        void onImageCompressed(File outputFile, PipelineStats stats);
+        void onImageCompressionFailed(Exception error);
+    }
+
+    /**
+     * Compresses and optimizes an image from URI on the pipeline thread, as JPEG at
+     * {@link #JPEG_QUALITY}. The output file is replaced only when the whole run succeeds.
+     *
+     * @param context Application context
+     * @param imageUri Source image URI
+     * @param outputFile Target file for compressed image
+     * @param callback Receives the result on the main thread, may be null
+     * @return Future for the run; cancelling it stops the pipeline and suppresses the callback
+     */
+    public static Future<PipelineStats> compressImageAsync(Context context, Uri imageUri, File outputFile,
+                                                           @Nullable CompressionCallback callback) {
+        return compressImageAsync(context, imageUri, outputFile, NO_TARGET_SIZE, callback);
+    }
+
+    /**
+     * Compresses an image from URI on the pipeline thread, aiming for a byte budget.
+     *
+     * @param targetBytes Size the encoded image should fit in, e.g. {@link #TARGET_AVATAR_BYTES},
+     *                    or {@link #NO_TARGET_SIZE} for a fixed-quality JPEG
+     * @see #compressImageAsync(Context, Uri, File, CompressionCallback)
+     */
+    public static Future<PipelineStats> compressImageAsync(Context context, Uri imageUri, File outputFile,
+                                                           long targetBytes,
+                                                           @Nullable CompressionCallback callback) {
+        Context appContext = context.getApplicationContext();
+        FutureTask<PipelineStats> task = new FutureTask<PipelineStats>(
+                () -> runPipeline(appContext, imageUri, outputFile, targetBytes)) {
+            @Override
+            protected void done() {
+                if (callback == null || isCancelled()) {
+                    return;
+                }
+                try {
+                    PipelineStats stats = get();
+                    mainHandler.post(() -> callback.onImageCompressed(outputFile, stats));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    Exception error = cause instanceof Exception ? (Exception) cause : new IOException(cause);
+                    mainHandler.post(() -> callback.onImageCompressionFailed(error));
+                } catch (InterruptedException | CancellationException e) {
+                    // Cancelled between completion and delivery; nothing to report
+                }
+            }
+        };
+        pipelineExecutor.execute(task);
+        return task;
+    }
+
     /**
-     * Compresses and optimizes an image from URI.
-     * 
+     * Compresses and optimizes an image from URI, blocking until the pipeline finishes.
+     *
      * @param context Application context
      * @param imageUri Source image URI
      * @param outputFile Target file for compressed image
      * @return true if compression successful, false otherwise
      */
+    @WorkerThread
     public static boolean compressImage(Context context, Uri imageUri, File outputFile) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            throw new IllegalStateException("compressImage must not be called on the main thread");
+        }
         try {
-            // Load and decode image with proper sampling
-            Bitmap bitmap = loadOptimizedBitmap(context, imageUri);
-            if (bitmap == null) {
-                Log.e(TAG, "Failed to load bitmap from URI");
-                return false;
-            }
-            
-            // Apply rotation if needed
-            bitmap = rotateImageIfRequired(context, bitmap, imageUri);
-            
-            // Resize if too large
-            bitmap = resizeImageIfNeeded(bitmap);
-            
-            // Compress and save
-            return saveBitmapToFile(bitmap, outputFile);
-            
+            compressImageAsync(context, imageUri, outputFile, null).get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         } catch (Exception e) {
             Log.e(TAG, "Error compressing image", e);
             return false;
         }
     }
-    
+
+    /**
+     * Drop the bitmaps kept for reuse, e.g. when the profile screen goes away
+     */
+    public static void releaseCachedBitmaps() {
+        pipelineExecutor.execute(() -> {
+            reusableDecodeBitmap = null;
+            reusableOutputBitmap = null;
+        });
+    }
+
     /**
-     * Loads bitmap with memory-efficient sampling.
+     * Runs the whole pipeline on the current (pipeline) thread.
      */
-    private static Bitmap loadOptimizedBitmap(Context context, Uri imageUri) {
+    private static PipelineStats runPipeline(Context context, Uri imageUri, File outputFile, long targetBytes)
+            throws IOException {
+        boolean traced = PerfTrace.begin(TRACE_COMPRESS);
         try {
-            InputStream inputStream = context.getContentResolver().openInputStream(imageUri);
-            if (inputStream == null) return null;
-            
-            // First decode to get dimensions
+            return runPipelineStages(context, imageUri, outputFile, targetBytes);
+        } finally {
+            PerfTrace.end(traced);
+        }
+    }
+
+    private static PipelineStats runPipelineStages(Context context, Uri imageUri, File outputFile, long targetBytes)
+            throws IOException {
+        long startNanos = System.nanoTime();
+
+        long sourceBytes = getImageSize(context, imageUri);
+        if (sourceBytes > MAX_FILE_SIZE_BYTES) {
+            throw new IOException("Image is larger than " + MAX_FILE_SIZE_MB + " MB");
+        }
+
+        ContentResolver resolver = context.getContentResolver();
+        InputStream rawStream = resolver.openInputStream(imageUri);
+        if (rawStream == null) {
+            throw new IOException("Cannot open input stream");
+        }
+
+        Bitmap decoded;
+        int orientation;
+        int sourceWidth;
+        int sourceHeight;
+        int sampleSize;
+        boolean decodeReused;
+        boolean tracedDecode = PerfTrace.begin(TRACE_DECODE);
+        try (BufferedInputStream in = new BufferedInputStream(rawStream, STREAM_BUFFER_SIZE)) {
+            in.mark(HEADER_MARK_LIMIT);
+            orientation = readOrientation(in);
+            in.reset();
+
             BitmapFactory.Options options = new BitmapFactory.Options();
             options.inJustDecodeBounds = true;
-            BitmapFactory.decodeStream(inputStream, null, options);
-            inputStream.close();
-            
-            // Calculate sample size
-            options.inSampleSize = calculateInSampleSize(options, MAX_IMAGE_WIDTH, MAX_IMAGE_HEIGHT);
+            BitmapFactory.decodeStream(new HeaderWindow(in), null, options);
+            in.reset();
+            if (options.outWidth <= 0 || options.outHeight <= 0) {
+                throw new IOException("Unsupported or corrupt image");
+            }
+            sourceWidth = options.outWidth;
+            sourceHeight = options.outHeight;
+            checkCancelled();
+
+            boolean swapsAxes = swapsAxes(orientation);
+            sampleSize = calculateInSampleSize(sourceWidth, sourceHeight,
+                    swapsAxes ? MAX_IMAGE_HEIGHT : MAX_IMAGE_WIDTH,
+                    swapsAxes ? MAX_IMAGE_WIDTH : MAX_IMAGE_HEIGHT);
+
             options.inJustDecodeBounds = false;
-            options.inPreferredConfig = Bitmap.Config.RGB_565; // Use less memory
-            
-            // Decode with sampling
-            inputStream = context.getContentResolver().openInputStream(imageUri);
-            Bitmap bitmap = BitmapFactory.decodeStream(inputStream, null, options);
-            inputStream.close();
-            
-            return bitmap;
-            
+            options.inSampleSize = sampleSize;
+            options.inPreferredConfig = PIPELINE_CONFIG;
+            options.inMutable = true;
+            long decodeBytes = (long) ceilDiv(sourceWidth, sampleSize) * ceilDiv(sourceHeight, sampleSize)
+                    * PIPELINE_BYTES_PER_PIXEL;
+            decodeReused = canReuse(reusableDecodeBitmap, decodeBytes);
+            if (decodeReused) {
+                options.inBitmap = reusableDecodeBitmap;
+            }
+
+            decoded = BitmapFactory.decodeStream(in, null, options);
+            if (decoded == null) {
+                throw new IOException("Failed to decode image");
+            }
+            reusableDecodeBitmap = decoded;
+        } finally {
+            PerfTrace.end(tracedDecode);
+        }
+        checkCancelled();
+
+        Bitmap previousOutput = reusableOutputBitmap;
+        Bitmap output;
+        boolean tracedTransform = PerfTrace.begin(TRACE_TRANSFORM);
+        try {
+            output = transform(decoded, orientation);
+        } finally {
+            PerfTrace.end(tracedTransform);
+        }
+        boolean outputReused = output != decoded && output == previousOutput;
+        long peakBitmapBytes = decoded.getAllocationByteCount()
+                + (output != decoded ? output.getAllocationByteCount() : 0);
+        checkCancelled();
+
+        EncodedImage encoded;
+        boolean tracedEncode = PerfTrace.begin(TRACE_ENCODE);
+        try {
+            if (targetBytes > NO_TARGET_SIZE) {
+                String sourceKey = imageUri + "|" + sourceBytes + "|" + sourceWidth + "x" + sourceHeight
+                        + "|" + orientation + "|" + targetBytes;
+                encoded = encodeToTarget(context, output, sourceKey, targetBytes);
+            } else {
+                encoded = encode(output, Bitmap.CompressFormat.JPEG, JPEG_QUALITY);
+                encoded.attempts = 1;
+            }
+        } finally {
+            PerfTrace.end(tracedEncode);
+        }
+        checkCancelled();
+
+        long outputBytes;
+        boolean tracedSave = PerfTrace.begin(TRACE_SAVE);
+        try {
+            outputBytes = saveToFile(encoded.data, outputFile);
+        } finally {
+            PerfTrace.end(tracedSave);
+        }
+
+        return new PipelineStats(sourceWidth, sourceHeight, sampleSize, output.getWidth(), output.getHeight(),
+                decodeReused, outputReused, peakBitmapBytes, outputBytes, encoded.format, encoded.quality,
+                encoded.attempts, encoded.fromCache, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Reads the EXIF orientation from the stream header; the caller rewinds afterwards.
+     */
+    private static int readOrientation(InputStream in) {
+        try {
+            ExifInterface exif = new ExifInterface(new HeaderWindow(in));
+            return exif.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
         } catch (IOException e) {
-            Log.e(TAG, "Error loading bitmap", e);
-            return null;
+            Log.w(TAG, "Error reading EXIF data", e);
+            return ExifInterface.ORIENTATION_NORMAL;
         }
     }
-    
+
     /**
      * Calculates optimal sample size for image loading.
      */
-    private static int calculateInSampleSize(BitmapFactory.Options options, int reqWidth, int reqHeight) {
-        final int height = options.outHeight;
-        final int width = options.outWidth;
+    private static int calculateInSampleSize(int width, int height, int reqWidth, int reqHeight) {
         int inSampleSize = 1;
-        
+
         if (height > reqHeight || width > reqWidth) {
             final int halfHeight = height / 2;
             final int halfWidth = width / 2;
-            
+
             while ((halfHeight / inSampleSize) >= reqHeight && (halfWidth / inSampleSize) >= reqWidth) {
                 inSampleSize *= 2;
             }
         }
-        
+
         return inSampleSize;
     }
-    
+
     /**
-     * Rotates image based on EXIF orientation data.
+     * Applies EXIF orientation and the final downscale in one draw.
+     * Returns the input unchanged when neither is needed.
      */
-    private static Bitmap rotateImageIfRequired(Context context, Bitmap bitmap, Uri imageUri) {
-        try {
-            InputStream inputStream = context.getContentResolver().openInputStream(imageUri);
-            if (inputStream == null) return bitmap;
-            
-            ExifInterface exif = new ExifInterface(inputStream);
-            int orientation = exif.getAttributeInt(ExifInterface.TAG_ORIENTATION, ExifInterface.ORIENTATION_NORMAL);
-            inputStream.close();
-            
-            switch (orientation) {
-                case ExifInterface.ORIENTATION_ROTATE_90:
-                    return rotateImage(bitmap, 90);
-                case ExifInterface.ORIENTATION_ROTATE_180:
-                    return rotateImage(bitmap, 180);
-                case ExifInterface.ORIENTATION_ROTATE_270:
-                    return rotateImage(bitmap, 270);
-                default:
-                    return bitmap;
+    private static Bitmap transform(Bitmap source, int orientation) {
+        boolean swapsAxes = swapsAxes(orientation);
+        int orientedWidth = swapsAxes ? source.getHeight() : source.getWidth();
+        int orientedHeight = swapsAxes ? source.getWidth() : source.getHeight();
+
+        float ratio = Math.min(1f, Math.min((float) MAX_IMAGE_WIDTH / orientedWidth,
+                (float) MAX_IMAGE_HEIGHT / orientedHeight));
+        if (ratio == 1f && orientation == ExifInterface.ORIENTATION_NORMAL) {
+            return source;
+        }
+
+        int outputWidth = Math.max(1, Math.round(orientedWidth * ratio));
+        int outputHeight = Math.max(1, Math.round(orientedHeight * ratio));
+
+        // Orient around the centre, then scale and move into the output bounds exactly
+        Matrix matrix = new Matrix();
+        matrix.setTranslate(-source.getWidth() / 2f, -source.getHeight() / 2f);
+        applyOrientation(matrix, orientation);
+        matrix.postScale((float) outputWidth / orientedWidth, (float) outputHeight / orientedHeight);
+        matrix.postTranslate(outputWidth / 2f, outputHeight / 2f);
+
+        Bitmap output = obtainOutputBitmap(outputWidth, outputHeight);
+        new Canvas(output).drawBitmap(source, matrix, FILTER_PAINT);
+        return output;
+    }
+
+    private static void applyOrientation(Matrix matrix, int orientation) {
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                matrix.postRotate(180);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                matrix.postScale(1, -1);
+                break;
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                matrix.postRotate(90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                matrix.postRotate(90);
+                break;
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                matrix.postRotate(-90);
+                matrix.postScale(-1, 1);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                matrix.postRotate(270);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static boolean swapsAxes(int orientation) {
+        return orientation == ExifInterface.ORIENTATION_TRANSPOSE
+                || orientation == ExifInterface.ORIENTATION_ROTATE_90
+                || orientation == ExifInterface.ORIENTATION_TRANSVERSE
+                || orientation == ExifInterface.ORIENTATION_ROTATE_270;
+    }
+
+    private static Bitmap obtainOutputBitmap(int width, int height) {
+        long requiredBytes = (long) width * height * PIPELINE_BYTES_PER_PIXEL;
+        if (canReuse(reusableOutputBitmap, requiredBytes)) {
+            reusableOutputBitmap.reconfigure(width, height, PIPELINE_CONFIG);
+        } else {
+            reusableOutputBitmap = Bitmap.createBitmap(width, height, PIPELINE_CONFIG);
+        }
+        return reusableOutputBitmap;
+    }
+
+    private static boolean canReuse(Bitmap candidate, long requiredBytes) {
+        return candidate != null && !candidate.isRecycled() && candidate.isMutable()
+                && candidate.getAllocationByteCount() >= requiredBytes;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Image pipeline cancelled");
+        }
+    }
+
+    /**
+     * Encodes within the byte budget, reusing the settings cached for this source when
+     * they still fit. Otherwise searches each format and caches the winner.
+     *
+     * Settings are stored as "FORMAT:quality:lastUsedMillis". Every source image gets its
+     * own key, so the least recently used entries beyond {@link #MAX_ENCODE_SETTINGS}
+     * are dropped when a new one is added.
+     */
+    private static EncodedImage encodeToTarget(Context context, Bitmap bitmap, String sourceKey, long targetBytes) {
+        SharedPreferences prefs = context.getSharedPreferences(ENCODE_PREFS_NAME, Context.MODE_PRIVATE);
+        long now = System.currentTimeMillis();
+        EncodedImage cached = encodeWithCachedSettings(prefs.getString(sourceKey, null), bitmap, targetBytes);
+        if (cached != null) {
+            prefs.edit().putString(sourceKey, encodeSettings(cached, now)).apply();
+            return cached;
+        }
+
+        EncodedImage webp = searchQuality(bitmap, webpFormat(), targetBytes);
+        checkCancelled();
+        EncodedImage jpeg = searchQuality(bitmap, Bitmap.CompressFormat.JPEG, targetBytes);
+
+        // WebP wins ties
+        EncodedImage best = isBetter(jpeg, webp, targetBytes) ? jpeg : webp;
+        best.attempts = webp.attempts + jpeg.attempts;
+
+        SharedPreferences.Editor editor = prefs.edit().putString(sourceKey, encodeSettings(best, now));
+        for (String key : leastRecentlyUsed(prefs.getAll(), sourceKey, MAX_ENCODE_SETTINGS)) {
+            editor.remove(key);
+        }
+        editor.apply();
+        return best;
+    }
+
+    private static String encodeSettings(EncodedImage encoded, long usedAtMillis) {
+        return encoded.format.name() + ":" + encoded.quality + ":" + usedAtMillis;
+    }
+
+    /**
+     * Keys to drop so that at most maxEntries remain once newKey is stored
+     */
+    static List<String> leastRecentlyUsed(Map<String, ?> entries, String newKey, int maxEntries) {
+        int excess = entries.size() + (entries.containsKey(newKey) ? 0 : 1) - maxEntries;
+        if (excess <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<Map.Entry<String, Long>> byUse = new ArrayList<>(entries.size());
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            if (!entry.getKey().equals(newKey)) {
+                byUse.add(new AbstractMap.SimpleEntry<>(entry.getKey(), lastUsedMillis(entry.getValue())));
             }
-        } catch (IOException e) {
-            Log.e(TAG, "Error reading EXIF data", e);
-            return bitmap;
         }
+        Collections.sort(byUse, (a, b) -> Long.compare(a.getValue(), b.getValue()));
+
+        List<String> evicted = new ArrayList<>(excess);
+        for (int i = 0; i < excess && i < byUse.size(); i++) {
+            evicted.add(byUse.get(i).getKey());
+        }
+        return evicted;
     }
-    
+
     /**
-     * Rotates bitmap by specified degrees.
+     * Settings written before use times were recorded count as least recently used
      */
-    private static Bitmap rotateImage(Bitmap bitmap, float degrees) {
-        Matrix matrix = new Matrix();
-        matrix.postRotate(degrees);
-        return Bitmap.createBitmap(bitmap, 0, 0, bitmap.getWidth(), bitmap.getHeight(), matrix, true);
+    private static long lastUsedMillis(Object settings) {
+        if (!(settings instanceof String)) {
+            return 0;
+        }
+        String value = (String) settings;
+        int separator = value.indexOf(':', value.indexOf(':') + 1);
+        if (separator < 0) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
     }
-    
+
+    private static EncodedImage encodeWithCachedSettings(String settings, Bitmap bitmap, long targetBytes) {
+        if (settings == null) {
+            return null;
+        }
+        try {
+            int separator = settings.indexOf(':');
+            int usedAtSeparator = settings.indexOf(':', separator + 1);
+            Bitmap.CompressFormat format = Bitmap.CompressFormat.valueOf(settings.substring(0, separator));
+            int quality = Integer.parseInt(settings.substring(separator + 1,
+                    usedAtSeparator < 0 ? settings.length() : usedAtSeparator));
+
+            EncodedImage encoded = encode(bitmap, format, quality);
+            encoded.attempts = 1;
+            encoded.fromCache = true;
+            // Settings chosen on another OS version may no longer fit
+            return encoded.data.length <= targetBytes || quality == MIN_QUALITY ? encoded : null;
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Ignoring cached encode settings: " + settings, e);
+            return null;
+        }
+    }
+
     /**
-     * Resizes image if it exceeds maximum dimensions.
+     * Binary-searches the highest quality whose output fits the budget. Falls back to
+     * the lowest quality when nothing fits.
      */
-    private static Bitmap resizeImageIfNeeded(Bitmap bitmap) {
-        int width = bitmap.getWidth();
-        int height = bitmap.getHeight();
-        
-        if (width <= MAX_IMAGE_WIDTH && height <= MAX_IMAGE_HEIGHT) {
-            return bitmap;
+    private static EncodedImage searchQuality(Bitmap bitmap, Bitmap.CompressFormat format, long targetBytes) {
+        EncodedImage best = null;
+        int attempts = 0;
+        int low = MIN_QUALITY;
+        int high = MAX_QUALITY;
+        while (low <= high) {
+            int quality = (low + high) >>> 1;
+            EncodedImage candidate = encode(bitmap, format, quality);
+            attempts++;
+            if (candidate.data.length <= targetBytes) {
+                best = candidate;
+                low = quality + 1;
+            } else {
+                high = quality - 1;
+            }
         }
-        
-        float ratio = Math.min((float) MAX_IMAGE_WIDTH / width, (float) MAX_IMAGE_HEIGHT / height);
-        int newWidth = Math.round(width * ratio);
-        int newHeight = Math.round(height * ratio);
-        
-        return Bitmap.createScaledBitmap(bitmap, newWidth, newHeight, true);
+        if (best == null) {
+            best = encode(bitmap, format, MIN_QUALITY);
+            attempts++;
+        }
+        best.attempts = attempts;
+        return best;
     }
-    
+
     /**
-     * Saves bitmap to file with compression.
+     * A result that fits beats one that doesn't; then higher quality; then smaller output
      */
-    private static boolean saveBitmapToFile(Bitmap bitmap, File outputFile) {
-        try (FileOutputStream outputStream = new FileOutputStream(outputFile)) {
-            return bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, outputStream);
-        } catch (IOException e) {
-            Log.e(TAG, "Error saving bitmap to file", e);
-            return false;
+    private static boolean isBetter(EncodedImage a, EncodedImage b, long targetBytes) {
+        boolean aFits = a.data.length <= targetBytes;
+        boolean bFits = b.data.length <= targetBytes;
+        if (aFits != bFits) return aFits;
+        if (aFits && a.quality != b.quality) return a.quality > b.quality;
+        return a.data.length < b.data.length;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Bitmap.CompressFormat webpFormat() {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+                ? Bitmap.CompressFormat.WEBP_LOSSY
+                : Bitmap.CompressFormat.WEBP;
+    }
+
+    private static EncodedImage encode(Bitmap bitmap, Bitmap.CompressFormat format, int quality) {
+        encodeBuffer.reset();
+        if (!bitmap.compress(format, quality, encodeBuffer)) {
+            throw new IllegalStateException("Failed to encode image as " + format);
         }
+        return new EncodedImage(format, quality, encodeBuffer.toByteArray());
     }
-    
+
     /**
-     * Validates if image file size is within limits.
+     * Saves encoded bytes to file. Writes to a temporary file first so a failed or
+     * cancelled run leaves any existing image in place.
+     *
+     * @return Size of the written file in bytes
      */
-    public static boolean isImageSizeValid(Context context, Uri imageUri) {
+    private static long saveToFile(byte[] data, File outputFile) throws IOException {
+        File tempFile = new File(outputFile.getParentFile(), outputFile.getName() + ".tmp");
         try {
-            InputStream inputStream = context.getContentResolver().openInputStream(imageUri);
-            if (inputStream == null) return false;
-            
-            long size = inputStream.available();
-            inputStream.close();
-            
-            return size <= MAX_FILE_SIZE_BYTES;
-        } catch (IOException e) {
-            Log.e(TAG, "Error checking image size", e);
-            return false;
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                outputStream.write(data);
+            }
+            checkCancelled();
+            if (!tempFile.renameTo(outputFile)) {
+                throw new IOException("Failed to replace " + outputFile.getName());
+            }
+            return outputFile.length();
+        } finally {
+            if (tempFile.exists() && !tempFile.delete()) {
+                Log.w(TAG, "Could not delete temporary image file");
+            }
         }
     }
-    
+
+    /**
+     * Gets the size of the image behind a URI from the provider, without opening it.
+     *
+     * @return Size in bytes, or -1 if the provider does not report one
+     */
+    public static long getImageSize(Context context, Uri imageUri) {
+        try (Cursor cursor = context.getContentResolver().query(
+                imageUri, new String[]{OpenableColumns.SIZE}, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getLong(0);
+            }
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Size query not supported for " + imageUri, e);
+        }
+        return -1;
+    }
+
+    /**
+     * Validates if image file size is within limits. Sizes the provider does not
+     * report are accepted; the pipeline bounds memory by sampling anyway.
+     */
+    public static boolean isImageSizeValid(Context context, Uri imageUri) {
+        return getImageSize(context, imageUri) <= MAX_FILE_SIZE_BYTES;
+    }
+
     /**
      * Generates unique filename for profile images.
      */
@@ -217,7 +653,7 @@ public class ImageUtils {
         String timeStamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.getDefault()).format(new Date());
         return "PROFILE_" + timeStamp + ".jpg";
     }
-    
+
     /**
      * Gets formatted file size string.
      */
@@ -226,4 +662,149 @@ public class ImageUtils {
         if (bytes < 1024 * 1024) return String.format(Locale.getDefault(), "%.1f KB", bytes / 1024.0);
         return String.format(Locale.getDefault(), "%.1f MB", bytes / (1024.0 * 1024.0));
     }
+
+    /**
+     * Measurements from one pipeline run
+     */
+    public static final class PipelineStats {
+        private final int sourceWidth;
+        private final int sourceHeight;
+        private final int sampleSize;
+        private final int outputWidth;
+        private final int outputHeight;
+        private final boolean decodeBitmapReused;
+        private final boolean outputBitmapReused;
+        private final long peakBitmapBytes;
+        private final long outputBytes;
+        private final Bitmap.CompressFormat format;
+        private final int quality;
+        private final int encodeAttempts;
+        private final boolean encodeSettingsCached;
+        private final long elapsedNanos;
+
+        private PipelineStats(int sourceWidth, int sourceHeight, int sampleSize, int outputWidth, int outputHeight,
+                              boolean decodeBitmapReused, boolean outputBitmapReused, long peakBitmapBytes,
+                              long outputBytes, Bitmap.CompressFormat format, int quality,
+                              int encodeAttempts, boolean encodeSettingsCached, long elapsedNanos) {
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+            this.sampleSize = sampleSize;
+            this.outputWidth = outputWidth;
+            this.outputHeight = outputHeight;
+            this.decodeBitmapReused = decodeBitmapReused;
+            this.outputBitmapReused = outputBitmapReused;
+            this.peakBitmapBytes = peakBitmapBytes;
+            this.outputBytes = outputBytes;
+            this.format = format;
+            this.quality = quality;
+            this.encodeAttempts = encodeAttempts;
+            this.encodeSettingsCached = encodeSettingsCached;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getSourceWidth() { return sourceWidth; }
+        public int getSourceHeight() { return sourceHeight; }
+        public int getSampleSize() { return sampleSize; }
+        public int getOutputWidth() { return outputWidth; }
+        public int getOutputHeight() { return outputHeight; }
+        public boolean isDecodeBitmapReused() { return decodeBitmapReused; }
+        public boolean isOutputBitmapReused() { return outputBitmapReused; }
+
+        /**
+         * Bytes held by bitmaps at the pipeline's high-water mark (decode plus output)
+         */
+        public long getPeakBitmapBytes() { return peakBitmapBytes; }
+        public long getOutputBytes() { return outputBytes; }
+        public Bitmap.CompressFormat getFormat() { return format; }
+        public int getQuality() { return quality; }
+
+        /**
+         * Number of encodes the run needed; 1 when cached or fixed settings were used
+         */
+        public int getEncodeAttempts() { return encodeAttempts; }
+        public boolean isEncodeSettingsCached() { return encodeSettingsCached; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public long getElapsedMillis() {
+            return elapsedNanos / 1_000_000L;
+        }
+
+        @Override
+        public String toString() {
+            return "PipelineStats{" + sourceWidth + "x" + sourceHeight + " /" + sampleSize
+                    + " -> " + outputWidth + "x" + outputHeight
+                    + ", peakBitmapBytes=" + peakBitmapBytes + ", outputBytes=" + outputBytes
+                    + ", " + format + "@" + quality + " x" + encodeAttempts
+                    + (encodeSettingsCached ? " (cached)" : "")
+                    + ", decodeReused=" + decodeBitmapReused + ", outputReused=" + outputBitmapReused
+                    + ", elapsedMs=" + getElapsedMillis() + "}";
+        }
+    }
+
+    /**
+     * Encoded bytes and the settings that produced them
+     */
+    private static final class EncodedImage {
+        final Bitmap.CompressFormat format;
+        final int quality;
+        final byte[] data;
+        int attempts;
+        boolean fromCache;
+
+        EncodedImage(Bitmap.CompressFormat format, int quality, byte[] data) {
+            this.format = format;
+            this.quality = quality;
+            this.data = data;
+        }
+    }
+
+    /**
+     * View of the buffered stream limited to the marked header, so header parsers can
+     * never read past the point the stream can be rewound to. Closing it is a no-op.
+     */
+    private static final class HeaderWindow extends FilterInputStream {
+        private int remaining = HEADER_MARK_LIMIT;
+
+        HeaderWindow(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = super.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) return -1;
+            int count = super.read(buffer, offset, Math.min(length, remaining));
+            if (count > 0) remaining -= count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // The underlying stream stays open for the real decode
+        }
+    }
 }
@@ -2,7 +2,6 @@ package com.example.student3.utils;
 
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.util.Log;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -72,7 +71,7 @@ public class LoginAttemptManager {
         // Check if account should be locked
         if (currentAttempts >= MAX_LOGIN_ATTEMPTS) {
             editor.putLong(emailKey + KEY_LOCKOUT_TIME, currentTime);
-            Log.w(TAG, "Account locked for email: " + emailKey + " after " + currentAttempts + " failed attempts");
+            EventLog.w(TAG, "Account locked after %d failed attempts", currentAttempts);
         }
         
         editor.apply();
@@ -100,7 +99,7 @@ public class LoginAttemptManager {
         editor.remove(emailKey + KEY_LOCKOUT_TIME);
         editor.apply();
         
-        Log.d(TAG, "Cleared login attempts for successful login: " + emailKey);
+        EventLog.d(TAG, "Cleared login attempts after successful login");
     }
 
     /**
@@ -131,7 +130,7 @@ public class LoginAttemptManager {
             editor.remove(emailKey + KEY_LAST_ATTEMPT);
             editor.remove(emailKey + KEY_LOCKOUT_TIME);
             editor.apply();
-            Log.d(TAG, "Lockout expired for email: " + emailKey);
+            EventLog.d(TAG, "Lockout expired");
         }
         
         return isLocked;
@@ -223,7 +222,7 @@ public class LoginAttemptManager {
         editor.remove(emailKey + KEY_LOCKOUT_TIME);
         editor.apply();
         
-        Log.i(TAG, "Manually unlocked account: " + emailKey);
+        EventLog.i(TAG, "Manually unlocked account");
     }
 
     /**
@@ -12,6 +12,7 @@ import androidx.core.app.NotificationManagerCompat;
 
 import com.example.student3.R;
 import com.example.student3.model.Announcement;
+import com.example.student3.model.Course;
 import com.example.student3.ui.MainActivity;
 
 /**
@@ -20,6 +21,7 @@ import com.example.student3.ui.MainActivity;
  * Features:
  * - Creates notification channels for different types of notifications
  * - Handles announcement notifications
+ * - Shows class reminders before a course meets
  * - Manages notification permissions and settings
  * 
  * @author DANN4 Development Team
@@ -37,6 +39,7 @@ public class NotificationHelper {
     // Notification IDs
     private static final int NOTIFICATION_ID_ANNOUNCEMENT = 1001;
     private static final int NOTIFICATION_ID_REMINDER = 1002;
+    private static final int NOTIFICATION_ID_CLASS_REMINDER = 1003;
     
     private final Context context;
     private final NotificationManagerCompat notificationManager;
@@ -146,6 +149,48 @@ public class NotificationHelper {
         }
     }
     
+    /**
+     * Show a reminder that a class is about to start
+     * 
+     * @param course The course that is about to meet
+     * @param minutesUntilStart Minutes until the class starts
+     */
+    public void showClassReminderNotification(Course course, int minutesUntilStart) {
+        if (!areNotificationsEnabled()) {
+            return;
+        }
+        
+        Intent intent = new Intent(context, MainActivity.class);
+        intent.setFlags(Intent.FLAG_ACTIVITY_NEW_TASK | Intent.FLAG_ACTIVITY_CLEAR_TASK);
+        
+        PendingIntent pendingIntent = PendingIntent.getActivity(
+            context, 
+            0, 
+            intent, 
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+        
+        String title = course.getCourseCode() + " starts in " + minutesUntilStart + " min";
+        String message = course.getTitle() + " · "
+            + ScheduleUtils.getPeriodTimeRange(course.getStartPeriod(), course.getEndPeriod());
+        
+        NotificationCompat.Builder builder = new NotificationCompat.Builder(context, CHANNEL_REMINDERS)
+            .setSmallIcon(R.drawable.ic_schedule)
+            .setContentTitle(title)
+            .setContentText(message)
+            .setPriority(NotificationCompat.PRIORITY_DEFAULT)
+            .setContentIntent(pendingIntent)
+            .setAutoCancel(true)
+            .setCategory(NotificationCompat.CATEGORY_REMINDER);
+        
+        // A single id, so a new reminder replaces the previous one
+        try {
+            notificationManager.notify(NOTIFICATION_ID_CLASS_REMINDER, builder.build());
+        } catch (SecurityException e) {
+            android.util.Log.w(TAG, "Notification permission not granted", e);
+        }
+    }
+    
     /**
      * Check if notifications are enabled for the app
      * 
@@ -0,0 +1,81 @@
+package com.example.student3.utils;
+
+import android.os.Trace;
+
+/**
+ * Named trace sections for Perfetto/systrace captures, switchable at runtime.
+ *
+ * Sections are named "Class.method" or "Class.method.stage" and should be string
+ * constants, so an off switch costs one volatile read and no allocation:
+ *
+ * <pre>
+ * boolean traced = PerfTrace.begin(TRACE_SAVE);
+ * try {
+ *     ...
+ * } finally {
+ *     PerfTrace.end(traced);
+ * }
+ * </pre>
+ *
+ * {@link #end} only closes a section its {@link #begin} opened, so switching
+ * tracing on or off mid-section can't unbalance the thread's section stack.
+ * Sections must begin and end on the same thread.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class PerfTrace {
+
+    // Trace.beginSection rejects longer names
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    private static volatile boolean enabled;
+
+    private PerfTrace() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        PerfTrace.enabled = enabled;
+    }
+
+    /**
+     * @return Whether a section was opened; pass it to {@link #end}
+     */
+    public static boolean begin(String sectionName) {
+        if (!enabled) {
+            return false;
+        }
+        Trace.beginSection(sectionName.length() > MAX_SECTION_NAME_LENGTH
+                ? sectionName.substring(0, MAX_SECTION_NAME_LENGTH) : sectionName);
+        return true;
+    }
+
+    public static void end(boolean begun) {
+        if (begun) {
+            Trace.endSection();
+        }
+    }
+
+    /**
+     * Run a task handed to an executor inside a section. When tracing is off the
+     * task is returned as is, so nothing extra is allocated.
+     */
+    public static Runnable wrap(String sectionName, Runnable task) {
+        if (!enabled) {
+            return task;
+        }
+        return () -> {
+            boolean traced = begin(sectionName);
+            try {
+                task.run();
+            } finally {
+                end(traced);
+            }
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.google.gson.JsonObject;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Time until the app and its main screens show data.
+ *
+ * Marks the process start, MainActivity's first frame, and for each visit to a
+ * screen the first emission of its primary LiveData and the first row its list
+ * binds. Durations go into a {@link LatencyHistogram} per screen and metric, kept
+ * for the life of the process and readable through {@link #getHistogram}. Every
+ * sample is also appended as a JSON line to files/metrics/screen-metrics.jsonl,
+ * which rolls over to a single .1 file once it passes {@link #MAX_FILE_BYTES}.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class ScreenMetrics {
+    private static final String TAG = "ScreenMetrics";
+    private static ScreenMetrics instance;
+
+    public static final String SCREEN_STARTUP = "startup";
+    public static final String SCREEN_DASHBOARD = "dashboard";
+    public static final String SCREEN_COURSE_LIST = "courseList";
+    public static final String SCREEN_SCHEDULE = "schedule";
+
+    static final String METRICS_DIR = "metrics";
+    static final String METRICS_FILE = "screen-metrics.jsonl";
+    static final long MAX_FILE_BYTES = 64 * 1024;
+
+    public enum Metric {
+        // Process start to MainActivity's first frame, recorded under SCREEN_STARTUP
+        FIRST_FRAME,
+        // Screen view created to the first value of its primary LiveData
+        FIRST_DATA,
+        // Screen view created to the first row of its list attached
+        FIRST_BIND,
+        // Process start to FIRST_DATA/FIRST_BIND, for the first screen of the process only.
+        // A launch through the login screen includes the time spent there.
+        COLD_FIRST_DATA,
+        COLD_FIRST_BIND
+    }
+
+    private final File metricsDir;
+    private final long processStartMs;
+    private final Map<String, LatencyHistogram> histograms = new HashMap<>();
+    private final ExecutorService fileExecutor = Executors.newSingleThreadExecutor();
+    private boolean firstFrameMarked;
+    private boolean coldScreenStarted;
+
+    private ScreenMetrics(Context context) {
+        metricsDir = new File(context.getApplicationContext().getFilesDir(), METRICS_DIR);
+        processStartMs = Process.getStartElapsedRealtime();
+    }
+
+    public static synchronized ScreenMetrics getInstance(Context context) {
+        if (instance == null) {
+            instance = new ScreenMetrics(context);
+        }
+        return instance;
+    }
+
+    /**
+     * Call once MainActivity has drawn; later calls are ignored
+     */
+    public void markFirstFrame() {
+        synchronized (this) {
+            if (firstFrameMarked) {
+                return;
+            }
+            firstFrameMarked = true;
+        }
+        record(SCREEN_STARTUP, Metric.FIRST_FRAME, SystemClock.elapsedRealtime() - processStartMs);
+    }
+
+    /**
+     * Start timing a visit to a screen. Call from onViewCreated and keep the trace
+     * for the life of the view.
+     */
+    public ScreenTrace startScreen(String screen) {
+        boolean cold;
+        synchronized (this) {
+            cold = !coldScreenStarted;
+            coldScreenStarted = true;
+        }
+        return new ScreenTrace(screen, cold);
+    }
+
+    /**
+     * Copy of the samples recorded so far, empty if there are none
+     */
+    public synchronized LatencyHistogram getHistogram(String screen, Metric metric) {
+        LatencyHistogram histogram = histograms.get(key(screen, metric));
+        return histogram != null ? histogram.copy() : new LatencyHistogram();
+    }
+
+    /**
+     * Copies of every histogram, keyed "screen/METRIC"
+     */
+    public synchronized Map<String, LatencyHistogram> getHistograms() {
+        Map<String, LatencyHistogram> copies = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            copies.put(entry.getKey(), entry.getValue().copy());
+        }
+        return Collections.unmodifiableMap(copies);
+    }
+
+    @VisibleForTesting
+    synchronized void reset() {
+        histograms.clear();
+        firstFrameMarked = false;
+        coldScreenStarted = false;
+    }
+
+    /**
+     * Wait for samples queued so far to reach the file
+     */
+    @VisibleForTesting
+    void awaitWrites() throws ExecutionException, InterruptedException {
+        fileExecutor.submit(() -> { }).get();
+    }
+
+    File getMetricsFile() {
+        return new File(metricsDir, METRICS_FILE);
+    }
+
+    private void record(String screen, Metric metric, long millis) {
+        synchronized (this) {
+            String key = key(screen, metric);
+            LatencyHistogram histogram = histograms.get(key);
+            if (histogram == null) {
+                histogram = new LatencyHistogram();
+                histograms.put(key, histogram);
+            }
+            histogram.record(millis);
+        }
+        Log.d(TAG, screen + " " + metric + " " + millis + " ms");
+
+        JsonObject sample = new JsonObject();
+        sample.addProperty("time", System.currentTimeMillis());
+        sample.addProperty("screen", screen);
+        sample.addProperty("metric", metric.name());
+        sample.addProperty("ms", millis);
+        fileExecutor.execute(() -> append(sample.toString()));
+    }
+
+    private void append(String line) {
+        File file = getMetricsFile();
+        try {
+            if (!metricsDir.exists() && !metricsDir.mkdirs()) {
+                throw new IOException("Cannot create " + metricsDir);
+            }
+            if (file.length() > MAX_FILE_BYTES) {
+                File previous = new File(metricsDir, METRICS_FILE + ".1");
+                if (previous.exists() && !previous.delete()) {
+                    throw new IOException("Cannot delete " + previous);
+                }
+                if (!file.renameTo(previous)) {
+                    throw new IOException("Cannot roll over " + file);
+                }
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Could not write metrics", e);
+        }
+    }
+
+    private static String key(String screen, Metric metric) {
+        return screen + "/" + metric.name();
+    }
+
+    /**
+     * One visit to a screen. Each mark is recorded once, on the main thread.
+     */
+    public final class ScreenTrace {
+        private final String screen;
+        private final boolean cold;
+        private final long startMs = SystemClock.elapsedRealtime();
+        private boolean dataMarked;
+        private boolean bindMarked;
+
+        private ScreenTrace(String screen, boolean cold) {
+            this.screen = screen;
+            this.cold = cold;
+        }
+
+        /**
+         * Call from the primary LiveData observer; only the first call counts
+         */
+        public void markFirstData() {
+            if (dataMarked) {
+                return;
+            }
+            dataMarked = true;
+            mark(Metric.FIRST_DATA, Metric.COLD_FIRST_DATA);
+        }
+
+        /**
+         * Record FIRST_BIND when the list attaches its first row, which happens
+         * after the adapter has bound it
+         */
+        public void watchFirstBind(RecyclerView recyclerView) {
+            recyclerView.addOnChildAttachStateChangeListener(new RecyclerView.OnChildAttachStateChangeListener() {
+                @Override
+                public void onChildViewAttachedToWindow(@NonNull View view) {
+                    // Listeners can't be removed while RecyclerView is dispatching to them
+                    recyclerView.post(() -> recyclerView.removeOnChildAttachStateChangeListener(this));
+                    if (!bindMarked) {
+                        bindMarked = true;
+                        mark(Metric.FIRST_BIND, Metric.COLD_FIRST_BIND);
+                    }
+                }
+
+                @Override
+                public void onChildViewDetachedFromWindow(@NonNull View view) {
+                }
+            });
+        }
+
+        private void mark(Metric metric, Metric coldMetric) {
+            long now = SystemClock.elapsedRealtime();
+            record(screen, metric, now - startMs);
+            if (cold) {
+                record(screen, coldMetric, now - processStartMs);
+            }
+        }
+    }
+}
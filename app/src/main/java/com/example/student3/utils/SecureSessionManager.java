@@ -41,10 +41,12 @@ public class SecureSessionManager {
     private static final String KEY_LAST_ACTIVITY = "lastActivity";
     private static final String KEY_LOGIN_COUNT = "loginCount";
     
+    private final Context context;
     private final SharedPreferences preferences;
     private final SimpleDateFormat dateFormat;
 
     public SecureSessionManager(Context context) {
+        this.context = context.getApplicationContext();
         this.preferences = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
         this.dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.getDefault());
     }
@@ -211,6 +213,9 @@ public class SecureSessionManager {
         editor.remove(KEY_LAST_ACTIVITY);
         // Keep login count for analytics
         editor.apply();
+
+        // Reminders belong to the student who armed them
+        ClassReminderScheduler.getInstance(context).cancel();
         
         Log.i(TAG, "User logged out: " + userEmail);
     }
@@ -0,0 +1,117 @@
+package com.example.student3.utils;
+
+import android.app.Activity;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import com.example.student3.database.AppDatabase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs app initialization in stages so only what the first screen needs delays it.
+ *
+ * Phases:
+ * - CRITICAL: runs immediately, on the calling thread or in the background
+ * - AFTER_FIRST_FRAME: runs on the main thread once an activity has drawn its first frame
+ * - IDLE: runs when the main thread next goes idle after that first frame
+ *
+ * Deferred work is skipped if its activity is finishing or destroyed by the time it
+ * comes due. Every initializer is timed, and the durations are logged and kept for
+ * {@link #getTimings()}. A failing initializer is logged and doesn't stop the others.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class StartupOrchestrator {
+    private static final String TAG = "StartupOrchestrator";
+    private static StartupOrchestrator instance;
+
+    public enum Phase {
+        CRITICAL,
+        AFTER_FIRST_FRAME,
+        IDLE
+    }
+
+    // Insertion order, so the timings read in the order things ran
+    private final Map<String, Long> timingsMs = new LinkedHashMap<>();
+
+    private StartupOrchestrator() {
+    }
+
+    public static synchronized StartupOrchestrator getInstance() {
+        if (instance == null) {
+            instance = new StartupOrchestrator();
+        }
+        return instance;
+    }
+
+    /**
+     * Run now on the calling thread
+     */
+    public void runCritical(String name, Runnable initializer) {
+        run(Phase.CRITICAL, name, initializer);
+    }
+
+    /**
+     * Start now on the database executor, for critical work that mustn't block the
+     * main thread; queued ahead of any database work the first screen asks for
+     */
+    public void runCriticalInBackground(String name, Runnable initializer) {
+        AppDatabase.databaseWriteExecutor.execute(() -> run(Phase.CRITICAL, name, initializer));
+    }
+
+    /**
+     * Run on the main thread once the activity has drawn its first frame. Call
+     * after setContentView.
+     */
+    public void runAfterFirstFrame(Activity activity, String name, Runnable initializer) {
+        // Posted actions run after the first traversal, which draws the first frame
+        activity.getWindow().getDecorView().post(() -> {
+            if (isActive(activity)) {
+                run(Phase.AFTER_FIRST_FRAME, name, initializer);
+            }
+        });
+    }
+
+    /**
+     * Run on the main thread when it goes idle after the activity's first frame.
+     * Call after setContentView.
+     */
+    public void runWhenIdle(Activity activity, String name, Runnable initializer) {
+        activity.getWindow().getDecorView().post(() -> Looper.myQueue().addIdleHandler(() -> {
+            if (isActive(activity)) {
+                run(Phase.IDLE, name, initializer);
+            }
+            return false;
+        }));
+    }
+
+    /**
+     * Milliseconds each initializer took, keyed "PHASE/name" in the order they finished
+     */
+    public synchronized Map<String, Long> getTimings() {
+        return new LinkedHashMap<>(timingsMs);
+    }
+
+    private static boolean isActive(Activity activity) {
+        return !activity.isFinishing() && !activity.isDestroyed();
+    }
+
+    private void run(Phase phase, String name, Runnable initializer) {
+        long start = SystemClock.elapsedRealtime();
+        try {
+            initializer.run();
+        } catch (Exception e) {
+            Log.e(TAG, "Initializer " + name + " failed", e);
+        }
+        long elapsedMs = SystemClock.elapsedRealtime() - start;
+        synchronized (this) {
+            timingsMs.put(phase + "/" + name, elapsedMs);
+        }
+        Log.d(TAG, phase + " " + name + " took " + elapsedMs + " ms");
+    }
+}
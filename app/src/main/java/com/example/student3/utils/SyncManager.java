@@ -2,20 +2,25 @@ package com.example.student3.utils;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.provider.Settings;
 import android.util.Log;
 
+import com.example.student3.dao.ChangeLogDao;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Announcement;
-import com.example.student3.model.SimpleTodo;
+import com.example.student3.model.ChangeLogEntry;
+import com.example.student3.network.ApiService;
 import com.example.student3.network.NetworkManager;
 import com.example.student3.network.models.ApiResponse;
 import com.example.student3.network.models.SyncRequest;
 import com.example.student3.network.models.SyncResponse;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 import retrofit2.Call;
 import retrofit2.Callback;
@@ -38,6 +43,11 @@ public class SyncManager {
     private static final String KEY_SYNC_ENABLED = "sync_enabled";
     private static final String KEY_AUTO_SYNC = "auto_sync";
     private static final String KEY_WIFI_ONLY = "wifi_only_sync";
+    private static final int MAX_IDS_PER_QUERY = 900;
+
+    // Trace sections for the sync stages that run on the device
+    private static final String TRACE_BUILD_UPLOAD = "SyncManager.buildUpload";
+    private static final String TRACE_TRUNCATE = "SyncManager.truncateChangeLog";
     
     private static SyncManager instance;
     private Context context;
@@ -157,23 +167,22 @@ public class SyncManager {
      * Perform manual sync operation
      */
     public void performManualSync() {
-        if (!isSyncEnabled()) {
-            notifyError("Sync is disabled");
-            return;
-        }
-        
-        if (!networkManager.isNetworkAvailable()) {
-            currentStatus = SyncStatus.NO_NETWORK;
-            notifyError("No internet connection");
-            return;
+        SyncMergeRules.Gate gate = SyncMergeRules.checkGate(isSyncEnabled(),
+                networkManager.isNetworkAvailable(), isWiFiOnlySync(), networkManager.isWiFiConnected());
+        switch (gate) {
+            case DISABLED:
+                notifyError("Sync is disabled");
+                return;
+            case NO_NETWORK:
+                currentStatus = SyncStatus.NO_NETWORK;
+                notifyError("No internet connection");
+                return;
+            case WIFI_REQUIRED:
+                notifyError("WiFi connection required for sync");
+                return;
+            default:
+                startSync();
         }
-        
-        if (isWiFiOnlySync() && !networkManager.isWiFiConnected()) {
-            notifyError("WiFi connection required for sync");
-            return;
-        }
-        
-        startSync();
     }
     
     /**
@@ -183,7 +192,7 @@ public class SyncManager {
         currentStatus = SyncStatus.SYNCING;
         notifyStarted();
         
-        Log.d(TAG, "Starting sync process");
+        EventLog.d(TAG, "Starting sync process");
         
         // First, sync announcements (simple demo)
         syncAnnouncements();
@@ -199,21 +208,21 @@ public class SyncManager {
             @Override
             public void onResponse(Call<List<Announcement>> call, Response<List<Announcement>> response) {
                 if (response.isSuccessful() && response.body() != null) {
-                    Log.d(TAG, "Received " + response.body().size() + " announcements from server");
+                    EventLog.d(TAG, "Received %d announcements from server", response.body().size());
                     
                     // For demo purposes, we'll just log the data
                     // In a real app, you'd update the local database here
                     processAnnouncementSync(response.body());
                 } else {
                     Log.e(TAG, "Failed to sync announcements: " + response.code());
-                    syncTodos(); // Continue with next sync step
+                    uploadLocalChanges(); // Continue with next sync step
                 }
             }
             
             @Override
             public void onFailure(Call<List<Announcement>> call, Throwable t) {
                 Log.e(TAG, "Network error syncing announcements", t);
-                syncTodos(); // Continue with next sync step
+                uploadLocalChanges(); // Continue with next sync step
             }
         });
     }
@@ -222,39 +231,138 @@ public class SyncManager {
      * Process announcement sync results
      */
     private void processAnnouncementSync(List<Announcement> serverAnnouncements) {
-        // In a real implementation, you would:
-        // 1. Compare server data with local data
-        // 2. Update local database with new/changed announcements
-        // 3. Handle conflicts if any
-        
-        Log.d(TAG, "Processing " + serverAnnouncements.size() + " announcements");
-        
-        // For demo, just continue to next sync step
-        syncTodos();
+        // Announcements are read-only on the device. SyncMergeRules covers the merge
+        // once a server sends real data; until then the seeded rows are kept
+        EventLog.d(TAG, "Processing %d announcements", serverAnnouncements.size());
+        uploadLocalChanges();
     }
     
     /**
-     * Sync todos (demonstration)
+     * Upload local changes to todos, registrations and the profile.
+     *
+     * The delta comes from the change log that the database triggers keep, so it
+     * costs one read per changed record however large the tables are. The log is
+     * only truncated after the server acknowledges the upload; anything changed
+     * in the meantime has a newer sequence number and goes in the next sync.
+     * Without a server that accepts the upload, the changes are kept and the sync
+     * completes as before.
      */
-    private void syncTodos() {
-        notifyProgress("Syncing todos...");
-        
-        // Get local todos that need syncing
-        new Thread(() -> {
+    private void uploadLocalChanges() {
+        if (!ApiService.BULK_SYNC_AVAILABLE) {
+            EventLog.d(TAG, "No sync endpoint configured; local changes kept");
+            completeSyncProcess();
+            return;
+        }
+        notifyProgress("Uploading local changes...");
+
+        AppDatabase.databaseWriteExecutor.execute(() -> {
+            boolean traced = PerfTrace.begin(TRACE_BUILD_UPLOAD);
             try {
-                List<SimpleTodo> localTodos = database.simpleTodoDao().getAllTodosSync();
-                Log.d(TAG, "Found " + localTodos.size() + " local todos");
-                
-                // For demo, just complete the sync
-                completeSyncProcess();
-                
+                List<ChangeLogEntry> changes = database.changeLogDao().getChangesSince(ChangeLogDao.NO_CHANGES);
+                if (changes.isEmpty()) {
+                    EventLog.d(TAG, "No local changes to upload");
+                    completeSyncProcess();
+                    return;
+                }
+
+                long throughSeq = changes.get(changes.size() - 1).getSeq();
+                SyncRequest request = buildSyncRequest(changes);
+                EventLog.d(TAG, "Uploading %d local changes: %s", request, changes.size());
+                sendSyncRequest(request, throughSeq, changes.size());
+
             } catch (Exception e) {
-                Log.e(TAG, "Error syncing todos", e);
-                completeSyncProcess();
+                Log.e(TAG, "Error building sync request", e);
+                notifyError("Could not read local changes");
+            } finally {
+                PerfTrace.end(traced);
             }
-        }).start();
+        });
     }
-    
+
+    private SyncRequest buildSyncRequest(List<ChangeLogEntry> changes) {
+        List<Integer> todoIds = new ArrayList<>();
+        List<Integer> deletedTodoIds = new ArrayList<>();
+        List<Integer> registrationIds = new ArrayList<>();
+        List<Integer> deletedRegistrationIds = new ArrayList<>();
+        int profileId = 0;
+
+        // The log holds one entry per record, with its latest operation
+        for (ChangeLogEntry change : changes) {
+            switch (change.getTableName()) {
+                case ChangeLogEntry.TABLE_TODOS:
+                    (change.isDelete() ? deletedTodoIds : todoIds).add(change.getRecordId());
+                    break;
+                case ChangeLogEntry.TABLE_REGISTRATIONS:
+                    (change.isDelete() ? deletedRegistrationIds : registrationIds).add(change.getRecordId());
+                    break;
+                case ChangeLogEntry.TABLE_USER_PROFILES:
+                    // Profiles are only ever replaced, so a deleted one has nothing to send
+                    if (!change.isDelete()) {
+                        profileId = change.getRecordId();
+                    }
+                    break;
+                default:
+                    Log.w(TAG, "Ignoring change to unknown table " + change.getTableName());
+            }
+        }
+
+        SyncRequest request = new SyncRequest(new UserSession(context).getCurrentUserId(),
+                String.valueOf(preferences.getLong(KEY_LAST_SYNC_TIME, 0)),
+                Settings.Secure.getString(context.getContentResolver(), Settings.Secure.ANDROID_ID));
+        request.setTodos(loadByIds(todoIds, database.simpleTodoDao()::getTodosByIdsSync));
+        request.setDeletedTodoIds(deletedTodoIds);
+        request.setRegistrations(loadByIds(registrationIds, database.registrationDao()::getRegistrationsByIdsSync));
+        request.setDeletedRegistrationIds(deletedRegistrationIds);
+        if (profileId != 0) {
+            request.setUserProfile(database.userProfileDao().getUserProfileByIdSync(profileId));
+        }
+        return request;
+    }
+
+    /**
+     * Primary key lookups in chunks that stay under SQLite's bound parameter limit
+     */
+    private static <T> List<T> loadByIds(List<Integer> ids, Function<List<Integer>, List<T>> query) {
+        List<T> rows = new ArrayList<>(ids.size());
+        for (int start = 0; start < ids.size(); start += MAX_IDS_PER_QUERY) {
+            rows.addAll(query.apply(ids.subList(start, Math.min(ids.size(), start + MAX_IDS_PER_QUERY))));
+        }
+        return rows;
+    }
+
+    private void sendSyncRequest(SyncRequest request, long throughSeq, int changeCount) {
+        NetworkManager.getApiService().performBulkSync(request).enqueue(new Callback<SyncResponse>() {
+            @Override
+            public void onResponse(Call<SyncResponse> call, Response<SyncResponse> response) {
+                SyncResponse body = response.body();
+                if (response.isSuccessful() && body != null && body.isSuccess()) {
+                    AppDatabase.databaseWriteExecutor.execute(() -> {
+                        int uploaded;
+                        boolean traced = PerfTrace.begin(TRACE_TRUNCATE);
+                        try {
+                            uploaded = database.changeLogDao().truncateThrough(throughSeq);
+                        } finally {
+                            PerfTrace.end(traced);
+                        }
+                        EventLog.d(TAG, "Server acknowledged %d local changes", uploaded);
+                        completeSyncProcess();
+                    });
+                } else {
+                    // Keep the log so the same changes are sent again next time
+                    Log.e(TAG, "Failed to upload local changes: " + response.code()
+                            + (body != null ? " " + body.getMessage() : ""));
+                    notifyError(changeCount + " local changes could not be uploaded");
+                }
+            }
+
+            @Override
+            public void onFailure(Call<SyncResponse> call, Throwable t) {
+                Log.e(TAG, "Network error uploading local changes", t);
+                notifyError(changeCount + " local changes could not be uploaded");
+            }
+        });
+    }
+
     /**
      * Complete sync process
      */
@@ -265,7 +373,7 @@ public class SyncManager {
         currentStatus = SyncStatus.SUCCESS;
         notifyCompleted(true, "Sync completed successfully");
         
-        Log.d(TAG, "Sync process completed");
+        EventLog.d(TAG, "Sync process completed");
     }
     
     /**
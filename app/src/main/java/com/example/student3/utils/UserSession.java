@@ -64,6 +64,8 @@ public class UserSession {
     public void logoutUser() {
         editor.clear();
         editor.apply();
+        // Reminders belong to the student who armed them
+        ClassReminderScheduler.getInstance(context).cancel();
     }
 
     public String getCurrentUserEmail() {
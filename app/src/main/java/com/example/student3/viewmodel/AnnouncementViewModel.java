@@ -5,22 +5,24 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementListItem;
 import com.example.student3.repository.AnnouncementRepository;
 
 import java.util.List;
 
 public class AnnouncementViewModel extends AndroidViewModel {
     private final AnnouncementRepository repository;
-    private final LiveData<List<Announcement>> allAnnouncements;
+    private final LiveData<List<AnnouncementListItem>> allAnnouncements;
 
     public AnnouncementViewModel(Application application) {
         super(application);
-        repository = new AnnouncementRepository(application);
+        repository = AppContainer.getInstance(application).getAnnouncementRepository();
         allAnnouncements = repository.getAllAnnouncements();
     }
 
-    public LiveData<List<Announcement>> getAllAnnouncements() {
+    public LiveData<List<AnnouncementListItem>> getAllAnnouncements() {
         return allAnnouncements;
     }
 
@@ -28,15 +30,15 @@ public class AnnouncementViewModel extends AndroidViewModel {
         return repository.getAnnouncementById(announcementId);
     }
 
-    public LiveData<List<Announcement>> getImportantAnnouncements() {
+    public LiveData<List<AnnouncementListItem>> getImportantAnnouncements() {
         return repository.getImportantAnnouncements();
     }
 
-    public LiveData<List<Announcement>> searchAnnouncements(String query) {
+    public LiveData<List<AnnouncementListItem>> searchAnnouncements(String query) {
         return repository.searchAnnouncements(query);
     }
 
-    public LiveData<List<Announcement>> getUnreadAnnouncements() {
+    public LiveData<List<AnnouncementListItem>> getUnreadAnnouncements() {
         return repository.getUnreadAnnouncements();
     }
 
@@ -44,6 +46,10 @@ public class AnnouncementViewModel extends AndroidViewModel {
         return repository.getUnreadAnnouncementCount();
     }
 
+    public LiveData<Integer> getImportantUnreadCount() {
+        return repository.getImportantUnreadCount();
+    }
+
     public void insert(Announcement announcement) {
         repository.insert(announcement);
     }
@@ -1,23 +1,127 @@
 package com.example.student3.viewmodel;
 
 import android.app.Application;
+import android.os.Handler;
+import android.os.Looper;
 
+import androidx.annotation.VisibleForTesting;
+import androidx.arch.core.util.Function;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Transformations;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Course;
+import com.example.student3.model.CourseListItem;
+import com.example.student3.repository.CourseQuery;
 import com.example.student3.repository.CourseRepository;
 
 import java.util.List;
 
 public class CourseViewModel extends AndroidViewModel {
+    // Typing pauses shorter than this are treated as one search
+    public static final long SEARCH_DEBOUNCE_MS = 300;
+
     private final CourseRepository repository;
     private final LiveData<List<Course>> allCourses;
 
+    // The course list is driven by one query input mapped to one Room query at a time
+    private final MutableLiveData<CourseQuery> courseQuery = new MutableLiveData<>();
+    private final LiveData<List<CourseListItem>> courseResults;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable applyPendingQuery = this::applyPendingQuery;
+    private CourseQuery pendingQuery;
+
     public CourseViewModel(Application application) {
         super(application);
-        repository = new CourseRepository(application);
+        repository = AppContainer.getInstance(application).getCourseRepository();
         allCourses = repository.getAllCourses();
+        courseResults = Transformations.switchMap(
+                Transformations.distinctUntilChanged(courseQuery), repository::getCourses);
+    }
+
+    @VisibleForTesting
+    CourseViewModel(Application application, Function<CourseQuery, LiveData<List<CourseListItem>>> queryRunner) {
+        super(application);
+        repository = AppContainer.getInstance(application).getCourseRepository();
+        allCourses = repository.getAllCourses();
+        courseResults = Transformations.switchMap(
+                Transformations.distinctUntilChanged(courseQuery), queryRunner::apply);
+    }
+
+    /**
+     * Results of the current course query. Switching queries detaches the previous
+     * Room query, so only one is ever observed.
+     */
+    public LiveData<List<CourseListItem>> getCourseResults() {
+        return courseResults;
+    }
+
+    /**
+     * Latest requested query, including text that is still being debounced
+     */
+    public CourseQuery getCourseQuery() {
+        return pendingQuery;
+    }
+
+    /**
+     * Set the starting query unless one survived a configuration change
+     */
+    public void initCourseQuery(CourseQuery query) {
+        if (pendingQuery == null) {
+            setCourseQueryNow(query);
+        }
+    }
+
+    /**
+     * Update the search text; the query runs once typing pauses
+     */
+    public void setSearchText(String text) {
+        if (pendingQuery == null) {
+            return;
+        }
+        pendingQuery = pendingQuery.withText(text);
+        handler.removeCallbacks(applyPendingQuery);
+        handler.postDelayed(applyPendingQuery, SEARCH_DEBOUNCE_MS);
+    }
+
+    /**
+     * Run the pending search text immediately, e.g. from the keyboard search action
+     */
+    public void submitSearch() {
+        if (pendingQuery != null) {
+            setCourseQueryNow(pendingQuery);
+        }
+    }
+
+    public void setRegisteredOnly(boolean registeredOnly) {
+        if (pendingQuery != null) {
+            setCourseQueryNow(pendingQuery.withRegisteredOnly(registeredOnly));
+        }
+    }
+
+    private void setCourseQueryNow(CourseQuery query) {
+        pendingQuery = query;
+        handler.removeCallbacks(applyPendingQuery);
+        applyPendingQuery();
+    }
+
+    private void applyPendingQuery() {
+        courseQuery.setValue(pendingQuery);
+    }
+
+    @Override
+    protected void onCleared() {
+        super.onCleared();
+        handler.removeCallbacks(applyPendingQuery);
+    }
+
+    /**
+     * Course list rows for a fixed query, for screens without search such as the dashboard
+     */
+    public LiveData<List<CourseListItem>> getCourseListItems(CourseQuery query) {
+        return repository.getCourses(query);
     }
 
     public LiveData<List<Course>> getAllCourses() {
@@ -55,4 +159,4 @@ public class CourseViewModel extends AndroidViewModel {
     public LiveData<List<Course>> searchCoursesByDepartment(String query, int departmentId) {
         return repository.searchCoursesByDepartment(query, departmentId);
     }
-}
\ No newline at end of file
+}
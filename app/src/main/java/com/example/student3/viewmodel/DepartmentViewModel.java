@@ -5,6 +5,7 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Department;
 import com.example.student3.repository.DepartmentRepository;
 
@@ -16,7 +17,7 @@ public class DepartmentViewModel extends AndroidViewModel {
 
     public DepartmentViewModel(Application application) {
         super(application);
-        repository = new DepartmentRepository(application);
+        repository = AppContainer.getInstance(application).getDepartmentRepository();
         allDepartments = repository.getAllDepartments();
     }
 
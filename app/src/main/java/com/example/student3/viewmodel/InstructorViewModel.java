@@ -5,6 +5,7 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Instructor;
 import com.example.student3.repository.InstructorRepository;
 
@@ -16,7 +17,7 @@ public class InstructorViewModel extends AndroidViewModel {
 
     public InstructorViewModel(Application application) {
         super(application);
-        repository = new InstructorRepository(application);
+        repository = AppContainer.getInstance(application).getInstructorRepository();
         allInstructors = repository.getAllInstructors();
     }
 
@@ -5,6 +5,7 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Registration;
 import com.example.student3.repository.RegistrationRepository;
 
@@ -16,7 +17,7 @@ public class RegistrationViewModel extends AndroidViewModel {
 
     public RegistrationViewModel(Application application) {
         super(application);
-        repository = new RegistrationRepository(application);
+        repository = AppContainer.getInstance(application).getRegistrationRepository();
         allRegistrations = repository.getAllRegistrations();
     }
 
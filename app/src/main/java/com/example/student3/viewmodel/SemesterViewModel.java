@@ -5,6 +5,7 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Semester;
 import com.example.student3.repository.SemesterRepository;
 
@@ -16,7 +17,7 @@ public class SemesterViewModel extends AndroidViewModel {
 
     public SemesterViewModel(Application application) {
         super(application);
-        repository = new SemesterRepository(application);
+        repository = AppContainer.getInstance(application).getSemesterRepository();
         allSemesters = repository.getAllSemesters();
     }
 
@@ -5,6 +5,7 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.SimpleTodo;
 import com.example.student3.repository.SimpleTodoRepository;
 
@@ -15,7 +16,7 @@ public class SimpleTodoViewModel extends AndroidViewModel {
 
     public SimpleTodoViewModel(@NonNull Application application) {
         super(application);
-        repository = new SimpleTodoRepository(application);
+        repository = AppContainer.getInstance(application).getSimpleTodoRepository();
     }
 
     // Insert todo
@@ -5,6 +5,7 @@ import android.app.Application;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 
+import com.example.student3.AppContainer;
 import com.example.student3.model.Student;
 import com.example.student3.repository.StudentRepository;
 
@@ -16,7 +17,7 @@ public class StudentViewModel extends AndroidViewModel {
 
     public StudentViewModel(Application application) {
         super(application);
-        repository = new StudentRepository(application);
+        repository = AppContainer.getInstance(application).getStudentRepository();
         allStudents = repository.getAllStudents();
     }
 
@@ -8,10 +8,14 @@ import androidx.annotation.NonNull;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
+import com.example.student3.AppContainer;
 import com.example.student3.database.AppDatabase;
 import com.example.student3.model.Announcement;
+import com.example.student3.utils.IdRunSet;
 import com.example.student3.utils.NotificationHelper;
+import com.example.student3.utils.UserSession;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,7 +44,7 @@ public class AnnouncementCheckWorker extends Worker {
             
             Context context = getApplicationContext();
             AppDatabase database = AppDatabase.getDatabase(context);
-            NotificationHelper notificationHelper = new NotificationHelper(context);
+            NotificationHelper notificationHelper = AppContainer.getInstance(context).getNotificationHelper();
             SharedPreferences prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
             
             // Get current announcement count
@@ -58,7 +62,14 @@ public class AnnouncementCheckWorker extends Worker {
                 Log.d(TAG, "Found " + (currentCount - lastKnownCount) + " new announcements");
                 
                 // Get unread announcements to notify about
-                List<Announcement> unreadAnnouncements = database.announcementDao().getUnreadAnnouncementsSync();
+                List<Announcement> unreadAnnouncements = new ArrayList<>();
+                IdRunSet readIds = database.announcementReadStateDao()
+                        .getReadSetSync(new UserSession(context).getCurrentUserId());
+                for (Announcement announcement : database.announcementDao().getActiveAnnouncementsSync()) {
+                    if (!readIds.contains(announcement.getAnnouncementId())) {
+                        unreadAnnouncements.add(announcement);
+                    }
+                }
                 
                 if (unreadAnnouncements != null && !unreadAnnouncements.isEmpty()) {
                     // Show notification for the most recent unread announcement
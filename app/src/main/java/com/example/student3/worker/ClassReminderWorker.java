@@ -0,0 +1,64 @@
+package com.example.student3.worker;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.student3.AppContainer;
+import com.example.student3.database.AppDatabase;
+import com.example.student3.model.Course;
+import com.example.student3.utils.ClassReminderScheduler;
+import com.example.student3.utils.UserSession;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-shot WorkManager worker that shows a reminder before a class starts
+ * and then arms the reminder for the next class.
+ *
+ * Only one of these is ever enqueued; see {@link ClassReminderScheduler}.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0 - Class Reminders
+ * @since 2025
+ */
+public class ClassReminderWorker extends Worker {
+    private static final String TAG = "ClassReminderWorker";
+
+    public ClassReminderWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            Context context = getApplicationContext();
+            if (!new UserSession(context).isLoggedIn()) {
+                // Logged out since the reminder was armed; don't re-arm
+                return Result.success();
+            }
+
+            int courseId = getInputData().getInt(ClassReminderScheduler.KEY_COURSE_ID, -1);
+            long classStart = getInputData().getLong(ClassReminderScheduler.KEY_CLASS_START_TIME, 0);
+            long now = System.currentTimeMillis();
+
+            Course course = AppDatabase.getDatabase(context).courseDao().getCourseByIdSync(courseId);
+            if (course != null && classStart > now) {
+                int minutesUntilStart = (int) Math.max(1, TimeUnit.MILLISECONDS.toMinutes(classStart - now));
+                AppContainer.getInstance(context).getNotificationHelper()
+                        .showClassReminderNotification(course, minutesUntilStart);
+            }
+
+            ClassReminderScheduler.getInstance(context).onReminderFired();
+            return Result.success();
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error during class reminder work", e);
+            return Result.retry();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.student3.worker;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.student3.AppContainer;
+import com.example.student3.dao.AnnouncementDao;
+import com.example.student3.database.AppDatabase;
+import com.example.student3.utils.EpochDay;
+import com.example.student3.utils.NotificationHelper;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily database housekeeping, run while the device is idle.
+ *
+ * Deletes announcements past their expiry date in small chunks, so each write
+ * transaction stays short and the UI can keep reading in between, and cancels any
+ * notification still showing for them. The announcement counters, each student's
+ * read state and the course enrollment counts are then rebuilt from the tables,
+ * which drops the pruned ids and corrects any drift in the badge and enrollment
+ * counts. Then returns the freed pages to the file system with incremental vacuum
+ * and refreshes the query planner statistics. The number of rows each step fixed
+ * and the database size before and after are logged and kept in preferences.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0 - Database Maintenance
+ * @since 2025
+ */
+public class DatabaseMaintenanceWorker extends Worker {
+    private static final String TAG = "DatabaseMaintenance";
+    private static final String WORK_NAME = "database_maintenance_work";
+    private static final String PREF_NAME = "db_maintenance_prefs";
+
+    public static final String KEY_PRUNED_ANNOUNCEMENTS = "pruned_announcements";
+    public static final String KEY_RECONCILED_READ_STATES = "reconciled_read_states";
+    public static final String KEY_RECOUNTED_COURSES = "recounted_courses";
+    public static final String KEY_SIZE_BEFORE = "size_before";
+    public static final String KEY_SIZE_AFTER = "size_after";
+    public static final String KEY_LAST_RUN_TIME = "last_run_time";
+
+    // Well under SQLite's limit of 999 bound parameters for the IN (...) delete
+    private static final int PRUNE_CHUNK_SIZE = 200;
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    public DatabaseMaintenanceWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Schedule the daily run, keeping an existing schedule
+     */
+    public static void schedule(Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiresDeviceIdle(true)
+                .setRequiresBatteryNotLow(true)
+                .setRequiresStorageNotLow(true) // VACUUM needs room for a copy of the database
+                .build();
+
+        PeriodicWorkRequest workRequest = new PeriodicWorkRequest.Builder(
+                DatabaseMaintenanceWorker.class, 1, TimeUnit.DAYS)
+                .setConstraints(constraints)
+                .addTag("database_maintenance")
+                .build();
+
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(
+                WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, workRequest);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        try {
+            Context context = getApplicationContext();
+            AppDatabase database = AppDatabase.getDatabase(context);
+            File databaseFile = context.getDatabasePath(AppDatabase.DATABASE_NAME);
+            long sizeBefore = databaseSize(databaseFile);
+
+            int pruned = pruneExpiredAnnouncements(database,
+                    AppContainer.getInstance(context).getNotificationHelper());
+            if (isStopped()) {
+                return Result.retry();
+            }
+            int reconciled = database.announcementCounterDao().reconcile();
+            int recounted = database.courseEnrollmentDao().recount();
+            if (isStopped()) {
+                return Result.retry();
+            }
+            compact(database.getOpenHelper().getWritableDatabase());
+
+            long sizeAfter = databaseSize(databaseFile);
+            Log.i(TAG, "Pruned " + pruned + " expired announcements, reconciled " + reconciled
+                    + " read states, recounted " + recounted + " courses, database "
+                    + sizeBefore + " -> " + sizeAfter + " bytes");
+
+            context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE).edit()
+                    .putInt(KEY_PRUNED_ANNOUNCEMENTS, pruned)
+                    .putInt(KEY_RECONCILED_READ_STATES, reconciled)
+                    .putInt(KEY_RECOUNTED_COURSES, recounted)
+                    .putLong(KEY_SIZE_BEFORE, sizeBefore)
+                    .putLong(KEY_SIZE_AFTER, sizeAfter)
+                    .putLong(KEY_LAST_RUN_TIME, System.currentTimeMillis())
+                    .apply();
+
+            return Result.success(new Data.Builder()
+                    .putInt(KEY_PRUNED_ANNOUNCEMENTS, pruned)
+                    .putInt(KEY_RECONCILED_READ_STATES, reconciled)
+                    .putInt(KEY_RECOUNTED_COURSES, recounted)
+                    .putLong(KEY_SIZE_BEFORE, sizeBefore)
+                    .putLong(KEY_SIZE_AFTER, sizeAfter)
+                    .build());
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error during database maintenance", e);
+            return Result.retry();
+        }
+    }
+
+    /**
+     * Delete expired announcements one chunk per transaction
+     * @return Number of announcements deleted
+     */
+    private int pruneExpiredAnnouncements(AppDatabase database, NotificationHelper notificationHelper) {
+        AnnouncementDao announcementDao = database.announcementDao();
+        String today = EpochDay.format(EpochDay.today());
+        int pruned = 0;
+
+        List<Integer> expiredIds;
+        do {
+            expiredIds = announcementDao.getExpiredAnnouncementIds(today, PRUNE_CHUNK_SIZE);
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+            pruned += database.announcementCounterDao().deleteAnnouncements(expiredIds);
+            for (int announcementId : expiredIds) {
+                notificationHelper.cancelAnnouncementNotification(announcementId);
+            }
+        } while (expiredIds.size() == PRUNE_CHUNK_SIZE && !isStopped());
+
+        return pruned;
+    }
+
+    private void compact(SupportSQLiteDatabase db) {
+        if (queryLong(db, "PRAGMA auto_vacuum") != AUTO_VACUUM_INCREMENTAL) {
+            // The mode only applies to a new file or after a full VACUUM, so this runs once
+            Log.i(TAG, "Switching database to incremental auto-vacuum");
+            db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
+            db.execSQL("VACUUM");
+        } else {
+            drain(db, "PRAGMA incremental_vacuum");
+        }
+        db.execSQL("ANALYZE");
+        drain(db, "PRAGMA optimize");
+        // Fold the WAL back into the main file so the size on disk reflects the vacuum
+        drain(db, "PRAGMA wal_checkpoint(TRUNCATE)");
+    }
+
+    private static long queryLong(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : -1;
+        }
+    }
+
+    /**
+     * Step a pragma to completion; some of them do their work one row at a time
+     */
+    private static void drain(SupportSQLiteDatabase db, String sql) {
+        try (Cursor cursor = db.query(sql)) {
+            while (cursor.moveToNext()) {
+                // Nothing to read
+            }
+        }
+    }
+
+    private static long databaseSize(File databaseFile) {
+        return databaseFile.length() + new File(databaseFile.getPath() + "-wal").length();
+    }
+}
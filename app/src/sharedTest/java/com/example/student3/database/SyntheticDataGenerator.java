@@ -0,0 +1,539 @@
+package com.example.student3.database;
+
+import android.content.Context;
+
+import androidx.annotation.WorkerThread;
+import androidx.room.Room;
+
+import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementReadState;
+import com.example.student3.model.Course;
+import com.example.student3.model.Department;
+import com.example.student3.model.Instructor;
+import com.example.student3.model.Registration;
+import com.example.student3.model.Semester;
+import com.example.student3.model.SimpleTodo;
+import com.example.student3.model.Student;
+import com.example.student3.utils.EpochDay;
+import com.example.student3.utils.IdRunSet;
+import com.example.student3.utils.PasswordUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic generator that fills an {@link AppDatabase} with realistic volumes of data.
+ *
+ * The same seed and {@link Scale} always produce the same rows with the same IDs, so
+ * instrumented tests, Robolectric tests and benchmarks can compare runs. Each table has
+ * its own random stream, so changing the size of one table doesn't change the others.
+ * Rows are inserted in batches, one transaction per batch, which keeps memory flat and
+ * avoids a journal commit per row.
+ *
+ * Every generated student can log in as {@code student<id>@dann4.edu} with
+ * {@link #DEFAULT_PASSWORD}.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 20250826L;
+    public static final int DEFAULT_BATCH_SIZE = 5000;
+    public static final String DEFAULT_PASSWORD = "test123";
+
+    // By default dates are generated around a fixed day so the output doesn't depend on the clock
+    public static final int REFERENCE_DAY = EpochDay.of(2025, 9, 15);
+
+    private static final String[][] DEPARTMENTS = {
+            {"Computer Science", "CS"},
+            {"Engineering", "ENG"},
+            {"Business", "BUS"},
+            {"Medicine", "MED"},
+            {"Arts", "ART"}
+    };
+
+    private static final String[][] SEMESTERS = {
+            {"Fall 2025", "2025-08-26", "2025-12-15", "2025-08-20"},
+            {"Spring 2026", "2026-01-15", "2026-05-10", "2026-01-10"},
+            {"Summer 2026", "2026-06-01", "2026-08-15", "2026-05-25"}
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "Abebe", "Aisha", "Amanda", "Carlos", "Chen", "Daniel", "David", "Emily", "Fatima", "Hana",
+            "James", "Jennifer", "Kofi", "Lisa", "Maria", "Mekdes", "Michael", "Nia", "Omar", "Priya",
+            "Robert", "Samuel", "Sarah", "Sofia", "Thomas", "Yonas", "Yuki", "Zara"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Alemu", "Anderson", "Brown", "Chen", "Davis", "Garcia", "Haile", "Johnson", "Kim", "Mensah",
+            "Miller", "Nguyen", "Okafor", "Patel", "Rodriguez", "Silva", "Tadesse", "Taylor", "Williams", "Wilson"
+    };
+
+    private static final String[] COURSE_LEVELS = {
+            "Introduction to", "Foundations of", "Applied", "Advanced", "Topics in", "Principles of", "Seminar in"
+    };
+
+    private static final String[][] COURSE_SUBJECTS = {
+            {"Programming", "Data Structures", "Database Systems", "Operating Systems", "Computer Networks",
+                    "Machine Learning", "Mobile Development", "Cybersecurity", "Algorithms", "Compilers"},
+            {"Circuit Analysis", "Thermodynamics", "Mechanical Design", "Control Systems", "Materials Science",
+                    "Fluid Mechanics", "Structural Analysis", "Signal Processing", "Robotics", "Statics"},
+            {"Accounting", "Marketing", "Finance", "Management", "Economics",
+                    "Business Analytics", "Entrepreneurship", "Supply Chains", "Business Law", "Negotiation"},
+            {"Anatomy", "Physiology", "Pathology", "Biochemistry", "Pharmacology",
+                    "Immunology", "Microbiology", "Genetics", "Epidemiology", "Medical Ethics"},
+            {"Art History", "Studio Art", "Creative Writing", "Philosophy", "Music Theory",
+                    "Digital Arts", "Film Studies", "Literature", "Photography", "Cultural Studies"}
+    };
+
+    private static final String[] ROMAN = {"", " I", " II", " III"};
+
+    private static final String[] ANNOUNCEMENT_TOPICS = {
+            "Registration Deadline", "Library Hours", "Campus WiFi Maintenance", "Exam Schedule",
+            "Career Fair", "Health Services", "Scholarship Applications", "Guest Lecture",
+            "Sports Day", "Tuition Payment", "Housing Update", "Lab Safety Training"
+    };
+
+    private static final String[] ANNOUNCEMENT_SENTENCES = {
+            "Please read this notice carefully and share it with your classmates.",
+            "The change applies to all students enrolled in the current semester.",
+            "Reminder: late submissions will not be accepted after the deadline.",
+            "Visit the student services office if you have any questions.",
+            "The library will stay open until midnight during the exam period.",
+            "Free flu shots are available at the health center with no appointment necessary.",
+            "WiFi will be temporarily unavailable on Saturday from 2 to 4 AM for maintenance.",
+            "Bring your student ID card, as it will be checked at the entrance.",
+            "Registration for the next semester opens two weeks before classes start.",
+            "Updated timetables are posted on the department notice boards and in the app."
+    };
+
+    private static final String[] TODO_TASKS = {
+            "Finish assignment", "Read chapter", "Prepare presentation", "Review lecture notes",
+            "Submit lab report", "Study for quiz", "Email instructor", "Group project meeting"
+    };
+
+    private static final String[] GRADES = {"A", "A-", "B+", "B", "B-", "C+", "C", "D", "F"};
+
+    private static final String[] MEETING_DAYS = {"MON,WED,FRI", "TUE,THU", "MON,WED", "FRI"};
+
+    private final long seed;
+    private final int batchSize;
+    private final int referenceDay;
+
+    public SyntheticDataGenerator() {
+        this(DEFAULT_SEED, DEFAULT_BATCH_SIZE);
+    }
+
+    public SyntheticDataGenerator(long seed, int batchSize) {
+        this(seed, batchSize, REFERENCE_DAY);
+    }
+
+    /**
+     * @param referenceDay Day the data is generated around, e.g. {@link EpochDay#today()}
+     *                     when queries compare against the current date
+     */
+    public SyntheticDataGenerator(long seed, int batchSize, int referenceDay) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.seed = seed;
+        this.batchSize = batchSize;
+        this.referenceDay = referenceDay;
+    }
+
+    /**
+     * Number of rows per table
+     */
+    public static final class Scale {
+        public static final int DEFAULT_DEPARTMENTS = DEPARTMENTS.length;
+
+        /** About 17k rows; quick enough for every Robolectric run */
+        public static final Scale SMALL = new Scale(1_000, 200, 10_000, 1_000, 5_000);
+        /** About 170k rows */
+        public static final Scale MEDIUM = new Scale(10_000, 2_000, 100_000, 10_000, 50_000);
+        /** About 1.4M rows, one million of them registrations */
+        public static final Scale LARGE = new Scale(50_000, 10_000, 1_000_000, 50_000, 250_000);
+        /** A large university: 100k students and 2M registrations */
+        public static final Scale CAMPUS = new Scale(100_000, 20_000, 2_000_000, 100_000, 500_000);
+
+        public final int departments;
+        public final int instructors;
+        public final int students;
+        public final int courses;
+        public final int registrations;
+        public final int announcements;
+        public final int todos;
+
+        public Scale(int students, int courses, int registrations, int announcements, int todos) {
+            this(DEFAULT_DEPARTMENTS, students, courses, registrations, announcements, todos);
+        }
+
+        public Scale(int departments, int students, int courses, int registrations, int announcements, int todos) {
+            if (departments <= 0 || students < 0 || courses < 0 || registrations < 0
+                    || announcements < 0 || todos < 0) {
+                throw new IllegalArgumentException("Invalid scale");
+            }
+            if ((registrations > 0 && (students == 0 || courses == 0)) || (todos > 0 && students == 0)) {
+                throw new IllegalArgumentException("Registrations and todos need students and courses");
+            }
+            this.departments = departments;
+            // Roughly four courses per instructor, at least one per department
+            this.instructors = Math.max(departments, courses / 4);
+            this.students = students;
+            this.courses = courses;
+            this.registrations = registrations;
+            this.announcements = announcements;
+            this.todos = todos;
+        }
+
+        public long getTotalRows() {
+            return (long) departments + instructors + SEMESTERS.length + students + courses
+                    + registrations + announcements + todos;
+        }
+
+        @Override
+        public String toString() {
+            return "Scale{students=" + students + ", courses=" + courses + ", registrations=" + registrations
+                    + ", announcements=" + announcements + ", todos=" + todos + "}";
+        }
+    }
+
+    /**
+     * What a {@link #populate} call wrote and how long it took
+     */
+    public static final class Summary {
+        private final Scale scale;
+        private final long elapsedMillis;
+
+        Summary(Scale scale, long elapsedMillis) {
+            this.scale = scale;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public Scale getScale() {
+            return scale;
+        }
+
+        public long getRowCount() {
+            return scale.getTotalRows();
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public long getRowsPerSecond() {
+            return getRowCount() * 1000 / Math.max(1, elapsedMillis);
+        }
+
+        @Override
+        public String toString() {
+            return scale + " in " + elapsedMillis + " ms (" + getRowsPerSecond() + " rows/s)";
+        }
+    }
+
+    /**
+     * In-memory database for tests and benchmarks, with the app's triggers but
+     * without the sample-data callback
+     */
+    public static AppDatabase createInMemoryDatabase(Context context) {
+        return Room.inMemoryDatabaseBuilder(context.getApplicationContext(), AppDatabase.class)
+                .addCallback(DatabaseTriggers.CALLBACK)
+                .allowMainThreadQueries()
+                .build();
+    }
+
+    /**
+     * Replace the contents of the database with generated data
+     */
+    @WorkerThread
+    public Summary populate(AppDatabase db, Scale scale) {
+        long start = System.nanoTime();
+        db.clearAllTables();
+
+        insertDepartments(db, scale);
+        insertInstructors(db, scale);
+        insertSemesters(db);
+        insertCourses(db, scale);
+        insertStudents(db, scale);
+        insertRegistrations(db, scale);
+        insertAnnouncements(db, scale);
+        insertReadStates(db, scale);
+        insertTodos(db, scale);
+        // Generated rows count as already synced
+        db.changeLogDao().deleteAll();
+        // clearAllTables also emptied the counters, so the triggers had nothing to update
+        db.announcementCounterDao().reconcile();
+
+        return new Summary(scale, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Login email of a generated student
+     */
+    public static String emailFor(int studentId) {
+        return "student" + studentId + "@dann4.edu";
+    }
+
+    private Random randomFor(int table) {
+        return new Random(seed * 31 + table);
+    }
+
+    private void insertDepartments(AppDatabase db, Scale scale) {
+        BatchWriter<Department> writer = new BatchWriter<>(db.departmentDao()::insertAll);
+        for (int id = 1; id <= scale.departments; id++) {
+            String name = id <= DEPARTMENTS.length ? DEPARTMENTS[id - 1][0] : "Department " + id;
+            String code = id <= DEPARTMENTS.length ? DEPARTMENTS[id - 1][1] : "D" + id;
+            Department department = new Department(name, code, "Department of " + name, null);
+            department.setDepartmentId(id);
+            writer.add(department);
+        }
+        writer.flush();
+    }
+
+    private void insertInstructors(AppDatabase db, Scale scale) {
+        Random random = randomFor(1);
+        BatchWriter<Instructor> writer = new BatchWriter<>(db.instructorDao()::insertAll);
+        for (int id = 1; id <= scale.instructors; id++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            String email = firstName.toLowerCase(Locale.US) + "." + lastName.toLowerCase(Locale.US) + id + "@dann4.edu";
+            Instructor instructor = new Instructor((random.nextBoolean() ? "Dr. " : "Prof. ") + firstName,
+                    lastName, email, phoneNumber(random), departmentOf(id, scale), null);
+            instructor.setInstructorId(id);
+            writer.add(instructor);
+        }
+        writer.flush();
+    }
+
+    private void insertSemesters(AppDatabase db) {
+        BatchWriter<Semester> writer = new BatchWriter<>(db.semesterDao()::insertAll);
+        for (int i = 0; i < SEMESTERS.length; i++) {
+            String[] row = SEMESTERS[i];
+            Semester semester = new Semester(row[0], row[1], row[2], row[3], i == 0);
+            semester.setSemesterId(i + 1);
+            writer.add(semester);
+        }
+        writer.flush();
+    }
+
+    private void insertCourses(AppDatabase db, Scale scale) {
+        Random random = randomFor(2);
+        BatchWriter<Course> writer = new BatchWriter<>(db.courseDao()::insertAll);
+        for (int id = 1; id <= scale.courses; id++) {
+            int departmentId = departmentOf(id, scale);
+            String[] subjects = COURSE_SUBJECTS[(departmentId - 1) % COURSE_SUBJECTS.length];
+            String subject = pick(random, subjects);
+            String title = pick(random, COURSE_LEVELS) + " " + subject + ROMAN[random.nextInt(ROMAN.length)];
+            // Course numbers are unique within a department because IDs cycle through departments
+            String code = departmentCode(departmentId, scale) + (100 + (id - 1) / scale.departments);
+
+            int creditHours = 3 + random.nextInt(3) / 2;
+            int startPeriod = 1 + random.nextInt(8);
+            int endPeriod = Math.min(8, startPeriod + random.nextInt(2));
+            // Most courses run in the current semester, as in the sample data
+            int semesterIndex = random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(SEMESTERS.length - 1);
+            String[] semester = SEMESTERS[semesterIndex];
+            int instructorId = departmentId + scale.departments * random.nextInt(instructorsIn(departmentId, scale));
+
+            Course course = new Course(code, title, "Covers the core ideas of " + subject.toLowerCase(Locale.US)
+                    + " with weekly exercises and a final project.", creditHours, departmentId, instructorId,
+                    semesterIndex + 1, 15 + random.nextInt(46), semester[1], semester[2],
+                    pick(random, MEETING_DAYS), startPeriod, endPeriod, creditHours);
+            course.setCourseId(id);
+            writer.add(course);
+        }
+        writer.flush();
+    }
+
+    private void insertStudents(AppDatabase db, Scale scale) {
+        Random random = randomFor(3);
+        // Hashing is deliberately slow, so every student shares one hash of the default password
+        String passwordHash = PasswordUtils.hashPassword(DEFAULT_PASSWORD);
+        BatchWriter<Student> writer = new BatchWriter<>(db.studentDao()::insertAll);
+        for (int id = 1; id <= scale.students; id++) {
+            Student student = new Student(pick(random, FIRST_NAMES), pick(random, LAST_NAMES), emailFor(id),
+                    phoneNumber(random), EpochDay.format(referenceDay - random.nextInt(4 * 365)),
+                    studentDepartment(id, scale), null);
+            student.setStudentId(id);
+            student.setPasswordHash(passwordHash);
+            writer.add(student);
+        }
+        writer.flush();
+    }
+
+    private void insertRegistrations(AppDatabase db, Scale scale) {
+        if (scale.registrations == 0) return;
+        Random random = randomFor(4);
+        int perStudent = scale.registrations / scale.students;
+        int studentsWithExtra = scale.registrations % scale.students;
+        int registrationStart = EpochDay.parse(SEMESTERS[0][3], REFERENCE_DAY) - 14;
+
+        BatchWriter<Registration> writer = new BatchWriter<>(db.registrationDao()::insertAll);
+        int id = 1;
+        for (int studentId = 1; studentId <= scale.students && id <= scale.registrations; studentId++) {
+            int departmentId = studentDepartment(studentId, scale);
+            int coursesInDepartment = coursesIn(departmentId, scale);
+            int firstCourse = random.nextInt(Math.max(1, coursesInDepartment));
+            int count = perStudent + (studentId <= studentsWithExtra ? 1 : 0);
+
+            for (int k = 0; k < count; k++, id++) {
+                // Mostly courses of the student's own department, some electives from anywhere
+                int courseId;
+                if (coursesInDepartment > 0 && random.nextInt(10) < 8) {
+                    courseId = departmentId + scale.departments * ((firstCourse + k) % coursesInDepartment);
+                } else {
+                    courseId = 1 + random.nextInt(scale.courses);
+                }
+
+                int roll = random.nextInt(100);
+                String status;
+                String grade = null;
+                int registeredOn;
+                if (roll < 75) {
+                    status = "REGISTERED";
+                    registeredOn = registrationStart + random.nextInt(21);
+                } else if (roll < 93) {
+                    status = "COMPLETED";
+                    grade = pick(random, GRADES);
+                    registeredOn = registrationStart - 120 - random.nextInt(3 * 365);
+                } else {
+                    status = "DROPPED";
+                    registeredOn = registrationStart + random.nextInt(21);
+                }
+
+                Registration registration = new Registration(studentId, courseId,
+                        EpochDay.format(registeredOn), status, grade);
+                registration.setRegistrationId(id);
+                writer.add(registration);
+            }
+        }
+        writer.flush();
+    }
+
+    private void insertAnnouncements(AppDatabase db, Scale scale) {
+        Random random = randomFor(5);
+        StringBuilder content = new StringBuilder();
+        BatchWriter<Announcement> writer = new BatchWriter<>(db.announcementDao()::insertAll);
+        for (int id = 1; id <= scale.announcements; id++) {
+            // Content ranges from one sentence to a few paragraphs
+            content.setLength(0);
+            int sentences = 1 + random.nextInt(12);
+            for (int i = 0; i < sentences; i++) {
+                if (i > 0) content.append(i % 4 == 0 ? "\n\n" : " ");
+                content.append(pick(random, ANNOUNCEMENT_SENTENCES));
+            }
+
+            int age = random.nextInt(365);
+            int published = referenceDay - age;
+            Announcement announcement = new Announcement(pick(random, ANNOUNCEMENT_TOPICS) + " #" + id,
+                    content.toString(), EpochDay.format(published),
+                    EpochDay.format(published + 3 + random.nextInt(118)), random.nextInt(10) == 0);
+            announcement.setAnnouncementId(id);
+            writer.add(announcement);
+        }
+        writer.flush();
+    }
+
+    private void insertReadStates(AppDatabase db, Scale scale) {
+        Random random = randomFor(7);
+        BatchWriter<AnnouncementReadState> writer = new BatchWriter<>(db.announcementReadStateDao()::insertAll);
+        for (int studentId = 1; studentId <= scale.students; studentId++) {
+            // Most students have caught up to some point and opened a few newer ones
+            if (scale.announcements == 0 || random.nextInt(10) == 0) {
+                continue;
+            }
+            IdRunSet readIds = new IdRunSet();
+            readIds.addRange(1, (scale.announcements + 1) / 2 + random.nextInt(scale.announcements / 2 + 1));
+            for (int i = random.nextInt(6); i > 0; i--) {
+                readIds.add(1 + random.nextInt(scale.announcements));
+            }
+            // Counts are filled in by the reconcile at the end of populate
+            writer.add(new AnnouncementReadState(studentId, readIds.toBytes(), 0, 0));
+        }
+        writer.flush();
+    }
+
+    private void insertTodos(AppDatabase db, Scale scale) {
+        Random random = randomFor(6);
+        BatchWriter<SimpleTodo> writer = new BatchWriter<>(db.simpleTodoDao()::insertAll);
+        for (int id = 1; id <= scale.todos; id++) {
+            String title = pick(random, TODO_TASKS);
+            if (scale.courses > 0 && random.nextBoolean()) {
+                title += " for " + departmentCode(departmentOf(1 + random.nextInt(scale.courses), scale), scale);
+            }
+            int seconds = random.nextInt(24 * 60 * 60);
+            String createdDate = EpochDay.format(referenceDay - random.nextInt(120))
+                    + String.format(Locale.US, " %02d:%02d:%02d", seconds / 3600, seconds / 60 % 60, seconds % 60);
+
+            SimpleTodo todo = new SimpleTodo(1 + random.nextInt(scale.students), title, createdDate);
+            todo.setTodoId(id);
+            todo.setCompleted(random.nextInt(100) < 45);
+            writer.add(todo);
+        }
+        writer.flush();
+    }
+
+    // Courses and instructors cycle through the departments by ID
+    private static int departmentOf(int id, Scale scale) {
+        return 1 + (id - 1) % scale.departments;
+    }
+
+    private static int coursesIn(int departmentId, Scale scale) {
+        return departmentId > scale.courses ? 0 : (scale.courses - departmentId) / scale.departments + 1;
+    }
+
+    private static int instructorsIn(int departmentId, Scale scale) {
+        return (scale.instructors - departmentId) / scale.departments + 1;
+    }
+
+    private int studentDepartment(int studentId, Scale scale) {
+        // A hash rather than a random stream, so registrations can look it up without storing it
+        long h = (seed + studentId) * 0x9E3779B97F4A7C15L;
+        return 1 + (int) Math.floorMod(h ^ (h >>> 32), (long) scale.departments);
+    }
+
+    private static String departmentCode(int departmentId, Scale scale) {
+        return departmentId <= DEPARTMENTS.length ? DEPARTMENTS[departmentId - 1][1] : "D" + departmentId;
+    }
+
+    private static String phoneNumber(Random random) {
+        return "+1-555-" + (1000 + random.nextInt(9000));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Collects rows and inserts them {@link #batchSize} at a time. Each insertAll call
+     * runs in its own transaction.
+     */
+    private final class BatchWriter<T> {
+        private final Consumer<List<T>> insert;
+        private final List<T> rows = new ArrayList<>();
+
+        BatchWriter(Consumer<List<T>> insert) {
+            this.insert = insert;
+        }
+
+        void add(T row) {
+            rows.add(row);
+            if (rows.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                insert.accept(rows);
+                rows.clear();
+            }
+        }
+    }
+}
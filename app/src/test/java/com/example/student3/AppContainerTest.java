@@ -0,0 +1,53 @@
+package com.example.student3;
+
+import android.app.Application;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.repository.CourseQuery;
+import com.example.student3.repository.CourseRepository;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that repositories from the container are shared, along with the LiveData
+ * they hand out for the same query
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class AppContainerTest {
+
+    private AppContainer container;
+
+    @Before
+    public void setUp() {
+        Application application = ApplicationProvider.getApplicationContext();
+        container = AppContainer.getInstance(application);
+    }
+
+    @Test
+    public void testRepositoriesAreSingletons() {
+        assertSame(container.getCourseRepository(), container.getCourseRepository());
+        assertSame(container.getRegistrationRepository(), container.getRegistrationRepository());
+        assertSame(container.getNotificationHelper(), container.getNotificationHelper());
+        assertSame(container, AppContainer.getInstance(ApplicationProvider.getApplicationContext()));
+    }
+
+    @Test
+    public void testEqualQueriesShareLiveData() {
+        CourseRepository repository = container.getCourseRepository();
+
+        // The dashboard and the registered-only course list ask for the same rows
+        assertSame(repository.getCourses(new CourseQuery("", 2, 7, true)),
+                repository.getCourses(new CourseQuery(" ", 2, 7, true)));
+        assertNotSame(repository.getCourses(new CourseQuery("", 2, 7, true)),
+                repository.getCourses(new CourseQuery("", 2, 7, false)));
+        assertSame(repository.getCourseById(3), repository.getCourseById(3));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.student3.adapter;
+
+import android.graphics.Paint;
+import android.os.Looper;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.TextView;
+
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.R;
+import com.example.student3.model.SimpleTodo;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/** Tests for SimpleTodoAdapter */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class SimpleTodoAdapterTest {
+
+    private RecyclerView recyclerView;
+    private SimpleTodoAdapter adapter;
+    private final List<Object> payloads = new ArrayList<>();
+    private int toggledId = -1;
+    private Boolean toggledState;
+
+    @Before
+    public void setUp() {
+        ContextThemeWrapper context = new ContextThemeWrapper(
+                ApplicationProvider.getApplicationContext(), R.style.Theme_DANN4);
+        recyclerView = new RecyclerView(context);
+        recyclerView.setLayoutManager(new LinearLayoutManager(context));
+        recyclerView.setItemAnimator(null);
+
+        adapter = new SimpleTodoAdapter();
+        adapter.setOnTodoClickListener(new SimpleTodoAdapter.OnTodoClickListener() {
+            @Override
+            public void onTodoToggle(int todoId, boolean isCompleted) {
+                toggledId = todoId;
+                toggledState = isCompleted;
+            }
+
+            @Override
+            public void onTodoDelete(SimpleTodo todo) {
+            }
+        });
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, Object payload) {
+                payloads.add(payload);
+            }
+        });
+        recyclerView.setAdapter(adapter);
+    }
+
+    @Test
+    public void testToggleAppliesCompletionPayload() {
+        SimpleTodo todo = todo(7, "Read chapter 3", false);
+        submit(Collections.singletonList(todo));
+
+        View row = recyclerView.getChildAt(0);
+        CheckBox checkbox = row.findViewById(R.id.checkboxCompleted);
+        TextView title = row.findViewById(R.id.tvTodoTitle);
+        assertEquals(1.0f, title.getAlpha(), 0f);
+
+        checkbox.setPressed(true);
+        checkbox.performClick();
+        checkbox.setPressed(false);
+
+        assertEquals(7, toggledId);
+        assertEquals(Boolean.TRUE, toggledState);
+        // The adapter's own item keeps its state so the next diff can see the change
+        assertFalse(todo.isCompleted());
+
+        submit(Collections.singletonList(todo(7, "Read chapter 3", true)));
+
+        assertEquals(1, payloads.size());
+        assertNotNull(payloads.get(0));
+        assertSame(row, recyclerView.getChildAt(0));
+        assertTrue(checkbox.isChecked());
+        assertTrue((title.getPaintFlags() & Paint.STRIKE_THRU_TEXT_FLAG) != 0);
+        assertEquals(0.6f, title.getAlpha(), 0f);
+    }
+
+    /** Submit and wait for the background diff to land, then lay the rows out */
+    private void submit(List<SimpleTodo> todos) {
+        AtomicBoolean committed = new AtomicBoolean();
+        adapter.submitList(todos, () -> committed.set(true));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!committed.get() && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+        }
+        assertTrue(committed.get());
+
+        recyclerView.measure(
+                View.MeasureSpec.makeMeasureSpec(480, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(800, View.MeasureSpec.EXACTLY));
+        recyclerView.layout(0, 0, 480, 800);
+    }
+
+    private static SimpleTodo todo(int id, String title, boolean completed) {
+        SimpleTodo todo = new SimpleTodo(1, title, "2025-01-01");
+        todo.setTodoId(id);
+        todo.setCompleted(completed);
+        return todo;
+    }
+}
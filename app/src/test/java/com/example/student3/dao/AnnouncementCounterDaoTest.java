@@ -0,0 +1,186 @@
+package com.example.student3.dao;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.database.AppDatabase;
+import com.example.student3.database.SyntheticDataGenerator;
+import com.example.student3.model.Announcement;
+import com.example.student3.model.AnnouncementCounters;
+import com.example.student3.utils.IdRunSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the trigger-maintained announcement counters and the per-student read
+ * counts, including the reconcile that repairs them after deletes.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class AnnouncementCounterDaoTest {
+
+    private AppDatabase db;
+    private AnnouncementCounterDao counterDao;
+    private AnnouncementReadStateDao readStateDao;
+
+    @Before
+    public void setUp() {
+        db = SyntheticDataGenerator.createInMemoryDatabase(ApplicationProvider.getApplicationContext());
+        counterDao = db.announcementCounterDao();
+        readStateDao = db.announcementReadStateDao();
+        new SyntheticDataGenerator().populate(db, new SyntheticDataGenerator.Scale(10, 5, 20, 60, 0));
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testCountersMatchTables() {
+        assertCountersMatchTables();
+        for (int studentId = 1; studentId <= 10; studentId++) {
+            assertEquals(recountUnread(studentId), counterDao.getUnreadCountSync(studentId));
+        }
+    }
+
+    @Test
+    public void testTriggersFollowWrites() {
+        Announcement announcement = new Announcement("New", "Content", "2025-09-15", null, true);
+        announcement.setAnnouncementId((int) db.announcementDao().insert(announcement));
+        assertCountersMatchTables();
+
+        // Replacing a row must not count it twice
+        announcement.setImportant(false);
+        db.announcementDao().insert(announcement);
+        assertCountersMatchTables();
+
+        announcement.setImportant(true);
+        db.announcementDao().update(announcement);
+        assertCountersMatchTables();
+
+        db.announcementDao().delete(announcement);
+        assertCountersMatchTables();
+    }
+
+    @Test
+    public void testSetReadMovesUnreadCount() {
+        int student = studentWithUnread();
+        int unread = counterDao.getUnreadCountSync(student);
+        int announcementId = firstUnread(student);
+
+        assertTrue(readStateDao.setRead(student, announcementId, true));
+        assertFalse(readStateDao.setRead(student, announcementId, true));
+        assertEquals(unread - 1, counterDao.getUnreadCountSync(student));
+
+        // An id with no announcement is remembered but not counted
+        assertTrue(readStateDao.setRead(student, 999_999, true));
+        assertEquals(unread - 1, counterDao.getUnreadCountSync(student));
+
+        assertTrue(readStateDao.setRead(student, announcementId, false));
+        assertEquals(unread, counterDao.getUnreadCountSync(student));
+    }
+
+    @Test
+    public void testReconcileRepairsReadStateAfterDelete() {
+        int student = studentWithUnread();
+        int announcementId = firstUnread(student);
+        readStateDao.setRead(student, announcementId, true);
+        db.announcementDao().deleteByIds(Collections.singletonList(announcementId));
+
+        // The read count still includes the deleted announcement
+        assertEquals(recountUnread(student) - 1, counterDao.getUnreadCountSync(student));
+
+        assertTrue(counterDao.reconcile() >= 1);
+        assertEquals(recountUnread(student), counterDao.getUnreadCountSync(student));
+        assertFalse(readStateDao.getReadSetSync(student).contains(announcementId));
+        assertEquals(0, counterDao.reconcile());
+    }
+
+    @Test
+    public void testDeleteKeepsReadCountsInStep() {
+        int student = studentWithUnread();
+        int announcementId = firstUnread(student);
+        readStateDao.setRead(student, announcementId, true);
+
+        assertEquals(1, counterDao.deleteAnnouncements(Collections.singletonList(announcementId)));
+
+        assertCountersMatchTables();
+        assertEquals(recountUnread(student), counterDao.getUnreadCountSync(student));
+        assertFalse(readStateDao.getReadSetSync(student).contains(announcementId));
+        assertEquals(0, counterDao.reconcile());
+    }
+
+    @Test
+    public void testImportanceChangeKeepsReadCountsInStep() {
+        int student = studentWithUnread();
+        Announcement announcement = new Announcement("Read", "Content", "2025-09-15", null, false);
+        announcement.setAnnouncementId((int) counterDao.insertAnnouncement(announcement));
+        readStateDao.setRead(student, announcement.getAnnouncementId(), true);
+
+        announcement.setImportant(true);
+        counterDao.updateAnnouncement(announcement);
+        assertEquals(0, counterDao.reconcile());
+
+        // Replacing the row moves the count back
+        announcement.setImportant(false);
+        counterDao.insertAnnouncement(announcement);
+        assertEquals(0, counterDao.reconcile());
+    }
+
+    @Test
+    public void testExpiredAnnouncementsAreNotActiveUnread() {
+        int student = 1;
+        int unread = counterDao.getUnreadCountSync(student);
+        int activeUnread = counterDao.getActiveUnreadCountSync(student);
+        Announcement expired = new Announcement("Old", "Content", "2000-01-01", "2000-01-31", false);
+        expired.setAnnouncementId((int) counterDao.insertAnnouncement(expired));
+
+        // Still counted until it is pruned, but not shown in the lists
+        assertEquals(unread + 1, counterDao.getUnreadCountSync(student));
+        assertEquals(activeUnread, counterDao.getActiveUnreadCountSync(student));
+
+        readStateDao.setRead(student, expired.getAnnouncementId(), true);
+        assertEquals(activeUnread, counterDao.getActiveUnreadCountSync(student));
+    }
+
+    private void assertCountersMatchTables() {
+        AnnouncementCounters counters = counterDao.getCountersSync();
+        List<Integer> all = counterDao.getAllAnnouncementIdsSync();
+        assertEquals(all.size(), counters.getTotal());
+        assertEquals(counterDao.getImportantAnnouncementIdsSync().size(), counters.getImportant());
+    }
+
+    private int recountUnread(int studentId) {
+        return IdRunSet.fromSortedIds(counterDao.getAllAnnouncementIdsSync())
+                .andNotCardinality(readStateDao.getReadSetSync(studentId));
+    }
+
+    private int studentWithUnread() {
+        for (int studentId = 1; studentId <= 10; studentId++) {
+            if (recountUnread(studentId) > 0) {
+                return studentId;
+            }
+        }
+        throw new AssertionError("Every student has read everything");
+    }
+
+    private int firstUnread(int studentId) {
+        IdRunSet read = readStateDao.getReadSetSync(studentId);
+        for (int id : counterDao.getAllAnnouncementIdsSync()) {
+            if (!read.contains(id)) {
+                return id;
+            }
+        }
+        throw new AssertionError("Student " + studentId + " has read everything");
+    }
+}
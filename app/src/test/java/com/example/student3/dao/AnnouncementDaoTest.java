@@ -0,0 +1,102 @@
+package com.example.student3.dao;
+
+import android.database.Cursor;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.database.AppDatabase;
+import com.example.student3.database.SyntheticDataGenerator;
+import com.example.student3.model.Announcement;
+import com.example.student3.utils.EpochDay;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for announcement expiry: the default queries hide expired rows and the
+ * maintenance queries find and delete them through the expiryDate index.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class AnnouncementDaoTest {
+
+    private AppDatabase db;
+    private AnnouncementDao dao;
+    private final String today = EpochDay.format(EpochDay.today());
+
+    @Before
+    public void setUp() {
+        db = SyntheticDataGenerator.createInMemoryDatabase(ApplicationProvider.getApplicationContext());
+        dao = db.announcementDao();
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testExpiredAnnouncementsAreHidden() {
+        insert("Expired", EpochDay.format(EpochDay.today() - 1));
+        insert("Expires today", today);
+        insert("Future", "2999-12-31");
+        insert("No expiry", "");
+        insert("Null expiry", null);
+
+        List<String> titles = new ArrayList<>();
+        for (Announcement announcement : dao.getActiveAnnouncementsSync()) {
+            titles.add(announcement.getTitle());
+        }
+        assertEquals(4, titles.size());
+        assertFalse(titles.contains("Expired"));
+
+        // Sync still sees the whole table
+        assertEquals(5, dao.getAllAnnouncementsSync().size());
+    }
+
+    @Test
+    public void testExpiredIdsArePagedAndDeleted() {
+        List<Integer> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add((int) insert("Old " + i, EpochDay.format(EpochDay.today() - 30 + i)));
+        }
+        int current = (int) insert("Current", "2999-12-31");
+
+        List<Integer> firstChunk = dao.getExpiredAnnouncementIds(today, 3);
+        assertEquals(expired.subList(0, 3), firstChunk);
+        assertEquals(3, dao.deleteByIds(firstChunk));
+
+        assertEquals(expired.subList(3, 5), dao.getExpiredAnnouncementIds(today, 3));
+        assertEquals(2, dao.deleteByIds(dao.getExpiredAnnouncementIds(today, 3)));
+        assertTrue(dao.getExpiredAnnouncementIds(today, 3).isEmpty());
+
+        List<Announcement> remaining = dao.getAllAnnouncementsSync();
+        assertEquals(1, remaining.size());
+        assertEquals(current, remaining.get(0).getAnnouncementId());
+    }
+
+    @Test
+    public void testExpiredLookupUsesIndex() {
+        StringBuilder plan = new StringBuilder();
+        try (Cursor cursor = db.query("EXPLAIN QUERY PLAN SELECT announcementId FROM announcements "
+                + "WHERE expiryDate > '' AND expiryDate < ? ORDER BY expiryDate LIMIT 200", new Object[]{today})) {
+            while (cursor.moveToNext()) {
+                plan.append(cursor.getString(cursor.getColumnIndexOrThrow("detail"))).append('\n');
+            }
+        }
+        assertTrue(plan.toString(), plan.toString().contains("index_announcements_expiryDate"));
+    }
+
+    private long insert(String title, String expiryDate) {
+        return dao.insert(new Announcement(title, "Content", "2025-01-01", expiryDate, false));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.student3.dao;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.database.AppDatabase;
+import com.example.student3.database.SyntheticDataGenerator;
+import com.example.student3.model.ChangeLogEntry;
+import com.example.student3.model.Registration;
+import com.example.student3.model.SimpleTodo;
+import com.example.student3.model.UserProfile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the change log triggers: one entry per changed record, holding its
+ * latest operation, and truncation that keeps anything changed after the snapshot.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class ChangeLogDaoTest {
+
+    private AppDatabase db;
+    private ChangeLogDao changeLogDao;
+
+    @Before
+    public void setUp() {
+        db = SyntheticDataGenerator.createInMemoryDatabase(ApplicationProvider.getApplicationContext());
+        changeLogDao = db.changeLogDao();
+        new SyntheticDataGenerator().populate(db, new SyntheticDataGenerator.Scale(20, 5, 40, 5, 30));
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testGeneratedDataStartsSynced() {
+        assertEquals(0, changeLogDao.getPendingChangeCount());
+        assertEquals(ChangeLogDao.NO_CHANGES, changeLogDao.getLatestSeq());
+    }
+
+    @Test
+    public void testEachChangedRecordIsLoggedOnce() {
+        int newTodoId = (int) db.simpleTodoDao().insert(new SimpleTodo(1, "New", "2025-09-15"));
+        db.simpleTodoDao().updateCompletionStatus(3, true);
+        db.simpleTodoDao().updateCompletionStatus(3, false);
+        Registration registration = db.registrationDao().getRegistrationsByIdsSync(Collections.singletonList(5)).get(0);
+        db.registrationDao().delete(registration);
+        int profileId = (int) db.userProfileDao().insert(new UserProfile(1, "en", "light", true, null));
+
+        List<ChangeLogEntry> changes = changeLogDao.getChangesSince(ChangeLogDao.NO_CHANGES);
+        assertEquals(4, changes.size());
+        assertEntry(changes.get(0), ChangeLogEntry.TABLE_TODOS, newTodoId, ChangeLogEntry.OP_INSERT);
+        assertEntry(changes.get(1), ChangeLogEntry.TABLE_TODOS, 3, ChangeLogEntry.OP_UPDATE);
+        assertEntry(changes.get(2), ChangeLogEntry.TABLE_REGISTRATIONS, 5, ChangeLogEntry.OP_DELETE);
+        assertEntry(changes.get(3), ChangeLogEntry.TABLE_USER_PROFILES, profileId, ChangeLogEntry.OP_INSERT);
+
+        assertEquals(2, changeLogDao.getChangesSince(ChangeLogEntry.TABLE_TODOS, ChangeLogDao.NO_CHANGES).size());
+        assertEquals(changes.get(3).getSeq(), changeLogDao.getLatestSeq());
+    }
+
+    @Test
+    public void testRepeatedEntityWritesAreLogged() {
+        // @Insert and @Update run with OR ABORT, which must not reach the log's unique index
+        SimpleTodo todo = db.simpleTodoDao().getTodosByIdsSync(Collections.singletonList(2)).get(0);
+        todo.setTitle("First edit");
+        db.simpleTodoDao().update(todo);
+        todo.setTitle("Second edit");
+        db.simpleTodoDao().update(todo);
+        UserProfile profile = new UserProfile(2, "en", "dark", false, null);
+        long profileId = db.userProfileDao().insert(profile);
+        profile.setProfileId((int) profileId);
+        db.userProfileDao().update(profile);
+        db.userProfileDao().update(profile);
+
+        List<ChangeLogEntry> changes = changeLogDao.getChangesSince(ChangeLogDao.NO_CHANGES);
+        assertEquals(2, changes.size());
+        assertEntry(changes.get(0), ChangeLogEntry.TABLE_TODOS, 2, ChangeLogEntry.OP_UPDATE);
+        assertEntry(changes.get(1), ChangeLogEntry.TABLE_USER_PROFILES, (int) profileId, ChangeLogEntry.OP_UPDATE);
+    }
+
+    @Test
+    public void testTruncateKeepsLaterChanges() {
+        db.simpleTodoDao().updateCompletionStatus(1, true);
+        db.simpleTodoDao().updateCompletionStatus(2, true);
+        long snapshot = changeLogDao.getLatestSeq();
+
+        // Changed again while the upload is in flight
+        db.simpleTodoDao().updateCompletionStatus(2, false);
+
+        assertEquals(1, changeLogDao.truncateThrough(snapshot));
+        List<ChangeLogEntry> remaining = changeLogDao.getChangesSince(ChangeLogDao.NO_CHANGES);
+        assertEquals(1, remaining.size());
+        assertEntry(remaining.get(0), ChangeLogEntry.TABLE_TODOS, 2, ChangeLogEntry.OP_UPDATE);
+        assertTrue(remaining.get(0).getSeq() > snapshot);
+    }
+
+    @Test
+    public void testCascadeDeletesAreLogged() {
+        int studentId = db.simpleTodoDao().getTodosByIdsSync(Collections.singletonList(1)).get(0).getStudentId();
+        List<SimpleTodo> todos = db.simpleTodoDao().getTodosByStudentSync(studentId);
+        db.studentDao().delete(db.studentDao().getStudentByEmail(SyntheticDataGenerator.emailFor(studentId)));
+
+        List<ChangeLogEntry> todoChanges = changeLogDao.getChangesSince(ChangeLogEntry.TABLE_TODOS, ChangeLogDao.NO_CHANGES);
+        assertEquals(todos.size(), todoChanges.size());
+        for (ChangeLogEntry change : todoChanges) {
+            assertTrue(change.isDelete());
+        }
+    }
+
+    @Test
+    public void testTodosLoadById() {
+        List<SimpleTodo> todos = db.simpleTodoDao().getTodosByIdsSync(Arrays.asList(2, 7, 9999));
+        assertEquals(2, todos.size());
+    }
+
+    private static void assertEntry(ChangeLogEntry entry, String tableName, int recordId, String op) {
+        assertEquals(tableName, entry.getTableName());
+        assertEquals(recordId, entry.getRecordId());
+        assertEquals(op, entry.getOp());
+    }
+}
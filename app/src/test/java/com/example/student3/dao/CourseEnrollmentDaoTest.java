@@ -0,0 +1,134 @@
+package com.example.student3.dao;
+
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.database.AppDatabase;
+import com.example.student3.database.SyntheticDataGenerator;
+import com.example.student3.model.Course;
+import com.example.student3.model.CourseEnrollment;
+import com.example.student3.model.CourseListItem;
+import com.example.student3.model.Registration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the trigger-maintained course enrolment counts and the course list
+ * rows that show seats left from them.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class CourseEnrollmentDaoTest {
+
+    // Room's LiveData queries run on the arch IO executor, made synchronous here
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private AppDatabase db;
+    private CourseEnrollmentDao enrollmentDao;
+
+    @Before
+    public void setUp() {
+        db = SyntheticDataGenerator.createInMemoryDatabase(ApplicationProvider.getApplicationContext());
+        enrollmentDao = db.courseEnrollmentDao();
+        new SyntheticDataGenerator().populate(db, new SyntheticDataGenerator.Scale(30, 5, 200, 5, 0));
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testCountsMatchRegistrations() {
+        assertCountsMatchRegistrations();
+    }
+
+    @Test
+    public void testTriggersFollowRegistrationWrites() {
+        Course course = db.courseDao().getCourseByIdSync(1);
+        int enrolled = enrollmentDao.getEnrolledCountSync(1);
+
+        Registration registration = new Registration(1, 1, "2025-09-15", "REGISTERED", null);
+        registration.setRegistrationId((int) db.registrationDao().insert(registration));
+        assertEquals(enrolled + 1, enrollmentDao.getEnrolledCountSync(1));
+
+        // Replacing a row must not count it twice
+        db.registrationDao().insert(registration);
+        assertEquals(enrolled + 1, enrollmentDao.getEnrolledCountSync(1));
+
+        registration.setStatus("DROPPED");
+        db.registrationDao().update(registration);
+        assertEquals(enrolled, enrollmentDao.getEnrolledCountSync(1));
+
+        registration.setStatus("REGISTERED");
+        registration.setCourseId(2);
+        db.registrationDao().update(registration);
+        assertCountsMatchRegistrations();
+
+        db.registrationDao().delete(registration);
+        assertCountsMatchRegistrations();
+
+        // Writing the course back leaves its count alone
+        db.courseDao().update(course);
+        assertEquals(enrolled, enrollmentDao.getEnrolledCountSync(1));
+    }
+
+    @Test
+    public void testListItemsShowSeatsLeft() {
+        List<CourseListItem> items = await(db.courseDao().getCourseListItems());
+        assertEquals(5, items.size());
+        for (CourseListItem item : items) {
+            int enrolled = enrollmentDao.getEnrolledCountSync(item.getCourseId());
+            assertEquals(enrolled, item.getEnrolledCount());
+            assertEquals(Math.max(item.getMaxStudents() - enrolled, 0), item.getSeatsLeft());
+            assertTrue(item.getDescriptionPreview().length() <= CourseDao.PREVIEW_LENGTH);
+        }
+    }
+
+    @Test
+    public void testRecountRebuildsCounts() {
+        enrollmentDao.deleteAll();
+        assertTrue(enrollmentDao.getAllSync().isEmpty());
+
+        assertEquals(enrollmentDao.countRegistrationsSync().size(), enrollmentDao.recount());
+        assertCountsMatchRegistrations();
+        assertEquals(0, enrollmentDao.recount());
+    }
+
+    private void assertCountsMatchRegistrations() {
+        List<CourseEnrollment> expected = enrollmentDao.countRegistrationsSync();
+        List<CourseEnrollment> actual = new ArrayList<>();
+        for (CourseEnrollment enrollment : enrollmentDao.getAllSync()) {
+            if (enrollment.getEnrolledCount() != 0) {
+                actual.add(enrollment);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getCourseId(), actual.get(i).getCourseId());
+            assertEquals(expected.get(i).getEnrolledCount(), actual.get(i).getEnrolledCount());
+        }
+    }
+
+    private static <T> T await(LiveData<T> liveData) {
+        Observer<T> observer = value -> { };
+        liveData.observeForever(observer);
+        T value = liveData.getValue();
+        liveData.removeObserver(observer);
+        return value;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.student3.database;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.model.AnnouncementCounters;
+import com.example.student3.model.AnnouncementReadState;
+import com.example.student3.utils.IdRunSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Upgrades a version 9 database through every migration and checks that Room
+ * accepts the schema and the data survives.
+ *
+ * There are no exported schemas to start from, so the version 9 file is made by
+ * building the current schema and undoing each later change by hand.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class DatabaseMigrationsTest {
+
+    private static final String DB_NAME = "migration_test.db";
+    private static final String[] TABLES_AFTER_9 = {
+            "change_log", "announcement_read_state", "announcement_counters", "course_enrollment"
+    };
+
+    private Context context;
+    private AppDatabase db;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        if (db != null) {
+            db.close();
+        }
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @Test
+    public void testUpgradeFromVersion9KeepsData() {
+        AppDatabase current = Room.databaseBuilder(context, AppDatabase.class, DB_NAME)
+                .addCallback(DatabaseTriggers.CALLBACK)
+                .allowMainThreadQueries()
+                .build();
+        new SyntheticDataGenerator().populate(current, new SyntheticDataGenerator.Scale(30, 5, 200, 20, 0));
+        long students = count(current, "students");
+        long announcements = count(current, "announcements");
+        long important = count(current, "announcements WHERE isImportant = 1");
+        long registered = count(current, "registrations WHERE status = 'REGISTERED'");
+        current.close();
+
+        List<Integer> readIds = rewindToVersion9(context.getDatabasePath(DB_NAME));
+
+        // No destructive fallback: a missing or wrong migration fails the open
+        db = Room.databaseBuilder(context, AppDatabase.class, DB_NAME)
+                .addCallback(DatabaseTriggers.CALLBACK)
+                .addMigrations(DatabaseMigrations.ALL)
+                .allowMainThreadQueries()
+                .build();
+        db.getOpenHelper().getWritableDatabase();
+
+        assertEquals(students, count(db, "students"));
+        assertEquals(announcements, count(db, "announcements"));
+        assertEquals(0, count(db, "change_log"));
+
+        long importantRead = 0;
+        for (int id : readIds) {
+            importantRead += count(db, "announcements WHERE isImportant = 1 AND announcementId = " + id);
+        }
+        List<AnnouncementReadState> states = db.announcementCounterDao().getAllReadStatesSync();
+        assertEquals(students, states.size());
+        for (AnnouncementReadState state : states) {
+            assertEquals(IdRunSet.fromSortedIds(readIds), IdRunSet.fromBytes(state.getReadIds()));
+            assertEquals(readIds.size(), state.getReadCount());
+            assertEquals(importantRead, state.getImportantReadCount());
+        }
+
+        AnnouncementCounters counters = db.announcementCounterDao().getCountersSync();
+        assertEquals(announcements, counters.getTotal());
+        assertEquals(important, counters.getImportant());
+        assertEquals(registered, sum(db, "SELECT SUM(enrolledCount) FROM course_enrollment"));
+    }
+
+    /**
+     * Undo every schema change since version 9 and mark the first two announcements
+     * read in the old shared column
+     * @return Ids marked read
+     */
+    private static List<Integer> rewindToVersion9(File file) {
+        try (SQLiteDatabase raw = SQLiteDatabase.openDatabase(file.getPath(), null, SQLiteDatabase.OPEN_READWRITE)) {
+            List<String> triggers = new ArrayList<>();
+            try (Cursor cursor = raw.rawQuery("SELECT name FROM sqlite_master WHERE type = 'trigger'", null)) {
+                while (cursor.moveToNext()) {
+                    triggers.add(cursor.getString(0));
+                }
+            }
+            for (String trigger : triggers) {
+                raw.execSQL("DROP TRIGGER " + trigger);
+            }
+            for (String table : TABLES_AFTER_9) {
+                raw.execSQL("DROP TABLE " + table);
+            }
+            raw.execSQL("DROP INDEX index_announcements_expiryDate");
+
+            List<Integer> readIds = new ArrayList<>();
+            try (Cursor cursor = raw.rawQuery(
+                    "SELECT announcementId FROM announcements ORDER BY announcementId LIMIT 2", null)) {
+                while (cursor.moveToNext()) {
+                    readIds.add(cursor.getInt(0));
+                }
+            }
+            raw.execSQL("ALTER TABLE announcements ADD COLUMN isRead INTEGER NOT NULL DEFAULT 0");
+            for (int id : readIds) {
+                raw.execSQL("UPDATE announcements SET isRead = 1 WHERE announcementId = " + id);
+            }
+            raw.setVersion(9);
+            return readIds;
+        }
+    }
+
+    private static long count(AppDatabase db, String from) {
+        return sum(db, "SELECT COUNT(*) FROM " + from);
+    }
+
+    private static long sum(AppDatabase db, String query) {
+        try (Cursor cursor = db.query(query, null)) {
+            cursor.moveToFirst();
+            return cursor.getLong(0);
+        }
+    }
+}
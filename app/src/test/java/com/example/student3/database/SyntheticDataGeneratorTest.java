@@ -0,0 +1,119 @@
+package com.example.student3.database;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.model.Student;
+import com.example.student3.utils.PasswordUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that SyntheticDataGenerator fills every table, keeps foreign keys valid and
+ * produces identical data for the same seed.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataGenerator.Scale SCALE =
+            new SyntheticDataGenerator.Scale(300, 60, 3_000, 500, 1_200);
+
+    private AppDatabase first;
+    private AppDatabase second;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        first = SyntheticDataGenerator.createInMemoryDatabase(context);
+        second = SyntheticDataGenerator.createInMemoryDatabase(context);
+    }
+
+    @After
+    public void tearDown() {
+        first.close();
+        second.close();
+    }
+
+    @Test
+    public void testFillsEveryTableWithValidReferences() {
+        SyntheticDataGenerator.Summary summary = new SyntheticDataGenerator(42, 500).populate(first, SCALE);
+
+        assertEquals(SCALE.students, count(first, "students"));
+        assertEquals(SCALE.courses, count(first, "courses"));
+        assertEquals(SCALE.registrations, count(first, "registrations"));
+        assertEquals(SCALE.announcements, count(first, "announcements"));
+        assertEquals(SCALE.todos, count(first, "todos"));
+        assertEquals(SCALE.instructors, count(first, "instructors"));
+        assertSame(SCALE, summary.getScale());
+        assertEquals(SCALE.getTotalRows(), summary.getRowCount());
+        assertTrue(summary.toString(), summary.getElapsedMillis() >= 0 && summary.getRowsPerSecond() > 0);
+
+        // Courses and instructors reference no foreign keys in the schema, so check them by hand
+        assertEquals(0, count(first, "courses WHERE instructorId NOT IN (SELECT instructorId FROM instructors)"));
+        assertEquals(0, count(first, "courses WHERE departmentId NOT IN (SELECT departmentId FROM departments)"));
+        try (Cursor violations = first.query("PRAGMA foreign_key_check", null)) {
+            assertEquals(0, violations.getCount());
+        }
+
+        Student student = first.studentDao().getStudentByEmail(SyntheticDataGenerator.emailFor(1));
+        assertNotNull(student);
+        assertTrue(PasswordUtils.verifyPassword(SyntheticDataGenerator.DEFAULT_PASSWORD, student.getPasswordHash()));
+        assertFalse(first.courseDao().getCoursesByDepartmentSync(1).isEmpty());
+        assertFalse(first.announcementReadStateDao().getReadSetSync(1).isEmpty());
+    }
+
+    @Test
+    public void testSameSeedProducesSameData() {
+        // Different batch sizes must not change the output
+        new SyntheticDataGenerator(7, 250).populate(first, SCALE);
+        new SyntheticDataGenerator(7, 4_000).populate(second, SCALE);
+
+        for (String table : new String[]{"students", "courses", "registrations", "announcements", "todos"}) {
+            assertEquals(table, digest(first, table), digest(second, table));
+        }
+    }
+
+    @Test
+    public void testPopulateReplacesExistingData() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator();
+        generator.populate(first, SCALE);
+        generator.populate(first, SCALE);
+
+        assertEquals(SCALE.registrations, count(first, "registrations"));
+    }
+
+    private static long count(AppDatabase db, String from) {
+        try (Cursor cursor = db.query("SELECT COUNT(*) FROM " + from, null)) {
+            cursor.moveToFirst();
+            return cursor.getLong(0);
+        }
+    }
+
+    /**
+     * Order-independent hash of every value in a table
+     */
+    private static long digest(AppDatabase db, String table) {
+        long digest = 0;
+        try (Cursor cursor = db.query("SELECT * FROM " + table, null)) {
+            while (cursor.moveToNext()) {
+                long row = 17;
+                for (int i = 0; i < cursor.getColumnCount(); i++) {
+                    String value = cursor.getString(i);
+                    row = row * 31 + (value == null ? 0 : value.hashCode());
+                }
+                digest += row;
+            }
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.test.core.app.ApplicationProvider;
+import androidx.work.Configuration;
+import androidx.work.ListenableWorker;
+import androidx.work.WorkInfo;
+import androidx.work.WorkManager;
+import androidx.work.testing.SynchronousExecutor;
+import androidx.work.testing.TestWorkerBuilder;
+import androidx.work.testing.WorkManagerTestInitHelper;
+
+import com.example.student3.worker.ClassReminderWorker;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for choosing and re-arming the next class reminder
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class ClassReminderSchedulerTest {
+
+    private static final int STUDENT_ID = 1;
+    // 2025-09-01 is a Monday
+    private static final String SEMESTER_START = "2025-09-01";
+    private static final String SEMESTER_END = "2025-12-19";
+
+    private Context context;
+    private ClassReminderScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        context = ApplicationProvider.getApplicationContext();
+        WorkManagerTestInitHelper.initializeTestWorkManager(context, new Configuration.Builder()
+                .setMinimumLoggingLevel(Log.DEBUG)
+                .setExecutor(new SynchronousExecutor())
+                .build());
+        scheduler = ClassReminderScheduler.getInstance(context);
+        scheduler.cancel();
+    }
+
+    @Test
+    public void testEarliestMeetingIsChosen() {
+        ClassOccurrenceGenerator.Meeting wednesday = meeting(1, "WED", 1, null, null);
+        ClassOccurrenceGenerator.Meeting tuesday = meeting(2, "TUE", 2, null, null);
+
+        ClassReminderScheduler.Reminder reminder =
+                find(Arrays.asList(wednesday, tuesday), HolidayCalendar.NONE, at(2025, 9, 1, 0));
+
+        assertEquals(2, reminder.courseId);
+        assertEquals(classStart(2025, 9, 2, 2), reminder.classStartMillis);
+        assertEquals(reminder.classStartMillis - TimeUnit.MINUTES.toMillis(
+                ClassReminderScheduler.REMINDER_LEAD_MINUTES), reminder.triggerAtMillis);
+    }
+
+    @Test
+    public void testClassWithinLeadTimeIsSkipped() {
+        ClassOccurrenceGenerator.Meeting wednesday = meeting(1, "WED", 1, null, null);
+        ClassOccurrenceGenerator.Meeting tuesday = meeting(2, "TUE", 2, null, null);
+        long tenMinutesBefore = classStart(2025, 9, 2, 2) - TimeUnit.MINUTES.toMillis(10);
+
+        ClassReminderScheduler.Reminder reminder =
+                find(Arrays.asList(wednesday, tuesday), HolidayCalendar.NONE, tenMinutesBefore);
+
+        assertEquals(1, reminder.courseId);
+        assertEquals(classStart(2025, 9, 3, 1), reminder.classStartMillis);
+    }
+
+    @Test
+    public void testHolidaysAndCourseDatesAreSkipped() {
+        // The course starts in the second week and its second Wednesday is a holiday
+        ClassOccurrenceGenerator.Meeting wednesday = meeting(1, "WED", 1, "2025-09-08", null);
+        HolidayCalendar holidays = HolidayCalendar.fromIsoDates(new String[]{"2025-09-10"});
+
+        ClassReminderScheduler.Reminder reminder =
+                find(Collections.singletonList(wednesday), holidays, at(2025, 9, 1, 0));
+
+        assertEquals(classStart(2025, 9, 17, 1), reminder.classStartMillis);
+    }
+
+    @Test
+    public void testNoReminderWithoutUpcomingClasses() {
+        ClassOccurrenceGenerator.Meeting ended = meeting(1, "MON", 1, null, "2025-09-01");
+
+        assertNull(find(Collections.emptyList(), HolidayCalendar.NONE, at(2025, 9, 1, 0)));
+        assertNull(find(Collections.singletonList(ended), HolidayCalendar.NONE, at(2025, 9, 2, 0)));
+    }
+
+    @Test
+    public void testWorkIsReplacedOnlyWhenReminderMoves() throws Exception {
+        long now = at(2025, 9, 1, 0);
+        scheduler.load(STUDENT_ID, Collections.singletonList(meeting(2, "TUE", 2, null, null)));
+        scheduler.armNext(now);
+        UUID armed = enqueuedWorkId();
+        assertNotNull(armed);
+
+        // Same next reminder, so the request is left alone
+        scheduler.armNext(now);
+        assertEquals(armed, enqueuedWorkId());
+
+        // Registering for an earlier class moves the reminder
+        scheduler.load(STUDENT_ID, Arrays.asList(meeting(2, "TUE", 2, null, null),
+                meeting(3, "MON", 4, null, null)));
+        scheduler.armNext(now);
+        UUID rearmed = enqueuedWorkId();
+        assertNotNull(rearmed);
+        assertNotEquals(armed, rearmed);
+        assertEquals(WorkInfo.State.CANCELLED,
+                WorkManager.getInstance(context).getWorkInfoById(armed).get().getState());
+
+        // Dropping every course cancels it
+        scheduler.load(STUDENT_ID, Collections.emptyList());
+        scheduler.armNext(now);
+        assertNull(enqueuedWorkId());
+    }
+
+    @Test
+    public void testLogoutCancelsArmedReminder() throws Exception {
+        scheduler.load(STUDENT_ID, Collections.singletonList(meeting(2, "TUE", 2, null, null)));
+        scheduler.armNext(at(2025, 9, 1, 0));
+        assertNotNull(enqueuedWorkId());
+
+        new UserSession(context).logoutUser();
+
+        assertNull(enqueuedWorkId());
+    }
+
+    @Test
+    public void testWorkerDoesNotRearmAfterLogout() throws Exception {
+        ClassReminderWorker worker = TestWorkerBuilder.from(context, ClassReminderWorker.class,
+                Executors.newSingleThreadExecutor()).build();
+
+        assertEquals(ListenableWorker.Result.success(), worker.doWork());
+        assertNull(enqueuedWorkId());
+    }
+
+    private UUID enqueuedWorkId() throws Exception {
+        List<WorkInfo> infos = WorkManager.getInstance(context)
+                .getWorkInfosForUniqueWork(ClassReminderScheduler.WORK_NAME).get();
+        for (WorkInfo info : infos) {
+            if (info.getState() == WorkInfo.State.ENQUEUED) {
+                return info.getId();
+            }
+        }
+        return null;
+    }
+
+    private static ClassReminderScheduler.Reminder find(List<ClassOccurrenceGenerator.Meeting> meetings,
+                                                        HolidayCalendar holidays, long nowMillis) {
+        Map<Integer, ClassOccurrenceGenerator.Meeting> byCourse = new HashMap<>();
+        for (ClassOccurrenceGenerator.Meeting meeting : meetings) {
+            byCourse.put(meeting.courseId, meeting);
+        }
+        return ClassReminderScheduler.findNextReminder(WeeklyTimeline.of(meetings), byCourse, holidays, nowMillis);
+    }
+
+    private static ClassOccurrenceGenerator.Meeting meeting(int courseId, String days, int period,
+                                                            String courseStart, String courseEnd) {
+        return ClassOccurrenceGenerator.Meeting.forCourse(courseId, days, period, period,
+                courseStart, courseEnd, SEMESTER_START, SEMESTER_END);
+    }
+
+    private static long classStart(int year, int month, int day, int period) {
+        return at(year, month, day, ScheduleUtils.getPeriodStartMinutes(period));
+    }
+
+    private static long at(int year, int month, int day, int minuteOfDay) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month - 1, day);
+        calendar.add(Calendar.MINUTE, minuteOfDay);
+        return calendar.getTimeInMillis();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.student3.utils;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for flushing the event log to its diagnostics file
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class EventLogTest {
+
+    @Test
+    public void testFlushWritesFormattedEvents() throws Exception {
+        EventLog.install(ApplicationProvider.getApplicationContext());
+        // Unit tests build the debug variant, so debug events are recorded
+        EventLog.d("EventLogTest", "Uploading %d local changes: %s", "request", 3);
+        EventLog.w("EventLogTest", "Account locked after %d failed attempts", 5);
+
+        File file = EventLog.flush();
+
+        assertNotNull(file);
+        assertEquals(EventLog.LOG_FILE, file.getName());
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertTrue(lines.get(lines.size() - 2).endsWith(" D/EventLogTest: Uploading 3 local changes: request"));
+        assertTrue(lines.get(lines.size() - 1).endsWith(" W/EventLogTest: Account locked after 5 failed attempts"));
+    }
+}
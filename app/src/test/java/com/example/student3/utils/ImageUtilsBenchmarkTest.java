@@ -0,0 +1,202 @@
+package com.example.student3.utils;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.LinearGradient;
+import android.graphics.Paint;
+import android.graphics.Shader;
+import android.net.Uri;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Benchmark for the profile image pipeline in ImageUtils using a 12 MP (4000x3000)
+ * JPEG tagged with EXIF orientation 6, so every run decodes, rotates and scales.
+ *
+ * Latency and peak memory are reported in assertion messages. Also checks that the
+ * source is opened once, that bitmaps are reused between runs, that a cancelled run
+ * leaves the old file alone and that target-size encoding searches once per source
+ * and keeps a bounded cache.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class ImageUtilsBenchmarkTest {
+
+    private static final int SOURCE_WIDTH = 4000;
+    private static final int SOURCE_HEIGHT = 3000;
+    private static final int WARMUP_RUNS = 1;
+    private static final int MEASURED_RUNS = 5;
+
+    // Half-resolution RGB_565 decode plus the 768x1024 output
+    private static final long PEAK_BITMAP_BUDGET = 2000L * 1500 * 2 + 768L * 1024 * 2;
+
+    private static byte[] sourceJpeg;
+
+    private Context context;
+    private final AtomicInteger opens = new AtomicInteger();
+    private final Uri sourceUri = Uri.parse("content://media/external/images/media/12");
+
+    @Before
+    public void setUp() throws Exception {
+        context = ApplicationProvider.getApplicationContext();
+        if (sourceJpeg == null) {
+            sourceJpeg = withExifOrientation(encodeSourceImage(), 6);
+        }
+        shadowOf(context.getContentResolver()).registerInputStreamSupplier(sourceUri, () -> {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(sourceJpeg);
+        });
+    }
+
+    @Test
+    public void benchmark12MegapixelPipeline() throws Exception {
+        File output = new File(context.getCacheDir(), "benchmark_profile.jpg");
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            ImageUtils.compressImageAsync(context, sourceUri, output, null).get();
+        }
+
+        long[] latencies = new long[MEASURED_RUNS];
+        long peakBitmapBytes = 0;
+        long peakHeapBytes = 0;
+        Runtime runtime = Runtime.getRuntime();
+        opens.set(0);
+
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            ImageUtils.PipelineStats stats = ImageUtils.compressImageAsync(context, sourceUri, output, null).get();
+            latencies[i] = stats.getElapsedMillis();
+            peakBitmapBytes = Math.max(peakBitmapBytes, stats.getPeakBitmapBytes());
+            peakHeapBytes = Math.max(peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+
+            // EXIF orientation 6 turns the landscape source into a portrait avatar
+            assertEquals(2, stats.getSampleSize());
+            assertEquals(768, stats.getOutputWidth());
+            assertEquals(1024, stats.getOutputHeight());
+            assertTrue("decode bitmap should be reused", stats.isDecodeBitmapReused());
+            assertTrue("output bitmap should be reused", stats.isOutputBitmapReused());
+        }
+
+        Arrays.sort(latencies);
+        String summary = "median " + latencies[MEASURED_RUNS / 2] + " ms, max "
+                + latencies[MEASURED_RUNS - 1] + " ms, peak bitmaps "
+                + ImageUtils.getFormattedFileSize(peakBitmapBytes) + ", peak heap "
+                + ImageUtils.getFormattedFileSize(peakHeapBytes) + ", output "
+                + ImageUtils.getFormattedFileSize(output.length());
+
+        assertEquals("source should be opened once per run", MEASURED_RUNS, opens.get());
+        assertTrue("peak bitmap memory over budget: " + summary, peakBitmapBytes <= PEAK_BITMAP_BUDGET);
+        assertTrue("empty output: " + summary, output.length() > 0);
+    }
+
+    @Test
+    public void testCancelledRunKeepsExistingImage() throws Exception {
+        File output = new File(context.getCacheDir(), "cancelled_profile.jpg");
+        byte[] previous = "previous image".getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream out = new FileOutputStream(output)) {
+            out.write(previous);
+        }
+
+        Future<ImageUtils.PipelineStats> run = ImageUtils.compressImageAsync(context, sourceUri, output, null);
+        run.cancel(true);
+
+        // The pipeline is single-threaded, so this run starts after the cancelled one has stopped
+        File other = new File(context.getCacheDir(), "other_profile.jpg");
+        ImageUtils.compressImageAsync(context, sourceUri, other, null).get();
+
+        assertTrue(run.isCancelled());
+        assertArrayEquals(previous, Files.readAllBytes(output.toPath()));
+        assertFalse(new File(context.getCacheDir(), "cancelled_profile.jpg.tmp").exists());
+    }
+
+    @Test
+    public void testTargetSizeEncodingIsSearchedOnceThenCached() throws Exception {
+        File output = new File(context.getCacheDir(), "target_profile.jpg");
+        long target = 12 * 1024;
+
+        ImageUtils.PipelineStats searched =
+                ImageUtils.compressImageAsync(context, sourceUri, output, target, null).get();
+        ImageUtils.PipelineStats cached =
+                ImageUtils.compressImageAsync(context, sourceUri, output, target, null).get();
+        String summary = "target " + target + " B: searched " + searched + ", cached " + cached;
+
+        assertFalse(summary, searched.isEncodeSettingsCached());
+        assertTrue(summary, searched.getEncodeAttempts() > 1);
+        assertTrue(summary, searched.getOutputBytes() <= target);
+
+        assertTrue(summary, cached.isEncodeSettingsCached());
+        assertEquals(summary, 1, cached.getEncodeAttempts());
+        assertEquals(searched.getFormat(), cached.getFormat());
+        assertEquals(searched.getQuality(), cached.getQuality());
+        assertEquals(searched.getOutputBytes(), cached.getOutputBytes());
+    }
+
+    @Test
+    public void testEncodeSettingsEvictLeastRecentlyUsed() {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("recent", "WEBP_LOSSY:80:300");
+        settings.put("legacy", "JPEG:70");
+        settings.put("old", "JPEG:60:100");
+
+        // Entries written before use times were kept go first
+        assertEquals(Arrays.asList("legacy", "old"), ImageUtils.leastRecentlyUsed(settings, "new", 2));
+        assertEquals(Collections.singletonList("legacy"), ImageUtils.leastRecentlyUsed(settings, "recent", 2));
+        assertTrue(ImageUtils.leastRecentlyUsed(settings, "new", ImageUtils.MAX_ENCODE_SETTINGS).isEmpty());
+    }
+
+    private static byte[] encodeSourceImage() {
+        Bitmap bitmap = Bitmap.createBitmap(SOURCE_WIDTH, SOURCE_HEIGHT, Bitmap.Config.ARGB_8888);
+        Paint paint = new Paint();
+        paint.setShader(new LinearGradient(0, 0, SOURCE_WIDTH, SOURCE_HEIGHT,
+                Color.rgb(30, 90, 160), Color.rgb(240, 200, 120), Shader.TileMode.CLAMP));
+        new Canvas(bitmap).drawRect(0, 0, SOURCE_WIDTH, SOURCE_HEIGHT, paint);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bitmap.compress(Bitmap.CompressFormat.JPEG, 90, out);
+        bitmap.recycle();
+        return out.toByteArray();
+    }
+
+    /**
+     * Insert a minimal EXIF (APP1) segment carrying only the orientation tag after the SOI marker
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] app1 = {
+                (byte) 0xFF, (byte) 0xE1, 0x00, 0x22,
+                'E', 'x', 'i', 'f', 0x00, 0x00,
+                'M', 'M', 0x00, 0x2A, 0x00, 0x00, 0x00, 0x08,
+                0x00, 0x01,
+                0x01, 0x12, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, 0x00, (byte) orientation, 0x00, 0x00,
+                0x00, 0x00, 0x00, 0x00
+        };
+        byte[] result = new byte[jpeg.length + app1.length];
+        System.arraycopy(jpeg, 0, result, 0, 2);
+        System.arraycopy(app1, 0, result, 2, app1.length);
+        System.arraycopy(jpeg, 2, result, 2 + app1.length, jpeg.length - 2);
+        return result;
+    }
+}
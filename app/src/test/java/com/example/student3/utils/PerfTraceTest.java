@@ -0,0 +1,86 @@
+package com.example.student3.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for the runtime switch on trace sections
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class PerfTraceTest {
+
+    private static final String SECTION = "PerfTraceTest.section";
+
+    @After
+    public void tearDown() {
+        PerfTrace.setEnabled(false);
+    }
+
+    @Test
+    public void testDisabledPathDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        PerfTrace.setEnabled(false);
+
+        // Warm up so class loading and JIT compilation aren't counted
+        runSections(100_000);
+
+        // Measuring allocates a little itself; compare a short and a long run so
+        // only allocation that grows with the number of sections shows up
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        runSections(1_000);
+        long shortRun = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        runSections(100_000);
+        long longRun = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue("Disabled sections allocated " + (longRun - shortRun) + " bytes",
+                longRun - shortRun < 1024);
+    }
+
+    @Test
+    public void testDisabledWrapReturnsTask() {
+        PerfTrace.setEnabled(false);
+        Runnable task = () -> { };
+
+        assertSame(task, PerfTrace.wrap(SECTION, task));
+    }
+
+    @Test
+    public void testEnabledSectionsRunAndCanBeSwitchedOff() {
+        PerfTrace.setEnabled(true);
+        assertTrue(PerfTrace.isEnabled());
+
+        boolean traced = PerfTrace.begin(SECTION);
+        assertTrue(traced);
+        // Switching off mid-section still closes the section that was opened
+        PerfTrace.setEnabled(false);
+        PerfTrace.end(traced);
+        assertFalse(PerfTrace.begin(SECTION));
+
+        PerfTrace.setEnabled(true);
+        int[] runs = new int[1];
+        PerfTrace.wrap(SECTION, () -> runs[0]++).run();
+        assertEquals(1, runs[0]);
+    }
+
+    private static void runSections(int count) {
+        for (int i = 0; i < count; i++) {
+            boolean traced = PerfTrace.begin(SECTION);
+            PerfTrace.end(traced);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.student3.utils;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the screen time-to-first-data histograms and their sample file
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class ScreenMetricsTest {
+
+    private ScreenMetrics metrics;
+
+    @Before
+    public void setUp() {
+        metrics = ScreenMetrics.getInstance(ApplicationProvider.getApplicationContext());
+        metrics.reset();
+    }
+
+    @Test
+    public void testOnlyFirstEmissionPerVisitIsRecorded() {
+        ScreenMetrics.ScreenTrace trace = metrics.startScreen(ScreenMetrics.SCREEN_DASHBOARD);
+        trace.markFirstData();
+        trace.markFirstData();
+
+        assertEquals(1, metrics.getHistogram(ScreenMetrics.SCREEN_DASHBOARD, ScreenMetrics.Metric.FIRST_DATA).getCount());
+
+        // A second visit adds a sample
+        metrics.startScreen(ScreenMetrics.SCREEN_DASHBOARD).markFirstData();
+        assertEquals(2, metrics.getHistogram(ScreenMetrics.SCREEN_DASHBOARD, ScreenMetrics.Metric.FIRST_DATA).getCount());
+        assertEquals(0, metrics.getHistogram(ScreenMetrics.SCREEN_SCHEDULE, ScreenMetrics.Metric.FIRST_DATA).getCount());
+    }
+
+    @Test
+    public void testOnlyFirstScreenOfProcessIsCold() {
+        metrics.startScreen(ScreenMetrics.SCREEN_DASHBOARD).markFirstData();
+        metrics.startScreen(ScreenMetrics.SCREEN_COURSE_LIST).markFirstData();
+
+        assertEquals(1, metrics.getHistogram(ScreenMetrics.SCREEN_DASHBOARD,
+                ScreenMetrics.Metric.COLD_FIRST_DATA).getCount());
+        assertEquals(0, metrics.getHistogram(ScreenMetrics.SCREEN_COURSE_LIST,
+                ScreenMetrics.Metric.COLD_FIRST_DATA).getCount());
+    }
+
+    @Test
+    public void testFirstFrameIsRecordedOnce() {
+        metrics.markFirstFrame();
+        metrics.markFirstFrame();
+
+        assertEquals(1, metrics.getHistogram(ScreenMetrics.SCREEN_STARTUP, ScreenMetrics.Metric.FIRST_FRAME).getCount());
+    }
+
+    @Test
+    public void testSamplesAreAppendedToFile() throws Exception {
+        File file = metrics.getMetricsFile();
+        long before = file.exists() ? Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size() : 0;
+
+        metrics.startScreen(ScreenMetrics.SCREEN_SCHEDULE).markFirstData();
+        metrics.awaitWrites();
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        // One FIRST_DATA sample, plus its COLD_FIRST_DATA twin since reset() made this the first screen
+        assertEquals(before + 2, lines.size());
+        assertTrue(lines.get(lines.size() - 2).contains("\"metric\":\"FIRST_DATA\""));
+        assertTrue(lines.get(lines.size() - 2).contains("\"screen\":\"schedule\""));
+    }
+}
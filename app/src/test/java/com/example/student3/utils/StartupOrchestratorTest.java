@@ -0,0 +1,57 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for initializer timing and failure isolation in StartupOrchestrator
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class StartupOrchestratorTest {
+
+    @Test
+    public void testCriticalInitializersAreTimedInOrder() {
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+        boolean[] ran = new boolean[1];
+
+        startup.runCritical("testFirst", () -> ran[0] = true);
+        startup.runCritical("testSecond", () -> { });
+
+        assertTrue(ran[0]);
+        Map<String, Long> timings = startup.getTimings();
+        assertTrue(timings.containsKey("CRITICAL/testFirst"));
+        assertTrue(timings.get("CRITICAL/testFirst") >= 0);
+
+        // Later initializers come after earlier ones
+        int first = -1;
+        int second = -1;
+        int index = 0;
+        for (String key : timings.keySet()) {
+            if (key.equals("CRITICAL/testFirst")) first = index;
+            if (key.equals("CRITICAL/testSecond")) second = index;
+            index++;
+        }
+        assertTrue(first >= 0 && second > first);
+    }
+
+    @Test
+    public void testFailingInitializerDoesNotStopOthers() {
+        StartupOrchestrator startup = StartupOrchestrator.getInstance();
+        boolean[] ran = new boolean[1];
+
+        startup.runCritical("testFailing", () -> {
+            throw new IllegalStateException("Boom");
+        });
+        startup.runCritical("testAfterFailure", () -> ran[0] = true);
+
+        assertTrue(ran[0]);
+        assertTrue(startup.getTimings().containsKey("CRITICAL/testFailing"));
+    }
+}
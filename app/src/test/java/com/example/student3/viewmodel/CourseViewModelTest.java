@@ -0,0 +1,132 @@
+package com.example.student3.viewmodel;
+
+import android.app.Application;
+import android.os.Looper;
+
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.Observer;
+import androidx.test.core.app.ApplicationProvider;
+
+import com.example.student3.model.CourseListItem;
+import com.example.student3.repository.CourseQuery;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Unit tests for the course list query pipeline in CourseViewModel
+ *
+ * Each query handed to the view model is answered by a fake LiveData that
+ * records when it becomes active, standing in for a Room query.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class CourseViewModelTest {
+
+    @Rule
+    public InstantTaskExecutorRule instantTaskExecutorRule = new InstantTaskExecutorRule();
+
+    private final List<FakeQueryLiveData> startedQueries = new ArrayList<>();
+    private final Observer<List<CourseListItem>> observer = courses -> { };
+    private CourseViewModel viewModel;
+
+    @Before
+    public void setUp() {
+        Application application = ApplicationProvider.getApplicationContext();
+        viewModel = new CourseViewModel(application, query -> {
+            FakeQueryLiveData liveData = new FakeQueryLiveData(query);
+            startedQueries.add(liveData);
+            return liveData;
+        });
+        viewModel.getCourseResults().observeForever(observer);
+        viewModel.initCourseQuery(new CourseQuery("", 1, 7, false));
+    }
+
+    @Test
+    public void testTypingIsDebouncedIntoOneQuery() {
+        viewModel.setSearchText("c");
+        viewModel.setSearchText("cs");
+        viewModel.setSearchText("cs1");
+
+        // Nothing runs until typing pauses
+        assertEquals(1, startedQueries.size());
+        idleFor(CourseViewModel.SEARCH_DEBOUNCE_MS);
+
+        assertEquals(2, startedQueries.size());
+        assertEquals("cs1", lastQuery().query.getText());
+        assertEquals(1, countActiveQueries());
+    }
+
+    @Test
+    public void testOnlyLatestQueryStaysActive() {
+        viewModel.setRegisteredOnly(true);
+        viewModel.setSearchText("math");
+        idleFor(CourseViewModel.SEARCH_DEBOUNCE_MS);
+        viewModel.setRegisteredOnly(false);
+
+        assertEquals(4, startedQueries.size());
+        assertEquals(1, countActiveQueries());
+        assertTrue(lastQuery().hasActiveObservers());
+        assertFalse(lastQuery().query.isRegisteredOnly());
+        assertEquals("math", lastQuery().query.getText());
+    }
+
+    @Test
+    public void testToggleCancelsPendingSearch() {
+        viewModel.setSearchText("phys");
+        viewModel.setRegisteredOnly(true);
+        idleFor(CourseViewModel.SEARCH_DEBOUNCE_MS);
+
+        // The toggle applied the pending text at once; the debounced run was dropped
+        assertEquals(2, startedQueries.size());
+        assertEquals("phys", lastQuery().query.getText());
+        assertEquals(1, countActiveQueries());
+    }
+
+    @Test
+    public void testUnchangedQueryDoesNotRequery() {
+        viewModel.setSearchText("  ");
+        idleFor(CourseViewModel.SEARCH_DEBOUNCE_MS);
+        viewModel.submitSearch();
+
+        assertEquals(1, startedQueries.size());
+    }
+
+    private void idleFor(long millis) {
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+    }
+
+    private FakeQueryLiveData lastQuery() {
+        return startedQueries.get(startedQueries.size() - 1);
+    }
+
+    private int countActiveQueries() {
+        int active = 0;
+        for (FakeQueryLiveData liveData : startedQueries) {
+            if (liveData.hasActiveObservers()) active++;
+        }
+        return active;
+    }
+
+    private static class FakeQueryLiveData extends LiveData<List<CourseListItem>> {
+        final CourseQuery query;
+
+        FakeQueryLiveData(CourseQuery query) {
+            super(Collections.emptyList());
+            this.query = query;
+        }
+    }
+}
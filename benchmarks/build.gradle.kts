@@ -0,0 +1,51 @@
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    // Benchmarks run against the Android-free domain logic
+    jmh(project(":core"))
+
+    // Result comparison tool
+    implementation(libs.gson)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+
+    // -PjmhIncludes=Pagination runs only the matching benchmarks
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.set(listOf(it)) }
+}
+
+// Compare two JMH JSON result files, see README.md
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    description = "Compares two JMH JSON result files and fails on regressions"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("com.example.student3.benchmarks.JmhCompare")
+
+    // Arguments are positional, so a missing baseline would shift the candidate into its place
+    val baseline = providers.gradleProperty("baseline")
+    doFirst {
+        if (!baseline.isPresent) {
+            throw GradleException("jmhCompare needs -Pbaseline=<results.json of the run to compare against>")
+        }
+    }
+    args = listOfNotNull(
+        baseline.orNull,
+        providers.gradleProperty("candidate").orNull
+            ?: layout.buildDirectory.file("results/jmh/results.json").get().asFile.path,
+        providers.gradleProperty("regressionThreshold").orNull
+    )
+}
@@ -0,0 +1,52 @@
+package com.example.student3.benchmarks;
+
+import com.example.student3.utils.ScheduleUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the comma-separated days stored on courses ("MON,WED,FRI").
+ * The split-based variant is how the days were parsed before day masks,
+ * kept as a reference point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DayParsingBenchmark {
+
+    @Param({"MON,WED,FRI", "TUE, THU", "MON,TUE,WED,THU,FRI,SAT,SUN"})
+    public String daysOfWeek;
+
+    @Benchmark
+    public int parseDaysMask() {
+        return ScheduleUtils.parseDaysMask(daysOfWeek);
+    }
+
+    @Benchmark
+    public int splitAndCompare() {
+        int mask = 0;
+        for (String day : daysOfWeek.split(",")) {
+            String trimmed = day.trim().toUpperCase(Locale.ROOT);
+            for (int i = 0; i < ScheduleUtils.DAYS.length; i++) {
+                if (ScheduleUtils.DAYS[i].equals(trimmed)) {
+                    mask |= 1 << i;
+                }
+            }
+        }
+        return mask;
+    }
+
+    @Benchmark
+    public String formatDaysMask() {
+        return ScheduleUtils.formatDaysMask(0b0010101);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.student3.benchmarks;
+
+import com.example.student3.utils.PaginationUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paging through a large in-memory list, and the infinite-scroll merge that
+ * copies everything loaded so far for each new page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaginationBenchmark {
+
+    @Param({"100000"})
+    public int itemCount;
+
+    private List<Integer> items;
+    private List<Integer> loadedSoFar;
+    private PaginationUtils.PagedResult<Integer> nextPage;
+    private int middlePage;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(i);
+        }
+        middlePage = itemCount / PaginationUtils.DEFAULT_PAGE_SIZE / 2;
+
+        // Half the list has been scrolled through
+        loadedSoFar = new ArrayList<>(items.subList(0, itemCount / 2));
+        nextPage = PaginationUtils.paginate(items, middlePage + 1, PaginationUtils.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PaginationUtils.PagedResult<Integer> paginateMiddlePage() {
+        return PaginationUtils.paginate(items, middlePage, PaginationUtils.DEFAULT_PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Integer> mergeNextPage() {
+        return PaginationUtils.mergePages(loadedSoFar, nextPage);
+    }
+
+    @Benchmark
+    public List<Integer> pageRange() {
+        int totalPages = PaginationUtils.calculateTotalPages(itemCount, PaginationUtils.DEFAULT_PAGE_SIZE);
+        return PaginationUtils.getPageRange(middlePage, totalPages, 5);
+    }
+}
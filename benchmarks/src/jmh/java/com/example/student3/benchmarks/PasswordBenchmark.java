@@ -0,0 +1,53 @@
+package com.example.student3.benchmarks;
+
+import com.example.student3.utils.PasswordUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing on registration and login, and the strength check run
+ * on each edit of the password field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "Student#2025";
+
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        storedHash = PasswordUtils.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return PasswordUtils.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return PasswordUtils.verifyPassword(PASSWORD, storedHash);
+    }
+
+    @Benchmark
+    public PasswordUtils.PasswordValidationResult validateStrongPassword() {
+        return PasswordUtils.validatePasswordStrength(PASSWORD);
+    }
+
+    @Benchmark
+    public PasswordUtils.PasswordValidationResult validateWeakPassword() {
+        // Fails on the last rule, so every pattern runs
+        return PasswordUtils.validatePasswordStrength("Student2025");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.student3.benchmarks;
+
+import com.example.student3.utils.ScheduleUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule text built while binding course and schedule rows.
+ * Both calls go through String.format once per time shown.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleBenchmark {
+
+    @Param({"MON,WED,FRI", "TUE,THU"})
+    public String daysOfWeek;
+
+    private int period;
+
+    @Benchmark
+    public String formatSchedule() {
+        return ScheduleUtils.formatSchedule(daysOfWeek, 2, 3);
+    }
+
+    @Benchmark
+    public String periodTimeRange() {
+        // Cycle through every period so no single value is constant-folded
+        period = period % ScheduleUtils.TOTAL_PERIODS + 1;
+        return ScheduleUtils.getPeriodTimeRange(period);
+    }
+
+    @Benchmark
+    public String periodTimeRangeSpan() {
+        return ScheduleUtils.getPeriodTimeRange(1, 3);
+    }
+}
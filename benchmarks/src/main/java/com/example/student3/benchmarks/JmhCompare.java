@@ -0,0 +1,134 @@
+package com.example.student3.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark.
+ *
+ * A benchmark counts as a regression when it got worse by more than the threshold
+ * (10% by default) and the change is larger than the two runs' combined error.
+ * Exits with status 1 if any benchmark regressed.
+ *
+ * Usage: JmhCompare baseline.json candidate.json [thresholdPercent]
+ */
+public final class JmhCompare {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private JmhCompare() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhCompare baseline.json candidate.json [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> candidate = read(args[1]);
+
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, Result> entry : candidate.entrySet()) {
+            Result after = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s%n",
+                        entry.getKey(), "-", after.format(), "new");
+                continue;
+            }
+
+            // Positive means worse, whichever direction the mode counts as better
+            double change = (after.score - before.score) / before.score * 100.0;
+            double worse = after.higherIsBetter ? -change : change;
+            boolean significant = Math.abs(after.score - before.score) > before.error + after.error;
+            boolean regressed = worse > threshold && significant;
+            if (regressed) regressions++;
+
+            System.out.printf(Locale.ROOT, "%-70s %14s %14s %+8.1f%%%s%n", entry.getKey(),
+                    before.format(), after.format(), change, regressed ? "  REGRESSION" : "");
+        }
+        for (String name : baseline.keySet()) {
+            if (!candidate.containsKey(name)) {
+                System.out.printf(Locale.ROOT, "%-70s %14s %14s %9s%n", name, baseline.get(name).format(), "-", "removed");
+            }
+        }
+
+        System.out.printf(Locale.ROOT, "%n%d regression(s) over %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(String path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            JsonArray runs = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : runs) {
+                JsonObject run = element.getAsJsonObject();
+                JsonObject metric = run.getAsJsonObject("primaryMetric");
+                String mode = run.get("mode").getAsString();
+
+                double error = metric.get("scoreError").isJsonPrimitive()
+                        && metric.get("scoreError").getAsJsonPrimitive().isNumber()
+                        ? metric.get("scoreError").getAsDouble() : 0;
+                results.put(key(run), new Result(metric.get("score").getAsDouble(), error,
+                        metric.get("scoreUnit").getAsString(), "thrpt".equals(mode)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Benchmark name with its parameters, e.g. "PaginationBenchmark.mergeNextPage(itemCount=100000)"
+     */
+    private static String key(JsonObject run) {
+        String name = run.get("benchmark").getAsString();
+        name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        if (!run.has("params")) {
+            return name;
+        }
+        Map<String, String> params = new TreeMap<>();
+        for (Map.Entry<String, JsonElement> param : run.getAsJsonObject("params").entrySet()) {
+            params.put(param.getKey(), param.getValue().getAsString());
+        }
+        StringBuilder key = new StringBuilder(name).append('(');
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            if (key.charAt(key.length() - 1) != '(') key.append(", ");
+            key.append(param.getKey()).append('=').append(param.getValue());
+        }
+        return key.append(')').toString();
+    }
+
+    private static final class Result {
+        final double score;
+        final double error;
+        final String unit;
+        final boolean higherIsBetter;
+
+        Result(double score, double error, String unit, boolean higherIsBetter) {
+            this.score = score;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "%.3f %s", score, unit);
+        }
+    }
+}
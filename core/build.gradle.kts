@@ -0,0 +1,14 @@
+plugins {
+    `java-library`
+}
+
+// Android-free domain logic shared with :app. Must stay usable on minSdk 24, so
+// avoid APIs newer than Java 8 that Android lacks there (e.g. java.time, java.util.Base64).
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+dependencies {
+    testImplementation(libs.junit)
+}
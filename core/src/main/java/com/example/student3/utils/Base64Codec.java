@@ -0,0 +1,92 @@
+package com.example.student3.utils;
+
+import java.util.Arrays;
+
+/**
+ * Base64 in the layout android.util.Base64.DEFAULT uses: standard alphabet with
+ * padding, a newline after every 76 characters and a newline at the end.
+ *
+ * java.util.Base64 would do the same job on the JVM but only exists on Android from
+ * API 26, and android.util.Base64 ties callers to the Android framework.
+ */
+final class Base64Codec {
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray();
+    private static final int LINE_LENGTH = 76;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE_TABLE[ALPHABET[i]] = i;
+        }
+    }
+
+    private Base64Codec() {
+    }
+
+    static String encode(byte[] data) {
+        if (data.length == 0) {
+            return "";
+        }
+        int encodedLength = (data.length + 2) / 3 * 4;
+        StringBuilder out = new StringBuilder(encodedLength + encodedLength / LINE_LENGTH + 1);
+        int lineChars = 0;
+
+        for (int i = 0; i < data.length; i += 3) {
+            int remaining = data.length - i;
+            int b0 = data[i] & 0xFF;
+            int b1 = remaining > 1 ? data[i + 1] & 0xFF : 0;
+            int b2 = remaining > 2 ? data[i + 2] & 0xFF : 0;
+
+            out.append(ALPHABET[b0 >>> 2]);
+            out.append(ALPHABET[((b0 & 0x03) << 4) | (b1 >>> 4)]);
+            out.append(remaining > 1 ? ALPHABET[((b1 & 0x0F) << 2) | (b2 >>> 6)] : '=');
+            out.append(remaining > 2 ? ALPHABET[b2 & 0x3F] : '=');
+
+            lineChars += 4;
+            if (lineChars == LINE_LENGTH) {
+                out.append('\n');
+                lineChars = 0;
+            }
+        }
+        if (lineChars > 0) {
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Decode Base64 text, ignoring whitespace and stopping at padding
+     *
+     * @throws IllegalArgumentException if the text contains other characters
+     */
+    static byte[] decode(String text) {
+        byte[] out = new byte[text.length() * 3 / 4];
+        int count = 0;
+        int buffer = 0;
+        int bits = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '=') {
+                break;
+            }
+            if (c == '\n' || c == '\r' || c == ' ' || c == '\t') {
+                continue;
+            }
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("bad base-64");
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                out[count++] = (byte) (buffer >>> bits);
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.student3.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Expands weekly course meetings into the concrete class meetings of a date range.
+ *
+ * A course meets on the days in its daysOfWeek list, but only between its own start and
+ * end dates, only inside its semester, and never on a holiday. Meetings are bucketed by
+ * weekday and sorted by start period up front, so walking a range costs one bucket scan
+ * per day and occurrences are produced lazily as the caller iterates.
+ *
+ * The class has no Android dependencies and is immutable once built, so one instance
+ * can be shared between the UI thread and a background executor.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class ClassOccurrenceGenerator {
+
+    private static final Meeting[] NO_MEETINGS = new Meeting[0];
+
+    private final Meeting[][] meetingsByWeekday = new Meeting[ScheduleUtils.DAYS.length][];
+    private final HolidayCalendar holidays;
+
+    /**
+     * @param meetings Weekly meetings of the courses to expand
+     * @param holidays Days on which no classes meet
+     */
+    public ClassOccurrenceGenerator(List<Meeting> meetings, HolidayCalendar holidays) {
+        this.holidays = holidays != null ? holidays : HolidayCalendar.NONE;
+
+        List<List<Meeting>> buckets = new ArrayList<>(ScheduleUtils.DAYS.length);
+        for (int i = 0; i < ScheduleUtils.DAYS.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (Meeting meeting : meetings) {
+            if (meeting.firstDay > meeting.lastDay) continue;
+            for (int i = 0; i < ScheduleUtils.DAYS.length; i++) {
+                if ((meeting.daysMask & (1 << i)) != 0) {
+                    buckets.get(i).add(meeting);
+                }
+            }
+        }
+
+        Comparator<Meeting> byPeriod = (a, b) -> a.startPeriod != b.startPeriod
+                ? Integer.compare(a.startPeriod, b.startPeriod)
+                : Integer.compare(a.courseId, b.courseId);
+        for (int i = 0; i < ScheduleUtils.DAYS.length; i++) {
+            List<Meeting> bucket = buckets.get(i);
+            bucket.sort(byPeriod);
+            meetingsByWeekday[i] = bucket.isEmpty() ? NO_MEETINGS : bucket.toArray(NO_MEETINGS);
+        }
+    }
+
+    /**
+     * Lazily enumerate class meetings between two days, ordered by day then start period
+     * @param fromDay First day (inclusive) as an {@link EpochDay} number
+     * @param toDay Last day (inclusive) as an {@link EpochDay} number
+     * @return Iterable that walks the range on demand
+     */
+    public Iterable<Occurrence> occurrences(int fromDay, int toDay) {
+        return () -> new OccurrenceIterator(fromDay, toDay);
+    }
+
+    /**
+     * Precompute which courses meet on each day of a month
+     * @param year Year (e.g., 2025)
+     * @param month Month (1-12)
+     * @return Index answering per-day lookups in constant time
+     */
+    public MonthOccupancyIndex buildMonthIndex(int year, int month) {
+        int firstDay = EpochDay.of(year, month, 1);
+        int length = EpochDay.lengthOfMonth(year, month);
+        int[][] courseIdsByDay = new int[length][];
+
+        int[] scratch = new int[16];
+        for (int offset = 0; offset < length; offset++) {
+            int day = firstDay + offset;
+            if (holidays.isHoliday(day)) continue;
+
+            int count = 0;
+            for (Meeting meeting : meetingsByWeekday[EpochDay.weekdayIndex(day)]) {
+                if (meeting.isActiveOn(day)) {
+                    if (count == scratch.length) scratch = Arrays.copyOf(scratch, count * 2);
+                    scratch[count++] = meeting.courseId;
+                }
+            }
+            if (count > 0) {
+                courseIdsByDay[offset] = Arrays.copyOf(scratch, count);
+            }
+        }
+        return new MonthOccupancyIndex(year, month, courseIdsByDay);
+    }
+
+    public boolean isHoliday(int epochDay) {
+        return holidays.isHoliday(epochDay);
+    }
+
+    private class OccurrenceIterator implements Iterator<Occurrence> {
+        private final int toDay;
+        private int day;
+        private Meeting[] bucket = NO_MEETINGS;
+        private int position;
+        private Occurrence next;
+
+        OccurrenceIterator(int fromDay, int toDay) {
+            this.toDay = toDay;
+            this.day = fromDay - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Occurrence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Occurrence result = next;
+            next = null;
+            return result;
+        }
+
+        private Occurrence advance() {
+            while (true) {
+                while (position < bucket.length) {
+                    Meeting meeting = bucket[position++];
+                    if (meeting.isActiveOn(day)) {
+                        return new Occurrence(day, meeting.courseId, meeting.startPeriod, meeting.endPeriod);
+                    }
+                }
+                if (day >= toDay) {
+                    return null;
+                }
+                day++;
+                position = 0;
+                bucket = holidays.isHoliday(day)
+                        ? NO_MEETINGS
+                        : meetingsByWeekday[EpochDay.weekdayIndex(day)];
+            }
+        }
+    }
+
+    /**
+     * Weekly meeting pattern of one course, clipped to the days it can actually meet
+     */
+    public static class Meeting {
+        public final int courseId;
+        public final int daysMask;
+        public final int startPeriod;
+        public final int endPeriod;
+        public final int firstDay;
+        public final int lastDay;
+
+        public Meeting(int courseId, int daysMask, int startPeriod, int endPeriod, int firstDay, int lastDay) {
+            this.courseId = courseId;
+            this.daysMask = daysMask;
+            this.startPeriod = startPeriod;
+            this.endPeriod = endPeriod;
+            this.firstDay = firstDay;
+            this.lastDay = lastDay;
+        }
+
+        /**
+         * Build a meeting from stored course and semester fields.
+         * The active range is the intersection of the course dates and the semester dates;
+         * missing dates leave that side unbounded.
+         */
+        public static Meeting forCourse(int courseId, String daysOfWeek, int startPeriod, int endPeriod,
+                                        String courseStart, String courseEnd,
+                                        String semesterStart, String semesterEnd) {
+            int firstDay = Math.max(EpochDay.parse(courseStart, EpochDay.UNBOUNDED_START),
+                    EpochDay.parse(semesterStart, EpochDay.UNBOUNDED_START));
+            int lastDay = Math.min(EpochDay.parse(courseEnd, EpochDay.UNBOUNDED_END),
+                    EpochDay.parse(semesterEnd, EpochDay.UNBOUNDED_END));
+            return new Meeting(courseId, ScheduleUtils.parseDaysMask(daysOfWeek),
+                    startPeriod, endPeriod, firstDay, lastDay);
+        }
+
+        public boolean isActiveOn(int epochDay) {
+            return epochDay >= firstDay && epochDay <= lastDay;
+        }
+    }
+
+    /**
+     * A single class meeting on a concrete day
+     */
+    public static class Occurrence {
+        public final int epochDay;
+        public final int courseId;
+        public final int startPeriod;
+        public final int endPeriod;
+
+        public Occurrence(int epochDay, int courseId, int startPeriod, int endPeriod) {
+            this.epochDay = epochDay;
+            this.courseId = courseId;
+            this.startPeriod = startPeriod;
+            this.endPeriod = endPeriod;
+        }
+    }
+}
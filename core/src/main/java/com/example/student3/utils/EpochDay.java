@@ -0,0 +1,152 @@
+package com.example.student3.utils;
+
+import java.util.Calendar;
+
+/**
+ * Calendar arithmetic on plain int day numbers (days since 1970-01-01).
+ *
+ * java.time is not available below API 26, and Calendar allocates on every call,
+ * so schedule code that walks many dates uses these helpers instead.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class EpochDay {
+
+    public static final int UNBOUNDED_START = Integer.MIN_VALUE;
+    public static final int UNBOUNDED_END = Integer.MAX_VALUE;
+
+    private EpochDay() {
+    }
+
+    /**
+     * Convert a civil date to a day number
+     * @param year Year (e.g., 2025)
+     * @param month Month (1-12)
+     * @param dayOfMonth Day of month (1-31)
+     * @return Days since 1970-01-01
+     */
+    public static int of(int year, int month, int dayOfMonth) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Parse a "yyyy-MM-dd" date as stored on courses and semesters
+     * @param isoDate Date string, may be null or empty
+     * @param fallback Value returned when the date is missing or malformed
+     * @return Day number or the fallback
+     */
+    public static int parse(String isoDate, int fallback) {
+        if (isoDate == null || isoDate.length() < 10
+                || isoDate.charAt(4) != '-' || isoDate.charAt(7) != '-') {
+            return fallback;
+        }
+        int year = parseDigits(isoDate, 0, 4);
+        int month = parseDigits(isoDate, 5, 7);
+        int day = parseDigits(isoDate, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return fallback;
+        }
+        return of(year, month, day);
+    }
+
+    /**
+     * Format a day number as "yyyy-MM-dd", the inverse of {@link #parse}
+     */
+    public static String format(int epochDay) {
+        int[] date = civil(epochDay);
+        char[] out = new char[10];
+        writeDigits(out, 0, date[0], 4);
+        out[4] = '-';
+        writeDigits(out, 5, date[1], 2);
+        out[7] = '-';
+        writeDigits(out, 8, date[2], 2);
+        return new String(out);
+    }
+
+    private static void writeDigits(char[] out, int start, int value, int width) {
+        for (int i = start + width - 1; i >= start; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int parseDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    public static int year(int epochDay) {
+        return civil(epochDay)[0];
+    }
+
+    public static int month(int epochDay) {
+        return civil(epochDay)[1];
+    }
+
+    public static int dayOfMonth(int epochDay) {
+        return civil(epochDay)[2];
+    }
+
+    /**
+     * Split a day number into {year, month, dayOfMonth}
+     */
+    public static int[] civil(int epochDay) {
+        int z = epochDay + 719468;
+        int era = Math.floorDiv(z, 146097);
+        int dayOfEra = z - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return new int[]{year, month, day};
+    }
+
+    /**
+     * Day of week as an index into {@link ScheduleUtils#DAYS} (0 = Monday, 6 = Sunday)
+     */
+    public static int weekdayIndex(int epochDay) {
+        // 1970-01-01 was a Thursday
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Day number of the given calendar's date in its own time zone
+     */
+    public static int fromCalendar(Calendar calendar) {
+        return of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
+    }
+
+    public static int today() {
+        return fromCalendar(Calendar.getInstance());
+    }
+}
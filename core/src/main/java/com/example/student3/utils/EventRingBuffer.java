@@ -0,0 +1,168 @@
+package com.example.student3.utils;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-capacity log of recent events, formatted only when dumped.
+ *
+ * Every record has the same shape: time, level, tag, a message template and up
+ * to one value and two numbers to fill it with. The records live in parallel
+ * arrays allocated up front, so recording one allocates nothing as long as the
+ * tag and template are constants. Writers claim a slot with a single atomic
+ * increment and never block; once the buffer is full each new record replaces
+ * the oldest.
+ *
+ * Templates use %s for the value and %d for the numbers, in order:
+ *
+ * <pre>
+ * events.record(time, EventRingBuffer.DEBUG, TAG, "Uploading %d changes: %s", request, changes.size(), 0);
+ * </pre>
+ *
+ * The value is kept by reference and turned into a string with String.valueOf
+ * at dump time, so it should be immutable. A dump taken while writers are busy
+ * skips records that are being overwritten as it reads them.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class EventRingBuffer {
+
+    // Same values as android.util.Log
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    private static final String LEVEL_LETTERS = "??VDIWEA";
+    // Marks a slot a writer is filling in
+    private static final long WRITING = -1;
+
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    // Sequence number + 1 of the record in each slot, 0 while empty
+    private final AtomicLongArray published;
+    private final long[] times;
+    private final int[] levels;
+    private final String[] tags;
+    private final String[] templates;
+    private final Object[] values;
+    private final long[] firstNumbers;
+    private final long[] secondNumbers;
+
+    /**
+     * @param capacity Records kept; must be a power of two
+     */
+    public EventRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        published = new AtomicLongArray(capacity);
+        times = new long[capacity];
+        levels = new int[capacity];
+        tags = new String[capacity];
+        templates = new String[capacity];
+        values = new Object[capacity];
+        firstNumbers = new long[capacity];
+        secondNumbers = new long[capacity];
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Total records written, including those since overwritten
+     */
+    public long getRecordedCount() {
+        return nextSequence.get();
+    }
+
+    public void record(long timeMillis, int level, String tag, String template,
+                       Object value, long firstNumber, long secondNumber) {
+        long sequence = nextSequence.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        published.set(slot, WRITING);
+        times[slot] = timeMillis;
+        levels[slot] = level;
+        tags[slot] = tag;
+        templates[slot] = template;
+        values[slot] = value;
+        firstNumbers[slot] = firstNumber;
+        secondNumbers[slot] = secondNumber;
+        published.set(slot, sequence + 1);
+    }
+
+    /**
+     * Append the records still held, oldest first, one line each:
+     * "MM-dd HH:mm:ss.SSS D/Tag: message"
+     */
+    public void dump(Appendable out) throws IOException {
+        SimpleDateFormat timeFormat = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+        long end = nextSequence.get();
+        long start = Math.max(0, end - getCapacity());
+        StringBuilder line = new StringBuilder();
+        for (long sequence = start; sequence < end; sequence++) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence + 1) {
+                continue;
+            }
+            long time = times[slot];
+            int level = levels[slot];
+            String tag = tags[slot];
+            String template = templates[slot];
+            Object value = values[slot];
+            long firstNumber = firstNumbers[slot];
+            long secondNumber = secondNumbers[slot];
+            if (published.get(slot) != sequence + 1) {
+                // Overwritten while it was being read
+                continue;
+            }
+
+            line.setLength(0);
+            line.append(timeFormat.format(new Date(time))).append(' ')
+                    .append(level >= 0 && level < LEVEL_LETTERS.length() ? LEVEL_LETTERS.charAt(level) : '?')
+                    .append('/').append(tag).append(": ");
+            appendMessage(line, template, value, firstNumber, secondNumber);
+            out.append(line).append('\n');
+        }
+    }
+
+    /**
+     * Fill in a template the way {@link #dump} does
+     */
+    public static String format(String template, Object value, long firstNumber, long secondNumber) {
+        StringBuilder message = new StringBuilder();
+        appendMessage(message, template, value, firstNumber, secondNumber);
+        return message.toString();
+    }
+
+    private static void appendMessage(StringBuilder out, String template, Object value,
+                                      long firstNumber, long secondNumber) {
+        int numbersUsed = 0;
+        int length = template.length();
+        for (int i = 0; i < length; i++) {
+            char c = template.charAt(i);
+            if (c == '%' && i + 1 < length) {
+                char next = template.charAt(i + 1);
+                if (next == 's') {
+                    out.append(value);
+                    i++;
+                    continue;
+                }
+                if (next == 'd') {
+                    out.append(numbersUsed++ == 0 ? firstNumber : secondNumber);
+                    i++;
+                    continue;
+                }
+            }
+            out.append(c);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.student3.utils;
+
+import java.util.Arrays;
+
+/**
+ * Set of days on which no classes meet (public holidays, reading weeks, etc.).
+ *
+ * Days are kept as a sorted array of {@link EpochDay} numbers, so membership is a
+ * binary search and iterating a semester does not allocate.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class HolidayCalendar {
+
+    public static final HolidayCalendar NONE = new HolidayCalendar(new int[0]);
+
+    private final int[] days;
+
+    private HolidayCalendar(int[] sortedDays) {
+        this.days = sortedDays;
+    }
+
+    /**
+     * Build a calendar from "yyyy-MM-dd" dates; malformed entries are ignored
+     * @param isoDates Holiday dates, may be null
+     * @return Holiday calendar
+     */
+    public static HolidayCalendar fromIsoDates(String[] isoDates) {
+        if (isoDates == null || isoDates.length == 0) {
+            return NONE;
+        }
+
+        int[] parsed = new int[isoDates.length];
+        int count = 0;
+        for (String isoDate : isoDates) {
+            int day = EpochDay.parse(isoDate, EpochDay.UNBOUNDED_START);
+            if (day != EpochDay.UNBOUNDED_START) {
+                parsed[count++] = day;
+            }
+        }
+        return fromDays(Arrays.copyOf(parsed, count));
+    }
+
+    /**
+     * Build a calendar from day numbers in any order
+     */
+    public static HolidayCalendar fromDays(int[] epochDays) {
+        int[] sorted = epochDays.clone();
+        Arrays.sort(sorted);
+        return new HolidayCalendar(sorted);
+    }
+
+    public boolean isHoliday(int epochDay) {
+        return Arrays.binarySearch(days, epochDay) >= 0;
+    }
+
+    public int size() {
+        return days.length;
+    }
+}
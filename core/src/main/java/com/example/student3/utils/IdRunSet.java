@@ -0,0 +1,355 @@
+package com.example.student3.utils;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of non-negative ids stored as sorted runs of consecutive values.
+ *
+ * Announcement ids are handed out in order and students tend to read everything
+ * up to some point plus a few newer items, so a read set is usually a handful of
+ * runs however many ids it covers. Lookups are a binary search over the runs and
+ * set counts walk both run lists once, so neither depends on the number of ids.
+ * {@link #toBytes()} packs the runs as varint deltas for storage in a blob.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class IdRunSet {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int[] NO_RUNS = new int[0];
+
+    // Inclusive bounds: runs[2i] is the first id of run i, runs[2i + 1] the last
+    private int[] runs;
+    private int runCount;
+
+    public IdRunSet() {
+        this.runs = NO_RUNS;
+    }
+
+    private IdRunSet(int[] runs, int runCount) {
+        this.runs = runs;
+        this.runCount = runCount;
+    }
+
+    /**
+     * @param sortedIds Ids in ascending order; duplicates are allowed
+     */
+    public static IdRunSet fromSortedIds(List<Integer> sortedIds) {
+        int[] runs = new int[8];
+        int count = 0;
+        for (int id : sortedIds) {
+            checkId(id);
+            if (count > 0 && id <= runs[2 * count - 1] + 1) {
+                if (id < runs[2 * count - 2]) {
+                    throw new IllegalArgumentException("Ids are not sorted at " + id);
+                }
+                runs[2 * count - 1] = Math.max(runs[2 * count - 1], id);
+                continue;
+            }
+            if (2 * count == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[2 * count] = id;
+            runs[2 * count + 1] = id;
+            count++;
+        }
+        return new IdRunSet(runs, count);
+    }
+
+    /**
+     * Decode a set written by {@link #toBytes()}; null or empty gives an empty set
+     */
+    public static IdRunSet fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return new IdRunSet();
+        }
+        Reader reader = new Reader(bytes);
+        int version = reader.next();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unknown id set format " + version);
+        }
+        int count = reader.next();
+        int[] runs = new int[2 * count];
+        int previousEnd = -2; // So the first gap is measured from -1
+        for (int i = 0; i < count; i++) {
+            int start = previousEnd + 2 + reader.next();
+            int end = start + reader.next();
+            runs[2 * i] = start;
+            runs[2 * i + 1] = end;
+            previousEnd = end;
+        }
+        return new IdRunSet(runs, count);
+    }
+
+    public byte[] toBytes() {
+        // At most five bytes per varint
+        byte[] out = new byte[2 + 5 + runCount * 10];
+        int length = writeVarint(out, 0, FORMAT_VERSION);
+        length = writeVarint(out, length, runCount);
+        int previousEnd = -2;
+        for (int i = 0; i < runCount; i++) {
+            int start = runs[2 * i];
+            int end = runs[2 * i + 1];
+            // Runs never touch, so the gap to the previous run is at least one id
+            length = writeVarint(out, length, start - previousEnd - 2);
+            length = writeVarint(out, length, end - start);
+            previousEnd = end;
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    public boolean contains(int id) {
+        int run = findRun(id);
+        return run >= 0 && id <= runs[2 * run + 1];
+    }
+
+    /**
+     * @return true if the id was not already in the set
+     */
+    public boolean add(int id) {
+        checkId(id);
+        int run = findRun(id);
+        if (run >= 0 && id <= runs[2 * run + 1]) {
+            return false;
+        }
+        boolean joinsPrevious = run >= 0 && runs[2 * run + 1] == id - 1;
+        boolean joinsNext = run + 1 < runCount && runs[2 * (run + 1)] == id + 1;
+
+        if (joinsPrevious && joinsNext) {
+            runs[2 * run + 1] = runs[2 * (run + 1) + 1];
+            deleteRun(run + 1);
+        } else if (joinsPrevious) {
+            runs[2 * run + 1] = id;
+        } else if (joinsNext) {
+            runs[2 * (run + 1)] = id;
+        } else {
+            insertRun(run + 1, id, id);
+        }
+        return true;
+    }
+
+    /**
+     * Add every id from first to last inclusive, merging the runs it overlaps or touches
+     */
+    public void addRange(int first, int last) {
+        checkId(first);
+        if (last < first) {
+            throw new IllegalArgumentException("Empty range " + first + "-" + last);
+        }
+        int from = findRun(first);
+        if (from < 0 || runs[2 * from + 1] < first - 1) {
+            from++;
+        }
+        int to = last == Integer.MAX_VALUE ? runCount - 1 : findRun(last + 1);
+        if (to < from) {
+            insertRun(from, first, last);
+            return;
+        }
+        runs[2 * from] = Math.min(first, runs[2 * from]);
+        runs[2 * from + 1] = Math.max(last, runs[2 * to + 1]);
+        int removed = to - from;
+        if (removed > 0) {
+            System.arraycopy(runs, 2 * (to + 1), runs, 2 * (from + 1), 2 * (runCount - to - 1));
+            runCount -= removed;
+        }
+    }
+
+    /**
+     * @return true if the id was in the set
+     */
+    public boolean remove(int id) {
+        int run = findRun(id);
+        if (run < 0 || id > runs[2 * run + 1]) {
+            return false;
+        }
+        int start = runs[2 * run];
+        int end = runs[2 * run + 1];
+        if (start == end) {
+            deleteRun(run);
+        } else if (id == start) {
+            runs[2 * run] = id + 1;
+        } else if (id == end) {
+            runs[2 * run + 1] = id - 1;
+        } else {
+            runs[2 * run + 1] = id - 1;
+            insertRun(run + 1, id + 1, end);
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return runCount == 0;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Number of ids in the set
+     */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < runCount; i++) {
+            total += runs[2 * i + 1] - runs[2 * i] + 1;
+        }
+        return total;
+    }
+
+    /**
+     * Number of ids in both sets, in one pass over the runs of each
+     */
+    public int intersectionCardinality(IdRunSet other) {
+        int total = 0;
+        int i = 0;
+        int j = 0;
+        while (i < runCount && j < other.runCount) {
+            int start = Math.max(runs[2 * i], other.runs[2 * j]);
+            int end = Math.min(runs[2 * i + 1], other.runs[2 * j + 1]);
+            if (start <= end) {
+                total += end - start + 1;
+            }
+            // Move past whichever run finishes first
+            if (runs[2 * i + 1] < other.runs[2 * j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Ids in both sets, as a new set
+     */
+    public IdRunSet intersect(IdRunSet other) {
+        int[] result = new int[2 * Math.max(1, runCount + other.runCount)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < runCount && j < other.runCount) {
+            int start = Math.max(runs[2 * i], other.runs[2 * j]);
+            int end = Math.min(runs[2 * i + 1], other.runs[2 * j + 1]);
+            if (start <= end) {
+                result[2 * count] = start;
+                result[2 * count + 1] = end;
+                count++;
+            }
+            if (runs[2 * i + 1] < other.runs[2 * j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new IdRunSet(result, count);
+    }
+
+    /**
+     * Number of ids in this set that are not in the other one
+     */
+    public int andNotCardinality(IdRunSet other) {
+        return cardinality() - intersectionCardinality(other);
+    }
+
+    /**
+     * Index of the last run starting at or before the id, or -1
+     */
+    private int findRun(int id) {
+        int low = 0;
+        int high = runCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (runs[2 * mid] <= id) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private void insertRun(int index, int start, int end) {
+        if (2 * runCount == runs.length) {
+            runs = Arrays.copyOf(runs, Math.max(8, runs.length * 2));
+        }
+        System.arraycopy(runs, 2 * index, runs, 2 * index + 2, 2 * (runCount - index));
+        runs[2 * index] = start;
+        runs[2 * index + 1] = end;
+        runCount++;
+    }
+
+    private void deleteRun(int index) {
+        System.arraycopy(runs, 2 * index + 2, runs, 2 * index, 2 * (runCount - index - 1));
+        runCount--;
+    }
+
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative id " + id);
+        }
+    }
+
+    private static int writeVarint(byte[] out, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[offset++] = (byte) value;
+        return offset;
+    }
+
+    private static class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int next() {
+            int value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= bytes.length || shift > 28) {
+                    throw new IllegalArgumentException("Truncated id set");
+                }
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IdRunSet)) return false;
+        IdRunSet other = (IdRunSet) o;
+        return runCount == other.runCount
+                && Arrays.equals(Arrays.copyOf(runs, 2 * runCount), Arrays.copyOf(other.runs, 2 * other.runCount));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(Arrays.copyOf(runs, 2 * runCount));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("IdRunSet[");
+        for (int i = 0; i < runCount; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(runs[2 * i]);
+            if (runs[2 * i + 1] != runs[2 * i]) {
+                sb.append('-').append(runs[2 * i + 1]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
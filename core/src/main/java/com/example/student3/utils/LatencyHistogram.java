@@ -0,0 +1,115 @@
+package com.example.student3.utils;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Distribution of durations in fixed millisecond buckets.
+ *
+ * The buckets are spaced around what a user notices: frame-sized steps up to
+ * 100 ms, then widening steps up to 10 s, and one open-ended bucket beyond. A
+ * histogram is a fixed-size array of counts however many samples it holds, so one
+ * can be kept per screen for the life of the process. Percentiles are reported as
+ * the upper bound of the bucket the sample falls in, capped at the largest sample.
+ *
+ * Not thread-safe; callers that record from several threads must synchronize.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class LatencyHistogram {
+
+    // Inclusive upper bounds; samples above the last one go to the overflow bucket
+    private static final long[] BUCKET_BOUNDS_MS = {
+            16, 33, 50, 75, 100, 150, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 10000
+    };
+
+    private final long[] counts = new long[BUCKET_BOUNDS_MS.length + 1];
+    private long count;
+    private long sumMs;
+    private long minMs = Long.MAX_VALUE;
+    private long maxMs;
+
+    public LatencyHistogram() {
+    }
+
+    private LatencyHistogram(LatencyHistogram other) {
+        System.arraycopy(other.counts, 0, counts, 0, counts.length);
+        count = other.count;
+        sumMs = other.sumMs;
+        minMs = other.minMs;
+        maxMs = other.maxMs;
+    }
+
+    /**
+     * Upper bounds of every bucket but the last, which has none
+     */
+    public static long[] getBucketBoundsMillis() {
+        return BUCKET_BOUNDS_MS.clone();
+    }
+
+    /**
+     * @param millis Duration to add; negative values count as 0
+     */
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        int bucket = Arrays.binarySearch(BUCKET_BOUNDS_MS, value);
+        if (bucket < 0) {
+            bucket = -bucket - 1;
+        }
+        counts[bucket]++;
+        count++;
+        sumMs += value;
+        minMs = Math.min(minMs, value);
+        maxMs = Math.max(maxMs, value);
+    }
+
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(this);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long[] getBucketCounts() {
+        return counts.clone();
+    }
+
+    public long getMinMillis() {
+        return count == 0 ? 0 : minMs;
+    }
+
+    public long getMaxMillis() {
+        return maxMs;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : (double) sumMs / count;
+    }
+
+    /**
+     * Nearest-rank percentile, e.g. 50 for the median; 0 when empty
+     */
+    public long getPercentileMillis(int percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_BOUNDS_MS.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MS[bucket], maxMs);
+            }
+        }
+        return maxMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "n=%d, p50 %d ms, p90 %d ms, p99 %d ms, max %d ms",
+                count, getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), maxMs);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.student3.utils;
+
+/**
+ * Courses meeting on each day of one calendar month.
+ *
+ * Built once per month by {@link ClassOccurrenceGenerator#buildMonthIndex} so that
+ * the calendar can mark busy days and answer a date tap with an array lookup.
+ * Course ids for a day are in start-period order.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class MonthOccupancyIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int year;
+    private final int month;
+    private final int firstDay;
+    private final int[][] courseIdsByDay;
+    private final int busyDayCount;
+
+    MonthOccupancyIndex(int year, int month, int[][] courseIdsByDay) {
+        this.year = year;
+        this.month = month;
+        this.firstDay = EpochDay.of(year, month, 1);
+        this.courseIdsByDay = courseIdsByDay;
+
+        int busy = 0;
+        for (int[] ids : courseIdsByDay) {
+            if (ids != null && ids.length > 0) busy++;
+        }
+        this.busyDayCount = busy;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public boolean contains(int epochDay) {
+        return epochDay >= firstDay && epochDay < firstDay + courseIdsByDay.length;
+    }
+
+    /**
+     * Get the courses meeting on a day of this month
+     * @param epochDay Day number
+     * @return Course ids in start-period order, empty if none or outside the month
+     */
+    public int[] getCourseIds(int epochDay) {
+        if (!contains(epochDay)) {
+            return EMPTY;
+        }
+        int[] ids = courseIdsByDay[epochDay - firstDay];
+        return ids != null ? ids : EMPTY;
+    }
+
+    public boolean isBusy(int epochDay) {
+        return getCourseIds(epochDay).length > 0;
+    }
+
+    public int getBusyDayCount() {
+        return busyDayCount;
+    }
+
+    /**
+     * Key identifying a month, suitable for caching indexes
+     */
+    public static int monthKey(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+}
@@ -1,22 +1,27 @@
 package com.example.student3.utils;
 
-import android.util.Base64;
-import android.util.Log;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 /**
  * Utility class for secure password handling
  * Provides password hashing, verification, and strength validation
+ *
+ * Stored hashes use Base64 in the same layout android.util.Base64.DEFAULT produced
+ * (see {@link Base64Codec}), so hashes created before this class left the app module
+ * still verify.
  * 
  * @author DANN4 Development Team
  * @version 1.0 - Secure Authentication Implementation
  * @since 2025
  */
 public class PasswordUtils {
-    private static final String TAG = "PasswordUtils";
+    private static final Logger LOG = Logger.getLogger("PasswordUtils");
     
     // Password strength requirements
     private static final int MIN_PASSWORD_LENGTH = 8;
@@ -47,17 +52,17 @@ public class PasswordUtils {
             // Hash password with salt
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             md.update(salt);
-            byte[] hashedPassword = md.digest(password.getBytes());
+            byte[] hashedPassword = md.digest(password.getBytes(StandardCharsets.UTF_8));
             
             // Encode salt and hash to Base64
-            String saltString = Base64.encodeToString(salt, Base64.DEFAULT);
-            String hashString = Base64.encodeToString(hashedPassword, Base64.DEFAULT);
+            String saltString = Base64Codec.encode(salt);
+            String hashString = Base64Codec.encode(hashedPassword);
             
             // Return format: salt:hash
             return saltString + ":" + hashString;
             
         } catch (NoSuchAlgorithmException e) {
-            Log.e(TAG, "Error hashing password", e);
+            LOG.log(Level.SEVERE, "Error hashing password", e);
             return null;
         }
     }
@@ -78,25 +83,25 @@ public class PasswordUtils {
             // Split stored hash into salt and hash
             String[] parts = storedHash.split(":");
             if (parts.length != 2) {
-                Log.e(TAG, "Invalid stored hash format");
+                LOG.severe("Invalid stored hash format");
                 return false;
             }
             
             // Decode salt and hash
-            byte[] salt = Base64.decode(parts[0], Base64.DEFAULT);
+            byte[] salt = Base64Codec.decode(parts[0]);
             String expectedHash = parts[1];
 
             // Hash the provided password with the same salt
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             md.update(salt);
-            byte[] hashedPassword = md.digest(password.getBytes());
-            String actualHash = Base64.encodeToString(hashedPassword, Base64.DEFAULT);
+            byte[] hashedPassword = md.digest(password.getBytes(StandardCharsets.UTF_8));
+            String actualHash = Base64Codec.encode(hashedPassword);
             
             // Compare hashes
             return expectedHash.equals(actualHash);
             
         } catch (Exception e) {
-            Log.e(TAG, "Error verifying password", e);
+            LOG.log(Level.SEVERE, "Error verifying password", e);
             return false;
         }
     }
@@ -0,0 +1,152 @@
+package com.example.student3.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Search index over the rows of a student's schedule.
+ *
+ * Each row's text (e.g. course code and title) is normalized once when the index is
+ * built: lowercased, with accents folded (an accented "é" matches "e") and runs of whitespace
+ * collapsed. All keys live in one char array addressed by an int offset table, so a
+ * search scans primitives without creating strings per row.
+ *
+ * A query matches a row when every whitespace-separated term of the query occurs in
+ * the row's key. Searches check a cancellation flag as they go, so a stale search can
+ * be abandoned when the user keeps typing.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class ScheduleSearchIndex {
+
+    public static final ScheduleSearchIndex EMPTY = new ScheduleSearchIndex(new char[0], new int[]{0});
+
+    // Rows scanned between cancellation checks
+    private static final int CANCEL_CHECK_INTERVAL = 64;
+    private static final char[][] NO_TERMS = new char[0][];
+
+    private final char[] keys;
+    private final int[] offsets;
+
+    private ScheduleSearchIndex(char[] keys, int[] offsets) {
+        this.keys = keys;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Build an index with one row per entry of rowTexts, in the same order
+     */
+    public static ScheduleSearchIndex build(List<String> rowTexts) {
+        int[] offsets = new int[rowTexts.size() + 1];
+        StringBuilder all = new StringBuilder(rowTexts.size() * 32);
+        for (int i = 0; i < rowTexts.size(); i++) {
+            offsets[i] = all.length();
+            all.append(normalize(rowTexts.get(i)));
+        }
+        offsets[rowTexts.size()] = all.length();
+
+        char[] keys = new char[all.length()];
+        all.getChars(0, all.length(), keys, 0);
+        return new ScheduleSearchIndex(keys, offsets);
+    }
+
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Find the rows matching a query
+     * @param query Text typed by the user; blank matches every row
+     * @param cancelled Polled during the scan; when it returns true the search stops
+     * @return Matching row positions in ascending order, or null if cancelled
+     */
+    public int[] search(String query, BooleanSupplier cancelled) {
+        char[][] terms = toTerms(query);
+        int rows = size();
+        int[] matches = new int[rows];
+        int count = 0;
+
+        for (int row = 0; row < rows; row++) {
+            if (row % CANCEL_CHECK_INTERVAL == 0 && cancelled.getAsBoolean()) {
+                return null;
+            }
+            if (matchesAll(row, terms)) {
+                matches[count++] = row;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private boolean matchesAll(int row, char[][] terms) {
+        int start = offsets[row];
+        int end = offsets[row + 1];
+        for (char[] term : terms) {
+            if (indexOf(start, end, term) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(int start, int end, char[] term) {
+        char first = term[0];
+        int last = end - term.length;
+        for (int i = start; i <= last; i++) {
+            if (keys[i] != first) continue;
+
+            int j = 1;
+            while (j < term.length && keys[i + j] == term[j]) j++;
+            if (j == term.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static char[][] toTerms(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return NO_TERMS;
+        }
+        String[] parts = normalized.split(" ");
+        char[][] terms = new char[parts.length][];
+        for (int i = 0; i < parts.length; i++) {
+            terms[i] = parts[i].toCharArray();
+        }
+        return terms;
+    }
+
+    /**
+     * Lowercase, strip accents and collapse whitespace
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            folded.append(c);
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -25,6 +25,7 @@ public class ScheduleUtils {
     public static final String START_TIME = "14:30"; // 2:30 PM in 24-hour format
     public static final String END_TIME = "23:30";   // 11:30 PM in 24-hour format
     public static final int MINUTES_PER_PERIOD = 67; // 67.5 minutes rounded down
+    public static final int FIRST_PERIOD_START_MINUTES = 14 * 60 + 30; // START_TIME in minutes from midnight
     
     // Days of the week
     public static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
@@ -40,8 +41,8 @@ public class ScheduleUtils {
         }
         
         // Calculate start time for the period
-        int startMinutes = 150 + (period - 1) * MINUTES_PER_PERIOD; // 150 = 2:30 PM in minutes from midnight
-        int endMinutes = startMinutes + MINUTES_PER_PERIOD;
+        int startMinutes = getPeriodStartMinutes(period);
+        int endMinutes = getPeriodEndMinutes(period);
         
         String startTime = formatTime(startMinutes);
         String endTime = formatTime(endMinutes);
@@ -62,8 +63,8 @@ public class ScheduleUtils {
             return "Invalid Period Range";
         }
         
-        int startMinutes = 150 + (startPeriod - 1) * MINUTES_PER_PERIOD;
-        int endMinutes = 150 + endPeriod * MINUTES_PER_PERIOD;
+        int startMinutes = getPeriodStartMinutes(startPeriod);
+        int endMinutes = getPeriodEndMinutes(endPeriod);
         
         String startTime = formatTime(startMinutes);
         String endTime = formatTime(endMinutes);
@@ -76,7 +77,7 @@ public class ScheduleUtils {
      * @param minutes Minutes from midnight
      * @return Formatted time string (e.g., "2:30 PM")
      */
-    private static String formatTime(int minutes) {
+    public static String formatTime(int minutes) {
         int hours = minutes / 60;
         int mins = minutes % 60;
         
@@ -148,6 +149,85 @@ public class ScheduleUtils {
         }
     }
 
+    /**
+     * Parse a comma-separated day list into a bit mask.
+     * Bit 0 is Monday and bit 6 is Sunday, matching the order of {@link #DAYS}.
+     * @param daysOfWeek Comma-separated days (e.g., "MON,WED,FRI")
+     * @return Bit mask of meeting days, 0 if none are recognised
+     */
+    public static int parseDaysMask(String daysOfWeek) {
+        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
+            return 0;
+        }
+
+        int mask = 0;
+        int length = daysOfWeek.length();
+        int start = 0;
+        while (start < length) {
+            int end = daysOfWeek.indexOf(',', start);
+            if (end < 0) end = length;
+
+            int dayIndex = dayIndexOf(daysOfWeek, start, end);
+            if (dayIndex >= 0) {
+                mask |= 1 << dayIndex;
+            }
+            start = end + 1;
+        }
+        return mask;
+    }
+
+    /**
+     * Format a day bit mask back into the comma-separated form stored on courses
+     * @param daysMask Bit mask as returned by {@link #parseDaysMask(String)}
+     * @return Comma-separated days (e.g., "TUE,THU")
+     */
+    public static String formatDaysMask(int daysMask) {
+        StringBuilder days = new StringBuilder();
+        for (int i = 0; i < DAYS.length; i++) {
+            if ((daysMask & (1 << i)) != 0) {
+                if (days.length() > 0) days.append(',');
+                days.append(DAYS[i]);
+            }
+        }
+        return days.toString();
+    }
+
+    /**
+     * Look up the index in {@link #DAYS} of the abbreviation between start and end
+     */
+    private static int dayIndexOf(String text, int start, int end) {
+        while (start < end && text.charAt(start) == ' ') start++;
+        while (end > start && text.charAt(end - 1) == ' ') end--;
+        if (end - start != 3) {
+            return -1;
+        }
+
+        for (int i = 0; i < DAYS.length; i++) {
+            if (DAYS[i].regionMatches(true, 0, text, start, 3)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the year level of a course from its code
+     * @param courseCode Course code (e.g., "CS201")
+     * @return First digit of the course number (2 for "CS201"), 0 if there is none
+     */
+    public static int getCourseLevel(String courseCode) {
+        if (courseCode == null) {
+            return 0;
+        }
+        for (int i = 0; i < courseCode.length(); i++) {
+            char c = courseCode.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+        }
+        return 0;
+    }
+
     /**
      * Format period start time for display
      * @param period Period number (1-8)
@@ -158,8 +238,25 @@ public class ScheduleUtils {
             return "TBD";
         }
 
-        int startMinutes = 150 + (period - 1) * MINUTES_PER_PERIOD;
-        return formatTime(startMinutes);
+        return formatTime(getPeriodStartMinutes(period));
+    }
+
+    /**
+     * Get the start of a period in minutes from midnight
+     * @param period Period number (1-8)
+     * @return Minutes from midnight (870 = 2:30 PM for period 1)
+     */
+    public static int getPeriodStartMinutes(int period) {
+        return FIRST_PERIOD_START_MINUTES + (period - 1) * MINUTES_PER_PERIOD;
+    }
+
+    /**
+     * Get the end of a period in minutes from midnight
+     * @param period Period number (1-8)
+     * @return Minutes from midnight
+     */
+    public static int getPeriodEndMinutes(int period) {
+        return getPeriodStartMinutes(period) + MINUTES_PER_PERIOD;
     }
     
     /**
@@ -0,0 +1,199 @@
+package com.example.student3.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decisions made during synchronization, kept free of Android and network code.
+ *
+ * Covers whether a sync may start at all, and how a local copy of a table is merged
+ * with the server's copy: which records to insert, update or delete locally, which to
+ * upload, and which changed on both sides since the last sync (conflicts).
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public final class SyncMergeRules {
+
+    public static final long NEVER_SYNCED = 0;
+    public static final long UNKNOWN_MODIFIED_TIME = 0;
+
+    private SyncMergeRules() {
+    }
+
+    /**
+     * Whether a sync may start
+     */
+    public enum Gate {
+        READY,
+        DISABLED,
+        NO_NETWORK,
+        WIFI_REQUIRED
+    }
+
+    /**
+     * What to do with one record
+     */
+    public enum Action {
+        UNCHANGED,
+        INSERT_LOCAL,
+        UPDATE_LOCAL,
+        DELETE_LOCAL,
+        UPLOAD,
+        CONFLICT
+    }
+
+    /**
+     * How a record changed on both sides is settled
+     */
+    public enum ConflictPolicy {
+        SERVER_WINS,
+        LAST_WRITER_WINS
+    }
+
+    /**
+     * Gives the merge access to a record type
+     */
+    public interface RecordAdapter<T> {
+        int getId(T record);
+
+        /**
+         * @return Last modification time in millis, or {@link #UNKNOWN_MODIFIED_TIME}
+         */
+        long getModifiedAt(T record);
+
+        boolean sameContent(T local, T server);
+    }
+
+    public static Gate checkGate(boolean syncEnabled, boolean networkAvailable,
+                                 boolean wifiOnly, boolean wifiConnected) {
+        if (!syncEnabled) return Gate.DISABLED;
+        if (!networkAvailable) return Gate.NO_NETWORK;
+        if (wifiOnly && !wifiConnected) return Gate.WIFI_REQUIRED;
+        return Gate.READY;
+    }
+
+    /**
+     * Decide what to do with one record
+     *
+     * @param local Local copy, or null if the device doesn't have it
+     * @param server Server copy, or null if the server doesn't have it
+     * @param lastSyncTime When the last successful sync finished, or {@link #NEVER_SYNCED}
+     */
+    public static <T> Action resolve(T local, T server, long lastSyncTime, RecordAdapter<T> adapter) {
+        if (local == null && server == null) {
+            return Action.UNCHANGED;
+        }
+        if (local == null) {
+            return Action.INSERT_LOCAL;
+        }
+
+        boolean localChanged = adapter.getModifiedAt(local) > lastSyncTime;
+        if (server == null) {
+            // Created here since the last sync, or removed on the server
+            return localChanged ? Action.UPLOAD : Action.DELETE_LOCAL;
+        }
+        if (adapter.sameContent(local, server)) {
+            return Action.UNCHANGED;
+        }
+
+        long serverModified = adapter.getModifiedAt(server);
+        boolean serverChanged = serverModified == UNKNOWN_MODIFIED_TIME || serverModified > lastSyncTime;
+        if (localChanged && serverChanged) {
+            return Action.CONFLICT;
+        }
+        return localChanged ? Action.UPLOAD : Action.UPDATE_LOCAL;
+    }
+
+    /**
+     * Merge a local table with the server's copy
+     */
+    public static <T> MergePlan<T> merge(List<T> localRecords, List<T> serverRecords, long lastSyncTime,
+                                         RecordAdapter<T> adapter, ConflictPolicy policy) {
+        Map<Integer, T> localById = new LinkedHashMap<>();
+        for (T record : localRecords) {
+            localById.put(adapter.getId(record), record);
+        }
+
+        MergePlan<T> plan = new MergePlan<>();
+        for (T server : serverRecords) {
+            T local = localById.remove(adapter.getId(server));
+            switch (resolve(local, server, lastSyncTime, adapter)) {
+                case INSERT_LOCAL:
+                    plan.toInsert.add(server);
+                    break;
+                case UPDATE_LOCAL:
+                    plan.toUpdate.add(server);
+                    break;
+                case UPLOAD:
+                    plan.toUpload.add(local);
+                    break;
+                case CONFLICT:
+                    plan.conflicts.add(local);
+                    if (localWins(local, server, adapter, policy)) {
+                        plan.toUpload.add(local);
+                    } else {
+                        plan.toUpdate.add(server);
+                    }
+                    break;
+                default:
+                    plan.unchanged++;
+                    break;
+            }
+        }
+
+        // Records the server no longer has
+        for (T local : localById.values()) {
+            if (resolve(local, null, lastSyncTime, adapter) == Action.UPLOAD) {
+                plan.toUpload.add(local);
+            } else {
+                plan.toDelete.add(local);
+            }
+        }
+        return plan;
+    }
+
+    private static <T> boolean localWins(T local, T server, RecordAdapter<T> adapter, ConflictPolicy policy) {
+        return policy == ConflictPolicy.LAST_WRITER_WINS
+                && adapter.getModifiedAt(local) > adapter.getModifiedAt(server);
+    }
+
+    /**
+     * Changes needed to bring both sides in line
+     */
+    public static final class MergePlan<T> {
+        private final List<T> toInsert = new ArrayList<>();
+        private final List<T> toUpdate = new ArrayList<>();
+        private final List<T> toDelete = new ArrayList<>();
+        private final List<T> toUpload = new ArrayList<>();
+        private final List<T> conflicts = new ArrayList<>();
+        private int unchanged;
+
+        /** Server records missing locally */
+        public List<T> getToInsert() { return Collections.unmodifiableList(toInsert); }
+        /** Server records that replace the local copy, including conflicts the server won */
+        public List<T> getToUpdate() { return Collections.unmodifiableList(toUpdate); }
+        /** Local records the server no longer has */
+        public List<T> getToDelete() { return Collections.unmodifiableList(toDelete); }
+        /** Local records to send, including conflicts the device won */
+        public List<T> getToUpload() { return Collections.unmodifiableList(toUpload); }
+        /** Local copies of records that changed on both sides */
+        public List<T> getConflicts() { return Collections.unmodifiableList(conflicts); }
+        public int getUnchangedCount() { return unchanged; }
+
+        public boolean hasLocalChanges() {
+            return !toInsert.isEmpty() || !toUpdate.isEmpty() || !toDelete.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "MergePlan{insert=" + toInsert.size() + ", update=" + toUpdate.size()
+                    + ", delete=" + toDelete.size() + ", upload=" + toUpload.size()
+                    + ", conflicts=" + conflicts.size() + ", unchanged=" + unchanged + "}";
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.example.student3.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates department timetables on the 8-period grid defined in {@link ScheduleUtils}.
+ *
+ * Every section gets one of the standard weekday meeting patterns (e.g. MON,WED,FRI or
+ * TUE,THU) and a block of consecutive periods long enough for its weekly hours, so that
+ * no instructor and no cohort is booked twice in the same period.
+ *
+ * The engine works in two phases:
+ * 1. Constraint propagation - sections are placed most-constrained first and each
+ *    placement prunes the overlapping options of every section that shares an
+ *    instructor or cohort with it (forward checking).
+ * 2. Local search - when propagation runs into a dead end the timetable is repaired
+ *    with min-conflicts moves until it is clash-free or the iteration budget runs out.
+ *
+ * The class has no Android dependencies. It checks the thread's interrupt flag between
+ * steps, so it can run on a background executor and be cancelled via Future.cancel(true).
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class TimetableGenerator {
+
+    // Meeting patterns a section can be placed on
+    public static final String[] DAY_PATTERNS = {"MON,WED,FRI", "TUE,THU", "MON,WED", "WED,FRI", "MON,THU"};
+
+    public static final int DEFAULT_MAX_ITERATIONS = 200_000;
+    public static final long DEFAULT_SEED = 2025L;
+
+    private static final int WEEKDAYS = 5;
+    private static final int PERIODS = ScheduleUtils.TOTAL_PERIODS;
+    private static final int SLOTS = WEEKDAYS * PERIODS;
+
+    // Probability of a random move during local search, to escape plateaus
+    private static final double RANDOM_WALK_PROBABILITY = 0.05;
+
+    private final long seed;
+    private final int maxIterations;
+
+    public TimetableGenerator() {
+        this(DEFAULT_SEED, DEFAULT_MAX_ITERATIONS);
+    }
+
+    public TimetableGenerator(long seed, int maxIterations) {
+        this.seed = seed;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * A course section to be placed on the grid.
+     */
+    public static class Section {
+        public final int sectionId;
+        public final Integer instructorId; // Nullable
+        public final int cohortKey;
+        public final int weeklyHours;
+
+        public Section(int sectionId, Integer instructorId, int cohortKey, int weeklyHours) {
+            this.sectionId = sectionId;
+            this.instructorId = instructorId;
+            this.cohortKey = cohortKey;
+            this.weeklyHours = Math.max(1, weeklyHours);
+        }
+    }
+
+    /**
+     * Meeting pattern chosen for a section.
+     */
+    public static class Assignment {
+        public final int sectionId;
+        public final String daysOfWeek;
+        public final int startPeriod;
+        public final int endPeriod;
+
+        public Assignment(int sectionId, String daysOfWeek, int startPeriod, int endPeriod) {
+            this.sectionId = sectionId;
+            this.daysOfWeek = daysOfWeek;
+            this.startPeriod = startPeriod;
+            this.endPeriod = endPeriod;
+        }
+    }
+
+    /**
+     * Outcome of a generator run.
+     */
+    public static class Result {
+        private final List<Assignment> assignments;
+        private final int remainingConflicts;
+        private final int iterations;
+        private final boolean cancelled;
+
+        public Result(List<Assignment> assignments, int remainingConflicts, int iterations, boolean cancelled) {
+            this.assignments = assignments;
+            this.remainingConflicts = remainingConflicts;
+            this.iterations = iterations;
+            this.cancelled = cancelled;
+        }
+
+        public List<Assignment> getAssignments() { return assignments; }
+        public int getRemainingConflicts() { return remainingConflicts; }
+        public int getIterations() { return iterations; }
+        public boolean isCancelled() { return cancelled; }
+
+        /**
+         * True if every section was placed without an instructor or cohort clash.
+         */
+        public boolean isClashFree() {
+            return !cancelled && remainingConflicts == 0;
+        }
+    }
+
+    /**
+     * One placement option: a day pattern plus a block of periods, as a slot mask
+     */
+    private static final class Candidate {
+        final int daysMask;
+        final int startPeriod;
+        final int endPeriod;
+        final long slots;
+
+        Candidate(int daysMask, int startPeriod, int endPeriod, long slots) {
+            this.daysMask = daysMask;
+            this.startPeriod = startPeriod;
+            this.endPeriod = endPeriod;
+            this.slots = slots;
+        }
+    }
+
+    /**
+     * Assign meeting patterns to all sections.
+     *
+     * @param sections Sections to place
+     * @return Assignments for every section plus the number of clashes left
+     */
+    public Result generate(List<Section> sections) {
+        return new Search(sections, new Random(seed), maxIterations).run();
+    }
+
+    /**
+     * Build all placement options for a section with the given weekly hours
+     */
+    private static Candidate[] buildCandidates(int weeklyHours) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (String pattern : DAY_PATTERNS) {
+            int daysMask = ScheduleUtils.parseDaysMask(pattern);
+            int length = Math.min(PERIODS,
+                    ScheduleUtils.calculatePeriodsNeeded(weeklyHours, Integer.bitCount(daysMask)));
+
+            for (int start = 1; start + length - 1 <= PERIODS; start++) {
+                long slots = 0L;
+                for (int day = 0; day < WEEKDAYS; day++) {
+                    if ((daysMask & (1 << day)) == 0) continue;
+                    for (int period = start; period < start + length; period++) {
+                        slots |= 1L << (day * PERIODS + period - 1);
+                    }
+                }
+                candidates.add(new Candidate(daysMask, start, start + length - 1, slots));
+            }
+        }
+        return candidates.toArray(new Candidate[0]);
+    }
+
+    /**
+     * State of a single generator run
+     */
+    private static final class Search {
+        private final List<Section> sections;
+        private final Random random;
+        private final int maxIterations;
+        private final int count;
+
+        // Candidate lists are shared by all sections with the same weekly hours
+        private final Candidate[][] domains;
+        private final int[] domainOf;
+        // overlaps[a][c][b]: options of domain b that clash with option c of domain a
+        private final long[][][] overlaps;
+
+        private final int[][] resourcesOf;
+        private final int[][] membersOf;
+        private final int[] degree;
+
+        private final long[] alive;
+        private final int[] chosen;
+        private final int[] occupancy;
+        private int conflicts;
+
+        Search(List<Section> sections, Random random, int maxIterations) {
+            this.sections = sections;
+            this.random = random;
+            this.maxIterations = maxIterations;
+            this.count = sections.size();
+
+            // Group sections into shared domains
+            Map<Integer, Integer> domainByHours = new HashMap<>();
+            List<Candidate[]> domainList = new ArrayList<>();
+            domainOf = new int[count];
+            for (int i = 0; i < count; i++) {
+                int hours = sections.get(i).weeklyHours;
+                Integer domain = domainByHours.get(hours);
+                if (domain == null) {
+                    domain = domainList.size();
+                    domainByHours.put(hours, domain);
+                    domainList.add(buildCandidates(hours));
+                }
+                domainOf[i] = domain;
+            }
+            domains = domainList.toArray(new Candidate[0][]);
+
+            overlaps = new long[domains.length][][];
+            for (int a = 0; a < domains.length; a++) {
+                overlaps[a] = new long[domains[a].length][domains.length];
+                for (int c = 0; c < domains[a].length; c++) {
+                    for (int b = 0; b < domains.length; b++) {
+                        long bits = 0L;
+                        for (int k = 0; k < domains[b].length; k++) {
+                            if ((domains[a][c].slots & domains[b][k].slots) != 0) {
+                                bits |= 1L << k;
+                            }
+                        }
+                        overlaps[a][c][b] = bits;
+                    }
+                }
+            }
+
+            // Instructors and cohorts are both modelled as resources
+            Map<Long, Integer> resourceIndex = new HashMap<>();
+            List<List<Integer>> members = new ArrayList<>();
+            resourcesOf = new int[count][];
+            for (int i = 0; i < count; i++) {
+                Section section = sections.get(i);
+                List<Long> keys = new ArrayList<>(2);
+                if (section.instructorId != null) {
+                    keys.add((1L << 32) | (section.instructorId & 0xffffffffL));
+                }
+                keys.add((2L << 32) | (section.cohortKey & 0xffffffffL));
+
+                resourcesOf[i] = new int[keys.size()];
+                for (int k = 0; k < keys.size(); k++) {
+                    Integer index = resourceIndex.get(keys.get(k));
+                    if (index == null) {
+                        index = members.size();
+                        resourceIndex.put(keys.get(k), index);
+                        members.add(new ArrayList<>());
+                    }
+                    members.get(index).add(i);
+                    resourcesOf[i][k] = index;
+                }
+            }
+            membersOf = new int[members.size()][];
+            for (int r = 0; r < membersOf.length; r++) {
+                List<Integer> list = members.get(r);
+                membersOf[r] = new int[list.size()];
+                for (int k = 0; k < list.size(); k++) {
+                    membersOf[r][k] = list.get(k);
+                }
+            }
+
+            degree = new int[count];
+            for (int i = 0; i < count; i++) {
+                for (int r : resourcesOf[i]) {
+                    degree[i] += membersOf[r].length - 1;
+                }
+            }
+
+            alive = new long[count];
+            chosen = new int[count];
+            for (int i = 0; i < count; i++) {
+                int size = domains[domainOf[i]].length;
+                alive[i] = size >= 64 ? -1L : (1L << size) - 1;
+                chosen[i] = -1;
+            }
+            occupancy = new int[membersOf.length * SLOTS];
+        }
+
+        Result run() {
+            // Phase 1: most-constrained-first placement with forward checking
+            for (int step = 0; step < count; step++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return buildResult(0, true);
+                }
+                int section = pickMostConstrained();
+                int candidate = alive[section] != 0
+                        ? pickLeastConstraining(section)
+                        : pickLeastConflicting(section);
+                place(section, candidate, 1);
+                propagate(section, candidate);
+            }
+
+            // Phase 2: min-conflicts repair
+            int iterations = 0;
+            while (conflicts > 0 && iterations < maxIterations) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return buildResult(iterations, true);
+                }
+                int section = findConflicted(random.nextInt(count));
+                place(section, chosen[section], -1);
+                int candidate = random.nextDouble() < RANDOM_WALK_PROBABILITY
+                        ? random.nextInt(domains[domainOf[section]].length)
+                        : pickLeastConflicting(section);
+                place(section, candidate, 1);
+                iterations++;
+            }
+            return buildResult(iterations, false);
+        }
+
+        private int pickMostConstrained() {
+            int best = -1;
+            int bestSize = Integer.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                if (chosen[i] >= 0) continue;
+                int size = Long.bitCount(alive[i]);
+                if (size < bestSize || (size == bestSize && degree[i] > degree[best])) {
+                    best = i;
+                    bestSize = size;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Pick the live option that removes the fewest options from unplaced neighbours
+         */
+        private int pickLeastConstraining(int section) {
+            int domain = domainOf[section];
+            int best = -1;
+            long bestCost = Long.MAX_VALUE;
+            for (long bits = alive[section]; bits != 0; bits &= bits - 1) {
+                int candidate = Long.numberOfTrailingZeros(bits);
+                long cost = 0;
+                for (int r : resourcesOf[section]) {
+                    for (int other : membersOf[r]) {
+                        if (other == section || chosen[other] >= 0) continue;
+                        cost += Long.bitCount(alive[other] & overlaps[domain][candidate][domainOf[other]]);
+                    }
+                }
+                if (cost < bestCost) {
+                    best = candidate;
+                    bestCost = cost;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Pick the option that clashes with the fewest existing bookings, ties broken randomly
+         */
+        private int pickLeastConflicting(int section) {
+            Candidate[] domain = domains[domainOf[section]];
+            int best = 0;
+            int bestCost = Integer.MAX_VALUE;
+            int ties = 0;
+            for (int c = 0; c < domain.length; c++) {
+                int cost = 0;
+                for (int r : resourcesOf[section]) {
+                    int base = r * SLOTS;
+                    for (long bits = domain[c].slots; bits != 0; bits &= bits - 1) {
+                        cost += occupancy[base + Long.numberOfTrailingZeros(bits)];
+                    }
+                }
+                if (cost < bestCost) {
+                    best = c;
+                    bestCost = cost;
+                    ties = 1;
+                } else if (cost == bestCost && random.nextInt(++ties) == 0) {
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        private void propagate(int section, int candidate) {
+            int domain = domainOf[section];
+            for (int r : resourcesOf[section]) {
+                for (int other : membersOf[r]) {
+                    if (other == section || chosen[other] >= 0) continue;
+                    alive[other] &= ~overlaps[domain][candidate][domainOf[other]];
+                }
+            }
+        }
+
+        /**
+         * Add (delta = 1) or remove (delta = -1) a section's booking and keep the clash count current
+         */
+        private void place(int section, int candidate, int delta) {
+            long slots = domains[domainOf[section]][candidate].slots;
+            for (int r : resourcesOf[section]) {
+                int base = r * SLOTS;
+                for (long bits = slots; bits != 0; bits &= bits - 1) {
+                    int cell = base + Long.numberOfTrailingZeros(bits);
+                    int before = occupancy[cell];
+                    int after = before + delta;
+                    occupancy[cell] = after;
+                    conflicts += Math.max(0, after - 1) - Math.max(0, before - 1);
+                }
+            }
+            chosen[section] = delta > 0 ? candidate : chosen[section];
+        }
+
+        private int findConflicted(int start) {
+            for (int k = 0; k < count; k++) {
+                int section = (start + k) % count;
+                long slots = domains[domainOf[section]][chosen[section]].slots;
+                for (int r : resourcesOf[section]) {
+                    int base = r * SLOTS;
+                    for (long bits = slots; bits != 0; bits &= bits - 1) {
+                        if (occupancy[base + Long.numberOfTrailingZeros(bits)] > 1) {
+                            return section;
+                        }
+                    }
+                }
+            }
+            return start;
+        }
+
+        private Result buildResult(int iterations, boolean cancelled) {
+            List<Assignment> assignments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (chosen[i] < 0) continue;
+                Candidate candidate = domains[domainOf[i]][chosen[i]];
+                assignments.add(new Assignment(sections.get(i).sectionId,
+                        ScheduleUtils.formatDaysMask(candidate.daysMask),
+                        candidate.startPeriod, candidate.endPeriod));
+            }
+            return new Result(assignments, conflicts, iterations, cancelled);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.student3.utils;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * A student's week of classes as a sorted array of minute-of-week start times.
+ *
+ * Minute 0 is Monday 00:00, matching the day order of {@link ScheduleUtils#DAYS}.
+ * Each weekly meeting of a course contributes one entry per meeting day, so "next class"
+ * and "current class" are binary searches and a countdown only needs the entry found.
+ *
+ * Timelines are immutable; {@link #withCourse} and {@link #withoutCourse} return a new
+ * timeline in a single merge pass, so a registration change does not rebuild the week.
+ *
+ * @author DANN4 Development Team
+ * @version 1.0
+ * @since 2025
+ */
+public class WeeklyTimeline {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    public static final int NOT_FOUND = -1;
+
+    public static final WeeklyTimeline EMPTY = new WeeklyTimeline(new int[0], new int[0], new int[0]);
+
+    private final int[] startMinutes;
+    private final int[] endMinutes;
+    private final int[] courseIds;
+    private final int longestMeeting;
+
+    private WeeklyTimeline(int[] startMinutes, int[] endMinutes, int[] courseIds) {
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+        this.courseIds = courseIds;
+
+        int longest = 0;
+        for (int i = 0; i < startMinutes.length; i++) {
+            longest = Math.max(longest, endMinutes[i] - startMinutes[i]);
+        }
+        this.longestMeeting = longest;
+    }
+
+    /**
+     * Build a timeline from weekly meetings. Date bounds on the meetings are ignored;
+     * the timeline only describes the repeating week.
+     */
+    public static WeeklyTimeline of(List<ClassOccurrenceGenerator.Meeting> meetings) {
+        WeeklyTimeline timeline = EMPTY;
+        for (ClassOccurrenceGenerator.Meeting meeting : meetings) {
+            timeline = timeline.withCourse(meeting);
+        }
+        return timeline;
+    }
+
+    /**
+     * Get a copy of this timeline with a course's meetings added
+     */
+    public WeeklyTimeline withCourse(ClassOccurrenceGenerator.Meeting meeting) {
+        int days = Integer.bitCount(meeting.daysMask & ((1 << ScheduleUtils.DAYS.length) - 1));
+        if (days == 0 || meeting.startPeriod < 1 || meeting.endPeriod < meeting.startPeriod) {
+            return this;
+        }
+
+        int start = ScheduleUtils.getPeriodStartMinutes(meeting.startPeriod);
+        int end = ScheduleUtils.getPeriodEndMinutes(meeting.endPeriod);
+        int[] addStarts = new int[days];
+        int count = 0;
+        for (int day = 0; day < ScheduleUtils.DAYS.length; day++) {
+            if ((meeting.daysMask & (1 << day)) != 0) {
+                addStarts[count++] = day * MINUTES_PER_DAY + start;
+            }
+        }
+
+        int size = startMinutes.length + days;
+        int[] mergedStarts = new int[size];
+        int[] mergedEnds = new int[size];
+        int[] mergedIds = new int[size];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < size; k++) {
+            if (j >= days || (i < startMinutes.length && startMinutes[i] <= addStarts[j])) {
+                mergedStarts[k] = startMinutes[i];
+                mergedEnds[k] = endMinutes[i];
+                mergedIds[k] = courseIds[i];
+                i++;
+            } else {
+                mergedStarts[k] = addStarts[j];
+                mergedEnds[k] = addStarts[j] - start + end;
+                mergedIds[k] = meeting.courseId;
+                j++;
+            }
+        }
+        return new WeeklyTimeline(mergedStarts, mergedEnds, mergedIds);
+    }
+
+    /**
+     * Get a copy of this timeline without any meetings of a course
+     */
+    public WeeklyTimeline withoutCourse(int courseId) {
+        int[] keptStarts = new int[startMinutes.length];
+        int[] keptEnds = new int[startMinutes.length];
+        int[] keptIds = new int[startMinutes.length];
+        int count = 0;
+        for (int i = 0; i < startMinutes.length; i++) {
+            if (courseIds[i] != courseId) {
+                keptStarts[count] = startMinutes[i];
+                keptEnds[count] = endMinutes[i];
+                keptIds[count] = courseIds[i];
+                count++;
+            }
+        }
+        if (count == startMinutes.length) {
+            return this;
+        }
+        return new WeeklyTimeline(Arrays.copyOf(keptStarts, count), Arrays.copyOf(keptEnds, count),
+                Arrays.copyOf(keptIds, count));
+    }
+
+    /**
+     * Find the next meeting that starts after the given minute, wrapping into next week
+     * @param minuteOfWeek Minute of week (0 = Monday 00:00)
+     * @return Entry index, or {@link #NOT_FOUND} if the timeline is empty
+     */
+    public int findNext(int minuteOfWeek) {
+        if (startMinutes.length == 0) {
+            return NOT_FOUND;
+        }
+        int index = upperBound(minuteOfWeek);
+        return index < startMinutes.length ? index : 0;
+    }
+
+    /**
+     * Find the meeting in progress at the given minute
+     * @param minuteOfWeek Minute of week (0 = Monday 00:00)
+     * @return Entry index of the meeting ending soonest, or {@link #NOT_FOUND}
+     */
+    public int findCurrent(int minuteOfWeek) {
+        int found = NOT_FOUND;
+        // Only entries starting within one meeting length can still be running
+        for (int i = upperBound(minuteOfWeek) - 1;
+             i >= 0 && startMinutes[i] > minuteOfWeek - longestMeeting; i--) {
+            if (endMinutes[i] > minuteOfWeek && (found == NOT_FOUND || endMinutes[i] < endMinutes[found])) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Minutes from the given minute until an entry starts, counting into next week if needed
+     */
+    public int minutesUntilStart(int index, int minuteOfWeek) {
+        return Math.floorMod(startMinutes[index] - minuteOfWeek, MINUTES_PER_WEEK);
+    }
+
+    /**
+     * Minutes from the given minute until an entry ends
+     */
+    public int minutesUntilEnd(int index, int minuteOfWeek) {
+        return Math.floorMod(endMinutes[index] - minuteOfWeek, MINUTES_PER_WEEK);
+    }
+
+    public int getCourseId(int index) {
+        return courseIds[index];
+    }
+
+    public int getStartMinuteOfWeek(int index) {
+        return startMinutes[index];
+    }
+
+    public int getEndMinuteOfWeek(int index) {
+        return endMinutes[index];
+    }
+
+    public int size() {
+        return startMinutes.length;
+    }
+
+    public boolean isEmpty() {
+        return startMinutes.length == 0;
+    }
+
+    /**
+     * Convert a calendar time to minute of week (0 = Monday 00:00)
+     */
+    public static int minuteOfWeek(Calendar calendar) {
+        int dayIndex = (calendar.get(Calendar.DAY_OF_WEEK) + 5) % 7;
+        return dayIndex * MINUTES_PER_DAY
+                + calendar.get(Calendar.HOUR_OF_DAY) * 60
+                + calendar.get(Calendar.MINUTE);
+    }
+
+    /**
+     * Index of the first entry starting strictly after the given minute
+     */
+    private int upperBound(int minuteOfWeek) {
+        int low = 0;
+        int high = startMinutes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startMinutes[mid] <= minuteOfWeek) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
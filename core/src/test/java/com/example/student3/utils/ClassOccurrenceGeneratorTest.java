@@ -0,0 +1,124 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ClassOccurrenceGenerator and MonthOccupancyIndex
+ */
+public class ClassOccurrenceGeneratorTest {
+
+    // 2025-09-01 is a Monday
+    private static final String SEMESTER_START = "2025-09-01";
+    private static final String SEMESTER_END = "2025-09-30";
+
+    @Test
+    public void testOccurrencesAreClippedToSemester() {
+        // The course dates run past the semester on both sides
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Collections.singletonList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "MON,WED", 1, 2,
+                        "2025-08-01", "2025-12-31", SEMESTER_START, SEMESTER_END)), HolidayCalendar.NONE);
+
+        List<ClassOccurrenceGenerator.Occurrence> occurrences =
+                collect(generator, EpochDay.of(2025, 8, 25), EpochDay.of(2025, 10, 8));
+
+        assertEquals(9, occurrences.size());
+        assertEquals(EpochDay.of(2025, 9, 1), occurrences.get(0).epochDay);
+        assertEquals(EpochDay.of(2025, 9, 29), occurrences.get(occurrences.size() - 1).epochDay);
+    }
+
+    @Test
+    public void testCourseDatesInsideSemesterWin() {
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Collections.singletonList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "WED", 1, 1,
+                        "2025-09-10", "2025-09-17", SEMESTER_START, SEMESTER_END)), HolidayCalendar.NONE);
+
+        List<ClassOccurrenceGenerator.Occurrence> occurrences =
+                collect(generator, EpochDay.of(2025, 9, 1), EpochDay.of(2025, 9, 30));
+
+        assertEquals(2, occurrences.size());
+        assertEquals(EpochDay.of(2025, 9, 10), occurrences.get(0).epochDay);
+        assertEquals(EpochDay.of(2025, 9, 17), occurrences.get(1).epochDay);
+    }
+
+    @Test
+    public void testOccurrencesAreOrderedByDayThenPeriodAndSkipHolidays() {
+        HolidayCalendar holidays = HolidayCalendar.fromIsoDates(new String[]{"2025-09-02"});
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Arrays.asList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "MON,TUE", 5, 6, null, null, SEMESTER_START, SEMESTER_END),
+                ClassOccurrenceGenerator.Meeting.forCourse(2, "MON,WED", 1, 2, null, null, SEMESTER_START, SEMESTER_END)),
+                holidays);
+
+        List<ClassOccurrenceGenerator.Occurrence> occurrences =
+                collect(generator, EpochDay.of(2025, 9, 1), EpochDay.of(2025, 9, 3));
+
+        assertEquals(3, occurrences.size());
+        assertEquals(2, occurrences.get(0).courseId);
+        assertEquals(1, occurrences.get(1).courseId);
+        assertEquals(EpochDay.of(2025, 9, 1), occurrences.get(1).epochDay);
+        assertEquals(2, occurrences.get(2).courseId);
+        assertEquals(EpochDay.of(2025, 9, 3), occurrences.get(2).epochDay);
+    }
+
+    @Test
+    public void testMeetingOutsideItsOwnDatesIsDropped() {
+        // The course ends before the semester starts
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Collections.singletonList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "MON", 1, 1,
+                        null, "2025-08-31", SEMESTER_START, SEMESTER_END)), HolidayCalendar.NONE);
+
+        assertTrue(collect(generator, EpochDay.of(2025, 8, 1), EpochDay.of(2025, 9, 30)).isEmpty());
+        assertEquals(0, generator.buildMonthIndex(2025, 9).getBusyDayCount());
+    }
+
+    @Test
+    public void testMonthIndexMarksBusyDays() {
+        HolidayCalendar holidays = HolidayCalendar.fromIsoDates(new String[]{"2025-09-15"});
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Arrays.asList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "MON", 3, 4, null, null, SEMESTER_START, SEMESTER_END),
+                ClassOccurrenceGenerator.Meeting.forCourse(2, "MON,FRI", 1, 2, null, null,
+                        SEMESTER_START, "2025-09-12")),
+                holidays);
+
+        MonthOccupancyIndex index = generator.buildMonthIndex(2025, 9);
+
+        assertArrayEquals(new int[]{2, 1}, index.getCourseIds(EpochDay.of(2025, 9, 1)));
+        assertArrayEquals(new int[]{2}, index.getCourseIds(EpochDay.of(2025, 9, 12)));
+        assertArrayEquals(new int[]{1}, index.getCourseIds(EpochDay.of(2025, 9, 22)));
+        assertFalse(index.isBusy(EpochDay.of(2025, 9, 15)));
+        assertFalse(index.isBusy(EpochDay.of(2025, 9, 2)));
+        // Mondays 1, 8, 22, 29 and Fridays 5, 12
+        assertEquals(6, index.getBusyDayCount());
+    }
+
+    @Test
+    public void testMonthIndexIgnoresDaysOutsideMonth() {
+        ClassOccurrenceGenerator generator = new ClassOccurrenceGenerator(Collections.singletonList(
+                ClassOccurrenceGenerator.Meeting.forCourse(1, "MON,TUE,WED,THU,FRI", 1, 1, null, null, null, null)),
+                HolidayCalendar.NONE);
+
+        MonthOccupancyIndex index = generator.buildMonthIndex(2025, 9);
+
+        assertTrue(index.contains(EpochDay.of(2025, 9, 30)));
+        assertFalse(index.contains(EpochDay.of(2025, 10, 1)));
+        assertEquals(0, index.getCourseIds(EpochDay.of(2025, 10, 1)).length);
+        assertEquals(0, index.getCourseIds(EpochDay.of(2025, 8, 29)).length);
+        assertEquals(22, index.getBusyDayCount());
+        assertEquals(MonthOccupancyIndex.monthKey(2025, 9) + 1, MonthOccupancyIndex.monthKey(2025, 10));
+    }
+
+    private static List<ClassOccurrenceGenerator.Occurrence> collect(ClassOccurrenceGenerator generator,
+                                                                     int fromDay, int toDay) {
+        List<ClassOccurrenceGenerator.Occurrence> occurrences = new ArrayList<>();
+        for (ClassOccurrenceGenerator.Occurrence occurrence : generator.occurrences(fromDay, toDay)) {
+            occurrences.add(occurrence);
+        }
+        return occurrences;
+    }
+}
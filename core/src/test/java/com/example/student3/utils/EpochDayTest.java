@@ -0,0 +1,36 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks EpochDay's civil-date arithmetic against java.time, which the app can't use on API 24
+ */
+public class EpochDayTest {
+
+    @Test
+    public void testMatchesJavaTimeAcrossCenturies() {
+        for (LocalDate date = LocalDate.of(1899, 12, 25); date.isBefore(LocalDate.of(2101, 1, 5));
+             date = date.plusDays(13)) {
+            int epochDay = EpochDay.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+            assertEquals(date.toString(), date.toEpochDay(), epochDay);
+            assertEquals(date.getYear(), EpochDay.year(epochDay));
+            assertEquals(date.getMonthValue(), EpochDay.month(epochDay));
+            assertEquals(date.getDayOfMonth(), EpochDay.dayOfMonth(epochDay));
+            assertEquals(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue(), EpochDay.weekdayIndex(epochDay));
+            assertEquals(date.lengthOfMonth(), EpochDay.lengthOfMonth(date.getYear(), date.getMonthValue()));
+            assertEquals(date.toString(), EpochDay.format(epochDay));
+        }
+    }
+
+    @Test
+    public void testParse() {
+        assertEquals(LocalDate.of(2025, 9, 1).toEpochDay(), EpochDay.parse("2025-09-01", -1));
+        assertEquals(-1, EpochDay.parse("2025-9-1", -1));
+        assertEquals(-1, EpochDay.parse(null, -1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for EventRingBuffer
+ */
+public class EventRingBufferTest {
+
+    @Test
+    public void testTemplateIsFilledInOrder() {
+        assertEquals("Uploading 3 changes: req", EventRingBuffer.format("Uploading %d changes: %s", "req", 3, 0));
+        assertEquals("7 of 9", EventRingBuffer.format("%d of %d", null, 7, 9));
+        assertEquals("100% done, null", EventRingBuffer.format("100% done, %s", null, 0, 0));
+    }
+
+    @Test
+    public void testDumpListsRecordsOldestFirst() throws IOException {
+        EventRingBuffer events = new EventRingBuffer(8);
+        events.record(0, EventRingBuffer.DEBUG, "Sync", "Received %d announcements", null, 12, 0);
+        events.record(0, EventRingBuffer.WARN, "Login", "Account locked after %d attempts", null, 5, 0);
+
+        String[] lines = dump(events);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0], lines[0].endsWith(" D/Sync: Received 12 announcements"));
+        assertTrue(lines[1], lines[1].endsWith(" W/Login: Account locked after 5 attempts"));
+    }
+
+    @Test
+    public void testOldestRecordsAreOverwritten() throws IOException {
+        EventRingBuffer events = new EventRingBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            events.record(0, EventRingBuffer.INFO, "Tag", "Event %d", null, i, 0);
+        }
+
+        String[] lines = dump(events);
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].endsWith("Event 6"));
+        assertTrue(lines[3].endsWith("Event 9"));
+        assertEquals(10, events.getRecordedCount());
+    }
+
+    @Test
+    public void testConcurrentWritersLoseNothingWithinCapacity() throws Exception {
+        EventRingBuffer events = new EventRingBuffer(4096);
+        Thread[] writers = new Thread[4];
+        for (int w = 0; w < writers.length; w++) {
+            int writer = w;
+            writers[w] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    events.record(0, EventRingBuffer.DEBUG, "Tag", "%d/%d", null, writer, i);
+                }
+            });
+            writers[w].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertEquals(4000, dump(events).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityMustBePowerOfTwo() {
+        new EventRingBuffer(100);
+    }
+
+    private static String[] dump(EventRingBuffer events) throws IOException {
+        StringBuilder out = new StringBuilder();
+        events.dump(out);
+        return out.length() == 0 ? new String[0] : out.toString().split("\n");
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for IdRunSet
+ */
+public class IdRunSetTest {
+
+    @Test
+    public void testAddMergesNeighbouringRuns() {
+        IdRunSet set = new IdRunSet();
+        assertTrue(set.add(1));
+        assertTrue(set.add(3));
+        assertEquals(2, set.getRunCount());
+
+        assertTrue(set.add(2));
+        assertEquals(1, set.getRunCount());
+        assertFalse(set.add(2));
+        assertEquals("IdRunSet[1-3]", set.toString());
+        assertEquals(3, set.cardinality());
+    }
+
+    @Test
+    public void testRemoveSplitsRun() {
+        IdRunSet set = IdRunSet.fromSortedIds(Arrays.asList(1, 2, 3, 4, 5));
+        assertTrue(set.remove(3));
+        assertFalse(set.remove(3));
+        assertEquals("IdRunSet[1-2, 4-5]", set.toString());
+
+        assertTrue(set.remove(1));
+        assertTrue(set.remove(5));
+        assertEquals("IdRunSet[2, 4]", set.toString());
+        assertFalse(set.contains(3));
+        assertTrue(set.contains(4));
+    }
+
+    @Test
+    public void testAddRangeMergesOverlappedRuns() {
+        IdRunSet set = IdRunSet.fromSortedIds(Arrays.asList(1, 2, 5, 9, 10, 20));
+        set.addRange(3, 9);
+        assertEquals("IdRunSet[1-10, 20]", set.toString());
+
+        set.addRange(15, 15);
+        set.addRange(22, Integer.MAX_VALUE);
+        assertEquals("IdRunSet[1-10, 15, 20, 22-" + Integer.MAX_VALUE + "]", set.toString());
+        set.addRange(0, 21);
+        assertEquals(1, set.getRunCount());
+    }
+
+    @Test
+    public void testIntersectionCounts() {
+        IdRunSet active = IdRunSet.fromSortedIds(Arrays.asList(1, 2, 3, 4, 5, 8, 9, 10));
+        IdRunSet read = IdRunSet.fromSortedIds(Arrays.asList(2, 3, 4, 9, 11, 12));
+
+        assertEquals(4, active.intersectionCardinality(read));
+        assertEquals(4, read.intersectionCardinality(active));
+        assertEquals(4, active.andNotCardinality(read));
+        assertEquals(0, active.intersectionCardinality(new IdRunSet()));
+
+        IdRunSet both = active.intersect(read);
+        assertEquals("IdRunSet[2-4, 9]", both.toString());
+        assertEquals(both, read.intersect(active));
+        assertTrue(active.intersect(new IdRunSet()).isEmpty());
+    }
+
+    @Test
+    public void testBytesRoundTrip() {
+        IdRunSet set = IdRunSet.fromSortedIds(Arrays.asList(0, 1, 2, 200, 70_000, 70_001, Integer.MAX_VALUE));
+        assertEquals(set, IdRunSet.fromBytes(set.toBytes()));
+        assertTrue(IdRunSet.fromBytes(null).isEmpty());
+        assertTrue(IdRunSet.fromBytes(new IdRunSet().toBytes()).isEmpty());
+    }
+
+    @Test
+    public void testPrefixStaysSmall() {
+        IdRunSet set = new IdRunSet();
+        set.addRange(1, 100_000);
+        set.add(100_050);
+
+        assertEquals(2, set.getRunCount());
+        assertTrue(set.toBytes().length < 16);
+    }
+
+    @Test
+    public void testMatchesTreeSet() {
+        Random random = new Random(42);
+        IdRunSet set = new IdRunSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            int id = random.nextInt(400);
+            int choice = random.nextInt(10);
+            if (choice == 0) {
+                int last = id + random.nextInt(20);
+                set.addRange(id, last);
+                for (int added = id; added <= last; added++) expected.add(added);
+            } else if (choice < 4) {
+                assertEquals(expected.remove(id), set.remove(id));
+            } else {
+                assertEquals(expected.add(id), set.add(id));
+            }
+        }
+        assertEquals(expected.size(), set.cardinality());
+        for (int id = 0; id < 420; id++) {
+            assertEquals(expected.contains(id), set.contains(id));
+        }
+        assertEquals(IdRunSet.fromSortedIds(new ArrayList<>(expected)), set);
+        assertEquals(set, IdRunSet.fromBytes(set.toBytes()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsortedIdsRejected() {
+        IdRunSet.fromSortedIds(Arrays.asList(5, 1));
+    }
+
+    @Test
+    public void testDuplicatesAccepted() {
+        assertEquals(1, IdRunSet.fromSortedIds(Arrays.asList(7, 7, 7)).cardinality());
+        assertTrue(IdRunSet.fromSortedIds(Collections.<Integer>emptyList()).isEmpty());
+    }
+}
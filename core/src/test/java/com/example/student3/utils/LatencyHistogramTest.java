@@ -0,0 +1,66 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for LatencyHistogram
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(50));
+        assertEquals(0, histogram.getMinMillis());
+        assertEquals(0.0, histogram.getMeanMillis(), 0.0);
+    }
+
+    @Test
+    public void testSamplesLandInBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(16);    // Bounds are inclusive
+        histogram.record(17);
+        histogram.record(-5);    // Counted as 0
+        histogram.record(60_000);
+
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(LatencyHistogram.getBucketBoundsMillis().length + 1, counts.length);
+        assertEquals(2, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(1, counts[counts.length - 1]);
+        assertEquals(4, histogram.getCount());
+        assertEquals(0, histogram.getMinMillis());
+        assertEquals(60_000, histogram.getMaxMillis());
+    }
+
+    @Test
+    public void testPercentilesUseBucketBoundsCappedAtMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(40);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(420);
+        }
+
+        assertEquals(50, histogram.getPercentileMillis(50));
+        assertEquals(50, histogram.getPercentileMillis(90));
+        assertEquals(420, histogram.getPercentileMillis(99));
+        assertEquals(78.0, histogram.getMeanMillis(), 1e-9);
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        LatencyHistogram copy = histogram.copy();
+        histogram.record(200);
+
+        assertEquals(1, copy.getCount());
+        assertEquals(100, copy.getMaxMillis());
+        assertEquals(2, histogram.getCount());
+    }
+}
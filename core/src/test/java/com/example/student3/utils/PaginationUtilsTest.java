@@ -0,0 +1,60 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for PaginationUtils
+ */
+public class PaginationUtilsTest {
+
+    private static List<Integer> numbers(int count) {
+        List<Integer> items = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) items.add(i);
+        return items;
+    }
+
+    @Test
+    public void testPaginateMiddleAndLastPage() {
+        PaginationUtils.PagedResult<Integer> page = PaginationUtils.paginate(numbers(23), 2, 10);
+        assertEquals(Arrays.asList(11, 12, 13, 14, 15, 16, 17, 18, 19, 20), page.getItems());
+        assertEquals(3, page.getTotalPages());
+        assertTrue(page.hasNext());
+        assertTrue(page.hasPrevious());
+
+        PaginationUtils.PagedResult<Integer> last = PaginationUtils.paginate(numbers(23), 3, 10);
+        assertEquals(3, last.getItemCount());
+        assertFalse(last.hasNext());
+        assertEquals(21, last.getStartItemNumber());
+        assertEquals(23, last.getEndItemNumber());
+    }
+
+    @Test
+    public void testPaginateOutOfRange() {
+        assertTrue(PaginationUtils.paginate(numbers(5), 2, 10).isEmpty());
+        assertTrue(PaginationUtils.paginate(numbers(5), 0, 10).isEmpty());
+        assertTrue(PaginationUtils.paginate(null, 1, 10).isEmpty());
+    }
+
+    @Test
+    public void testMergePages() {
+        List<Integer> all = numbers(25);
+        List<Integer> merged = PaginationUtils.mergePages(null, PaginationUtils.paginate(all, 1, 10));
+        merged = PaginationUtils.mergePages(merged, PaginationUtils.paginate(all, 2, 10));
+        merged = PaginationUtils.mergePages(merged, PaginationUtils.paginate(all, 3, 10));
+        assertEquals(all, merged);
+    }
+
+    @Test
+    public void testPageRange() {
+        assertEquals(Arrays.asList(1, 2, 3), PaginationUtils.getPageRange(2, 3, 5));
+        assertEquals(Arrays.asList(4, 5, 6, 7, 8), PaginationUtils.getPageRange(6, 20, 5));
+        assertEquals(Arrays.asList(16, 17, 18, 19, 20), PaginationUtils.getPageRange(20, 20, 5));
+        assertEquals(3, PaginationUtils.calculateTotalPages(21, 10));
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for PasswordUtils and the Base64 layout of stored hashes
+ */
+public class PasswordUtilsTest {
+
+    @Test
+    public void testHashThenVerify() {
+        String stored = PasswordUtils.hashPassword("Secret#123");
+        assertNotNull(stored);
+        assertTrue(PasswordUtils.verifyPassword("Secret#123", stored));
+        assertFalse(PasswordUtils.verifyPassword("Secret#124", stored));
+        assertFalse(PasswordUtils.verifyPassword(null, stored));
+        assertFalse(PasswordUtils.verifyPassword("Secret#123", "no-separator"));
+    }
+
+    @Test
+    public void testStoredHashKeepsAndroidLayout() {
+        // android.util.Base64.DEFAULT ends each part with a newline
+        String[] parts = PasswordUtils.hashPassword("Secret#123").split(":");
+        assertEquals(2, parts.length);
+        assertEquals(45, parts[0].length());
+        assertTrue(parts[0].endsWith("\n"));
+        assertTrue(parts[1].endsWith("\n"));
+    }
+
+    @Test
+    public void testVerifiesHashWrittenByAndroidBase64() throws Exception {
+        byte[] salt = new byte[32];
+        for (int i = 0; i < salt.length; i++) salt[i] = (byte) (i * 7);
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        md.update(salt);
+        byte[] hash = md.digest("Legacy!Pass1".getBytes(StandardCharsets.UTF_8));
+
+        String stored = androidDefault(salt) + ":" + androidDefault(hash);
+        assertTrue(PasswordUtils.verifyPassword("Legacy!Pass1", stored));
+    }
+
+    @Test
+    public void testCodecMatchesAndroidDefaultForAllLengths() {
+        for (int length = 0; length < 200; length++) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) data[i] = (byte) (31 * i + length);
+
+            String encoded = Base64Codec.encode(data);
+            assertEquals("length " + length, androidDefault(data), encoded);
+            assertArrayEquals("length " + length, data, Base64Codec.decode(encoded));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCodecRejectsInvalidCharacters() {
+        Base64Codec.decode("ab*d");
+    }
+
+    @Test
+    public void testPasswordStrength() {
+        assertTrue(PasswordUtils.validatePasswordStrength("Secret#123").isValid);
+        assertFalse(PasswordUtils.validatePasswordStrength("short1!").isValid);
+        assertFalse(PasswordUtils.validatePasswordStrength("nouppercase1!").isValid);
+        assertFalse(PasswordUtils.validatePasswordStrength("NoDigits!!").isValid);
+        assertFalse(PasswordUtils.validatePasswordStrength("NoSpecial123").isValid);
+        assertFalse(PasswordUtils.validatePasswordStrength(null).isValid);
+    }
+
+    @Test
+    public void testGeneratedPasswordIsStrong() {
+        for (int i = 0; i < 20; i++) {
+            String password = PasswordUtils.generateSecurePassword(12);
+            assertEquals(12, password.length());
+            assertTrue(password, PasswordUtils.validatePasswordStrength(password).isValid);
+        }
+    }
+
+    /**
+     * What android.util.Base64.encodeToString(data, DEFAULT) returns
+     */
+    private static String androidDefault(byte[] data) {
+        if (data.length == 0) return "";
+        String mime = Base64.getMimeEncoder(76, new byte[]{'\n'}).encodeToString(data);
+        return mime + "\n";
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for ScheduleSearchIndex
+ */
+public class ScheduleSearchIndexTest {
+
+    private static final ScheduleSearchIndex INDEX = ScheduleSearchIndex.build(Arrays.asList(
+            "CS101 Introduction to Programming",
+            "MATH201 Álgebra Linéaire",
+            "CS202  Data   Structures",
+            "PHYS110 Mechanics"));
+
+    @Test
+    public void testNormalizeFoldsAccentsCaseAndSpaces() {
+        assertEquals("algebre lineaire", ScheduleSearchIndex.normalize("  Algèbre\tLINÉAIRE "));
+        assertEquals("", ScheduleSearchIndex.normalize(null));
+        assertEquals("", ScheduleSearchIndex.normalize("   "));
+    }
+
+    @Test
+    public void testAccentsMatchEitherWay() {
+        assertArrayEquals(new int[]{1}, search("lineaire"));
+        assertArrayEquals(new int[]{1}, search("ALGÈBRA"));
+    }
+
+    @Test
+    public void testEveryTermMustMatch() {
+        // Terms match anywhere in the row, so "cs" also finds "mechanics"
+        assertArrayEquals(new int[]{0, 2, 3}, search("cs"));
+        assertArrayEquals(new int[]{2}, search("cs struct"));
+        assertArrayEquals(new int[]{2}, search("data structures"));
+        assertEquals(0, search("cs algebra").length);
+    }
+
+    @Test
+    public void testMatchesAreInRowOrder() {
+        // "programming", "math" and "mechanics" but not "data structures"
+        assertArrayEquals(new int[]{0, 1, 3}, search("m"));
+    }
+
+    @Test
+    public void testBlankQueryMatchesEveryRow() {
+        assertArrayEquals(new int[]{0, 1, 2, 3}, search("  "));
+        assertEquals(0, ScheduleSearchIndex.EMPTY.search("cs", () -> false).length);
+        assertEquals(0, ScheduleSearchIndex.build(Collections.emptyList()).size());
+    }
+
+    @Test
+    public void testCancelledSearchReturnsNull() {
+        AtomicInteger checks = new AtomicInteger();
+
+        assertNull(INDEX.search("cs", () -> checks.incrementAndGet() > 0));
+        assertEquals(1, checks.get());
+    }
+
+    private static int[] search(String query) {
+        return INDEX.search(query, () -> false);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for period times and day parsing in ScheduleUtils
+ */
+public class ScheduleUtilsTest {
+
+    @Test
+    public void testPeriodsStartAtTwoThirty() {
+        assertEquals(14 * 60 + 30, ScheduleUtils.getPeriodStartMinutes(1));
+        assertEquals(ScheduleUtils.getPeriodStartMinutes(2), ScheduleUtils.getPeriodEndMinutes(1));
+        assertEquals("2:30 PM - 3:37 PM", ScheduleUtils.getPeriodTimeRange(1));
+        assertEquals("Invalid Period", ScheduleUtils.getPeriodTimeRange(ScheduleUtils.TOTAL_PERIODS + 1));
+    }
+
+    @Test
+    public void testPeriodRange() {
+        assertEquals("2:30 PM - 4:44 PM", ScheduleUtils.getPeriodTimeRange(1, 2));
+        assertEquals("Invalid Period Range", ScheduleUtils.getPeriodTimeRange(3, 2));
+    }
+
+    @Test
+    public void testFormatSchedule() {
+        assertEquals("Schedule TBD", ScheduleUtils.formatSchedule("", 1, 2));
+        assertTrue(ScheduleUtils.formatSchedule("MON,WED", 1, 2).endsWith(" 2:30 PM - 4:44 PM"));
+    }
+
+    @Test
+    public void testDaysMaskRoundTrip() {
+        int mask = ScheduleUtils.parseDaysMask("mon, WED ,Fri");
+        assertEquals(0b10101, mask);
+        assertEquals("MON,WED,FRI", ScheduleUtils.formatDaysMask(mask));
+
+        assertEquals(0, ScheduleUtils.parseDaysMask(null));
+        assertEquals(1 << 6, ScheduleUtils.parseDaysMask("SUNDAY,SUN"));
+    }
+
+    @Test
+    public void testCourseLevel() {
+        assertEquals(2, ScheduleUtils.getCourseLevel("CS201"));
+        assertEquals(0, ScheduleUtils.getCourseLevel("SEMINAR"));
+        assertEquals(0, ScheduleUtils.getCourseLevel(null));
+    }
+}
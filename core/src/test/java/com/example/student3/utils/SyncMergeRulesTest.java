@@ -0,0 +1,124 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for SyncMergeRules
+ */
+public class SyncMergeRulesTest {
+
+    private static final long LAST_SYNC = 1_000;
+
+    private static class Item {
+        final int id;
+        final String text;
+        final long modifiedAt;
+
+        Item(int id, String text, long modifiedAt) {
+            this.id = id;
+            this.text = text;
+            this.modifiedAt = modifiedAt;
+        }
+    }
+
+    private static final SyncMergeRules.RecordAdapter<Item> ADAPTER = new SyncMergeRules.RecordAdapter<Item>() {
+        @Override
+        public int getId(Item record) {
+            return record.id;
+        }
+
+        @Override
+        public long getModifiedAt(Item record) {
+            return record.modifiedAt;
+        }
+
+        @Override
+        public boolean sameContent(Item local, Item server) {
+            return local.text.equals(server.text);
+        }
+    };
+
+    @Test
+    public void testGate() {
+        assertEquals(SyncMergeRules.Gate.DISABLED, SyncMergeRules.checkGate(false, true, false, true));
+        assertEquals(SyncMergeRules.Gate.NO_NETWORK, SyncMergeRules.checkGate(true, false, false, false));
+        assertEquals(SyncMergeRules.Gate.WIFI_REQUIRED, SyncMergeRules.checkGate(true, true, true, false));
+        assertEquals(SyncMergeRules.Gate.READY, SyncMergeRules.checkGate(true, true, true, true));
+        assertEquals(SyncMergeRules.Gate.READY, SyncMergeRules.checkGate(true, true, false, false));
+    }
+
+    @Test
+    public void testResolveSingleRecords() {
+        Item oldLocal = new Item(1, "a", 500);
+        Item editedLocal = new Item(1, "b", 1_500);
+        Item editedServer = new Item(1, "c", 1_200);
+
+        assertEquals(SyncMergeRules.Action.INSERT_LOCAL, SyncMergeRules.resolve(null, editedServer, LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.DELETE_LOCAL, SyncMergeRules.resolve(oldLocal, null, LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.UPLOAD, SyncMergeRules.resolve(editedLocal, null, LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.UPDATE_LOCAL, SyncMergeRules.resolve(oldLocal, editedServer, LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.UPLOAD,
+                SyncMergeRules.resolve(editedLocal, new Item(1, "a", 500), LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.CONFLICT, SyncMergeRules.resolve(editedLocal, editedServer, LAST_SYNC, ADAPTER));
+        assertEquals(SyncMergeRules.Action.UNCHANGED,
+                SyncMergeRules.resolve(editedLocal, new Item(1, "b", 1_800), LAST_SYNC, ADAPTER));
+    }
+
+    @Test
+    public void testUnknownServerTimeCountsAsChanged() {
+        Item local = new Item(1, "a", 1_500);
+        Item server = new Item(1, "b", SyncMergeRules.UNKNOWN_MODIFIED_TIME);
+        assertEquals(SyncMergeRules.Action.CONFLICT, SyncMergeRules.resolve(local, server, LAST_SYNC, ADAPTER));
+    }
+
+    @Test
+    public void testMergePlan() {
+        List<Item> local = Arrays.asList(
+                new Item(1, "same", 500),
+                new Item(2, "old", 500),
+                new Item(3, "removed on server", 500),
+                new Item(4, "created offline", 1_500),
+                new Item(5, "edited here", 1_900));
+        List<Item> server = Arrays.asList(
+                new Item(1, "same", 500),
+                new Item(2, "new", 1_200),
+                new Item(5, "edited there", 1_700),
+                new Item(6, "created on server", 1_100));
+
+        SyncMergeRules.MergePlan<Item> serverWins = SyncMergeRules.merge(local, server, LAST_SYNC, ADAPTER,
+                SyncMergeRules.ConflictPolicy.SERVER_WINS);
+        assertEquals(1, serverWins.getUnchangedCount());
+        assertEquals(Collections.singletonList(6), ids(serverWins.getToInsert()));
+        assertEquals(Arrays.asList(2, 5), ids(serverWins.getToUpdate()));
+        assertEquals(Collections.singletonList(3), ids(serverWins.getToDelete()));
+        assertEquals(Collections.singletonList(4), ids(serverWins.getToUpload()));
+        assertEquals(Collections.singletonList(5), ids(serverWins.getConflicts()));
+        assertTrue(serverWins.hasLocalChanges());
+
+        SyncMergeRules.MergePlan<Item> lastWriterWins = SyncMergeRules.merge(local, server, LAST_SYNC, ADAPTER,
+                SyncMergeRules.ConflictPolicy.LAST_WRITER_WINS);
+        assertEquals(Collections.singletonList(2), ids(lastWriterWins.getToUpdate()));
+        assertEquals(Arrays.asList(5, 4), ids(lastWriterWins.getToUpload()));
+    }
+
+    @Test
+    public void testFirstSyncUploadsEverythingLocal() {
+        List<Item> local = Collections.singletonList(new Item(1, "draft", 10));
+        SyncMergeRules.MergePlan<Item> plan = SyncMergeRules.merge(local, Collections.emptyList(),
+                SyncMergeRules.NEVER_SYNCED, ADAPTER, SyncMergeRules.ConflictPolicy.SERVER_WINS);
+        assertEquals(Collections.singletonList(1), ids(plan.getToUpload()));
+        assertFalse(plan.hasLocalChanges());
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        Integer[] ids = new Integer[items.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = items.get(i).id;
+        return Arrays.asList(ids);
+    }
+}
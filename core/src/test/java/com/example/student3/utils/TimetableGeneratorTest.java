@@ -0,0 +1,96 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for TimetableGenerator
+ */
+public class TimetableGeneratorTest {
+
+    @Test
+    public void testFeasibleInstanceIsClashFree() {
+        // One instructor teaching across two cohorts, plus a second instructor sharing cohort 1
+        List<TimetableGenerator.Section> sections = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sections.add(new TimetableGenerator.Section(i + 1, 100, i % 2 == 0 ? 1 : 2, 3));
+        }
+        for (int i = 0; i < 4; i++) {
+            sections.add(new TimetableGenerator.Section(i + 20, 200, 1, 4));
+        }
+
+        TimetableGenerator.Result result = new TimetableGenerator().generate(sections);
+
+        assertTrue(result.isClashFree());
+        assertEquals(0, result.getRemainingConflicts());
+        assertEquals(sections.size(), result.getAssignments().size());
+        assertNoClashes(sections, result.getAssignments());
+    }
+
+    @Test
+    public void testInfeasibleInstanceReportsConflicts() {
+        // 14 sections of at least 3 slots each can't fit one cohort's 40-slot week
+        List<TimetableGenerator.Section> sections = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            sections.add(new TimetableGenerator.Section(i + 1, null, 1, 3));
+        }
+
+        TimetableGenerator.Result result = new TimetableGenerator(TimetableGenerator.DEFAULT_SEED, 2_000)
+                .generate(sections);
+
+        assertFalse(result.isClashFree());
+        assertFalse(result.isCancelled());
+        assertTrue(result.getRemainingConflicts() > 0);
+        assertEquals(2_000, result.getIterations());
+        assertEquals(sections.size(), result.getAssignments().size());
+    }
+
+    @Test
+    public void testInterruptedRunIsCancelled() {
+        List<TimetableGenerator.Section> sections = new ArrayList<>();
+        sections.add(new TimetableGenerator.Section(1, 100, 1, 3));
+
+        Thread.currentThread().interrupt();
+        try {
+            TimetableGenerator.Result result = new TimetableGenerator().generate(sections);
+            assertTrue(result.isCancelled());
+            assertFalse(result.isClashFree());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static void assertNoClashes(List<TimetableGenerator.Section> sections,
+                                        List<TimetableGenerator.Assignment> assignments) {
+        for (int a = 0; a < assignments.size(); a++) {
+            for (int b = a + 1; b < assignments.size(); b++) {
+                TimetableGenerator.Section first = sectionById(sections, assignments.get(a).sectionId);
+                TimetableGenerator.Section second = sectionById(sections, assignments.get(b).sectionId);
+                boolean shareInstructor = first.instructorId != null && first.instructorId.equals(second.instructorId);
+                if (!shareInstructor && first.cohortKey != second.cohortKey) {
+                    continue;
+                }
+                assertFalse("Sections " + first.sectionId + " and " + second.sectionId + " clash",
+                        overlaps(assignments.get(a), assignments.get(b)));
+            }
+        }
+    }
+
+    private static boolean overlaps(TimetableGenerator.Assignment a, TimetableGenerator.Assignment b) {
+        boolean shareDay = (ScheduleUtils.parseDaysMask(a.daysOfWeek) & ScheduleUtils.parseDaysMask(b.daysOfWeek)) != 0;
+        return shareDay && a.startPeriod <= b.endPeriod && b.startPeriod <= a.endPeriod;
+    }
+
+    private static TimetableGenerator.Section sectionById(List<TimetableGenerator.Section> sections, int id) {
+        for (TimetableGenerator.Section section : sections) {
+            if (section.sectionId == id) {
+                return section;
+            }
+        }
+        throw new AssertionError("No section " + id);
+    }
+}
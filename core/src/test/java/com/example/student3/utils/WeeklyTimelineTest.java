@@ -0,0 +1,107 @@
+package com.example.student3.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WeeklyTimeline
+ */
+public class WeeklyTimelineTest {
+
+    private static final int MONDAY = 0;
+    private static final int WEDNESDAY = 2;
+    private static final int SUNDAY = 6;
+
+    @Test
+    public void testEntriesAreSortedByStart() {
+        WeeklyTimeline timeline = WeeklyTimeline.of(Arrays.asList(
+                meeting(1, "WED", 1, 2),
+                meeting(2, "MON,WED", 3, 3),
+                meeting(3, "MON", 1, 1)));
+
+        assertEquals(4, timeline.size());
+        assertEquals(3, timeline.getCourseId(0));
+        assertEquals(2, timeline.getCourseId(1));
+        assertEquals(1, timeline.getCourseId(2));
+        assertEquals(2, timeline.getCourseId(3));
+        for (int i = 1; i < timeline.size(); i++) {
+            assertTrue(timeline.getStartMinuteOfWeek(i - 1) <= timeline.getStartMinuteOfWeek(i));
+        }
+        assertEquals(at(WEDNESDAY, ScheduleUtils.getPeriodEndMinutes(2)), timeline.getEndMinuteOfWeek(2));
+    }
+
+    @Test
+    public void testNextWrapsIntoNextWeek() {
+        WeeklyTimeline timeline = WeeklyTimeline.of(Collections.singletonList(meeting(1, "MON", 2, 2)));
+        int start = at(MONDAY, ScheduleUtils.getPeriodStartMinutes(2));
+
+        assertEquals(0, timeline.findNext(start - 1));
+        assertEquals(1, timeline.minutesUntilStart(0, start - 1));
+        // Once it has started, the next meeting is the same entry a week later
+        assertEquals(0, timeline.findNext(start));
+        assertEquals(WeeklyTimeline.MINUTES_PER_WEEK - 60, timeline.minutesUntilStart(0, start + 60));
+        assertEquals(WeeklyTimeline.NOT_FOUND, WeeklyTimeline.EMPTY.findNext(0));
+    }
+
+    @Test
+    public void testOverlappingMeetingEndingSoonestIsCurrent() {
+        // Course 1 spans periods 1-4 and course 2 sits inside it in period 2
+        WeeklyTimeline timeline = WeeklyTimeline.of(Arrays.asList(
+                meeting(1, "WED", 1, 4),
+                meeting(2, "WED", 2, 2)));
+        int insideBoth = at(WEDNESDAY, ScheduleUtils.getPeriodStartMinutes(2) + 5);
+        int afterInner = at(WEDNESDAY, ScheduleUtils.getPeriodEndMinutes(2) + 5);
+
+        assertEquals(2, timeline.getCourseId(timeline.findCurrent(insideBoth)));
+        assertEquals(1, timeline.getCourseId(timeline.findCurrent(afterInner)));
+        assertEquals(WeeklyTimeline.NOT_FOUND,
+                timeline.findCurrent(at(WEDNESDAY, ScheduleUtils.getPeriodEndMinutes(4))));
+        assertEquals(WeeklyTimeline.NOT_FOUND, timeline.findCurrent(at(SUNDAY, 0)));
+    }
+
+    @Test
+    public void testWithoutCourseRemovesEveryMeetingDay() {
+        WeeklyTimeline timeline = WeeklyTimeline.of(Arrays.asList(
+                meeting(1, "MON,WED", 1, 1),
+                meeting(2, "WED", 2, 2)));
+
+        WeeklyTimeline without = timeline.withoutCourse(1);
+
+        assertEquals(1, without.size());
+        assertEquals(2, without.getCourseId(0));
+        assertSame(timeline, timeline.withoutCourse(99));
+        assertEquals(3, timeline.size());
+    }
+
+    @Test
+    public void testMeetingsWithoutDaysOrPeriodsAreIgnored() {
+        assertSame(WeeklyTimeline.EMPTY, WeeklyTimeline.EMPTY.withCourse(meeting(1, "", 1, 1)));
+        assertSame(WeeklyTimeline.EMPTY, WeeklyTimeline.EMPTY.withCourse(meeting(1, "MON", 0, 1)));
+        assertSame(WeeklyTimeline.EMPTY, WeeklyTimeline.EMPTY.withCourse(meeting(1, "MON", 3, 2)));
+    }
+
+    @Test
+    public void testMinuteOfWeekStartsOnMonday() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2025, Calendar.SEPTEMBER, 7, 23, 59);
+
+        assertEquals(WeeklyTimeline.MINUTES_PER_WEEK - 1, WeeklyTimeline.minuteOfWeek(calendar));
+        calendar.add(Calendar.MINUTE, 1);
+        assertEquals(0, WeeklyTimeline.minuteOfWeek(calendar));
+    }
+
+    private static ClassOccurrenceGenerator.Meeting meeting(int courseId, String days, int startPeriod, int endPeriod) {
+        return new ClassOccurrenceGenerator.Meeting(courseId, ScheduleUtils.parseDaysMask(days),
+                startPeriod, endPeriod, EpochDay.UNBOUNDED_START, EpochDay.UNBOUNDED_END);
+    }
+
+    private static int at(int dayIndex, int minuteOfDay) {
+        return dayIndex * WeeklyTimeline.MINUTES_PER_DAY + minuteOfDay;
+    }
+}